@@ -0,0 +1,57 @@
+package com.myapp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Validations per second of {@link CheckinTokenCodec} on one core; run with {@code -prof gc} (the default of
+ * {@code ./gradlew jmh}) to check that a validation allocates nothing.
+ */
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CheckinTokenCodecBenchmark {
+
+    private CheckinTokenCodec codec;
+
+    private String validToken;
+
+    private String forgedToken;
+
+    private long now;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[64];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) i;
+        }
+        codec = new CheckinTokenCodec(key, new SimpleMeterRegistry());
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        validToken = codec.issue(1234L, start, start.plusSeconds(365L * 24 * 3600));
+        char[] forged = validToken.toCharArray();
+        forged[forged.length - 2] = forged[forged.length - 2] == 'A' ? 'B' : 'A';
+        forgedToken = new String(forged);
+        now = start.getEpochSecond() + 3600;
+    }
+
+    @Benchmark
+    public long verifyValid() {
+        return codec.verify(validToken, now);
+    }
+
+    @Benchmark
+    public long verifyForged() {
+        return codec.verify(forgedToken, now);
+    }
+}
@@ -0,0 +1,169 @@
+package com.myapp.service;
+
+import com.myapp.domain.Checkin;
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Player;
+import com.myapp.domain.Team;
+import com.myapp.domain.enumeration.Gender;
+import com.myapp.repository.PlayerSummary;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.mapper.PlayerMapper;
+import com.myapp.service.mapper.PlayerMapperImpl;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Latency of reading one page of the player list; run with {@code -prof gc} (the default of {@code ./gradlew jmh})
+ * to compare the allocations per page.
+ * <p>
+ * {@link #entities()} is the path of {@code GET /api/players}: managed entities loaded in a read-only session, then
+ * mapped by {@link PlayerMapper} with the ids of their guardians and teams, read from the join tables in one query each.
+ * {@link #summaries()} is the path of {@code GET /api/players?summary=true}: a constructor projection of the columns.
+ * Hibernate runs on an in-memory H2 database, with the second-level cache of the application.
+ */
+@State(Scope.Benchmark)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerListBenchmark {
+
+    private static final int PLAYER_COUNT = 2000;
+
+    private static final int TEAM_COUNT = 50;
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private final PlayerMapper playerMapper = new PlayerMapperImpl();
+
+    private SessionFactory sessionFactory;
+
+    private int page;
+
+    @Setup
+    public void setup() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Player.class)
+            .addAnnotatedClass(Guardian.class)
+            .addAnnotatedClass(Team.class)
+            .addAnnotatedClass(Checkin.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:player-list;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "drop-and-create")
+            .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+            .setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+            .setProperty("hibernate.javax.cache.missing_cache_strategy", "create")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "25")
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            List<Team> teams = new ArrayList<>();
+            for (int i = 0; i < TEAM_COUNT; i++) {
+                Team team = new Team().name("Team " + i);
+                session.persist(team);
+                teams.add(team);
+            }
+            for (int i = 0; i < PLAYER_COUNT; i++) {
+                Guardian guardian = new Guardian()
+                    .firstName("Guardian")
+                    .lastName("Number " + i)
+                    .relationshipToPlayer("Parent")
+                    .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(i));
+                session.persist(guardian);
+                Player player = new Player()
+                    .firstName("Player")
+                    .lastName("Number " + i)
+                    .gender(i % 2 == 0 ? Gender.FEMALE : Gender.MALE)
+                    .dateOfBirth(LocalDate.of(2012, 1, 1).plusDays(i))
+                    .addGuardians(guardian);
+                session.persist(player);
+                teams.get(i % TEAM_COUNT).addPlayers(player);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<PlayerDTO> entities() {
+        int offset = nextOffset();
+        return sessionFactory.fromTransaction(session -> {
+            // As in a @Transactional(readOnly = true) service method
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            List<Player> players = session
+                .createSelectionQuery("select player from Player player order by player.id", Player.class)
+                .setFirstResult(offset)
+                .setMaxResults(pageSize)
+                .getResultList();
+            List<Long> ids = players.stream().map(Player::getId).toList();
+            RelationshipIds guardianIds = relationshipIds(
+                session,
+                "select rel.player_id, rel.guardians_id from rel_player__guardians rel where rel.player_id in (:ids)",
+                ids
+            );
+            RelationshipIds teamIds = relationshipIds(
+                session,
+                "select rel.players_id, rel.team_id from rel_team__players rel where rel.players_id in (:ids)",
+                ids
+            );
+            return players.stream().map(player -> playerMapper.toDto(player, guardianIds, teamIds)).toList();
+        });
+    }
+
+    @Benchmark
+    public List<PlayerDTO> summaries() {
+        int offset = nextOffset();
+        return sessionFactory.fromTransaction(session ->
+            session
+                .createSelectionQuery(
+                    "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+                    " player.lastName, player.gender, player.dateOfBirth) from Player player order by player.id",
+                    PlayerSummary.class
+                )
+                .setFirstResult(offset)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(playerMapper::toDto)
+                .toList()
+        );
+    }
+
+    // As RelationshipIds.read, which is not visible here
+    private static RelationshipIds relationshipIds(Session session, String sql, List<Long> ids) {
+        Map<Long, Set<Long>> relatedIds = new HashMap<>();
+        for (Object[] row : session.createNativeQuery(sql, Object[].class).setParameter("ids", ids).getResultList()) {
+            relatedIds.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashSet<>()).add(((Number) row[1]).longValue());
+        }
+        return new RelationshipIds(relatedIds);
+    }
+
+    private int nextOffset() {
+        page = (page + 1) % (PLAYER_COUNT / pageSize);
+        return page * pageSize;
+    }
+}
@@ -0,0 +1,82 @@
+package com.myapp.service;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hppc.HppcModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.myapp.domain.Guardian;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.service.mapper.PlayerMapper;
+import com.myapp.service.mapper.PlayerMapperImpl;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Latency of mapping and writing the ids of one relationship set; run with {@code -prof gc} (the default of
+ * {@code ./gradlew jmh}) to compare the allocations per set.
+ * <p>
+ * {@link #dtoSet()} is the representation of {@code GET /api/players}: {@link PlayerMapper#toDtoGuardianIdSet}, a set
+ * of DTOs holding an id, written as an array of objects. {@link #longArray()} is the representation of
+ * {@code GET /api/players?compactIds=true}: {@link RelationshipIds#arrayOf}, written as an array of numbers.
+ * {@link #longHashSet()} writes an HPPC {@link LongHashSet} with the Jackson HPPC module, as an array of numbers too.
+ */
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RelationshipIdsBenchmark {
+
+    private static final Long OWNER_ID = 1L;
+
+    @Param({ "2", "25", "500" })
+    public int setSize;
+
+    private final PlayerMapper playerMapper = new PlayerMapperImpl();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new HppcModule());
+
+    private Set<Guardian> guardians;
+
+    private RelationshipIds relationshipIds;
+
+    @Setup
+    public void setup() {
+        guardians = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (long id = 1000; id < 1000 + setSize; id++) {
+            guardians.add(new Guardian().id(id));
+            ids.add(id);
+        }
+        relationshipIds = new RelationshipIds(Map.of(OWNER_ID, ids));
+    }
+
+    @Benchmark
+    public byte[] dtoSet() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(playerMapper.toDtoGuardianIdSet(guardians));
+    }
+
+    @Benchmark
+    public byte[] longArray() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(relationshipIds.arrayOf(OWNER_ID));
+    }
+
+    @Benchmark
+    public byte[] longHashSet() throws JsonProcessingException {
+        Set<Long> ids = relationshipIds.of(OWNER_ID);
+        LongHashSet idSet = new LongHashSet(ids.size());
+        ids.forEach(idSet::add);
+        return objectMapper.writeValueAsBytes(idSet);
+    }
+}
@@ -1,6 +1,9 @@
 package com.myapp.config;
 
+import java.time.Duration;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to My App.
@@ -13,12 +16,42 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Checkin checkin = new Checkin();
+
+    private final Attendance attendance = new Attendance();
+
+    private final Pagination pagination = new Pagination();
+
+    private final Search search = new Search();
+
+    private final FileData fileData = new FileData();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Checkin getCheckin() {
+        return checkin;
+    }
+
+    public Attendance getAttendance() {
+        return attendance;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public FileData getFileData() {
+        return fileData;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +66,607 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Checkin {
+
+        private final Bulk bulk = new Bulk();
+
+        private final WriteBehind writeBehind = new WriteBehind();
+
+        private final Live live = new Live();
+
+        private final Dedupe dedupe = new Dedupe();
+
+        private final Archive archive = new Archive();
+
+        private final Presence presence = new Presence();
+
+        private final Token token = new Token();
+
+        public Bulk getBulk() {
+            return bulk;
+        }
+
+        public WriteBehind getWriteBehind() {
+            return writeBehind;
+        }
+
+        public Live getLive() {
+            return live;
+        }
+
+        public Dedupe getDedupe() {
+            return dedupe;
+        }
+
+        public Archive getArchive() {
+            return archive;
+        }
+
+        public Presence getPresence() {
+            return presence;
+        }
+
+        public Token getToken() {
+            return token;
+        }
+
+        public static class Bulk {
+
+            private int maxItems = 5000;
+
+            public int getMaxItems() {
+                return maxItems;
+            }
+
+            public void setMaxItems(int maxItems) {
+                this.maxItems = maxItems;
+            }
+        }
+
+        public static class WriteBehind {
+
+            public enum AckPolicy {
+                /** Acknowledge a checkin as soon as it is queued, before it is committed. */
+                QUEUED,
+                /** Acknowledge a checkin once the group commit containing it succeeded. */
+                COMMITTED,
+            }
+
+            private boolean enabled = false;
+
+            private AckPolicy ackPolicy = AckPolicy.COMMITTED;
+
+            private int queueCapacity = 10000;
+
+            private int maxBatchSize = 500;
+
+            private Duration flushInterval = Duration.ofMillis(50);
+
+            private Duration offerTimeout = Duration.ofMillis(100);
+
+            private Duration commitTimeout = Duration.ofSeconds(5);
+
+            private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public AckPolicy getAckPolicy() {
+                return ackPolicy;
+            }
+
+            public void setAckPolicy(AckPolicy ackPolicy) {
+                this.ackPolicy = ackPolicy;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public int getMaxBatchSize() {
+                return maxBatchSize;
+            }
+
+            public void setMaxBatchSize(int maxBatchSize) {
+                this.maxBatchSize = maxBatchSize;
+            }
+
+            public Duration getFlushInterval() {
+                return flushInterval;
+            }
+
+            public void setFlushInterval(Duration flushInterval) {
+                this.flushInterval = flushInterval;
+            }
+
+            public Duration getOfferTimeout() {
+                return offerTimeout;
+            }
+
+            public void setOfferTimeout(Duration offerTimeout) {
+                this.offerTimeout = offerTimeout;
+            }
+
+            public Duration getCommitTimeout() {
+                return commitTimeout;
+            }
+
+            public void setCommitTimeout(Duration commitTimeout) {
+                this.commitTimeout = commitTimeout;
+            }
+
+            public Duration getShutdownTimeout() {
+                return shutdownTimeout;
+            }
+
+            public void setShutdownTimeout(Duration shutdownTimeout) {
+                this.shutdownTimeout = shutdownTimeout;
+            }
+        }
+
+        public static class Live {
+
+            private Duration tickInterval = Duration.ofMillis(250);
+
+            private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+            private Duration emitterTimeout = Duration.ofMinutes(30);
+
+            private int recentSize = 10;
+
+            private int maxSubscribers = 10000;
+
+            private int fanOutThreads = 4;
+
+            private Duration sendTimeout = Duration.ofSeconds(5);
+
+            public Duration getTickInterval() {
+                return tickInterval;
+            }
+
+            public void setTickInterval(Duration tickInterval) {
+                this.tickInterval = tickInterval;
+            }
+
+            public Duration getHeartbeatInterval() {
+                return heartbeatInterval;
+            }
+
+            public void setHeartbeatInterval(Duration heartbeatInterval) {
+                this.heartbeatInterval = heartbeatInterval;
+            }
+
+            public Duration getEmitterTimeout() {
+                return emitterTimeout;
+            }
+
+            public void setEmitterTimeout(Duration emitterTimeout) {
+                this.emitterTimeout = emitterTimeout;
+            }
+
+            public int getRecentSize() {
+                return recentSize;
+            }
+
+            public void setRecentSize(int recentSize) {
+                this.recentSize = recentSize;
+            }
+
+            public int getMaxSubscribers() {
+                return maxSubscribers;
+            }
+
+            public void setMaxSubscribers(int maxSubscribers) {
+                this.maxSubscribers = maxSubscribers;
+            }
+
+            public int getFanOutThreads() {
+                return fanOutThreads;
+            }
+
+            public void setFanOutThreads(int fanOutThreads) {
+                this.fanOutThreads = fanOutThreads;
+            }
+
+            public Duration getSendTimeout() {
+                return sendTimeout;
+            }
+
+            public void setSendTimeout(Duration sendTimeout) {
+                this.sendTimeout = sendTimeout;
+            }
+        }
+
+        public static class Dedupe {
+
+            private Duration playerWindow = Duration.ZERO;
+
+            private Duration idempotencyKeyRetention = Duration.ofHours(24);
+
+            private int maxKeys = 1000000;
+
+            public Duration getPlayerWindow() {
+                return playerWindow;
+            }
+
+            public void setPlayerWindow(Duration playerWindow) {
+                this.playerWindow = playerWindow;
+            }
+
+            public Duration getIdempotencyKeyRetention() {
+                return idempotencyKeyRetention;
+            }
+
+            public void setIdempotencyKeyRetention(Duration idempotencyKeyRetention) {
+                this.idempotencyKeyRetention = idempotencyKeyRetention;
+            }
+
+            public int getMaxKeys() {
+                return maxKeys;
+            }
+
+            public void setMaxKeys(int maxKeys) {
+                this.maxKeys = maxKeys;
+            }
+        }
+
+        public static class Archive {
+
+            private boolean enabled = false;
+
+            private String directory = "target/checkin-archive";
+
+            private Duration cutoff = Duration.ofDays(365);
+
+            private int segmentSize = 100000;
+
+            private String cron = "0 30 3 * * ?";
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getDirectory() {
+                return directory;
+            }
+
+            public void setDirectory(String directory) {
+                this.directory = directory;
+            }
+
+            public Duration getCutoff() {
+                return cutoff;
+            }
+
+            public void setCutoff(Duration cutoff) {
+                this.cutoff = cutoff;
+            }
+
+            public int getSegmentSize() {
+                return segmentSize;
+            }
+
+            public void setSegmentSize(int segmentSize) {
+                this.segmentSize = segmentSize;
+            }
+
+            public String getCron() {
+                return cron;
+            }
+
+            public void setCron(String cron) {
+                this.cron = cron;
+            }
+        }
+
+        public static class Presence {
+
+            private int retainedDays = 7;
+
+            public int getRetainedDays() {
+                return retainedDays;
+            }
+
+            public void setRetainedDays(int retainedDays) {
+                this.retainedDays = retainedDays;
+            }
+        }
+
+        public static class Token {
+
+            private String base64Secret;
+
+            private Duration validity = Duration.ofDays(365);
+
+            public String getBase64Secret() {
+                return base64Secret;
+            }
+
+            public void setBase64Secret(String base64Secret) {
+                this.base64Secret = base64Secret;
+            }
+
+            public Duration getValidity() {
+                return validity;
+            }
+
+            public void setValidity(Duration validity) {
+                this.validity = validity;
+            }
+        }
+    }
+
+    public static class Attendance {
+
+        private String timeZone = "UTC";
+
+        public String getTimeZone() {
+            return timeZone;
+        }
+
+        public void setTimeZone(String timeZone) {
+            this.timeZone = timeZone;
+        }
+    }
+
+    public static class Pagination {
+
+        private Duration countCacheTtl = Duration.ofMinutes(10);
+
+        public Duration getCountCacheTtl() {
+            return countCacheTtl;
+        }
+
+        public void setCountCacheTtl(Duration countCacheTtl) {
+            this.countCacheTtl = countCacheTtl;
+        }
+    }
+
+    public static class Search {
+
+        private int buildThreads = 4;
+
+        private int buildBatchSize = 10000;
+
+        private float minScore = 0.3f;
+
+        private int maxHits = 1000;
+
+        public int getBuildThreads() {
+            return buildThreads;
+        }
+
+        public void setBuildThreads(int buildThreads) {
+            this.buildThreads = buildThreads;
+        }
+
+        public int getBuildBatchSize() {
+            return buildBatchSize;
+        }
+
+        public void setBuildBatchSize(int buildBatchSize) {
+            this.buildBatchSize = buildBatchSize;
+        }
+
+        public float getMinScore() {
+            return minScore;
+        }
+
+        public void setMinScore(float minScore) {
+            this.minScore = minScore;
+        }
+
+        public int getMaxHits() {
+            return maxHits;
+        }
+
+        public void setMaxHits(int maxHits) {
+            this.maxHits = maxHits;
+        }
+    }
+
+    public static class FileData {
+
+        private String directory = "target/file-data";
+
+        private int fanOutLevels = 2;
+
+        private DataSize maxSize = DataSize.ofMegabytes(50);
+
+        private final Derivatives derivatives = new Derivatives();
+
+        private final Uploads uploads = new Uploads();
+
+        private final Collector collector = new Collector();
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getFanOutLevels() {
+            return fanOutLevels;
+        }
+
+        public void setFanOutLevels(int fanOutLevels) {
+            this.fanOutLevels = fanOutLevels;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Derivatives getDerivatives() {
+            return derivatives;
+        }
+
+        public Uploads getUploads() {
+            return uploads;
+        }
+
+        public Collector getCollector() {
+            return collector;
+        }
+
+        public static class Uploads {
+
+            private Duration expiry = Duration.ofHours(24);
+
+            private String expiryCron = "0 */10 * * * ?";
+
+            public Duration getExpiry() {
+                return expiry;
+            }
+
+            public void setExpiry(Duration expiry) {
+                this.expiry = expiry;
+            }
+
+            public String getExpiryCron() {
+                return expiryCron;
+            }
+
+            public void setExpiryCron(String expiryCron) {
+                this.expiryCron = expiryCron;
+            }
+        }
+
+        public static class Collector {
+
+            private boolean enabled = true;
+
+            private boolean dryRun = true;
+
+            private Duration gracePeriod = Duration.ofDays(7);
+
+            private int batchSize = 100;
+
+            private Duration batchDelay = Duration.ofSeconds(1);
+
+            private String cron = "0 0 4 * * ?";
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public boolean isDryRun() {
+                return dryRun;
+            }
+
+            public void setDryRun(boolean dryRun) {
+                this.dryRun = dryRun;
+            }
+
+            public Duration getGracePeriod() {
+                return gracePeriod;
+            }
+
+            public void setGracePeriod(Duration gracePeriod) {
+                this.gracePeriod = gracePeriod;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public Duration getBatchDelay() {
+                return batchDelay;
+            }
+
+            public void setBatchDelay(Duration batchDelay) {
+                this.batchDelay = batchDelay;
+            }
+
+            public String getCron() {
+                return cron;
+            }
+
+            public void setCron(String cron) {
+                this.cron = cron;
+            }
+        }
+
+        public static class Derivatives {
+
+            private List<Integer> sizes = List.of(160, 480);
+
+            private int workerThreads = 2;
+
+            private int queueCapacity = 200;
+
+            private Duration renderTimeout = Duration.ofSeconds(5);
+
+            private long maxSourcePixels = 50_000_000;
+
+            public List<Integer> getSizes() {
+                return sizes;
+            }
+
+            public void setSizes(List<Integer> sizes) {
+                this.sizes = sizes;
+            }
+
+            public int getWorkerThreads() {
+                return workerThreads;
+            }
+
+            public void setWorkerThreads(int workerThreads) {
+                this.workerThreads = workerThreads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public Duration getRenderTimeout() {
+                return renderTimeout;
+            }
+
+            public void setRenderTimeout(Duration renderTimeout) {
+                this.renderTimeout = renderTimeout;
+            }
+
+            public long getMaxSourcePixels() {
+                return maxSourcePixels;
+            }
+
+            public void setMaxSourcePixels(long maxSourcePixels) {
+                this.maxSourcePixels = maxSourcePixels;
+            }
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -28,6 +28,17 @@ public class Checkin implements Serializable {
     @Column(name = "timestamp", nullable = false)
     private Instant timestamp;
 
+    @Size(max = 64)
+    @Column(name = "idempotency_key", length = 64, unique = true, updatable = false)
+    private String idempotencyKey;
+
+    /**
+     * Start of the player dedupe window of the checkin, in epoch seconds, backing the per-player dedupe rule. Follows
+     * the timestamp when it is updated.
+     */
+    @Column(name = "dedupe_bucket")
+    private Long dedupeBucket;
+
     @ManyToOne(optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "checkins", "guardians", "teams" }, allowSetters = true)
@@ -61,6 +72,27 @@ public class Checkin implements Serializable {
         this.timestamp = timestamp;
     }
 
+    public String getIdempotencyKey() {
+        return this.idempotencyKey;
+    }
+
+    public Checkin idempotencyKey(String idempotencyKey) {
+        this.setIdempotencyKey(idempotencyKey);
+        return this;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Long getDedupeBucket() {
+        return this.dedupeBucket;
+    }
+
+    public void setDedupeBucket(Long dedupeBucket) {
+        this.dedupeBucket = dedupeBucket;
+    }
+
     public Player getPlayer() {
         return this.player;
     }
@@ -99,6 +131,7 @@ public class Checkin implements Serializable {
         return "Checkin{" +
             "id=" + getId() +
             ", timestamp='" + getTimestamp() + "'" +
+            ", idempotencyKey='" + getIdempotencyKey() + "'" +
             "}";
     }
 }
@@ -0,0 +1,14 @@
+package com.myapp.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * A CheckinDailyRollup.
+ */
+@Entity
+@Table(name = "checkin_rollup_daily")
+@IdClass(CheckinRollup.CheckinRollupId.class)
+public class CheckinDailyRollup extends CheckinRollup {
+
+    private static final long serialVersionUID = 1L;
+}
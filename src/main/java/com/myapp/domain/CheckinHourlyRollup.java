@@ -0,0 +1,14 @@
+package com.myapp.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * A CheckinHourlyRollup.
+ */
+@Entity
+@Table(name = "checkin_rollup_hourly")
+@IdClass(CheckinRollup.CheckinRollupId.class)
+public class CheckinHourlyRollup extends CheckinRollup {
+
+    private static final long serialVersionUID = 1L;
+}
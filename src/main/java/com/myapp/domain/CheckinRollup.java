@@ -0,0 +1,86 @@
+package com.myapp.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The number of checkins of a player within a time bucket.
+ * <p>
+ * Rollups are maintained incrementally by the checkin write path and never written through the persistence context.
+ */
+@MappedSuperclass
+public abstract class CheckinRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "checkin_count", nullable = false)
+    private Long checkinCount;
+
+    public Long getPlayerId() {
+        return this.playerId;
+    }
+
+    public Instant getBucketStart() {
+        return this.bucketStart;
+    }
+
+    public Long getCheckinCount() {
+        return this.checkinCount;
+    }
+
+    /**
+     * The composite id of a {@link CheckinRollup}.
+     */
+    public static class CheckinRollupId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long playerId;
+
+        private Instant bucketStart;
+
+        public CheckinRollupId() {}
+
+        public CheckinRollupId(Long playerId, Instant bucketStart) {
+            this.playerId = playerId;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CheckinRollupId)) {
+                return false;
+            }
+            CheckinRollupId other = (CheckinRollupId) o;
+            return Objects.equals(playerId, other.playerId) && Objects.equals(bucketStart, other.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerId, bucketStart);
+        }
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+            "playerId=" + getPlayerId() +
+            ", bucketStart='" + getBucketStart() + "'" +
+            ", checkinCount=" + getCheckinCount() +
+            "}";
+    }
+}
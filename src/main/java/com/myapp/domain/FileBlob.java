@@ -0,0 +1,49 @@
+package com.myapp.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+
+/**
+ * The content of one or more {@link FileData}, stored once per SHA-256 by {@link com.myapp.repository.BlobStore}.
+ * <p>
+ * Blobs are reference-counted by native queries of {@link com.myapp.repository.FileBlobRepository} and never written
+ * through the persistence context.
+ */
+@Entity
+@Table(name = "file_blob")
+public class FileBlob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "hash", length = 64, nullable = false)
+    private String hash;
+
+    @Column(name = "content_size", nullable = false)
+    private Long contentSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    public String getHash() {
+        return this.hash;
+    }
+
+    public Long getContentSize() {
+        return this.contentSize;
+    }
+
+    public Long getRefCount() {
+        return this.refCount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "FileBlob{" +
+            "hash='" + getHash() + "'" +
+            ", contentSize=" + getContentSize() +
+            ", refCount=" + getRefCount() +
+            "}";
+    }
+}
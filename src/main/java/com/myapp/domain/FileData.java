@@ -33,6 +33,20 @@ public class FileData implements Serializable {
     @Column(name = "file_name", length = 255, nullable = false)
     private String fileName;
 
+    /**
+     * The SHA-256 of the content in the {@link com.myapp.repository.BlobStore}, or {@code null} if none was uploaded.
+     */
+    @Size(max = 64)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Size(max = 255)
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @Column(name = "content_size")
+    private Long contentSize;
+
     @JsonIgnoreProperties(value = { "image" }, allowSetters = true)
     @OneToOne(fetch = FetchType.LAZY, mappedBy = "image")
     private Tournament tournament;
@@ -86,6 +100,45 @@ public class FileData implements Serializable {
         this.fileName = fileName;
     }
 
+    public String getContentHash() {
+        return this.contentHash;
+    }
+
+    public FileData contentHash(String contentHash) {
+        this.setContentHash(contentHash);
+        return this;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    public FileData contentType(String contentType) {
+        this.setContentType(contentType);
+        return this;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getContentSize() {
+        return this.contentSize;
+    }
+
+    public FileData contentSize(Long contentSize) {
+        this.setContentSize(contentSize);
+        return this;
+    }
+
+    public void setContentSize(Long contentSize) {
+        this.contentSize = contentSize;
+    }
+
     public Tournament getTournament() {
         return this.tournament;
     }
@@ -169,6 +222,9 @@ public class FileData implements Serializable {
             "id=" + getId() +
             ", uid='" + getUid() + "'" +
             ", fileName='" + getFileName() + "'" +
+            ", contentHash='" + getContentHash() + "'" +
+            ", contentType='" + getContentType() + "'" +
+            ", contentSize=" + getContentSize() +
             "}";
     }
 }
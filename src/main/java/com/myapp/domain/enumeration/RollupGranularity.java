@@ -0,0 +1,9 @@
+package com.myapp.domain.enumeration;
+
+/**
+ * The RollupGranularity enumeration.
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+}
@@ -0,0 +1,12 @@
+package com.myapp.repository;
+
+import java.time.Instant;
+
+/**
+ * A checkin moved from the {@code checkin} table to an archive segment.
+ *
+ * @param id the id the checkin had in the table.
+ * @param playerId the id of its player.
+ * @param timestamp its timestamp, with the microsecond precision of the table.
+ */
+public record ArchivedCheckin(long id, long playerId, Instant timestamp) {}
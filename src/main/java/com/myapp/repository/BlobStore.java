@@ -0,0 +1,438 @@
+package com.myapp.repository;
+
+import com.myapp.config.ApplicationProperties;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Content-addressed store of the file contents: a content is stored once, in a file named by its SHA-256.
+ * <p>
+ * The files are spread over {@code application.file-data.fan-out-levels} levels of directories named by the successive
+ * bytes of the hash, 256 directories per level, so that no directory holds more than a few thousand files. A content
+ * is first streamed to a temporary file of the {@code tmp} directory while hashed, then moved to its place, which is on
+ * the same file system so the move is atomic. The references to the contents are counted by
+ * {@link FileBlobRepository}.
+ * <p>
+ * The derivatives of a content, such as the scaled copies of an image, are stored next to it, named by its hash and the
+ * size of the derivative, and deleted with it.
+ * <p>
+ * The files of the resumable uploads are kept in the {@code uploads} directory until they are complete, then staged in
+ * place. Their sessions are held in memory, so the files left by a restart are deleted.
+ */
+@Repository
+public class BlobStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlobStore.class);
+
+    private static final String TMP_DIRECTORY = "tmp";
+
+    private static final String UPLOADS_DIRECTORY = "uploads";
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f-]{36}");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_FAN_OUT_LEVELS = 4;
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private static final Pattern STORED_FILE = Pattern.compile("([0-9a-f]{64})(\\.\\d+)?");
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path directory;
+
+    private final Path tmpDirectory;
+
+    private final Path uploadsDirectory;
+
+    private final int fanOutLevels;
+
+    public BlobStore(ApplicationProperties applicationProperties) {
+        ApplicationProperties.FileData properties = applicationProperties.getFileData();
+        this.directory = Paths.get(properties.getDirectory());
+        this.tmpDirectory = directory.resolve(TMP_DIRECTORY);
+        this.uploadsDirectory = directory.resolve(UPLOADS_DIRECTORY);
+        this.fanOutLevels = properties.getFanOutLevels();
+        if (fanOutLevels < 0 || fanOutLevels > MAX_FAN_OUT_LEVELS) {
+            throw new IllegalArgumentException("application.file-data.fan-out-levels must be between 0 and " + MAX_FAN_OUT_LEVELS);
+        }
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        // Left over by interrupted uploads
+        int deleted = deleteAll(tmpDirectory) + deleteAll(uploadsDirectory);
+        LOG.info("Opened the blob store in {}, deleted {} temporary files", directory, deleted);
+    }
+
+    /**
+     * Stream a content to a temporary file, computing its hash on the way.
+     *
+     * @param content the content, read to its end but not closed.
+     * @return the staged content, to {@link #commit} or {@link #discard}.
+     */
+    public StagedBlob stage(InputStream content) {
+        MessageDigest digest = sha256();
+        long size = 0;
+        Path file = null;
+        boolean staged = false;
+        try {
+            Files.createDirectories(tmpDirectory);
+            file = Files.createTempFile(tmpDirectory, "blob", ".tmp");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                    size += read;
+                }
+                channel.force(true);
+            }
+            staged = true;
+            return new StagedBlob(file, HEX.formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!staged && file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    /**
+     * Move a staged content to its place, unless the same content is already stored.
+     *
+     * @param blob the staged content.
+     * @return the file of the content.
+     */
+    public Path commit(StagedBlob blob) {
+        Path path = path(blob.hash());
+        try {
+            if (Files.exists(path)) {
+                Files.deleteIfExists(blob.file());
+                return path;
+            }
+            Files.createDirectories(path.getParent());
+            Files.move(blob.file(), path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Stored meanwhile by a concurrent upload of the same content
+            deleteQuietly(blob.file());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return path;
+    }
+
+    /**
+     * Delete a staged content, if it was not committed.
+     *
+     * @param blob the staged content.
+     */
+    public void discard(StagedBlob blob) {
+        deleteQuietly(blob.file());
+    }
+
+    /**
+     * Get the file of a content.
+     *
+     * @param hash the SHA-256 of the content, in lower case hexadecimal.
+     * @return the file, which may not exist.
+     */
+    public Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + hash);
+        }
+        Path path = directory;
+        for (int level = 0; level < fanOutLevels; level++) {
+            path = path.resolve(hash.substring(2 * level, 2 * level + 2));
+        }
+        return path.resolve(hash);
+    }
+
+    /**
+     * Open the file of a content for reading.
+     *
+     * @param hash the SHA-256 of the content.
+     * @return the channel of the file, to close.
+     */
+    public FileChannel open(String hash) {
+        try {
+            return FileChannel.open(path(hash), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete the file of a content and its derivatives.
+     *
+     * @param hash the SHA-256 of the content.
+     * @return {@code true} if the file was deleted, {@code false} if it did not exist.
+     */
+    public boolean delete(String hash) {
+        Path path = path(hash);
+        try {
+            if (Files.isDirectory(path.getParent())) {
+                try (DirectoryStream<Path> derivatives = Files.newDirectoryStream(path.getParent(), hash + ".*")) {
+                    for (Path derivative : derivatives) {
+                        Files.deleteIfExists(derivative);
+                    }
+                }
+            }
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * List the files of the contents and of their derivatives, in no particular order, without the temporary files.
+     *
+     * @return the files, to close.
+     */
+    public Stream<StoredFile> listFiles() {
+        if (!Files.isDirectory(directory)) {
+            return Stream.empty();
+        }
+        try {
+            return Files.find(
+                directory,
+                fanOutLevels + 1,
+                (file, attributes) ->
+                    attributes.isRegularFile() &&
+                    file.getNameCount() == directory.getNameCount() + fanOutLevels + 1 &&
+                    STORED_FILE.matcher(file.getFileName().toString()).matches()
+            )
+                .map(BlobStore::toStoredFile)
+                .flatMap(Optional::stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete a file of a content or of a derivative, see {@link #listFiles()}.
+     *
+     * @param file the file.
+     * @return {@code true} if the file was deleted, {@code false} if it did not exist.
+     */
+    public boolean delete(StoredFile file) {
+        try {
+            return Files.deleteIfExists(file.file());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the file of a derivative of a content.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param size the size of the derivative.
+     * @return the file, which may not exist.
+     */
+    public Path derivativePath(String hash, int size) {
+        return path(hash).resolveSibling(hash + "." + size);
+    }
+
+    public boolean existsDerivative(String hash, int size) {
+        return Files.exists(derivativePath(hash, size));
+    }
+
+    /**
+     * Open the file of a derivative of a content for reading.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param size the size of the derivative.
+     * @return the channel of the file, to close.
+     */
+    public FileChannel openDerivative(String hash, int size) {
+        try {
+            return FileChannel.open(derivativePath(hash, size), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a derivative of a content, replacing it atomically if it exists.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param size the size of the derivative.
+     * @param writer writes the derivative.
+     */
+    public void saveDerivative(String hash, int size, DerivativeWriter writer) {
+        Path path = derivativePath(hash, size);
+        Path file = null;
+        try {
+            Files.createDirectories(tmpDirectory);
+            file = Files.createTempFile(tmpDirectory, "derivative", ".tmp");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                writer.write(out);
+            }
+            Files.createDirectories(path.getParent());
+            Files.move(file, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    /**
+     * Create the file of a resumable upload, sized to its content so that its chunks can be written in any order.
+     *
+     * @param uploadId the id of the upload.
+     * @param size the size of the content.
+     */
+    public void createUpload(String uploadId, long size) {
+        try {
+            Files.createDirectories(uploadsDirectory);
+            try (RandomAccessFile file = new RandomAccessFile(Files.createFile(uploadPath(uploadId)).toFile(), "rw")) {
+                // Sparse on most file systems, the blocks are allocated as the chunks are written
+                file.setLength(size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Open the file of a resumable upload for positional writes.
+     *
+     * @param uploadId the id of the upload.
+     * @return the channel of the file, to close.
+     */
+    public FileChannel openUpload(String uploadId) {
+        try {
+            return FileChannel.open(uploadPath(uploadId), StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stage the file of a complete upload, computing its hash.
+     *
+     * @param uploadId the id of the upload.
+     * @return the staged content, to {@link #commit} or {@link #discard}.
+     */
+    public StagedBlob stageUpload(String uploadId) {
+        Path file = uploadPath(uploadId);
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.force(true);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return new StagedBlob(file, HEX.formatHex(digest.digest()), channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete the file of a resumable upload.
+     *
+     * @param uploadId the id of the upload.
+     */
+    public void deleteUpload(String uploadId) {
+        deleteQuietly(uploadPath(uploadId));
+    }
+
+    private Path uploadPath(String uploadId) {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new IllegalArgumentException("Invalid upload id: " + uploadId);
+        }
+        return uploadsDirectory.resolve(uploadId + ".part");
+    }
+
+    private static int deleteAll(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static Optional<StoredFile> toStoredFile(Path file) {
+        Matcher matcher = STORED_FILE.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return Optional.of(new StoredFile(file, matcher.group(1), attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            // Deleted since it was listed
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Could not delete the temporary file {}", file, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes a derivative of a content.
+     */
+    @FunctionalInterface
+    public interface DerivativeWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
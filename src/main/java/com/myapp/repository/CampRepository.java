@@ -1,6 +1,9 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Camp;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CampRepository extends JpaRepository<Camp, Long> {}
+public interface CampRepository extends JpaRepository<Camp, Long> {
+    Slice<Camp> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.CampSummary(camp.id, camp.name, camp.additionalInfo, camp.status," +
+        " image.id) from Camp camp left join camp.image image",
+        countQuery = "select count(camp) from Camp camp"
+    )
+    Page<CampSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.CampSummary(camp.id, camp.name, camp.additionalInfo, camp.status," +
+        " image.id) from Camp camp left join camp.image image"
+    )
+    Slice<CampSummary> findAllSummariesBy(Pageable pageable);
+}
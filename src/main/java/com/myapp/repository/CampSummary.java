@@ -0,0 +1,14 @@
+package com.myapp.repository;
+
+import com.myapp.domain.enumeration.CompetitionStatus;
+
+/**
+ * The columns of a {@link com.myapp.domain.Camp} shown in lists, read without loading the entity.
+ *
+ * @param id the id of the camp.
+ * @param name its name.
+ * @param additionalInfo its additional info.
+ * @param status its status.
+ * @param imageId the id of its image, or {@code null}.
+ */
+public record CampSummary(Long id, String name, String additionalInfo, CompetitionStatus status, Long imageId) {}
@@ -0,0 +1,192 @@
+package com.myapp.repository;
+
+import com.myapp.config.ApplicationProperties;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the checkins archived to segment files, see {@link CheckinSegment}.
+ * <p>
+ * The directories of all segments are kept in memory, so finding the segments holding a player costs no I/O.
+ */
+@Repository
+public class CheckinArchiveRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckinArchiveRepository.class);
+
+    private static final Comparator<ArchivedCheckin> NEWEST_FIRST = Comparator.comparing(ArchivedCheckin::timestamp)
+        .thenComparingLong(ArchivedCheckin::id)
+        .reversed();
+
+    private final Path directory;
+
+    private final List<CheckinSegment> segments = new CopyOnWriteArrayList<>();
+
+    public CheckinArchiveRepository(ApplicationProperties applicationProperties) {
+        this.directory = Paths.get(applicationProperties.getCheckin().getArchive().getDirectory());
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<CheckinSegment> opened = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(CheckinSegment.SUFFIX)) {
+                    opened.add(CheckinSegment.open(file));
+                } else if (name.endsWith(".tmp")) {
+                    // Left over by an interrupted write, the checkins were not deleted from the table
+                    Files.delete(file);
+                }
+            }
+        }
+        opened.sort(Comparator.comparingLong(CheckinSegment::getFirstId));
+        segments.addAll(opened);
+        LOG.info("Opened {} checkin archive segments in {}", segments.size(), directory);
+    }
+
+    /**
+     * Archive checkins to a new segment, visible to readers right away.
+     *
+     * @param checkins the checkins, not empty.
+     * @return the new segment.
+     */
+    public CheckinSegment save(List<ArchivedCheckin> checkins) {
+        try {
+            Files.createDirectories(directory);
+            CheckinSegment segment = CheckinSegment.write(directory, checkins);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove a segment whose checkins are still in the table.
+     *
+     * @param segment the segment.
+     */
+    public void delete(CheckinSegment segment) {
+        segments.remove(segment);
+        try {
+            Files.deleteIfExists(segment.getPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<CheckinSegment> findLatestSegment() {
+        return segments.stream().max(Comparator.comparingLong(CheckinSegment::getLastId));
+    }
+
+    public long count() {
+        return segments.stream().mapToLong(CheckinSegment::getRowCount).sum();
+    }
+
+    /**
+     * Get the archived checkins of a player ordered before a position, most recent first.
+     *
+     * @param playerId the id of the player.
+     * @param timestamp the timestamp of the position, or {@code null} to start from the most recent checkin.
+     * @param id the id of the position, breaking ties on the timestamp.
+     * @param limit the maximum number of checkins.
+     * @return the checkins.
+     */
+    public List<ArchivedCheckin> findTimelineBefore(long playerId, Instant timestamp, Long id, int limit) {
+        return find(
+            playerId,
+            null,
+            timestamp,
+            checkin ->
+                timestamp == null || checkin.timestamp().isBefore(timestamp) || (checkin.timestamp().equals(timestamp) && checkin.id() < id),
+            NEWEST_FIRST,
+            limit
+        );
+    }
+
+    /**
+     * Get the archived checkins of a player ordered after a position, oldest first.
+     *
+     * @param playerId the id of the player.
+     * @param timestamp the timestamp of the position.
+     * @param id the id of the position, breaking ties on the timestamp.
+     * @param limit the maximum number of checkins.
+     * @return the checkins.
+     */
+    public List<ArchivedCheckin> findTimelineAfter(long playerId, Instant timestamp, Long id, int limit) {
+        return find(
+            playerId,
+            timestamp,
+            null,
+            checkin -> checkin.timestamp().isAfter(timestamp) || (checkin.timestamp().equals(timestamp) && checkin.id() > id),
+            NEWEST_FIRST.reversed(),
+            limit
+        );
+    }
+
+    /**
+     * Read all archived checkins, one segment at a time.
+     *
+     * @param consumer called with the checkins of each segment.
+     */
+    public void forEachSegment(Consumer<List<ArchivedCheckin>> consumer) {
+        for (CheckinSegment segment : segments) {
+            consumer.accept(findAll(segment));
+        }
+    }
+
+    /**
+     * Read the checkins of a segment.
+     *
+     * @param segment the segment.
+     * @return its checkins.
+     */
+    public List<ArchivedCheckin> findAll(CheckinSegment segment) {
+        try {
+            return segment.readAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ArchivedCheckin> find(
+        long playerId,
+        Instant from,
+        Instant to,
+        Predicate<ArchivedCheckin> filter,
+        Comparator<ArchivedCheckin> order,
+        int limit
+    ) {
+        List<ArchivedCheckin> checkins = new ArrayList<>();
+        for (CheckinSegment segment : segments) {
+            if (segment.mayContain(playerId, from, to)) {
+                try {
+                    segment.read(playerId).stream().filter(filter).forEach(checkins::add);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return checkins.stream().sorted(order).limit(limit).toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.myapp.repository;
+
+import com.myapp.domain.CheckinHourlyRollup;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the CheckinHourlyRollup entity.
+ */
+@Repository
+public interface CheckinHourlyRollupRepository extends CheckinRollupRepository<CheckinHourlyRollup> {
+    /**
+     * Add {@code delta} to the count of a bucket, creating it if needed.
+     * <p>
+     * The native query space hint keeps Hibernate from invalidating every second-level cache region on execution.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "checkin_rollup_hourly"))
+    @Query(
+        value = "insert into checkin_rollup_hourly (player_id, bucket_start, checkin_count) values (:playerId, :bucketStart, :delta)" +
+        " on duplicate key update checkin_count = checkin_count + :delta",
+        nativeQuery = true
+    )
+    void increment(@Param("playerId") Long playerId, @Param("bucketStart") Instant bucketStart, @Param("delta") long delta);
+}
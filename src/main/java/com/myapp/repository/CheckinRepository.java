@@ -1,12 +1,114 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Checkin;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Checkin entity.
+ *
+ * When extending this class, extend CheckinRepositoryWithBulkInsert too.
+ * The timeline queries seek on the {@code (player_id, timestamp)} index, ties on the timestamp being broken by id.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CheckinRepository extends JpaRepository<Checkin, Long> {}
+public interface CheckinRepository extends CheckinRepositoryWithBulkInsert, JpaRepository<Checkin, Long> {
+    /**
+     * The columns of a checkin needed to aggregate it, without loading the entity.
+     */
+    interface CheckinRow {
+        Long getId();
+
+        Long getPlayerId();
+
+        Instant getTimestamp();
+    }
+
+    @Query(
+        "select checkin.id as id, checkin.player.id as playerId, checkin.timestamp as timestamp from Checkin checkin" +
+        " where checkin.id > :id order by checkin.id"
+    )
+    List<CheckinRow> findRowsAfter(@Param("id") Long id, Limit limit);
+
+    @Query(
+        "select checkin.id as id, checkin.player.id as playerId, checkin.timestamp as timestamp from Checkin checkin" +
+        " where checkin.timestamp < :cutoff and checkin.id > :id order by checkin.id"
+    )
+    List<CheckinRow> findRowsBefore(@Param("cutoff") Instant cutoff, @Param("id") Long id, Limit limit);
+
+    @Query("select checkin.id as id, checkin.player.id as playerId, checkin.timestamp as timestamp from Checkin checkin order by checkin.id desc")
+    List<CheckinRow> findLatestRows(Limit limit);
+
+    @Query("select checkin.idempotencyKey from Checkin checkin where checkin.idempotencyKey in :keys")
+    Set<String> findExistingIdempotencyKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * The player window of a stored checkin.
+     */
+    interface DedupeBucketRow {
+        Long getPlayerId();
+
+        Long getDedupeBucket();
+    }
+
+    /**
+     * Find the stored checkins of some players in some player windows; the pairs asked for are among the rows
+     * returned, which may hold other combinations of the players and windows.
+     */
+    @Query(
+        "select checkin.player.id as playerId, checkin.dedupeBucket as dedupeBucket from Checkin checkin" +
+        " where checkin.player.id in :playerIds and checkin.dedupeBucket in :buckets"
+    )
+    List<DedupeBucketRow> findDedupeBuckets(@Param("playerIds") Collection<Long> playerIds, @Param("buckets") Collection<Long> buckets);
+
+    @Query("select checkin from Checkin checkin where checkin.player.id = :playerId order by checkin.timestamp desc, checkin.id desc")
+    List<Checkin> findTimeline(@Param("playerId") Long playerId, Limit limit);
+
+    @Query(
+        "select checkin from Checkin checkin where checkin.player.id = :playerId" +
+        " and (checkin.timestamp < :timestamp or (checkin.timestamp = :timestamp and checkin.id < :id))" +
+        " order by checkin.timestamp desc, checkin.id desc"
+    )
+    List<Checkin> findTimelineBefore(
+        @Param("playerId") Long playerId,
+        @Param("timestamp") Instant timestamp,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(
+        "select checkin from Checkin checkin where checkin.player.id = :playerId" +
+        " and (checkin.timestamp > :timestamp or (checkin.timestamp = :timestamp and checkin.id > :id))" +
+        " order by checkin.timestamp asc, checkin.id asc"
+    )
+    List<Checkin> findTimelineAfter(
+        @Param("playerId") Long playerId,
+        @Param("timestamp") Instant timestamp,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    Slice<Checkin> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.CheckinSummary(checkin.id, checkin.timestamp," +
+        " checkin.idempotencyKey, checkin.player.id) from Checkin checkin",
+        countQuery = "select count(checkin) from Checkin checkin"
+    )
+    Page<CheckinSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.CheckinSummary(checkin.id, checkin.timestamp," +
+        " checkin.idempotencyKey, checkin.player.id) from Checkin checkin"
+    )
+    Slice<CheckinSummary> findAllSummariesBy(Pageable pageable);
+}
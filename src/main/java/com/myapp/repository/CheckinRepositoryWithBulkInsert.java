@@ -0,0 +1,14 @@
+package com.myapp.repository;
+
+import com.myapp.domain.Checkin;
+import java.util.List;
+
+public interface CheckinRepositoryWithBulkInsert {
+    /**
+     * Insert the given checkins with JDBC statement batching, bypassing the persistence context.
+     * Generated ids are assigned back to the given entities.
+     *
+     * @param checkins the new checkins, each referencing an existing player.
+     */
+    void bulkInsert(List<Checkin> checkins);
+}
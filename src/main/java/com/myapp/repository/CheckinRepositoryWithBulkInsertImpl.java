@@ -0,0 +1,76 @@
+package com.myapp.repository;
+
+import com.myapp.domain.Checkin;
+import com.myapp.domain.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Utility repository to insert checkins with real JDBC batching.
+ * <p>
+ * {@link Checkin} ids use {@code IDENTITY} generation, which makes Hibernate disable insert batching,
+ * so the statements are batched by hand on the connection bound to the current transaction.
+ */
+public class CheckinRepositoryWithBulkInsertImpl implements CheckinRepositoryWithBulkInsert {
+
+    private static final String INSERT_SQL = "insert into checkin (timestamp, player_id, idempotency_key, dedupe_bucket) values (?, ?, ?, ?)";
+
+    private static final String PLAYER_CHECKINS_REGION = Player.class.getName() + ".checkins";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}")
+    private int batchSize;
+
+    @Override
+    public void bulkInsert(List<Checkin> checkins) {
+        if (checkins.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                int from = 0;
+                for (int index = 0; index < checkins.size(); index++) {
+                    Checkin checkin = checkins.get(index);
+                    // Instants are stored normalized to UTC, see hibernate.jdbc.time_zone
+                    statement.setObject(1, LocalDateTime.ofInstant(checkin.getTimestamp(), ZoneOffset.UTC));
+                    statement.setLong(2, checkin.getPlayer().getId());
+                    statement.setString(3, checkin.getIdempotencyKey());
+                    statement.setObject(4, checkin.getDedupeBucket(), Types.BIGINT);
+                    statement.addBatch();
+                    if ((index + 1) % batchSize == 0 || index == checkins.size() - 1) {
+                        statement.executeBatch();
+                        assignGeneratedIds(statement, checkins.subList(from, index + 1));
+                        from = index + 1;
+                    }
+                }
+            }
+        });
+        checkins
+            .stream()
+            .map(checkin -> checkin.getPlayer().getId())
+            .distinct()
+            .forEach(playerId -> session.getSessionFactory().getCache().evictCollectionData(PLAYER_CHECKINS_REGION, playerId));
+    }
+
+    private static void assignGeneratedIds(PreparedStatement statement, List<Checkin> batch) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (int index = 0; index < batch.size() && keys.next(); index++) {
+                batch.get(index).setId(keys.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.myapp.repository;
+
+import com.myapp.domain.CheckinRollup;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data JPA queries shared by the checkin rollup repositories.
+ *
+ * @param <T> the rollup entity.
+ */
+@NoRepositoryBean
+public interface CheckinRollupRepository<T extends CheckinRollup> extends JpaRepository<T, CheckinRollup.CheckinRollupId> {
+    /**
+     * The number of checkins in a time bucket.
+     */
+    interface BucketCount {
+        Instant getBucketStart();
+
+        Long getCheckinCount();
+    }
+
+    /**
+     * The number of checkins and of distinct players checked in for a team.
+     */
+    interface TeamCount {
+        Long getTeamId();
+
+        String getTeamName();
+
+        Long getCheckinCount();
+
+        Long getPlayerCount();
+    }
+
+    @Query(
+        "select rollup.bucketStart as bucketStart, rollup.checkinCount as checkinCount from #{#entityName} rollup" +
+        " where rollup.playerId = :playerId and rollup.bucketStart >= :from and rollup.bucketStart < :to" +
+        " order by rollup.bucketStart"
+    )
+    List<BucketCount> findPlayerCounts(@Param("playerId") Long playerId, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query(
+        "select rollup.bucketStart as bucketStart, sum(rollup.checkinCount) as checkinCount from #{#entityName} rollup" +
+        " where rollup.playerId in (select player.id from Team team join team.players player where team.id = :teamId)" +
+        " and rollup.bucketStart >= :from and rollup.bucketStart < :to" +
+        " group by rollup.bucketStart order by rollup.bucketStart"
+    )
+    List<BucketCount> findTeamCounts(@Param("teamId") Long teamId, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query(
+        "select rollup.bucketStart as bucketStart, sum(rollup.checkinCount) as checkinCount from #{#entityName} rollup" +
+        " where rollup.bucketStart >= :from and rollup.bucketStart < :to" +
+        " group by rollup.bucketStart order by rollup.bucketStart"
+    )
+    List<BucketCount> findTotalCounts(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select rollup.playerId from #{#entityName} rollup where rollup.bucketStart = :bucketStart and rollup.checkinCount > 0")
+    List<Long> findPlayerIds(@Param("bucketStart") Instant bucketStart);
+
+    @Query("select rollup.checkinCount from #{#entityName} rollup where rollup.playerId = :playerId and rollup.bucketStart = :bucketStart")
+    Optional<Long> findCheckinCount(@Param("playerId") Long playerId, @Param("bucketStart") Instant bucketStart);
+
+    @Query(
+        "select count(distinct rollup.playerId) from #{#entityName} rollup" +
+        " where rollup.bucketStart >= :from and rollup.bucketStart < :to and rollup.checkinCount > 0"
+    )
+    long countPlayers(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query(
+        "select team.id as teamId, team.name as teamName, sum(rollup.checkinCount) as checkinCount, count(distinct rollup.playerId) as playerCount" +
+        " from Team team join team.players player join #{#entityName} rollup on rollup.playerId = player.id" +
+        " where rollup.bucketStart >= :from and rollup.bucketStart < :to and rollup.checkinCount > 0" +
+        " group by team.id, team.name order by team.id"
+    )
+    List<TeamCount> findTeamTotals(@Param("from") Instant from, @Param("to") Instant to);
+}
@@ -0,0 +1,392 @@
+package com.myapp.repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An immutable file of archived checkins.
+ * <p>
+ * The file starts with a header and a directory of the players it contains, loaded in memory when the segment
+ * is opened. The checkins of each player follow as one deflated block, sorted by timestamp and stored column by
+ * column: the timestamps as deltas from the previous one, then the ids as deltas from the previous one, all as
+ * variable-length integers. Reading the history of a player is a single positional read of its block.
+ */
+public final class CheckinSegment {
+
+    static final String SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x434b5347;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_LENGTH = 4 + 4 + 8 + 8 + 4 + 8 + 8 + 4;
+
+    private static final int DIRECTORY_ENTRY_LENGTH = 8 + 4 + 8 + 8 + 8 + 4 + 4;
+
+    private static final Comparator<ArchivedCheckin> CHRONOLOGICAL = Comparator.comparing(ArchivedCheckin::timestamp).thenComparingLong(
+        ArchivedCheckin::id
+    );
+
+    private final Path path;
+
+    private final long firstId;
+
+    private final long lastId;
+
+    private final int rowCount;
+
+    private final long minMicros;
+
+    private final long maxMicros;
+
+    private final Map<Long, Block> blocks;
+
+    private final long dataOffset;
+
+    private record Block(int rowCount, long minMicros, long maxMicros, long offset, int length, int rawLength) {}
+
+    private CheckinSegment(
+        Path path,
+        long firstId,
+        long lastId,
+        int rowCount,
+        long minMicros,
+        long maxMicros,
+        Map<Long, Block> blocks
+    ) {
+        this.path = path;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.rowCount = rowCount;
+        this.minMicros = minMicros;
+        this.maxMicros = maxMicros;
+        this.blocks = blocks;
+        this.dataOffset = HEADER_LENGTH + (long) DIRECTORY_ENTRY_LENGTH * blocks.size();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getFirstId() {
+        return firstId;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public Instant getMinTimestamp() {
+        return fromMicros(minMicros);
+    }
+
+    public Instant getMaxTimestamp() {
+        return fromMicros(maxMicros);
+    }
+
+    /**
+     * Write a new segment, atomically: a segment file is either complete or absent.
+     *
+     * @param directory the archive directory.
+     * @param checkins the checkins to archive, not empty.
+     * @return the new segment.
+     * @throws IOException if the segment cannot be written.
+     */
+    static CheckinSegment write(Path directory, List<ArchivedCheckin> checkins) throws IOException {
+        Map<Long, List<ArchivedCheckin>> byPlayer = new TreeMap<>();
+        long firstId = Long.MAX_VALUE;
+        long lastId = Long.MIN_VALUE;
+        long minMicros = Long.MAX_VALUE;
+        long maxMicros = Long.MIN_VALUE;
+        for (ArchivedCheckin checkin : checkins) {
+            byPlayer.computeIfAbsent(checkin.playerId(), playerId -> new ArrayList<>()).add(checkin);
+            firstId = Math.min(firstId, checkin.id());
+            lastId = Math.max(lastId, checkin.id());
+            minMicros = Math.min(minMicros, toMicros(checkin.timestamp()));
+            maxMicros = Math.max(maxMicros, toMicros(checkin.timestamp()));
+        }
+
+        Map<Long, Block> blocks = new TreeMap<>();
+        List<byte[]> data = new ArrayList<>(byPlayer.size());
+        long offset = 0;
+        for (Map.Entry<Long, List<ArchivedCheckin>> entry : byPlayer.entrySet()) {
+            List<ArchivedCheckin> rows = entry.getValue();
+            rows.sort(CHRONOLOGICAL);
+            byte[] raw = encode(rows);
+            byte[] compressed = deflate(raw);
+            blocks.put(
+                entry.getKey(),
+                new Block(
+                    rows.size(),
+                    toMicros(rows.get(0).timestamp()),
+                    toMicros(rows.get(rows.size() - 1).timestamp()),
+                    offset,
+                    compressed.length,
+                    raw.length
+                )
+            );
+            data.add(compressed);
+            offset += compressed.length;
+        }
+
+        Path path = directory.resolve(String.format("checkins-%019d-%019d%s", firstId, lastId, SUFFIX));
+        Path temporary = directory.resolve(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(firstId);
+            out.writeLong(lastId);
+            out.writeInt(checkins.size());
+            out.writeLong(minMicros);
+            out.writeLong(maxMicros);
+            out.writeInt(blocks.size());
+            for (Map.Entry<Long, Block> entry : blocks.entrySet()) {
+                Block block = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeInt(block.rowCount());
+                out.writeLong(block.minMicros());
+                out.writeLong(block.maxMicros());
+                out.writeLong(block.offset());
+                out.writeInt(block.length());
+                out.writeInt(block.rawLength());
+            }
+            for (byte[] block : data) {
+                out.write(block);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return new CheckinSegment(path, firstId, lastId, checkins.size(), minMicros, maxMicros, blocks);
+    }
+
+    /**
+     * Open an existing segment, reading its header and directory.
+     *
+     * @param path the segment file.
+     * @return the segment.
+     * @throws IOException if the file cannot be read or is not a segment.
+     */
+    static CheckinSegment open(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a checkin segment: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkin segment version " + version + ": " + path);
+            }
+            long firstId = in.readLong();
+            long lastId = in.readLong();
+            int rowCount = in.readInt();
+            long minMicros = in.readLong();
+            long maxMicros = in.readLong();
+            int playerCount = in.readInt();
+            Map<Long, Block> blocks = new TreeMap<>();
+            for (int i = 0; i < playerCount; i++) {
+                long playerId = in.readLong();
+                blocks.put(playerId, new Block(in.readInt(), in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readInt()));
+            }
+            return new CheckinSegment(path, firstId, lastId, rowCount, minMicros, maxMicros, blocks);
+        }
+    }
+
+    /**
+     * Whether the segment may hold checkins of a player within a time range.
+     *
+     * @param playerId the id of the player.
+     * @param from the start of the range, inclusive, or {@code null}.
+     * @param to the end of the range, inclusive, or {@code null}.
+     * @return {@code false} if it certainly does not.
+     */
+    boolean mayContain(long playerId, Instant from, Instant to) {
+        Block block = blocks.get(playerId);
+        return (
+            block != null && (from == null || block.maxMicros() >= toMicros(from)) && (to == null || block.minMicros() <= toMicros(to))
+        );
+    }
+
+    /**
+     * Read the checkins of a player.
+     *
+     * @param playerId the id of the player.
+     * @return the checkins of the player, in chronological order.
+     * @throws IOException if the segment cannot be read.
+     */
+    List<ArchivedCheckin> read(long playerId) throws IOException {
+        Block block = blocks.get(playerId);
+        if (block == null) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(playerId, block, readBlock(channel, block));
+        }
+    }
+
+    /**
+     * Read all the checkins of the segment.
+     *
+     * @return the checkins, grouped by player, each in chronological order.
+     * @throws IOException if the segment cannot be read.
+     */
+    List<ArchivedCheckin> readAll() throws IOException {
+        List<ArchivedCheckin> checkins = new ArrayList<>(rowCount);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (Map.Entry<Long, Block> entry : blocks.entrySet()) {
+                checkins.addAll(decode(entry.getKey(), entry.getValue(), readBlock(channel, entry.getValue())));
+            }
+        }
+        return checkins;
+    }
+
+    private byte[] readBlock(FileChannel channel, Block block) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(block.length());
+        long position = dataOffset + block.offset();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated checkin segment: " + path);
+            }
+        }
+        return inflate(buffer.array(), block.rawLength());
+    }
+
+    private static byte[] encode(List<ArchivedCheckin> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 6);
+        long previous = 0;
+        for (ArchivedCheckin row : rows) {
+            long micros = toMicros(row.timestamp());
+            writeVarLong(out, zigZag(micros - previous));
+            previous = micros;
+        }
+        previous = 0;
+        for (ArchivedCheckin row : rows) {
+            writeVarLong(out, zigZag(row.id() - previous));
+            previous = row.id();
+        }
+        return out.toByteArray();
+    }
+
+    private static List<ArchivedCheckin> decode(long playerId, Block block, byte[] raw) {
+        ByteBuffer in = ByteBuffer.wrap(raw);
+        long[] micros = new long[block.rowCount()];
+        long previous = 0;
+        for (int i = 0; i < micros.length; i++) {
+            previous += unZigZag(readVarLong(in));
+            micros[i] = previous;
+        }
+        List<ArchivedCheckin> checkins = new ArrayList<>(micros.length);
+        previous = 0;
+        for (long timestamp : micros) {
+            previous += unZigZag(readVarLong(in));
+            checkins.add(new ArchivedCheckin(previous, playerId, fromMicros(timestamp)));
+        }
+        return Collections.unmodifiableList(checkins);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IOException("Corrupted checkin segment: " + path);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted checkin segment: " + path, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public String toString() {
+        return "CheckinSegment{" + "path=" + path + ", firstId=" + firstId + ", lastId=" + lastId + ", rowCount=" + rowCount + "}";
+    }
+}
@@ -0,0 +1,13 @@
+package com.myapp.repository;
+
+import java.time.Instant;
+
+/**
+ * The columns of a {@link com.myapp.domain.Checkin} shown in lists, read without loading the entity.
+ *
+ * @param id the id of the checkin.
+ * @param timestamp its timestamp.
+ * @param idempotencyKey its idempotency key, or {@code null}.
+ * @param playerId the id of its player.
+ */
+public record CheckinSummary(Long id, Instant timestamp, String idempotencyKey, Long playerId) {}
@@ -0,0 +1,9 @@
+package com.myapp.repository;
+
+/**
+ * The id and the label of an entity, read without loading it.
+ *
+ * @param id the id of the entity.
+ * @param label its label.
+ */
+public record EntityLabel(Long id, String label) {}
@@ -0,0 +1,68 @@
+package com.myapp.repository;
+
+import com.myapp.domain.FileBlob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the FileBlob entity.
+ * <p>
+ * The native query space hints keep Hibernate from invalidating every second-level cache region on execution.
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+    /**
+     * Add a reference to a blob, creating it if needed. The row stays locked until the transaction completes, so the
+     * blob cannot be reclaimed meanwhile.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "file_blob"))
+    @Query(
+        value = "insert into file_blob (hash, content_size, ref_count) values (:hash, :contentSize, 1)" +
+        " on duplicate key update ref_count = ref_count + 1",
+        nativeQuery = true
+    )
+    void acquire(@Param("hash") String hash, @Param("contentSize") long contentSize);
+
+    /**
+     * Remove a reference to a blob.
+     *
+     * @return the number of blobs updated, {@code 0} if the blob has no references.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "file_blob"))
+    @Query(value = "update file_blob set ref_count = ref_count - 1 where hash = :hash and ref_count > 0", nativeQuery = true)
+    int release(@Param("hash") String hash);
+
+    /**
+     * Delete a blob if it has no references. The row stays locked until the transaction completes, so the blob cannot
+     * be acquired again before its file is deleted.
+     *
+     * @return the number of blobs deleted.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "file_blob"))
+    @Query(value = "delete from file_blob where hash = :hash and ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("hash") String hash);
+
+    /**
+     * Find the blobs without references, left by a reclaim that did not run, in ascending order of hash.
+     *
+     * @param afterHash the hash after which to search.
+     */
+    @Query("select fileBlob from FileBlob fileBlob where fileBlob.refCount = 0 and fileBlob.hash > :afterHash order by fileBlob.hash")
+    List<FileBlob> findUnreferenced(@Param("afterHash") String afterHash, Limit limit);
+
+    /**
+     * Find and lock blobs. The hashes without a blob are locked too, by the gap locks of the default repeatable read
+     * isolation, so they cannot be acquired before the transaction completes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<FileBlob> findAllByHashIn(Collection<String> hashes);
+}
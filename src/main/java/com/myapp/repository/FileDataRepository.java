@@ -1,7 +1,14 @@
 package com.myapp.repository;
 
 import com.myapp.domain.FileData;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +16,60 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface FileDataRepository extends JpaRepository<FileData, Long> {}
+public interface FileDataRepository extends JpaRepository<FileData, Long> {
+    Slice<FileData> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.FileDataSummary(fileData.id, fileData.uid, fileData.fileName," +
+        " fileData.contentHash, fileData.contentType, fileData.contentSize)" +
+        " from FileData fileData",
+        countQuery = "select count(fileData) from FileData fileData"
+    )
+    Page<FileDataSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.FileDataSummary(fileData.id, fileData.uid, fileData.fileName," +
+        " fileData.contentHash, fileData.contentType, fileData.contentSize)" +
+        " from FileData fileData"
+    )
+    Slice<FileDataSummary> findAllSummariesBy(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.FileDataSummary(fileData.id, fileData.uid, fileData.fileName," +
+        " fileData.contentHash, fileData.contentType, fileData.contentSize)" +
+        " from FileData fileData where not exists (select tournament.id from Tournament tournament where tournament.image = fileData)"
+    )
+    Slice<FileDataSummary> findAllWhereTournamentIsNull(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.FileDataSummary(fileData.id, fileData.uid, fileData.fileName," +
+        " fileData.contentHash, fileData.contentType, fileData.contentSize)" +
+        " from FileData fileData where not exists (select season.id from Season season where season.image = fileData)"
+    )
+    Slice<FileDataSummary> findAllWhereSeasonIsNull(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.FileDataSummary(fileData.id, fileData.uid, fileData.fileName," +
+        " fileData.contentHash, fileData.contentType, fileData.contentSize)" +
+        " from FileData fileData where not exists (select camp.id from Camp camp where camp.image = fileData)"
+    )
+    Slice<FileDataSummary> findAllWhereCampIsNull(Pageable pageable);
+
+    /**
+     * Find the ids of the file data referenced by no tournament, season or camp, in ascending order.
+     *
+     * @param afterId the id after which to search.
+     * @param maxId the greatest id to return, so that the file data created recently are left alone.
+     */
+    @Query(
+        "select fileData.id from FileData fileData where fileData.id > :afterId and fileData.id <= :maxId" +
+        " and not exists (select tournament.id from Tournament tournament where tournament.image = fileData)" +
+        " and not exists (select season.id from Season season where season.image = fileData)" +
+        " and not exists (select camp.id from Camp camp where camp.image = fileData)" +
+        " order by fileData.id"
+    )
+    List<Long> findUnreferencedIds(@Param("afterId") Long afterId, @Param("maxId") Long maxId, Limit limit);
+
+    @Query("select max(fileData.id) from FileData fileData")
+    Optional<Long> findMaxId();
+}
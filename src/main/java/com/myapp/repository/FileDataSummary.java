@@ -0,0 +1,13 @@
+package com.myapp.repository;
+
+/**
+ * The columns of a {@link com.myapp.domain.FileData} shown in lists, read without loading the entity.
+ *
+ * @param id the id of the file data.
+ * @param uid its uid.
+ * @param fileName its file name.
+ * @param contentHash the SHA-256 of its content.
+ * @param contentType the media type of its content.
+ * @param contentSize the size of its content in bytes.
+ */
+public record FileDataSummary(Long id, String uid, String fileName, String contentHash, String contentType, Long contentSize) {}
@@ -1,7 +1,13 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Guardian;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +15,40 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface GuardianRepository extends JpaRepository<Guardian, Long> {}
+public interface GuardianRepository extends JpaRepository<Guardian, Long>, JpaSpecificationExecutor<Guardian> {
+    Slice<Guardian> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.GuardianSummary(guardian.id, guardian.firstName," +
+        " guardian.middleInitial, guardian.lastName, guardian.relationshipToPlayer, guardian.dateOfBirth," +
+        " guardian.testField) from Guardian guardian",
+        countQuery = "select count(guardian) from Guardian guardian"
+    )
+    Page<GuardianSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.GuardianSummary(guardian.id, guardian.firstName," +
+        " guardian.middleInitial, guardian.lastName, guardian.relationshipToPlayer, guardian.dateOfBirth," +
+        " guardian.testField) from Guardian guardian"
+    )
+    Slice<GuardianSummary> findAllSummariesBy(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.GuardianSummary(guardian.id, guardian.firstName," +
+        " guardian.middleInitial, guardian.lastName, guardian.relationshipToPlayer, guardian.dateOfBirth," +
+        " guardian.testField) from Guardian guardian where guardian.id = :id"
+    )
+    Optional<GuardianSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(
+        "select new com.myapp.repository.PersonName(guardian.id, guardian.firstName, guardian.middleInitial, guardian.lastName)" +
+        " from Guardian guardian where guardian.id >= :from and guardian.id < :to"
+    )
+    List<PersonName> findNamesByIdRange(@Param("from") long from, @Param("to") long to);
+
+    @Query("select min(guardian.id) from Guardian guardian")
+    Optional<Long> findMinId();
+
+    @Query("select max(guardian.id) from Guardian guardian")
+    Optional<Long> findMaxId();
+}
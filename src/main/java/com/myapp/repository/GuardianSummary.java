@@ -0,0 +1,25 @@
+package com.myapp.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of a {@link com.myapp.domain.Guardian} shown in lists, read without loading the entity.
+ * Their players are not read.
+ *
+ * @param id the id of the guardian.
+ * @param firstName their first name.
+ * @param middleInitial their middle initial.
+ * @param lastName their last name.
+ * @param relationshipToPlayer their relationship to the player.
+ * @param dateOfBirth their date of birth.
+ * @param testField the test field.
+ */
+public record GuardianSummary(
+    Long id,
+    String firstName,
+    String middleInitial,
+    String lastName,
+    String relationshipToPlayer,
+    LocalDate dateOfBirth,
+    String testField
+) {}
@@ -1,6 +1,9 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Organization;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface OrganizationRepository extends JpaRepository<Organization, Long> {}
+public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+    Slice<Organization> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.OrganizationSummary(organization.id, organization.name)" +
+        " from Organization organization",
+        countQuery = "select count(organization) from Organization organization"
+    )
+    Page<OrganizationSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.OrganizationSummary(organization.id, organization.name)" +
+        " from Organization organization"
+    )
+    Slice<OrganizationSummary> findAllSummariesBy(Pageable pageable);
+}
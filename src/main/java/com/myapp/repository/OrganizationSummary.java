@@ -0,0 +1,9 @@
+package com.myapp.repository;
+
+/**
+ * The columns of a {@link com.myapp.domain.Organization} shown in lists, read without loading the entity.
+ *
+ * @param id the id of the organization.
+ * @param name its name.
+ */
+public record OrganizationSummary(Long id, String name) {}
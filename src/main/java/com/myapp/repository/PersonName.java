@@ -0,0 +1,53 @@
+package com.myapp.repository;
+
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Player;
+
+/**
+ * The name of a {@link Player} or of a {@link Guardian}, read without loading the entity.
+ *
+ * @param id the id of the person.
+ * @param firstName their first name.
+ * @param middleInitial their middle initial.
+ * @param lastName their last name.
+ */
+public record PersonName(Long id, String firstName, String middleInitial, String lastName) {
+    /**
+     * Get the label of the person, see {@link #fullName(String, String, String)}.
+     */
+    public EntityLabel toLabel() {
+        return new EntityLabel(id, fullName(firstName, middleInitial, lastName));
+    }
+
+    /**
+     * Get the full name of a player, see {@link #fullName(String, String, String)}.
+     */
+    public static String fullName(Player player) {
+        return fullName(player.getFirstName(), player.getMiddleInitial(), player.getLastName());
+    }
+
+    /**
+     * Get the full name of a guardian, see {@link #fullName(String, String, String)}.
+     */
+    public static String fullName(Guardian guardian) {
+        return fullName(guardian.getFirstName(), guardian.getMiddleInitial(), guardian.getLastName());
+    }
+
+    /**
+     * Join the parts of a name that are not blank with spaces.
+     *
+     * @param firstName the first name.
+     * @param middleInitial the middle initial.
+     * @param lastName the last name.
+     * @return the full name.
+     */
+    public static String fullName(String firstName, String middleInitial, String lastName) {
+        StringBuilder name = new StringBuilder();
+        for (String part : new String[] { firstName, middleInitial, lastName }) {
+            if (part != null && !part.isBlank()) {
+                name.append(name.isEmpty() ? "" : " ").append(part.strip());
+            }
+        }
+        return name.toString();
+    }
+}
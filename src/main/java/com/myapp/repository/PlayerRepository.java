@@ -1,11 +1,16 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Player;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,16 +20,80 @@ import org.springframework.stereotype.Repository;
  * For more information refer to https://github.com/jhipster/generator-jhipster/issues/17990.
  */
 @Repository
-public interface PlayerRepository extends PlayerRepositoryWithBagRelationships, JpaRepository<Player, Long> {
+public interface PlayerRepository
+    extends PlayerRepositoryWithBagRelationships, JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
     default Optional<Player> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
 
-    default List<Player> findAllWithEagerRelationships() {
-        return this.fetchBagRelationships(this.findAll());
-    }
+    @Query("select player.id from Player player where player.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
-    default Page<Player> findAllWithEagerRelationships(Pageable pageable) {
-        return this.fetchBagRelationships(this.findAll(pageable));
-    }
+    Slice<Player> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Player player",
+        countQuery = "select count(player) from Player player"
+    )
+    Page<PlayerSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Player player"
+    )
+    Slice<PlayerSummary> findAllSummariesBy(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Player player where player.id = :id"
+    )
+    Optional<PlayerSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(
+        "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Team team join team.players player" +
+        " where team.id = :teamId order by player.lastName asc, player.firstName asc, player.id asc"
+    )
+    List<PlayerSummary> findRoster(@Param("teamId") Long teamId, Limit limit);
+
+    @Query(
+        "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Team team join team.players player" +
+        " where team.id = :teamId and (player.lastName, player.firstName, player.id) > (:lastName, :firstName, :id)" +
+        " order by player.lastName asc, player.firstName asc, player.id asc"
+    )
+    List<PlayerSummary> findRosterAfter(
+        @Param("teamId") Long teamId,
+        @Param("lastName") String lastName,
+        @Param("firstName") String firstName,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(
+        "select new com.myapp.repository.PlayerSummary(player.id, player.firstName, player.middleInitial," +
+        " player.lastName, player.gender, player.dateOfBirth) from Team team join team.players player" +
+        " where team.id = :teamId and (player.lastName, player.firstName, player.id) < (:lastName, :firstName, :id)" +
+        " order by player.lastName desc, player.firstName desc, player.id desc"
+    )
+    List<PlayerSummary> findRosterBefore(
+        @Param("teamId") Long teamId,
+        @Param("lastName") String lastName,
+        @Param("firstName") String firstName,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(
+        "select new com.myapp.repository.PersonName(player.id, player.firstName, player.middleInitial, player.lastName)" +
+        " from Player player where player.id >= :from and player.id < :to"
+    )
+    List<PersonName> findNamesByIdRange(@Param("from") long from, @Param("to") long to);
+
+    @Query("select min(player.id) from Player player")
+    Optional<Long> findMinId();
+
+    @Query("select max(player.id) from Player player")
+    Optional<Long> findMaxId();
 }
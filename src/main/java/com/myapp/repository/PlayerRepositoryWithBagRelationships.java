@@ -1,6 +1,7 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Player;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -11,4 +12,8 @@ public interface PlayerRepositoryWithBagRelationships {
     List<Player> fetchBagRelationships(List<Player> players);
 
     Page<Player> fetchBagRelationships(Page<Player> players);
+
+    RelationshipIds findGuardianIds(Collection<Player> players);
+
+    RelationshipIds findTeamIds(Collection<Player> players);
 }
@@ -3,6 +3,7 @@ package com.myapp.repository;
 import com.myapp.domain.Player;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,24 @@ public class PlayerRepositoryWithBagRelationshipsImpl implements PlayerRepositor
         return Optional.of(players).map(this::fetchGuardians).orElse(Collections.emptyList());
     }
 
+    @Override
+    public RelationshipIds findGuardianIds(Collection<Player> players) {
+        return RelationshipIds.read(
+            entityManager,
+            "select rel.player_id, rel.guardians_id from rel_player__guardians rel where rel.player_id in (:ids)",
+            players.stream().map(Player::getId).toList()
+        );
+    }
+
+    @Override
+    public RelationshipIds findTeamIds(Collection<Player> players) {
+        return RelationshipIds.read(
+            entityManager,
+            "select rel.players_id, rel.team_id from rel_team__players rel where rel.players_id in (:ids)",
+            players.stream().map(Player::getId).toList()
+        );
+    }
+
     Player fetchGuardians(Player result) {
         return entityManager
             .createQuery("select player from Player player left join fetch player.guardians where player.id = :id", Player.class)
@@ -0,0 +1,17 @@
+package com.myapp.repository;
+
+import com.myapp.domain.enumeration.Gender;
+import java.time.LocalDate;
+
+/**
+ * The columns of a {@link com.myapp.domain.Player} shown in lists, read without loading the entity.
+ * Its guardians and teams are not read.
+ *
+ * @param id the id of the player.
+ * @param firstName their first name.
+ * @param middleInitial their middle initial.
+ * @param lastName their last name.
+ * @param gender their gender.
+ * @param dateOfBirth their date of birth.
+ */
+public record PlayerSummary(Long id, String firstName, String middleInitial, String lastName, Gender gender, LocalDate dateOfBirth) {}
@@ -0,0 +1,64 @@
+package com.myapp.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The ids of the entities related to some entities by a many-to-many relationship, read from the join table of the
+ * relationship in one query, without loading the related entities or initializing the collections.
+ *
+ * @param relatedIds the ids of the related entities, by id of entity.
+ */
+public record RelationshipIds(Map<Long, Set<Long>> relatedIds) {
+    private static final String IDS_PARAMETER = "ids";
+
+    /**
+     * Get the ids of the entities related to an entity.
+     *
+     * @param id the id of the entity.
+     * @return the ids of the related entities, empty if none or if the entity was not read.
+     */
+    public Set<Long> of(Long id) {
+        return relatedIds.getOrDefault(id, Set.of());
+    }
+
+    /**
+     * Get the ids of the entities related to an entity as an array, for the compact representation of the DTOs.
+     *
+     * @param id the id of the entity.
+     * @return the ids of the related entities in ascending order, empty if none or if the entity was not read.
+     */
+    public long[] arrayOf(Long id) {
+        long[] ids = of(id).stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Read the rows of a join table.
+     *
+     * @param entityManager the entity manager.
+     * @param sql the native query selecting the id of the entity and the id of the related entity, in this order,
+     * of the rows whose entity id is in the {@code :ids} parameter.
+     * @param ids the ids of the entities.
+     * @return the ids of the related entities.
+     */
+    static RelationshipIds read(EntityManager entityManager, String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new RelationshipIds(Map.of());
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(sql).setParameter(IDS_PARAMETER, ids).getResultList();
+        Map<Long, Set<Long>> relatedIds = new HashMap<>();
+        for (Object[] row : rows) {
+            relatedIds.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashSet<>()).add(((Number) row[1]).longValue());
+        }
+        return new RelationshipIds(relatedIds);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import org.springframework.stereotype.Repository;
  * Spring Data JPA repository for the Season entity.
  */
 @Repository
-public interface SeasonRepository extends JpaRepository<Season, Long> {
+public interface SeasonRepository extends JpaRepository<Season, Long>, JpaSpecificationExecutor<Season> {
     default Optional<Season> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -37,4 +38,24 @@ public interface SeasonRepository extends JpaRepository<Season, Long> {
 
     @Query("select season from Season season left join fetch season.organization where season.id =:id")
     Optional<Season> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @Query("select season from Season season left join fetch season.organization where season in :seasons")
+    List<Season> fetchToOneRelationships(@Param("seasons") List<Season> seasons);
+
+    Slice<Season> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.SeasonSummary(season.id, season.name, season.additionalInfo," +
+        " season.status, season.start, season.ends, image.id, organization.id, organization.name)" +
+        " from Season season left join season.image image left join season.organization organization",
+        countQuery = "select count(season) from Season season"
+    )
+    Page<SeasonSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.SeasonSummary(season.id, season.name, season.additionalInfo," +
+        " season.status, season.start, season.ends, image.id, organization.id, organization.name)" +
+        " from Season season left join season.image image left join season.organization organization"
+    )
+    Slice<SeasonSummary> findAllSummariesBy(Pageable pageable);
 }
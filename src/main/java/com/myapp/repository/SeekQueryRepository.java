@@ -0,0 +1,98 @@
+package com.myapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keyset (seek) queries over any entity.
+ * <p>
+ * Rows are sorted on one attribute then on the id, and read from the position of the last row seen with a row value
+ * comparison, {@code where (e.key, e.id) > (:key, :id)}, instead of an offset: with an index on {@code (key, id)} a
+ * page costs one index range scan whatever its depth.
+ */
+@Repository
+public class SeekQueryRepository {
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    public SeekQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the type of an attribute the rows of an entity can be sorted on for seek queries: the id, or a required
+     * basic attribute, as a {@code null} key would not compare.
+     *
+     * @param domainClass the entity.
+     * @param attribute the name of the attribute.
+     * @return the type of the attribute, or empty if the attribute does not exist or cannot be sorted on.
+     */
+    public Optional<Class<?>> findKeyType(Class<?> domainClass, String attribute) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
+        Attribute<?, ?> found;
+        try {
+            found = entityType.getAttribute(attribute);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!(found instanceof SingularAttribute<?, ?> singular)) {
+            return Optional.empty();
+        }
+        boolean required = singular.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC && !singular.isOptional();
+        return singular.isId() || required ? Optional.of(singular.getJavaType()) : Optional.empty();
+    }
+
+    /**
+     * Get the rows of an entity following a position.
+     *
+     * @param domainClass the entity.
+     * @param attribute the attribute to sort on, see {@link #findKeyType(Class, String)}.
+     * @param descending whether to read the rows in descending order.
+     * @param key the value of the attribute at the position, ignored if {@code id} is {@code null}.
+     * @param id the id of the row at the position, excluded, or {@code null} to read from the first row.
+     * @param limit the maximum number of rows.
+     * @param <T> the type of the entity.
+     * @return the rows, in reading order.
+     */
+    public <T> List<SeekRow<T>> findAfter(Class<T> domainClass, String attribute, boolean descending, Object key, Long id, int limit) {
+        if (findKeyType(domainClass, attribute).isEmpty()) {
+            throw new IllegalArgumentException("Cannot seek on " + domainClass.getSimpleName() + "." + attribute);
+        }
+        String path = "e." + attribute;
+        String direction = descending ? " desc" : " asc";
+        StringBuilder query = new StringBuilder("select e, ").append(path).append(", e.id from ");
+        query.append(entityManager.getMetamodel().entity(domainClass).getName()).append(" e");
+        if (id != null) {
+            String comparison = descending ? " < " : " > ";
+            if (ID.equals(attribute)) {
+                query.append(" where e.id").append(comparison).append(":id");
+            } else {
+                query.append(" where (").append(path).append(", e.id)").append(comparison).append("(:key, :id)");
+            }
+        }
+        query.append(" order by ").append(path).append(direction);
+        if (!ID.equals(attribute)) {
+            query.append(", e.id").append(direction);
+        }
+        TypedQuery<Object[]> typedQuery = entityManager.createQuery(query.toString(), Object[].class).setMaxResults(limit);
+        if (id != null) {
+            typedQuery.setParameter("id", id);
+            if (!ID.equals(attribute)) {
+                typedQuery.setParameter("key", key);
+            }
+        }
+        return typedQuery
+            .getResultList()
+            .stream()
+            .map(row -> new SeekRow<>(domainClass.cast(row[0]), row[1], ((Number) row[2]).longValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.myapp.repository;
+
+/**
+ * A row read by a {@link SeekQueryRepository} query, with its position.
+ *
+ * @param entity the entity.
+ * @param key the value of the attribute the rows are sorted on.
+ * @param id the id of the entity.
+ * @param <T> the type of the entity.
+ */
+public record SeekRow<T>(T entity, Object key, long id) {}
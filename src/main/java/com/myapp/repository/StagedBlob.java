@@ -0,0 +1,12 @@
+package com.myapp.repository;
+
+import java.nio.file.Path;
+
+/**
+ * A content written to a temporary file of the {@link BlobStore}, not yet moved to its place in the store.
+ *
+ * @param file the temporary file.
+ * @param hash the SHA-256 of the content, in lower case hexadecimal.
+ * @param size the size of the content in bytes.
+ */
+public record StagedBlob(Path file, String hash, long size) {}
@@ -0,0 +1,14 @@
+package com.myapp.repository;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A file of the {@link BlobStore}, holding a content or one of its derivatives.
+ *
+ * @param file the file.
+ * @param hash the SHA-256 of the content, in lower case hexadecimal.
+ * @param size the size of the file in bytes.
+ * @param lastModified the time the file was last modified.
+ */
+public record StoredFile(Path file, String hash, long size, Instant lastModified) {}
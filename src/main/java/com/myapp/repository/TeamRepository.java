@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,16 +17,37 @@ import org.springframework.stereotype.Repository;
  * For more information refer to https://github.com/jhipster/generator-jhipster/issues/17990.
  */
 @Repository
-public interface TeamRepository extends TeamRepositoryWithBagRelationships, JpaRepository<Team, Long> {
+public interface TeamRepository extends TeamRepositoryWithBagRelationships, JpaRepository<Team, Long>, JpaSpecificationExecutor<Team> {
     default Optional<Team> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
 
-    default List<Team> findAllWithEagerRelationships() {
-        return this.fetchBagRelationships(this.findAll());
-    }
+    @Query("select player.id from Team team join team.players player where team.id = :id")
+    List<Long> findPlayerIds(@Param("id") Long id);
 
-    default Page<Team> findAllWithEagerRelationships(Pageable pageable) {
-        return this.fetchBagRelationships(this.findAll(pageable));
-    }
+    @Query("select count(player.id) from Team team join team.players player where team.id = :id")
+    long countPlayers(@Param("id") Long id);
+
+    Slice<Team> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.TeamSummary(team.id, team.name) from Team team",
+        countQuery = "select count(team) from Team team"
+    )
+    Page<TeamSummary> findAllSummaries(Pageable pageable);
+
+    @Query("select new com.myapp.repository.TeamSummary(team.id, team.name) from Team team")
+    Slice<TeamSummary> findAllSummariesBy(Pageable pageable);
+
+    @Query("select new com.myapp.repository.TeamSummary(team.id, team.name) from Team team where team.id = :id")
+    Optional<TeamSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("select new com.myapp.repository.EntityLabel(team.id, team.name) from Team team where team.id >= :from and team.id < :to")
+    List<EntityLabel> findLabelsByIdRange(@Param("from") long from, @Param("to") long to);
+
+    @Query("select min(team.id) from Team team")
+    Optional<Long> findMinId();
+
+    @Query("select max(team.id) from Team team")
+    Optional<Long> findMaxId();
 }
@@ -1,6 +1,7 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Team;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -11,4 +12,6 @@ public interface TeamRepositoryWithBagRelationships {
     List<Team> fetchBagRelationships(List<Team> teams);
 
     Page<Team> fetchBagRelationships(Page<Team> teams);
+
+    RelationshipIds findPlayerIds(Collection<Team> teams);
 }
@@ -3,6 +3,7 @@ package com.myapp.repository;
 import com.myapp.domain.Team;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,15 @@ public class TeamRepositoryWithBagRelationshipsImpl implements TeamRepositoryWit
         return Optional.of(teams).map(this::fetchPlayers).orElse(Collections.emptyList());
     }
 
+    @Override
+    public RelationshipIds findPlayerIds(Collection<Team> teams) {
+        return RelationshipIds.read(
+            entityManager,
+            "select rel.team_id, rel.players_id from rel_team__players rel where rel.team_id in (:ids)",
+            teams.stream().map(Team::getId).toList()
+        );
+    }
+
     Team fetchPlayers(Team result) {
         return entityManager
             .createQuery("select team from Team team left join fetch team.players where team.id = :id", Team.class)
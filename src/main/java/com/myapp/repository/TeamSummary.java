@@ -0,0 +1,10 @@
+package com.myapp.repository;
+
+/**
+ * The columns of a {@link com.myapp.domain.Team} shown in lists, read without loading the entity.
+ * Its players are not read.
+ *
+ * @param id the id of the team.
+ * @param name its name.
+ */
+public record TeamSummary(Long id, String name) {}
@@ -1,6 +1,9 @@
 package com.myapp.repository;
 
 import com.myapp.domain.Tournament;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,21 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TournamentRepository extends JpaRepository<Tournament, Long> {}
+public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+    Slice<Tournament> findAllBy(Pageable pageable);
+
+    @Query(
+        value = "select new com.myapp.repository.TournamentSummary(tournament.id, tournament.name," +
+        " tournament.additionalInfo, tournament.status, tournament.start, tournament.ends, image.id)" +
+        " from Tournament tournament left join tournament.image image",
+        countQuery = "select count(tournament) from Tournament tournament"
+    )
+    Page<TournamentSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        "select new com.myapp.repository.TournamentSummary(tournament.id, tournament.name," +
+        " tournament.additionalInfo, tournament.status, tournament.start, tournament.ends, image.id)" +
+        " from Tournament tournament left join tournament.image image"
+    )
+    Slice<TournamentSummary> findAllSummariesBy(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.myapp.repository;
+
+import com.myapp.domain.enumeration.CompetitionStatus;
+import java.time.Instant;
+
+/**
+ * The columns of a {@link com.myapp.domain.Tournament} shown in lists, read without loading the entity.
+ *
+ * @param id the id of the tournament.
+ * @param name its name.
+ * @param additionalInfo its additional info.
+ * @param status its status.
+ * @param start its start.
+ * @param ends its end.
+ * @param imageId the id of its image, or {@code null}.
+ */
+public record TournamentSummary(
+    Long id,
+    String name,
+    String additionalInfo,
+    CompetitionStatus status,
+    Instant start,
+    Instant ends,
+    Long imageId
+) {}
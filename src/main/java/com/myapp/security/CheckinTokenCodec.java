@@ -0,0 +1,263 @@
+package com.myapp.security;
+
+import com.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues and verifies the stateless tokens printed as QR codes for player checkins.
+ * <p>
+ * A token is 44 URL-safe Base64 characters encoding 33 bytes: a version, the player id, the validity window in
+ * epoch seconds and the first 128 bits of an HMAC-SHA256 of the rest. Verification needs no database lookup and,
+ * once warmed up, allocates nothing: each thread reuses its own buffers and digest, and the HMAC is computed
+ * directly on the digest as {@link javax.crypto.Mac} allocates its intermediate hash.
+ * <p>
+ * The key is managed like the JWT key: {@code application.checkin.token.base64-secret}, set per profile.
+ */
+@Component
+public class CheckinTokenCodec {
+
+    public static final String VERIFIED_METER_NAME = "checkin.token.verified";
+
+    /**
+     * Length of an encoded token.
+     */
+    public static final int ENCODED_LENGTH = 44;
+
+    /**
+     * Reasons for rejecting a token.
+     */
+    public enum Failure {
+        MALFORMED,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        NOT_YET_VALID,
+    }
+
+    static final byte VERSION = 1;
+
+    private static final int PAYLOAD_LENGTH = 17;
+
+    private static final int TAG_LENGTH = 16;
+
+    private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + TAG_LENGTH;
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final int BLOCK_SIZE = 64;
+
+    private static final int MIN_KEY_LENGTH = 32;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final Failure[] FAILURES = Failure.values();
+
+    private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final byte[] innerPad = new byte[BLOCK_SIZE];
+
+    private final byte[] outerPad = new byte[BLOCK_SIZE];
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private final Counter validCounter;
+
+    private final Counter[] failureCounters = new Counter[FAILURES.length];
+
+    /**
+     * The buffers of one thread.
+     */
+    private static final class Scratch {
+
+        private final MessageDigest digest = newDigest();
+
+        private final byte[] token = new byte[TOKEN_LENGTH];
+
+        private final byte[] tag = new byte[DIGEST_LENGTH];
+    }
+
+    @Autowired
+    public CheckinTokenCodec(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this(decodeKey(applicationProperties.getCheckin().getToken().getBase64Secret()), meterRegistry);
+    }
+
+    CheckinTokenCodec(byte[] key, MeterRegistry meterRegistry) {
+        if (key.length < MIN_KEY_LENGTH) {
+            throw new IllegalStateException("The checkin token key must be at least 256 bits long");
+        }
+        // RFC 2104: keys longer than a block are hashed first
+        byte[] blockKey = key.length > BLOCK_SIZE ? newDigest().digest(key) : key;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            byte keyByte = i < blockKey.length ? blockKey[i] : 0;
+            innerPad[i] = (byte) (keyByte ^ 0x36);
+            outerPad[i] = (byte) (keyByte ^ 0x5c);
+        }
+        this.validCounter = Counter.builder(VERIFIED_METER_NAME)
+            .description("Checkin tokens verified")
+            .tag("result", "valid")
+            .register(meterRegistry);
+        for (Failure failure : FAILURES) {
+            failureCounters[failure.ordinal()] = Counter.builder(VERIFIED_METER_NAME)
+                .description("Checkin tokens verified")
+                .tag("result", failure.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Issue a token.
+     *
+     * @param playerId the id of the player, positive.
+     * @param notBefore the start of the validity window, inclusive, truncated to the second.
+     * @param notAfter the end of the validity window, exclusive, truncated to the second.
+     * @return the encoded token.
+     */
+    public String issue(long playerId, Instant notBefore, Instant notAfter) {
+        if (playerId <= 0) {
+            throw new IllegalArgumentException("Invalid player id: " + playerId);
+        }
+        if (!notBefore.isBefore(notAfter) || notBefore.getEpochSecond() < 0 || notAfter.getEpochSecond() > 0xffffffffL) {
+            throw new IllegalArgumentException("Invalid validity window: " + notBefore + " - " + notAfter);
+        }
+        byte[] token = new byte[TOKEN_LENGTH];
+        ByteBuffer.wrap(token)
+            .put(VERSION)
+            .putLong(playerId)
+            .putInt((int) notBefore.getEpochSecond())
+            .putInt((int) notAfter.getEpochSecond());
+        byte[] tag = new byte[DIGEST_LENGTH];
+        sign(newDigest(), token, tag);
+        System.arraycopy(tag, 0, token, PAYLOAD_LENGTH, TAG_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Verify a token.
+     *
+     * @param token the encoded token.
+     * @param now the current time in epoch seconds.
+     * @return the id of the player if the token is valid, a negative value otherwise, see {@link #failureOf(long)}.
+     */
+    public long verify(CharSequence token, long now) {
+        if (token == null || token.length() != ENCODED_LENGTH) {
+            return fail(Failure.MALFORMED);
+        }
+        Scratch buffers = scratch.get();
+        byte[] bytes = buffers.token;
+        if (!decode(token, bytes) || bytes[0] != VERSION) {
+            return fail(Failure.MALFORMED);
+        }
+        sign(buffers.digest, bytes, buffers.tag);
+        // Constant time comparison, not to leak how much of a forged tag is right
+        int difference = 0;
+        for (int i = 0; i < TAG_LENGTH; i++) {
+            difference |= buffers.tag[i] ^ bytes[PAYLOAD_LENGTH + i];
+        }
+        if (difference != 0) {
+            return fail(Failure.INVALID_SIGNATURE);
+        }
+        long playerId = readLong(bytes, 1);
+        if (now < readUnsignedInt(bytes, 9)) {
+            return fail(Failure.NOT_YET_VALID);
+        }
+        if (now >= readUnsignedInt(bytes, 13)) {
+            return fail(Failure.EXPIRED);
+        }
+        validCounter.increment();
+        return playerId;
+    }
+
+    /**
+     * Get the reason why {@link #verify(CharSequence, long)} rejected a token.
+     *
+     * @param result a negative result of {@link #verify(CharSequence, long)}.
+     * @return the reason.
+     */
+    public static Failure failureOf(long result) {
+        return FAILURES[(int) (-result - 1)];
+    }
+
+    private long fail(Failure failure) {
+        failureCounters[failure.ordinal()].increment();
+        return -(failure.ordinal() + 1L);
+    }
+
+    private void sign(MessageDigest digest, byte[] token, byte[] tag) {
+        try {
+            digest.update(innerPad);
+            digest.update(token, 0, PAYLOAD_LENGTH);
+            digest.digest(tag, 0, DIGEST_LENGTH);
+            digest.update(outerPad);
+            digest.update(tag, 0, DIGEST_LENGTH);
+            digest.digest(tag, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean decode(CharSequence token, byte[] bytes) {
+        int position = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i += 4) {
+            int group = 0;
+            for (int j = 0; j < 4; j++) {
+                char c = token.charAt(i + j);
+                int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+                if (value < 0) {
+                    return false;
+                }
+                group = (group << 6) | value;
+            }
+            bytes[position++] = (byte) (group >> 16);
+            bytes[position++] = (byte) (group >> 8);
+            bytes[position++] = (byte) group;
+        }
+        return true;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int offset) {
+        return (
+            ((bytes[offset] & 0xffL) << 24) | ((bytes[offset + 1] & 0xffL) << 16) | ((bytes[offset + 2] & 0xffL) << 8) | (bytes[offset + 3] & 0xffL)
+        );
+    }
+
+    private static byte[] decodeKey(String base64Secret) {
+        if (base64Secret == null || base64Secret.isBlank()) {
+            throw new IllegalStateException("application.checkin.token.base64-secret must be set");
+        }
+        return Base64.getDecoder().decode(base64Secret);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
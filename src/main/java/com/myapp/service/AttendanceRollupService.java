@@ -0,0 +1,229 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.enumeration.RollupGranularity;
+import com.myapp.repository.CheckinArchiveRepository;
+import com.myapp.repository.CheckinDailyRollupRepository;
+import com.myapp.repository.CheckinHourlyRollupRepository;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.CheckinRollupRepository;
+import com.myapp.service.dto.AttendanceCountDTO;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining hourly and daily checkin counts per player.
+ * <p>
+ * The rollups are updated in the transaction writing the checkins, so they are always consistent with
+ * the {@code checkin} table and attendance queries never scan it.
+ */
+@Service
+@Transactional
+public class AttendanceRollupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AttendanceRollupService.class);
+
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    /**
+     * Buckets are upserted in key order, so that concurrent transactions lock rollup rows in the same order.
+     */
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator.comparing(BucketKey::playerId).thenComparing(
+        BucketKey::bucketStart
+    );
+
+    private final CheckinHourlyRollupRepository checkinHourlyRollupRepository;
+
+    private final CheckinDailyRollupRepository checkinDailyRollupRepository;
+
+    private final CheckinRepository checkinRepository;
+
+    private final CheckinArchiveRepository checkinArchiveRepository;
+
+    private final ZoneId zone;
+
+    private record BucketKey(Long playerId, Instant bucketStart) {}
+
+    public AttendanceRollupService(
+        CheckinHourlyRollupRepository checkinHourlyRollupRepository,
+        CheckinDailyRollupRepository checkinDailyRollupRepository,
+        CheckinRepository checkinRepository,
+        CheckinArchiveRepository checkinArchiveRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.checkinHourlyRollupRepository = checkinHourlyRollupRepository;
+        this.checkinDailyRollupRepository = checkinDailyRollupRepository;
+        this.checkinRepository = checkinRepository;
+        this.checkinArchiveRepository = checkinArchiveRepository;
+        this.zone = ZoneId.of(applicationProperties.getAttendance().getTimeZone());
+    }
+
+    @EventListener
+    public void onCheckinsChanged(CheckinsChangedEvent event) {
+        Map<BucketKey, Long> hourlyDeltas = new TreeMap<>(BUCKET_ORDER);
+        Map<BucketKey, Long> dailyDeltas = new TreeMap<>(BUCKET_ORDER);
+        accumulate(event.added(), 1, hourlyDeltas, dailyDeltas);
+        accumulate(event.removed(), -1, hourlyDeltas, dailyDeltas);
+        apply(hourlyDeltas, dailyDeltas);
+    }
+
+    /**
+     * Get the checkin counts of a player.
+     *
+     * @param playerId the id of the player.
+     * @param granularity the size of the buckets.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, exclusive.
+     * @return the non-empty buckets of the period, in chronological order.
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceCountDTO> findPlayerAttendance(Long playerId, RollupGranularity granularity, Instant from, Instant to) {
+        LOG.debug("Request to get {} attendance of Player : {}", granularity, playerId);
+        return toDto(repository(granularity).findPlayerCounts(playerId, bucketStart(from, granularity), to));
+    }
+
+    /**
+     * Get the checkin counts of the players of a team.
+     *
+     * @param teamId the id of the team.
+     * @param granularity the size of the buckets.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, exclusive.
+     * @return the non-empty buckets of the period, in chronological order.
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceCountDTO> findTeamAttendance(Long teamId, RollupGranularity granularity, Instant from, Instant to) {
+        LOG.debug("Request to get {} attendance of Team : {}", granularity, teamId);
+        return toDto(repository(granularity).findTeamCounts(teamId, bucketStart(from, granularity), to));
+    }
+
+    /**
+     * Get the checkin counts of all players.
+     *
+     * @param granularity the size of the buckets.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, exclusive.
+     * @return the non-empty buckets of the period, in chronological order.
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceCountDTO> findTotalAttendance(RollupGranularity granularity, Instant from, Instant to) {
+        LOG.debug("Request to get {} total attendance", granularity);
+        return toDto(repository(granularity).findTotalCounts(bucketStart(from, granularity), to));
+    }
+
+    /**
+     * Recompute all rollups from the {@code checkin} table and the archive, e.g. after changing the attendance time zone.
+     * <p>
+     * The rebuild runs in a single transaction: the rows locked by the bulk deletes hold back the write path
+     * until it commits, so it should be run in a quiet period.
+     *
+     * @return the number of checkins aggregated.
+     */
+    public long rebuild() {
+        LOG.info("Rebuilding attendance rollups");
+        checkinHourlyRollupRepository.deleteAllInBatch();
+        checkinDailyRollupRepository.deleteAllInBatch();
+        long[] aggregated = { 0 };
+        checkinArchiveRepository.forEachSegment(archived -> {
+            // A segment being archived still has all its checkins in the table, they are aggregated from there
+            if (archived.isEmpty() || checkinRepository.existsById(archived.get(0).id())) {
+                return;
+            }
+            aggregate(
+                archived.stream().map(checkin -> new CheckinSnapshot(checkin.id(), checkin.playerId(), checkin.timestamp())).toList()
+            );
+            aggregated[0] += archived.size();
+        });
+        long lastId = 0;
+        List<CheckinRepository.CheckinRow> rows;
+        do {
+            rows = checkinRepository.findRowsAfter(lastId, Limit.of(REBUILD_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            aggregate(rows.stream().map(row -> new CheckinSnapshot(row.getId(), row.getPlayerId(), row.getTimestamp())).toList());
+            aggregated[0] += rows.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == REBUILD_CHUNK_SIZE);
+        LOG.info("Rebuilt attendance rollups from {} checkins", aggregated[0]);
+        return aggregated[0];
+    }
+
+    private void aggregate(List<CheckinSnapshot> checkins) {
+        Map<BucketKey, Long> hourlyDeltas = new TreeMap<>(BUCKET_ORDER);
+        Map<BucketKey, Long> dailyDeltas = new TreeMap<>(BUCKET_ORDER);
+        accumulate(checkins, 1, hourlyDeltas, dailyDeltas);
+        apply(hourlyDeltas, dailyDeltas);
+    }
+
+    private void accumulate(
+        List<CheckinSnapshot> checkins,
+        long delta,
+        Map<BucketKey, Long> hourlyDeltas,
+        Map<BucketKey, Long> dailyDeltas
+    ) {
+        for (CheckinSnapshot checkin : checkins) {
+            hourlyDeltas.merge(
+                new BucketKey(checkin.playerId(), bucketStart(checkin.timestamp(), RollupGranularity.HOUR)),
+                delta,
+                Long::sum
+            );
+            dailyDeltas.merge(
+                new BucketKey(checkin.playerId(), bucketStart(checkin.timestamp(), RollupGranularity.DAY)),
+                delta,
+                Long::sum
+            );
+        }
+    }
+
+    private void apply(Map<BucketKey, Long> hourlyDeltas, Map<BucketKey, Long> dailyDeltas) {
+        hourlyDeltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                checkinHourlyRollupRepository.increment(key.playerId(), key.bucketStart(), delta);
+            }
+        });
+        dailyDeltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                checkinDailyRollupRepository.increment(key.playerId(), key.bucketStart(), delta);
+            }
+        });
+    }
+
+    /**
+     * Get the start of the bucket containing an instant, in the attendance time zone.
+     *
+     * @param instant the instant.
+     * @param granularity the size of the bucket.
+     * @return the start of the bucket.
+     */
+    public Instant bucketStart(Instant instant, RollupGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> instant.atZone(zone).truncatedTo(ChronoUnit.HOURS).toInstant();
+            case DAY -> instant.atZone(zone).toLocalDate().atStartOfDay(zone).toInstant();
+        };
+    }
+
+    private CheckinRollupRepository<?> repository(RollupGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> checkinHourlyRollupRepository;
+            case DAY -> checkinDailyRollupRepository;
+        };
+    }
+
+    private static List<AttendanceCountDTO> toDto(List<CheckinRollupRepository.BucketCount> counts) {
+        return counts.stream().map(count -> new AttendanceCountDTO(count.getBucketStart(), count.getCheckinCount())).toList();
+    }
+}
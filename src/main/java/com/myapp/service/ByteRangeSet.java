@@ -0,0 +1,73 @@
+package com.myapp.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The byte ranges of a file received so far, merged as they arrive so that an upload received in any order holds a
+ * handful of ranges instead of one entry per chunk.
+ * <p>
+ * Thread-safe: the chunks of an upload may be written concurrently.
+ */
+public final class ByteRangeSet {
+
+    /**
+     * The disjoint, non-adjacent ranges, end exclusive, by start.
+     */
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+    /**
+     * Add a range.
+     *
+     * @param start the first byte of the range.
+     * @param end the byte following the range.
+     */
+    public synchronized void add(long start, long end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Long, Long> previous = ranges.floorEntry(start);
+        if (previous != null && previous.getValue() >= start) {
+            start = previous.getKey();
+            end = Math.max(end, previous.getValue());
+        }
+        Map.Entry<Long, Long> next;
+        while ((next = ranges.ceilingEntry(start)) != null && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            ranges.remove(next.getKey());
+        }
+        ranges.put(start, end);
+    }
+
+    /**
+     * Check whether the ranges cover a whole file.
+     *
+     * @param length the length of the file.
+     * @return {@code true} if every byte of the file was received.
+     */
+    public synchronized boolean covers(long length) {
+        if (length == 0) {
+            return true;
+        }
+        Map.Entry<Long, Long> first = ranges.firstEntry();
+        return first != null && first.getKey() == 0 && first.getValue() >= length;
+    }
+
+    /**
+     * Get the number of bytes received.
+     *
+     * @return the total length of the ranges.
+     */
+    public synchronized long size() {
+        return ranges.entrySet().stream().mapToLong(range -> range.getValue() - range.getKey()).sum();
+    }
+
+    /**
+     * Get the ranges.
+     *
+     * @return the ranges in ascending order, each as its first byte and the byte following it.
+     */
+    public synchronized long[][] toArray() {
+        return ranges.entrySet().stream().map(range -> new long[] { range.getKey(), range.getValue() }).toArray(long[][]::new);
+    }
+}
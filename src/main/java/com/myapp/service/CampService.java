@@ -2,13 +2,18 @@ package com.myapp.service;
 
 import com.myapp.domain.Camp;
 import com.myapp.repository.CampRepository;
+import com.myapp.repository.CampSummary;
 import com.myapp.service.dto.CampDTO;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.CampMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,15 @@ public class CampService {
 
     private final CampMapper campMapper;
 
-    public CampService(CampRepository campRepository, CampMapper campMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public CampService(CampRepository campRepository, CampMapper campMapper, SeekPager seekPager, EntityCountCache entityCountCache) {
         this.campRepository = campRepository;
         this.campMapper = campMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +49,7 @@ public class CampService {
      */
     public CampDTO save(CampDTO campDTO) {
         LOG.debug("Request to save Camp : {}", campDTO);
+        entityCountCache.invalidate(Camp.class);
         Camp camp = campMapper.toEntity(campDTO);
         camp = campRepository.save(camp);
         return campMapper.toDto(camp);
@@ -88,6 +100,57 @@ public class CampService {
         return campRepository.findAll(pageable).map(campMapper::toDto);
     }
 
+    /**
+     * Get all the camps, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CampDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all Camps");
+        return entityCountCache
+            .findPage(Camp.class, pageable, countMode, campRepository::findAll, campRepository::findAllBy, campRepository::count)
+            .map(campMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the camps, see {@link CampSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CampDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Camps");
+        return entityCountCache
+            .findPage(
+                Camp.class,
+                pageable,
+                countMode,
+                campRepository::findAllSummaries,
+                campRepository::findAllSummariesBy,
+                campRepository::count
+            )
+            .map(campMapper::toDto);
+    }
+
+    /**
+     * Get a page of the camps with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CampDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of Camps with a cursor");
+        return seekPager.findPage(Camp.class, cursor, sort, size).map(campMapper::toDto);
+    }
+
     /**
      * Get one camp by id.
      *
@@ -107,6 +170,7 @@ public class CampService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Camp : {}", id);
+        entityCountCache.invalidate(Camp.class);
         campRepository.deleteById(id);
     }
 }
@@ -0,0 +1,147 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.repository.ArchivedCheckin;
+import com.myapp.repository.CheckinArchiveRepository;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.CheckinSegment;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service moving cold checkins from the {@code checkin} table to archive segments, see {@link CheckinArchiveRepository}.
+ * <p>
+ * Each segment is written and fsynced before the transaction deleting its checkins from the table commits, so a
+ * checkin is always in the table, in a segment, or briefly in both; readers merge both and dedupe by id. A
+ * segment whose transaction did not commit is removed, right away on rollback or at the next startup after a crash.
+ * <p>
+ * The attendance rollups are left untouched by archival, deleted checkins publishing no
+ * {@link com.myapp.service.event.CheckinsChangedEvent}.
+ */
+@Service
+public class CheckinArchiveService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckinArchiveService.class);
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final CheckinRepository checkinRepository;
+
+    private final CheckinArchiveRepository checkinArchiveRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Checkin.Archive properties;
+
+    private final Clock clock;
+
+    public CheckinArchiveService(
+        CheckinRepository checkinRepository,
+        CheckinArchiveRepository checkinArchiveRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.checkinRepository = checkinRepository;
+        this.checkinArchiveRepository = checkinArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getCheckin().getArchive();
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * Remove the latest segment if the transaction deleting its checkins did not commit before a crash.
+     * <p>
+     * Archival runs one segment at a time, so only the latest segment can be in that state.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyLatestSegment() {
+        checkinArchiveRepository
+            .findLatestSegment()
+            .filter(segment -> checkinRepository.existsById(segment.getFirstId()) || checkinRepository.existsById(segment.getLastId()))
+            .ifPresent(segment -> {
+                LOG.warn("Removing checkin archive segment {}, its checkins are still in the table", segment);
+                checkinArchiveRepository.delete(segment);
+            });
+    }
+
+    /**
+     * Archive checkins older than the cutoff.
+     * <p>
+     * This is scheduled by {@code application.checkin.archive.cron} when archival is enabled.
+     */
+    @Scheduled(cron = "${application.checkin.archive.cron:0 30 3 * * ?}")
+    public void scheduledArchive() {
+        if (properties.isEnabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * Archive checkins older than the cutoff, one segment and one transaction at a time.
+     *
+     * @return the number of checkins archived.
+     */
+    public synchronized long archive() {
+        return archive(clock.instant().minus(properties.getCutoff()));
+    }
+
+    private long archive(Instant cutoff) {
+        LOG.info("Archiving checkins before {}", cutoff);
+        long archived = 0;
+        long lastId = 0;
+        int segmentSize = properties.getSegmentSize();
+        List<CheckinRepository.CheckinRow> rows;
+        do {
+            long afterId = lastId;
+            rows = transactionTemplate.execute(status -> archiveSegment(cutoff, afterId, segmentSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            archived += rows.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == segmentSize);
+        LOG.info("Archived {} checkins, {} checkins in the archive", archived, checkinArchiveRepository.count());
+        return archived;
+    }
+
+    private List<CheckinRepository.CheckinRow> archiveSegment(Instant cutoff, long afterId, int segmentSize) {
+        List<CheckinRepository.CheckinRow> rows = checkinRepository.findRowsBefore(cutoff, afterId, Limit.of(segmentSize));
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        CheckinSegment segment = checkinArchiveRepository.save(
+            rows
+                .stream()
+                .map(row -> new ArchivedCheckin(row.getId(), row.getPlayerId(), row.getTimestamp()))
+                .toList()
+        );
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        checkinArchiveRepository.delete(segment);
+                    }
+                }
+            }
+        );
+        List<Long> ids = rows.stream().map(CheckinRepository.CheckinRow::getId).toList();
+        for (int from = 0; from < ids.size(); from += DELETE_BATCH_SIZE) {
+            checkinRepository.deleteAllByIdInBatch(ids.subList(from, Math.min(from + DELETE_BATCH_SIZE, ids.size())));
+        }
+        LOG.debug("Archived {} checkins to {}", rows.size(), segment);
+        return rows;
+    }
+}
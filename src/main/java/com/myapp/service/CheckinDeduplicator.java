@@ -0,0 +1,323 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Checkin;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Rejects duplicate checkins without a database round trip.
+ * <p>
+ * Two rules apply to new checkins: an idempotency key is accepted once, and a player is checked in at most
+ * once per dedupe bucket, the fixed window of {@code player-window} holding the checkin (see
+ * {@link #dedupeBucket}). Two scans a second apart on either side of a bucket boundary are thus both accepted.
+ * Recent keys are remembered in memory, in time buckets that expire as a whole, with an upper bound on the
+ * number of keys. The unique constraints on {@code idempotency_key} and {@code (player_id, dedupe_bucket)}
+ * enforce the same rules for what memory does not cover: other instances, restarts and overflow.
+ */
+@Service
+public class CheckinDeduplicator {
+
+    public static final String REJECTED_METER_NAME = "checkin.dedupe.rejected";
+    public static final String OVERFLOW_METER_NAME = "checkin.dedupe.overflow";
+    public static final String KEYS_METER_NAME = "checkin.dedupe.keys";
+
+    static final String IDEMPOTENCY_KEY_CONSTRAINT = "ux_checkin__idempotency_key";
+    static final String PLAYER_WINDOW_CONSTRAINT = "ux_checkin__player_id_dedupe_bucket";
+
+    private static final int IDEMPOTENCY_KEY_BUCKETS = 24;
+
+    private final Duration playerWindow;
+
+    private final Duration idempotencyKeyRetention;
+
+    private final TimeBucketedKeys<String> idempotencyKeys;
+
+    private final TimeBucketedKeys<Long> players;
+
+    private final Clock clock;
+
+    private final Counter idempotencyKeyRejectedCounter;
+
+    private final Counter playerWindowRejectedCounter;
+
+    @Autowired
+    public CheckinDeduplicator(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this(applicationProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    CheckinDeduplicator(ApplicationProperties applicationProperties, MeterRegistry meterRegistry, Clock clock) {
+        ApplicationProperties.Checkin.Dedupe properties = applicationProperties.getCheckin().getDedupe();
+        this.playerWindow = properties.getPlayerWindow();
+        this.idempotencyKeyRetention = properties.getIdempotencyKeyRetention();
+        this.clock = clock;
+        Counter overflowCounter = Counter.builder(OVERFLOW_METER_NAME)
+            .description("Checkin dedupe keys not remembered because the in-memory bound was reached")
+            .register(meterRegistry);
+        this.idempotencyKeys = new TimeBucketedKeys<>(
+            idempotencyKeyRetention.dividedBy(IDEMPOTENCY_KEY_BUCKETS),
+            properties.getMaxKeys(),
+            overflowCounter
+        );
+        // Buckets as wide as the dedupe buckets, so that a bucket of memory holds the checkins of one dedupe bucket
+        this.players = new TimeBucketedKeys<>(
+            playerWindow.isZero() ? Duration.ofMinutes(1) : Duration.ofSeconds(dedupeBucketSeconds()),
+            properties.getMaxKeys(),
+            overflowCounter
+        );
+        this.idempotencyKeyRejectedCounter = Counter.builder(REJECTED_METER_NAME)
+            .description("Checkins rejected as duplicates")
+            .tag("rule", "idempotency-key")
+            .register(meterRegistry);
+        this.playerWindowRejectedCounter = Counter.builder(REJECTED_METER_NAME)
+            .description("Checkins rejected as duplicates")
+            .tag("rule", "player-window")
+            .register(meterRegistry);
+        Gauge.builder(KEYS_METER_NAME, idempotencyKeys, TimeBucketedKeys::size)
+            .description("Keys remembered by the checkin dedupe rules")
+            .tag("rule", "idempotency-key")
+            .register(meterRegistry);
+        Gauge.builder(KEYS_METER_NAME, players, TimeBucketedKeys::size)
+            .description("Keys remembered by the checkin dedupe rules")
+            .tag("rule", "player-window")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reserve the idempotency key and the player window of a new checkin, and assign its dedupe bucket.
+     * <p>
+     * The reservations are released if the current transaction rolls back, so that the checkin can be retried. A
+     * checkin stored outside of the current transaction, such as by the {@link CheckinWriteBehindBuffer}, releases
+     * them itself if it is not stored after all.
+     *
+     * @param checkin the new checkin, referencing an existing player.
+     * @return the reservation, to release if the checkin is not stored.
+     * @throws DuplicateCheckinException if the checkin is a duplicate of a recent one.
+     */
+    public Reservation reserve(Checkin checkin) {
+        Instant now = clock.instant();
+        String idempotencyKey = checkin.getIdempotencyKey();
+        Long playerId = checkin.getPlayer().getId();
+        Instant timestamp = checkin.getTimestamp();
+        Instant idempotencyKeyHorizon = now.minus(idempotencyKeyRetention);
+        if (idempotencyKey != null && !idempotencyKeys.add(idempotencyKey, now, idempotencyKeyRetention, idempotencyKeyHorizon)) {
+            idempotencyKeyRejectedCounter.increment();
+            throw new DuplicateCheckinException("Idempotency key already used: " + idempotencyKey);
+        }
+        if (!playerWindow.isZero()) {
+            checkin.setDedupeBucket(dedupeBucket(timestamp));
+            if (!players.addOncePerBucket(playerId, timestamp, now.minus(playerWindow.multipliedBy(2)))) {
+                if (idempotencyKey != null) {
+                    idempotencyKeys.remove(idempotencyKey, now);
+                }
+                playerWindowRejectedCounter.increment();
+                throw new DuplicateCheckinException("Player " + playerId + " already checked in within the window of " + playerWindow);
+            }
+        }
+        Reservation reservation = new Reservation(idempotencyKey, now, playerId, timestamp);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            reservation.release();
+                        }
+                    }
+                }
+            );
+        }
+        return reservation;
+    }
+
+    /**
+     * Get the dedupe bucket of a checkin, the start of the fixed player window holding it, backed by the
+     * {@code (player_id, dedupe_bucket)} unique constraint. It must be recomputed whenever the timestamp changes.
+     *
+     * @param timestamp the time of the checkin.
+     * @return the bucket in epoch seconds, {@code null} without player window.
+     */
+    public Long dedupeBucket(Instant timestamp) {
+        if (playerWindow.isZero()) {
+            return null;
+        }
+        long windowSeconds = dedupeBucketSeconds();
+        return Math.floorDiv(timestamp.getEpochSecond(), windowSeconds) * windowSeconds;
+    }
+
+    private long dedupeBucketSeconds() {
+        return Math.max(1, playerWindow.toSeconds());
+    }
+
+    /**
+     * Translate the violation of a dedupe constraint, raised by a checkin that memory did not catch.
+     *
+     * @param e the exception raised by the insert.
+     * @return a {@link DuplicateCheckinException} if a dedupe constraint was violated, {@code e} otherwise.
+     */
+    public RuntimeException translate(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(IDEMPOTENCY_KEY_CONSTRAINT)) {
+            idempotencyKeyRejectedCounter.increment();
+            return new DuplicateCheckinException("Idempotency key already used");
+        }
+        if (message.contains(PLAYER_WINDOW_CONSTRAINT)) {
+            playerWindowRejectedCounter.increment();
+            return new DuplicateCheckinException("Player already checked in within the window of " + playerWindow);
+        }
+        return e;
+    }
+
+    /**
+     * The idempotency key and the player window reserved by a checkin.
+     */
+    public final class Reservation {
+
+        private final String idempotencyKey;
+
+        private final Instant reservedAt;
+
+        private final Long playerId;
+
+        private final Instant timestamp;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reservation(String idempotencyKey, Instant reservedAt, Long playerId, Instant timestamp) {
+            this.idempotencyKey = idempotencyKey;
+            this.reservedAt = reservedAt;
+            this.playerId = playerId;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Release the reservation so that the checkin can be retried; only the first call has an effect, so that a
+         * retry reserving the same keys meanwhile keeps its reservation.
+         */
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (idempotencyKey != null) {
+                idempotencyKeys.remove(idempotencyKey, reservedAt);
+            }
+            if (!playerWindow.isZero()) {
+                players.remove(playerId, timestamp);
+            }
+        }
+    }
+
+    /**
+     * Keys with a time, grouped in buckets of a fixed width so that old keys expire a whole bucket at a time.
+     */
+    static final class TimeBucketedKeys<K> {
+
+        private final long bucketMillis;
+
+        private final int maxKeys;
+
+        private final Counter overflowCounter;
+
+        private final NavigableMap<Long, Map<K, Instant>> buckets = new TreeMap<>();
+
+        private int size;
+
+        TimeBucketedKeys(Duration bucketWidth, int maxKeys, Counter overflowCounter) {
+            this.bucketMillis = Math.max(1, bucketWidth.toMillis());
+            this.maxKeys = maxKeys;
+            this.overflowCounter = overflowCounter;
+        }
+
+        /**
+         * Remember a key unless it was already seen less than {@code window} away from {@code time}.
+         *
+         * @return {@code false} if the key is a duplicate.
+         */
+        synchronized boolean add(K key, Instant time, Duration window, Instant horizon) {
+            expireBefore(horizon);
+            if (time.isBefore(horizon)) {
+                // Older than anything remembered, only the database constraint can tell
+                return true;
+            }
+            long windowMillis = window.toMillis();
+            for (Map<K, Instant> bucket : buckets.subMap(index(time.minus(window)), true, index(time.plus(window)), true).values()) {
+                Instant seen = bucket.get(key);
+                if (seen != null && Math.abs(Duration.between(seen, time).toMillis()) < windowMillis) {
+                    return false;
+                }
+            }
+            remember(key, time);
+            return true;
+        }
+
+        /**
+         * Remember a key unless it was already seen in the bucket of {@code time}.
+         *
+         * @return {@code false} if the key is a duplicate.
+         */
+        synchronized boolean addOncePerBucket(K key, Instant time, Instant horizon) {
+            expireBefore(horizon);
+            if (time.isBefore(horizon)) {
+                // Older than anything remembered, only the database constraint can tell
+                return true;
+            }
+            Map<K, Instant> bucket = buckets.get(index(time));
+            if (bucket != null && bucket.containsKey(key)) {
+                return false;
+            }
+            remember(key, time);
+            return true;
+        }
+
+        synchronized void remove(K key, Instant time) {
+            Map<K, Instant> bucket = buckets.get(index(time));
+            if (bucket != null && bucket.remove(key, time)) {
+                size--;
+                if (bucket.isEmpty()) {
+                    buckets.remove(index(time));
+                }
+            }
+        }
+
+        private void remember(K key, Instant time) {
+            if (size >= maxKeys) {
+                overflowCounter.increment();
+                return;
+            }
+            if (buckets.computeIfAbsent(index(time), index -> new HashMap<>()).put(key, time) == null) {
+                size++;
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private void expireBefore(Instant horizon) {
+            Map<Long, Map<K, Instant>> expired = buckets.headMap(index(horizon), false);
+            for (Map<K, Instant> bucket : expired.values()) {
+                size -= bucket.size();
+            }
+            expired.clear();
+        }
+
+        private long index(Instant time) {
+            return Math.floorDiv(time.toEpochMilli(), bucketMillis);
+        }
+    }
+}
@@ -1,16 +1,47 @@
 package com.myapp.service;
 
 import com.myapp.domain.Checkin;
+import com.myapp.domain.Player;
+import com.myapp.repository.ArchivedCheckin;
+import com.myapp.repository.CheckinArchiveRepository;
 import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.CheckinSummary;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.service.dto.CheckinBulkResultDTO;
 import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
 import com.myapp.service.mapper.CheckinMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service Implementation for managing {@link com.myapp.domain.Checkin}.
@@ -21,26 +52,225 @@ public class CheckinService {
 
     private static final Logger LOG = LoggerFactory.getLogger(CheckinService.class);
 
+    public static final int MAX_TIMELINE_PAGE_SIZE = 1000;
+
+    private static final Comparator<Checkin> TIMELINE_ORDER = Comparator.comparing(Checkin::getTimestamp).thenComparing(Checkin::getId);
+
     private final CheckinRepository checkinRepository;
 
     private final CheckinMapper checkinMapper;
 
-    public CheckinService(CheckinRepository checkinRepository, CheckinMapper checkinMapper) {
+    private final PlayerRepository playerRepository;
+
+    private final Validator validator;
+
+    private final CheckinWriteBehindBuffer checkinWriteBehindBuffer;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final CheckinDeduplicator checkinDeduplicator;
+
+    private final CheckinArchiveRepository checkinArchiveRepository;
+
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CheckinService(
+        CheckinRepository checkinRepository,
+        CheckinMapper checkinMapper,
+        PlayerRepository playerRepository,
+        Validator validator,
+        CheckinWriteBehindBuffer checkinWriteBehindBuffer,
+        ApplicationEventPublisher eventPublisher,
+        CheckinDeduplicator checkinDeduplicator,
+        CheckinArchiveRepository checkinArchiveRepository,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache,
+        PlatformTransactionManager transactionManager
+    ) {
         this.checkinRepository = checkinRepository;
         this.checkinMapper = checkinMapper;
+        this.playerRepository = playerRepository;
+        this.validator = validator;
+        this.checkinWriteBehindBuffer = checkinWriteBehindBuffer;
+        this.eventPublisher = eventPublisher;
+        this.checkinDeduplicator = checkinDeduplicator;
+        this.checkinArchiveRepository = checkinArchiveRepository;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Save a checkin.
+     * <p>
+     * When the write-behind mode is enabled the checkin goes through the {@link CheckinWriteBehindBuffer},
+     * and has no id yet if the buffer acknowledges checkins once queued. No transaction is started to wait for the
+     * buffer, so that a request waiting for its group commit does not hold a connection; otherwise the checkin is
+     * stored in the current transaction, or in a new one.
      *
      * @param checkinDTO the entity to save.
      * @return the persisted entity.
+     * @throws DuplicateCheckinException if the checkin repeats an idempotency key or the player checked in too recently.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CheckinDTO save(CheckinDTO checkinDTO) {
         LOG.debug("Request to save Checkin : {}", checkinDTO);
         Checkin checkin = checkinMapper.toEntity(checkinDTO);
-        checkin = checkinRepository.save(checkin);
-        return checkinMapper.toDto(checkin);
+        CheckinDeduplicator.Reservation reservation = checkinDeduplicator.reserve(checkin);
+        try {
+            if (checkinWriteBehindBuffer.isEnabled()) {
+                return checkinMapper.toDto(checkinWriteBehindBuffer.submit(checkin, reservation));
+            }
+            return transactionTemplate.execute(status -> {
+                Checkin saved = checkinRepository.save(checkin);
+                eventPublisher.publishEvent(CheckinsChangedEvent.added(List.of(CheckinSnapshot.of(saved))));
+                return checkinMapper.toDto(saved);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw checkinDeduplicator.translate(e);
+        }
+    }
+
+    /**
+     * Save a batch of checkins in one transaction.
+     * <p>
+     * Every item is validated and deduplicated on its own and the referenced players are resolved with a single query,
+     * so an invalid item is reported as rejected, and a duplicate one as duplicate, instead of failing the whole batch.
+     * A batch retried after a lost response thus reports its checkins already saved as duplicates.
+     *
+     * @param checkinDTOs the entities to save.
+     * @return the outcome of each item, in the same order as the input.
+     */
+    public List<CheckinBulkResultDTO> saveAll(List<CheckinDTO> checkinDTOs) {
+        LOG.debug("Request to save {} Checkins", checkinDTOs.size());
+        CheckinBulkResultDTO[] results = new CheckinBulkResultDTO[checkinDTOs.size()];
+        Set<Long> playerIds = new HashSet<>();
+        Set<String> idempotencyKeys = new HashSet<>();
+        for (int index = 0; index < checkinDTOs.size(); index++) {
+            String error = validate(checkinDTOs.get(index));
+            if (error != null) {
+                results[index] = CheckinBulkResultDTO.rejected(index, error);
+            } else {
+                playerIds.add(checkinDTOs.get(index).getPlayer().getId());
+                if (checkinDTOs.get(index).getIdempotencyKey() != null) {
+                    idempotencyKeys.add(checkinDTOs.get(index).getIdempotencyKey());
+                }
+            }
+        }
+
+        Set<Long> existingPlayerIds = playerIds.isEmpty() ? Set.of() : playerRepository.findExistingIds(playerIds);
+        // Keys of a retried batch may be known to the database only, e.g. after a restart
+        Set<String> existingIdempotencyKeys = idempotencyKeys.isEmpty()
+            ? Set.of()
+            : checkinRepository.findExistingIdempotencyKeys(idempotencyKeys);
+        // So may player windows, and scans older than the in-memory horizon, such as the backlog of an offline kiosk,
+        // are not remembered at all: both are checked here rather than failing the whole batch on the constraint
+        Set<PlayerWindow> existingPlayerWindows = findExistingPlayerWindows(checkinDTOs, results);
+        Set<PlayerWindow> batchPlayerWindows = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        List<Checkin> checkins = new ArrayList<>();
+        for (int index = 0; index < checkinDTOs.size(); index++) {
+            if (results[index] != null) {
+                continue;
+            }
+            CheckinDTO checkinDTO = checkinDTOs.get(index);
+            if (!existingPlayerIds.contains(checkinDTO.getPlayer().getId())) {
+                results[index] = CheckinBulkResultDTO.rejected(index, "Player not found: " + checkinDTO.getPlayer().getId());
+                continue;
+            }
+            if (existingIdempotencyKeys.contains(checkinDTO.getIdempotencyKey())) {
+                results[index] = CheckinBulkResultDTO.duplicate(index, "Idempotency key already used: " + checkinDTO.getIdempotencyKey());
+                continue;
+            }
+            PlayerWindow playerWindow = playerWindowOf(checkinDTO);
+            if (playerWindow != null && (existingPlayerWindows.contains(playerWindow) || batchPlayerWindows.contains(playerWindow))) {
+                results[index] = CheckinBulkResultDTO.duplicate(
+                    index,
+                    "Player " + playerWindow.playerId() + " already checked in within the window of " + checkinDTO.getTimestamp()
+                );
+                continue;
+            }
+            Checkin checkin = checkinMapper.toEntity(checkinDTO);
+            try {
+                checkinDeduplicator.reserve(checkin);
+            } catch (DuplicateCheckinException e) {
+                results[index] = CheckinBulkResultDTO.duplicate(index, e.getMessage());
+                continue;
+            }
+            if (playerWindow != null) {
+                batchPlayerWindows.add(playerWindow);
+            }
+            accepted.add(index);
+            checkins.add(checkin);
+        }
+
+        try {
+            checkinRepository.bulkInsert(checkins);
+        } catch (DataIntegrityViolationException e) {
+            throw checkinDeduplicator.translate(e);
+        }
+        eventPublisher.publishEvent(CheckinsChangedEvent.added(checkins.stream().map(CheckinSnapshot::of).toList()));
+        for (int i = 0; i < checkins.size(); i++) {
+            results[accepted.get(i)] = CheckinBulkResultDTO.created(accepted.get(i), checkins.get(i).getId());
+        }
+        return List.of(results);
+    }
+
+    private Set<PlayerWindow> findExistingPlayerWindows(List<CheckinDTO> checkinDTOs, CheckinBulkResultDTO[] results) {
+        Set<PlayerWindow> playerWindows = new HashSet<>();
+        for (int index = 0; index < checkinDTOs.size(); index++) {
+            PlayerWindow playerWindow = results[index] == null ? playerWindowOf(checkinDTOs.get(index)) : null;
+            if (playerWindow != null) {
+                playerWindows.add(playerWindow);
+            }
+        }
+        if (playerWindows.isEmpty()) {
+            return Set.of();
+        }
+        return checkinRepository
+            .findDedupeBuckets(
+                playerWindows.stream().map(PlayerWindow::playerId).collect(Collectors.toSet()),
+                playerWindows.stream().map(PlayerWindow::dedupeBucket).collect(Collectors.toSet())
+            )
+            .stream()
+            .map(row -> new PlayerWindow(row.getPlayerId(), row.getDedupeBucket()))
+            .filter(playerWindows::contains)
+            .collect(Collectors.toSet());
+    }
+
+    private PlayerWindow playerWindowOf(CheckinDTO checkinDTO) {
+        Long dedupeBucket = checkinDTO.getTimestamp() != null ? checkinDeduplicator.dedupeBucket(checkinDTO.getTimestamp()) : null;
+        return dedupeBucket != null ? new PlayerWindow(checkinDTO.getPlayer().getId(), dedupeBucket) : null;
+    }
+
+    /**
+     * A player and the window of the player window rule holding a checkin, see {@link CheckinDeduplicator#dedupeBucket}.
+     */
+    private record PlayerWindow(Long playerId, Long dedupeBucket) {}
+
+    private String validate(CheckinDTO checkinDTO) {
+        if (checkinDTO == null) {
+            return "A checkin is required";
+        }
+        if (checkinDTO.getId() != null) {
+            return "A new checkin cannot already have an ID";
+        }
+        Set<ConstraintViolation<CheckinDTO>> violations = validator.validate(checkinDTO);
+        if (!violations.isEmpty()) {
+            return violations
+                .stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        if (checkinDTO.getPlayer().getId() == null) {
+            return "player.id: must not be null";
+        }
+        return null;
     }
 
     /**
@@ -48,11 +278,13 @@ public class CheckinService {
      *
      * @param checkinDTO the entity to save.
      * @return the persisted entity.
+     * @throws DuplicateCheckinException if the player already checked in within the window of the new timestamp.
      */
     public CheckinDTO update(CheckinDTO checkinDTO) {
         LOG.debug("Request to update Checkin : {}", checkinDTO);
-        Checkin checkin = checkinMapper.toEntity(checkinDTO);
-        checkin = checkinRepository.save(checkin);
+        Optional<CheckinSnapshot> previous = checkinRepository.findById(checkinDTO.getId()).map(CheckinSnapshot::of);
+        Checkin checkin = saveUpdate(checkinMapper.toEntity(checkinDTO));
+        publishUpdate(previous, checkin);
         return checkinMapper.toDto(checkin);
     }
 
@@ -61,6 +293,7 @@ public class CheckinService {
      *
      * @param checkinDTO the entity to update partially.
      * @return the persisted entity.
+     * @throws DuplicateCheckinException if the player already checked in within the window of the new timestamp.
      */
     public Optional<CheckinDTO> partialUpdate(CheckinDTO checkinDTO) {
         LOG.debug("Request to partially update Checkin : {}", checkinDTO);
@@ -68,14 +301,37 @@ public class CheckinService {
         return checkinRepository
             .findById(checkinDTO.getId())
             .map(existingCheckin -> {
+                CheckinSnapshot previous = CheckinSnapshot.of(existingCheckin);
                 checkinMapper.partialUpdate(existingCheckin, checkinDTO);
-
-                return existingCheckin;
+                Checkin checkin = saveUpdate(existingCheckin);
+                publishUpdate(Optional.of(previous), checkin);
+                return checkin;
             })
-            .map(checkinRepository::save)
             .map(checkinMapper::toDto);
     }
 
+    /**
+     * Save an updated checkin, moving it to the dedupe bucket of its timestamp. The update is flushed so that a
+     * violation of the dedupe constraint is reported as a duplicate.
+     */
+    private Checkin saveUpdate(Checkin checkin) {
+        checkin.setDedupeBucket(checkinDeduplicator.dedupeBucket(checkin.getTimestamp()));
+        try {
+            return checkinRepository.saveAndFlush(checkin);
+        } catch (DataIntegrityViolationException e) {
+            throw checkinDeduplicator.translate(e);
+        }
+    }
+
+    private void publishUpdate(Optional<CheckinSnapshot> previous, Checkin checkin) {
+        CheckinSnapshot current = CheckinSnapshot.of(checkin);
+        if (previous.isEmpty()) {
+            eventPublisher.publishEvent(CheckinsChangedEvent.added(List.of(current)));
+        } else if (!previous.orElseThrow().equals(current)) {
+            eventPublisher.publishEvent(CheckinsChangedEvent.updated(previous.orElseThrow(), current));
+        }
+    }
+
     /**
      * Get all the checkins.
      *
@@ -88,6 +344,151 @@ public class CheckinService {
         return checkinRepository.findAll(pageable).map(checkinMapper::toDto);
     }
 
+    /**
+     * Get all the checkins, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CheckinDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all Checkins");
+        return entityCountCache
+            .findPage(
+                Checkin.class,
+                pageable,
+                countMode,
+                checkinRepository::findAll,
+                checkinRepository::findAllBy,
+                checkinRepository::count
+            )
+            .map(checkinMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the checkins, see {@link CheckinSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CheckinDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Checkins");
+        return entityCountCache
+            .findPage(
+                Checkin.class,
+                pageable,
+                countMode,
+                checkinRepository::findAllSummaries,
+                checkinRepository::findAllSummariesBy,
+                checkinRepository::count
+            )
+            .map(checkinMapper::toDto);
+    }
+
+    /**
+     * Get a page of the checkins with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CheckinDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of Checkins with a cursor");
+        return seekPager.findPage(Checkin.class, cursor, sort, size).map(checkinMapper::toDto);
+    }
+
+    /**
+     * Get a page of the checkins of a player, most recent first, using seek pagination.
+     * <p>
+     * Without cursor the most recent checkins are returned. {@code before} moves to older checkins,
+     * {@code after} to more recent ones. Each page costs one index range scan whatever its depth, plus a read
+     * of the archive segments holding the player in the range, see {@link CheckinArchiveService}.
+     *
+     * @param playerId the id of the player.
+     * @param before the cursor of the oldest checkin already seen, or {@code null}.
+     * @param after the cursor of the most recent checkin already seen, or {@code null}.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CheckinDTO> findTimeline(Long playerId, SeekCursor before, SeekCursor after, int size) {
+        LOG.debug("Request to get the Checkin timeline of Player : {}", playerId);
+        int pageSize = Math.max(1, Math.min(size, MAX_TIMELINE_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Checkin> checkins;
+        boolean hasMore;
+        if (after != null) {
+            Instant timestamp = toTimestamp(after);
+            checkins = new ArrayList<>(
+                merge(
+                    checkinRepository.findTimelineAfter(playerId, timestamp, after.id(), limit),
+                    checkinArchiveRepository.findTimelineAfter(playerId, timestamp, after.id(), limit.max()),
+                    TIMELINE_ORDER,
+                    limit.max()
+                )
+            );
+            hasMore = checkins.size() > pageSize;
+            checkins = checkins.subList(0, Math.min(pageSize, checkins.size()));
+            Collections.reverse(checkins);
+            return new CursorPage<>(
+                checkinMapper.toDto(checkins),
+                hasMore ? toCursor(checkins.get(0)) : null,
+                checkins.isEmpty() ? after : toCursor(checkins.get(checkins.size() - 1))
+            );
+        }
+        Instant timestamp = before != null ? toTimestamp(before) : null;
+        checkins = merge(
+            before != null
+                ? checkinRepository.findTimelineBefore(playerId, timestamp, before.id(), limit)
+                : checkinRepository.findTimeline(playerId, limit),
+            checkinArchiveRepository.findTimelineBefore(playerId, timestamp, before != null ? before.id() : null, limit.max()),
+            TIMELINE_ORDER.reversed(),
+            limit.max()
+        );
+        hasMore = checkins.size() > pageSize;
+        checkins = checkins.subList(0, Math.min(pageSize, checkins.size()));
+        return new CursorPage<>(
+            checkinMapper.toDto(checkins),
+            before == null ? null : checkins.isEmpty() ? before : toCursor(checkins.get(0)),
+            hasMore ? toCursor(checkins.get(checkins.size() - 1)) : null
+        );
+    }
+
+    /**
+     * Merge the checkins of the table with archived ones, the table winning for checkins being archived.
+     */
+    private static List<Checkin> merge(List<Checkin> checkins, List<ArchivedCheckin> archived, Comparator<Checkin> order, int limit) {
+        if (archived.isEmpty()) {
+            return checkins;
+        }
+        Map<Long, Checkin> merged = new LinkedHashMap<>();
+        checkins.forEach(checkin -> merged.put(checkin.getId(), checkin));
+        archived.forEach(checkin ->
+            merged.putIfAbsent(
+                checkin.id(),
+                new Checkin().id(checkin.id()).timestamp(checkin.timestamp()).player(new Player().id(checkin.playerId()))
+            )
+        );
+        return merged.values().stream().sorted(order).limit(limit).toList();
+    }
+
+    private static SeekCursor toCursor(Checkin checkin) {
+        return new SeekCursor(checkin.getTimestamp().toString(), checkin.getId());
+    }
+
+    private static Instant toTimestamp(SeekCursor cursor) {
+        try {
+            return Instant.parse(cursor.key());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
     /**
      * Get one checkin by id.
      *
@@ -107,6 +508,12 @@ public class CheckinService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Checkin : {}", id);
-        checkinRepository.deleteById(id);
+        checkinRepository
+            .findById(id)
+            .ifPresent(checkin -> {
+                CheckinSnapshot removed = CheckinSnapshot.of(checkin);
+                checkinRepository.delete(checkin);
+                eventPublisher.publishEvent(CheckinsChangedEvent.removed(removed));
+            });
     }
 }
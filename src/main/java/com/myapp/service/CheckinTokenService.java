@@ -0,0 +1,100 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.security.CheckinTokenCodec;
+import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.CheckinTokenDTO;
+import com.myapp.service.dto.PlayerDTO;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service issuing the QR checkin tokens of players, and checking players in from their tokens.
+ */
+@Service
+@Transactional
+public class CheckinTokenService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckinTokenService.class);
+
+    private final CheckinTokenCodec checkinTokenCodec;
+
+    private final CheckinService checkinService;
+
+    private final PlayerRepository playerRepository;
+
+    private final ApplicationProperties applicationProperties;
+
+    public CheckinTokenService(
+        CheckinTokenCodec checkinTokenCodec,
+        CheckinService checkinService,
+        PlayerRepository playerRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.checkinTokenCodec = checkinTokenCodec;
+        this.checkinService = checkinService;
+        this.playerRepository = playerRepository;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Issue a token for a player.
+     * <p>
+     * The validity window defaults to now, until the configured token validity.
+     *
+     * @param request the player and the validity window of the token.
+     * @return the issued token, or empty if the player does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CheckinTokenDTO> issue(CheckinTokenDTO request) {
+        LOG.debug("Request to issue a checkin token : {}", request);
+        if (!playerRepository.existsById(request.getPlayerId())) {
+            return Optional.empty();
+        }
+        Instant notBefore = request.getNotBefore() != null
+            ? request.getNotBefore().truncatedTo(ChronoUnit.SECONDS)
+            : Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant notAfter = request.getNotAfter() != null
+            ? request.getNotAfter().truncatedTo(ChronoUnit.SECONDS)
+            : notBefore.plus(applicationProperties.getCheckin().getToken().getValidity());
+        CheckinTokenDTO result = new CheckinTokenDTO();
+        result.setPlayerId(request.getPlayerId());
+        result.setNotBefore(notBefore);
+        result.setNotAfter(notAfter);
+        result.setToken(checkinTokenCodec.issue(request.getPlayerId(), notBefore, notAfter));
+        return Optional.of(result);
+    }
+
+    /**
+     * Check a player in from a token.
+     * <p>
+     * The token is verified in memory, and the checkin saved without looking the player up: a deleted player is still
+     * refused by the foreign key.
+     *
+     * @param token the scanned token.
+     * @param idempotencyKey the idempotency key of the scan, if any.
+     * @return the checkin, see {@link CheckinService#save(CheckinDTO)}.
+     * @throws InvalidCheckinTokenException if the token is malformed, forged or outside of its validity window.
+     */
+    public CheckinDTO scan(String token, String idempotencyKey) {
+        Instant now = Instant.now();
+        long playerId = checkinTokenCodec.verify(token, now.getEpochSecond());
+        if (playerId < 0) {
+            throw new InvalidCheckinTokenException(CheckinTokenCodec.failureOf(playerId));
+        }
+        LOG.debug("Request to check in Player {} from a token", playerId);
+        PlayerDTO player = new PlayerDTO();
+        player.setId(playerId);
+        CheckinDTO checkinDTO = new CheckinDTO();
+        checkinDTO.setTimestamp(now);
+        checkinDTO.setIdempotencyKey(idempotencyKey);
+        checkinDTO.setPlayer(player);
+        return checkinService.save(checkinDTO);
+    }
+}
@@ -0,0 +1,320 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Checkin;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind buffer for {@link Checkin} creation.
+ * <p>
+ * Producers put checkins into a bounded queue and a single flusher thread coalesces them into
+ * group commits, every {@code flush-interval} or {@code max-batch-size} checkins, whichever comes first.
+ * Depending on the configured {@link ApplicationProperties.Checkin.WriteBehind.AckPolicy}, producers
+ * return as soon as their checkin is queued or wait until it is committed. A group commit violating a constraint,
+ * such as a checkin already stored by another instance, is retried one checkin at a time, so that only the
+ * offending checkins fail.
+ */
+@Service
+public class CheckinWriteBehindBuffer implements SmartLifecycle {
+
+    public static final String QUEUE_DEPTH_METER_NAME = "checkin.write-behind.queue.depth";
+    public static final String FLUSH_METER_NAME = "checkin.write-behind.flush";
+    public static final String BATCH_SIZE_METER_NAME = "checkin.write-behind.batch.size";
+    public static final String REJECTED_METER_NAME = "checkin.write-behind.rejected";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckinWriteBehindBuffer.class);
+
+    private final ApplicationProperties.Checkin.WriteBehind properties;
+
+    private final CheckinRepository checkinRepository;
+
+    private final PlayerRepository playerRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final CheckinDeduplicator checkinDeduplicator;
+
+    private final BlockingQueue<PendingCheckin> queue;
+
+    private final Timer flushTimer;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+
+    private Thread flusher;
+
+    private record PendingCheckin(Checkin checkin, CheckinDeduplicator.Reservation reservation, CompletableFuture<Checkin> committed) {}
+
+    public CheckinWriteBehindBuffer(
+        ApplicationProperties applicationProperties,
+        CheckinRepository checkinRepository,
+        PlayerRepository playerRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        CheckinDeduplicator checkinDeduplicator,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getCheckin().getWriteBehind();
+        this.checkinRepository = checkinRepository;
+        this.playerRepository = playerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.checkinDeduplicator = checkinDeduplicator;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder(QUEUE_DEPTH_METER_NAME, queue, BlockingQueue::size)
+            .description("Checkins waiting for the next group commit")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_METER_NAME).description("Latency of one checkin group commit").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METER_NAME)
+            .description("Checkins per group commit")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METER_NAME)
+            .description("Checkins rejected because the write-behind queue was full")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queue a new checkin for the next group commit.
+     *
+     * @param checkin the new checkin, referencing an existing player.
+     * @param reservation the dedupe reservation of the checkin, released if its group commit fails.
+     * @return the checkin, with its id assigned if the ack policy waits for the commit.
+     * @throws CheckinWriteBehindException if the queue stays full for longer than {@code offer-timeout},
+     * or if the checkin is not committed within {@code commit-timeout}.
+     */
+    public Checkin submit(Checkin checkin, CheckinDeduplicator.Reservation reservation) {
+        PendingCheckin pending = new PendingCheckin(checkin, reservation, new CompletableFuture<>());
+        if (!running || !offer(pending)) {
+            rejectedCounter.increment();
+            throw new CheckinWriteBehindException("Checkin write-behind queue is full");
+        }
+        if (properties.getAckPolicy() == ApplicationProperties.Checkin.WriteBehind.AckPolicy.QUEUED) {
+            return checkin;
+        }
+        try {
+            return pending.committed().get(properties.getCommitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CheckinWriteBehindException("Interrupted while waiting for the checkin to be committed");
+        } catch (TimeoutException e) {
+            throw new CheckinWriteBehindException("Checkin was not committed in time");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean offer(PendingCheckin pending) {
+        try {
+            return queue.offer(pending, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled() || running) {
+            return;
+        }
+        LOG.info("Starting checkin write-behind buffer with {} ack policy", properties.getAckPolicy());
+        running = true;
+        flusher = new Thread(this::runFlusher, "checkin-write-behind");
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        LOG.info("Flushing checkin write-behind buffer, {} checkins pending", queue.size());
+        running = false;
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingCheckin> remaining = new ArrayList<>();
+        if (flusher.isAlive()) {
+            // Flushing here would run concurrently with the group commit still in progress, give up on what is queued
+            flusher.interrupt();
+            queue.drainTo(remaining);
+            LOG.warn(
+                "Checkin write-behind flusher did not stop within {}, {} queued checkins are not stored",
+                properties.getShutdownTimeout(),
+                remaining.size()
+            );
+            CheckinWriteBehindException e = new CheckinWriteBehindException("Checkin write-behind buffer was stopped");
+            remaining.forEach(pending -> fail(pending, e));
+            return;
+        }
+        // Producers racing with the shutdown may still have queued checkins after the flusher exited
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server has finished its graceful shutdown, so in-flight requests can still enqueue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlusher() {
+        List<PendingCheckin> batch = new ArrayList<>(properties.getMaxBatchSize());
+        boolean interrupted = false;
+        while ((running || !queue.isEmpty()) && !interrupted) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // What is left in the queue is flushed by stop()
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for a first checkin, then keep collecting until the batch is full or the flush interval elapsed.
+     */
+    private void collect(List<PendingCheckin> batch) throws InterruptedException {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        PendingCheckin first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        int maxBatchSize = properties.getMaxBatchSize();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingCheckin next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCheckin> batch) {
+        long start = System.nanoTime();
+        try {
+            commit(batch);
+        } catch (DataIntegrityViolationException e) {
+            // A checkin stored by another instance or before a restart fails the whole group commit, only it must fail
+            LOG.warn("Group commit of {} checkins violated a constraint, committing them one at a time", batch.size());
+            for (PendingCheckin pending : batch) {
+                if (!pending.committed().isDone()) {
+                    commitAlone(pending);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Group commit of {} checkins failed", batch.size(), e);
+            batch.forEach(pending -> fail(pending, e));
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void commit(List<PendingCheckin> batch) {
+        List<PendingCheckin> committed = new ArrayList<>(batch.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> playerIds = batch.stream().map(pending -> pending.checkin().getPlayer().getId()).collect(Collectors.toSet());
+            Set<Long> existingPlayerIds = playerRepository.findExistingIds(playerIds);
+            for (PendingCheckin pending : batch) {
+                Long playerId = pending.checkin().getPlayer().getId();
+                if (existingPlayerIds.contains(playerId)) {
+                    committed.add(pending);
+                } else {
+                    LOG.warn("Dropping queued checkin for unknown Player : {}", playerId);
+                    fail(pending, new DataIntegrityViolationException("Player not found: " + playerId));
+                }
+            }
+            List<Checkin> checkins = committed.stream().map(PendingCheckin::checkin).toList();
+            checkinRepository.bulkInsert(checkins);
+            eventPublisher.publishEvent(CheckinsChangedEvent.added(checkins.stream().map(CheckinSnapshot::of).toList()));
+        });
+        committed.forEach(pending -> pending.committed().complete(pending.checkin()));
+    }
+
+    private void commitAlone(PendingCheckin pending) {
+        // The ids assigned by the rolled back group commit are not stored
+        pending.checkin().setId(null);
+        try {
+            commit(List.of(pending));
+        } catch (DataIntegrityViolationException e) {
+            LOG.warn("Dropping queued checkin of Player {}", pending.checkin().getPlayer().getId(), e);
+            fail(pending, checkinDeduplicator.translate(e));
+        } catch (RuntimeException e) {
+            LOG.error("Commit of a queued checkin failed", e);
+            fail(pending, e);
+        }
+    }
+
+    /**
+     * Fail a checkin that was not committed, releasing its dedupe reservation: the transaction of its request
+     * committed long ago, so the checkin could not be retried otherwise.
+     */
+    private static void fail(PendingCheckin pending, RuntimeException e) {
+        if (!pending.committed().isDone()) {
+            pending.reservation().release();
+            pending.committed().completeExceptionally(e);
+        }
+    }
+}
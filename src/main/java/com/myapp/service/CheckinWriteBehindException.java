@@ -0,0 +1,13 @@
+package com.myapp.service;
+
+/**
+ * Thrown when the checkin write-behind buffer cannot accept or commit a checkin in time.
+ */
+public class CheckinWriteBehindException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CheckinWriteBehindException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,245 @@
+package com.myapp.service;
+
+import com.myapp.repository.EntityLabel;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the {@link TextIndex}es of entities current, such as the indexes of {@link NameSearchService} and
+ * {@link TypeaheadService}.
+ * <p>
+ * An index is registered with the entity class it covers and the text of an entity, then loaded by ranges of ids once
+ * the application is ready. Hibernate post-commit listeners update the registered indexes: only committed changes are
+ * indexed, whichever code path wrote them. Changes committed while an index loads are replayed once it is loaded.
+ * Writes made by other instances or by bulk queries are not seen until the next start.
+ */
+@Component
+public class CommittedEntityIndexer implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommittedEntityIndexer.class);
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<IndexedEntity<?>> indexedEntities = new CopyOnWriteArrayList<>();
+
+    public CommittedEntityIndexer(PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        EventListenerRegistry listenerRegistry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Register an index of entities, updated from the committed changes once it is loaded.
+     *
+     * @param name the name of the index, for the logs.
+     * @param entityClass the class of the entities.
+     * @param idOf the id of an entity.
+     * @param textOf the text of an entity.
+     * @param index the index.
+     * @return the registration, to load the index with.
+     */
+    public <T> IndexedEntity<T> register(
+        String name,
+        Class<T> entityClass,
+        Function<T, Long> idOf,
+        Function<T, String> textOf,
+        TextIndex index
+    ) {
+        IndexedEntity<T> indexedEntity = new IndexedEntity<>(name, entityClass, idOf, textOf, index);
+        indexedEntities.add(indexedEntity);
+        return indexedEntity;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        indexedEntities.forEach(indexedEntity -> indexedEntity.put(event.getEntity()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        indexedEntities.forEach(indexedEntity -> indexedEntity.put(event.getEntity()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        indexedEntities.forEach(indexedEntity -> indexedEntity.remove(event.getEntity()));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was indexed
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was indexed
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was indexed
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return indexedEntities.stream().anyMatch(indexedEntity -> indexedEntity.entityClass == entityClass);
+    }
+
+    /**
+     * An index registered with {@link #register}.
+     */
+    public final class IndexedEntity<T> {
+
+        private final String name;
+
+        private final Class<T> entityClass;
+
+        private final Function<T, Long> idOf;
+
+        private final Function<T, String> textOf;
+
+        private final TextIndex index;
+
+        /**
+         * Changes committed while the index loads, {@code null} once loaded; guarded by {@link #pendingChangesLock}.
+         */
+        private List<Runnable> pendingChanges = new ArrayList<>();
+
+        private final Object pendingChangesLock = new Object();
+
+        private IndexedEntity(String name, Class<T> entityClass, Function<T, Long> idOf, Function<T, String> textOf, TextIndex index) {
+            this.name = name;
+            this.entityClass = entityClass;
+            this.idOf = idOf;
+            this.textOf = textOf;
+            this.index = index;
+        }
+
+        /**
+         * Load the index by ranges of ids, read in read-only transactions on an executor, then replay the changes
+         * committed meanwhile. A failed load is logged and leaves the index incomplete.
+         *
+         * @param executor the executor reading the ranges, {@code Runnable::run} to read them one after the other.
+         * @param minId the smallest id of the entities.
+         * @param maxId the largest id of the entities.
+         * @param batchSize the number of ids of a range.
+         * @param reader the reader of the ids and the texts of a range of ids.
+         * @return the number of entities loaded.
+         */
+        public int load(
+            Executor executor,
+            Supplier<Optional<Long>> minId,
+            Supplier<Optional<Long>> maxId,
+            long batchSize,
+            RangeReader reader
+        ) {
+            int count = 0;
+            try {
+                List<CompletableFuture<Integer>> batches = new ArrayList<>();
+                Optional<Long> min = minId.get();
+                Optional<Long> max = maxId.get();
+                long step = Math.max(1, batchSize);
+                if (min.isPresent() && max.isPresent()) {
+                    for (long from = min.orElseThrow(); from <= max.orElseThrow(); from += step) {
+                        long batchFrom = from;
+                        batches.add(CompletableFuture.supplyAsync(() -> loadRange(reader, batchFrom, batchFrom + step), executor));
+                    }
+                }
+                for (CompletableFuture<Integer> batch : batches) {
+                    count += batch.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted while loading the {} index, it is incomplete", name);
+            } catch (RuntimeException | ExecutionException e) {
+                LOG.error("Could not load the {} index, it is incomplete", name, e);
+            } finally {
+                replayPendingChanges();
+            }
+            return count;
+        }
+
+        private int loadRange(RangeReader reader, long from, long to) {
+            List<EntityLabel> labels = transactionTemplate.execute(status -> reader.read(from, to));
+            for (EntityLabel label : labels) {
+                index.put(label.id(), label.label());
+            }
+            return labels.size();
+        }
+
+        private void put(Object entity) {
+            if (entityClass.isInstance(entity)) {
+                T typed = entityClass.cast(entity);
+                long id = idOf.apply(typed);
+                String text = textOf.apply(typed);
+                apply(() -> index.put(id, text));
+            }
+        }
+
+        private void remove(Object entity) {
+            if (entityClass.isInstance(entity)) {
+                long id = idOf.apply(entityClass.cast(entity));
+                apply(() -> index.remove(id));
+            }
+        }
+
+        private void apply(Runnable change) {
+            synchronized (pendingChangesLock) {
+                if (pendingChanges != null) {
+                    pendingChanges.add(change);
+                    return;
+                }
+            }
+            change.run();
+        }
+
+        private void replayPendingChanges() {
+            synchronized (pendingChangesLock) {
+                if (pendingChanges == null) {
+                    return;
+                }
+                pendingChanges.forEach(Runnable::run);
+                LOG.debug("Replayed {} changes of the {} index committed while loading", pendingChanges.size(), name);
+                pendingChanges = null;
+            }
+        }
+    }
+
+    /**
+     * Reads the ids and the texts of a range of ids.
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+        List<EntityLabel> read(long from, long to);
+    }
+}
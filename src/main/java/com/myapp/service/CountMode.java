@@ -0,0 +1,40 @@
+package com.myapp.service;
+
+import java.util.Locale;
+
+/**
+ * How the list endpoints count the rows behind a page, see {@link EntityCountCache}.
+ */
+public enum CountMode {
+    /**
+     * Count the rows with every page.
+     */
+    EXACT,
+
+    /**
+     * Use a cached count of the rows.
+     */
+    ESTIMATE,
+
+    /**
+     * Do not count the rows, only tell whether a next page exists.
+     */
+    NONE;
+
+    /**
+     * Parse a {@code count} request parameter.
+     *
+     * @param value the parameter, case insensitive, or {@code null} for {@link #EXACT}.
+     * @return the mode, or {@code null} if the value is not a mode.
+     */
+    public static CountMode parse(String value) {
+        if (value == null) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.myapp.service;
+
+/**
+ * Thrown when a checkin repeats an idempotency key or falls within the dedupe window of the same player.
+ */
+public class DuplicateCheckinException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateCheckinException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,163 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Checkin;
+import com.myapp.service.event.CheckinsChangedEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Reads the pages of the list endpoints, counting their rows as asked by a {@link CountMode}.
+ * <p>
+ * Estimated counts are cached per entity. The services drop the count of an entity when they create or delete one,
+ * and a count expires after {@code application.pagination.count-cache-ttl} to catch up with writes made elsewhere:
+ * other instances, the write-behind buffer or the checkin archive.
+ */
+@Service
+public class EntityCountCache {
+
+    private record CachedCount(long count, long expiresAt) {}
+
+    private final Map<Class<?>, CachedCount> counts = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    public EntityCountCache(ApplicationProperties applicationProperties) {
+        Duration ttl = applicationProperties.getPagination().getCountCacheTtl();
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Get a page of entities.
+     *
+     * @param domainClass the entity.
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @param pageQuery reads a page and counts the entities.
+     * @param sliceQuery reads a page and the first entity of the next one.
+     * @param counter counts the entities.
+     * @param fetcher loads the relationships of the entities of the page, keeping their order.
+     * @param <T> the type of the rows, entities or projections of them.
+     * @return a {@link Page} if the entities were counted, a {@link Slice} otherwise.
+     */
+    public <T> Slice<T> findPage(
+        Class<?> domainClass,
+        Pageable pageable,
+        CountMode countMode,
+        Function<Pageable, Page<T>> pageQuery,
+        Function<Pageable, Slice<T>> sliceQuery,
+        LongSupplier counter,
+        UnaryOperator<List<T>> fetcher
+    ) {
+        return switch (countMode) {
+            case EXACT -> {
+                Page<T> page = pageQuery.apply(pageable);
+                yield new PageImpl<>(fetcher.apply(page.getContent()), pageable, page.getTotalElements());
+            }
+            case ESTIMATE -> {
+                Slice<T> slice = sliceQuery.apply(pageable);
+                long count = slice.hasNext() || slice.getNumberOfElements() == 0
+                    ? estimate(domainClass, counter)
+                    : pageable.getOffset() + slice.getNumberOfElements();
+                // An estimate below the rows seen would hide the next pages
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+                yield new PageImpl<>(fetcher.apply(slice.getContent()), pageable, Math.max(count, seen));
+            }
+            case NONE -> {
+                Slice<T> slice = sliceQuery.apply(pageable);
+                yield new SliceImpl<>(fetcher.apply(slice.getContent()), pageable, slice.hasNext());
+            }
+        };
+    }
+
+    /**
+     * Get a page of entities.
+     *
+     * @see #findPage(Class, Pageable, CountMode, Function, Function, LongSupplier, UnaryOperator)
+     */
+    public <T> Slice<T> findPage(
+        Class<?> domainClass,
+        Pageable pageable,
+        CountMode countMode,
+        Function<Pageable, Page<T>> pageQuery,
+        Function<Pageable, Slice<T>> sliceQuery,
+        LongSupplier counter
+    ) {
+        return findPage(domainClass, pageable, countMode, pageQuery, sliceQuery, counter, UnaryOperator.identity());
+    }
+
+    /**
+     * Get the cached count of an entity, counting it if needed.
+     *
+     * @param domainClass the entity.
+     * @param counter counts the entities.
+     * @return the count.
+     */
+    public long estimate(Class<?> domainClass, LongSupplier counter) {
+        CachedCount cached = counts.get(domainClass);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.count();
+        }
+        AtomicLong generation = generation(domainClass);
+        long expected = generation.get();
+        long count = counter.getAsLong();
+        // A count made while entities were being created or deleted may be stale, use it but do not keep it
+        if (generation.get() == expected) {
+            counts.put(domainClass, new CachedCount(count, now + ttlNanos));
+        }
+        return count;
+    }
+
+    /**
+     * Drop the cached count of an entity, now and once the current transaction completes.
+     *
+     * @param domainClass the entity.
+     */
+    public void invalidate(Class<?> domainClass) {
+        evict(domainClass);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(domainClass);
+                    }
+                }
+            );
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckinsChanged(CheckinsChangedEvent event) {
+        if (event.added().size() != event.removed().size()) {
+            evict(Checkin.class);
+        }
+    }
+
+    private void evict(Class<?> domainClass) {
+        generation(domainClass).incrementAndGet();
+        counts.remove(domainClass);
+    }
+
+    private AtomicLong generation(Class<?> domainClass) {
+        return generations.computeIfAbsent(domainClass, key -> new AtomicLong());
+    }
+}
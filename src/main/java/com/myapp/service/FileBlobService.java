@@ -0,0 +1,181 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.FileBlobRepository;
+import com.myapp.repository.StagedBlob;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service managing the contents of the file data in the {@link BlobStore}, reference-counted in the {@code file_blob}
+ * table.
+ * <p>
+ * A content is streamed to the store outside of any transaction, then acquired by the transaction referencing it,
+ * which moves it to its place while holding the lock of its blob row. A blob whose last reference is released is
+ * reclaimed after the commit, its file deleted while holding the lock of its row, so an upload of the same content
+ * waits for the deletion before moving its own copy in place. A file moved in place by a transaction that rolled back
+ * is left without a row, for the orphan blob collector.
+ */
+@Service
+public class FileBlobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileBlobService.class);
+
+    private final BlobStore blobStore;
+
+    private final FileBlobRepository fileBlobRepository;
+
+    private final TransactionTemplate reclaimTransactionTemplate;
+
+    private final long maxSize;
+
+    public FileBlobService(
+        BlobStore blobStore,
+        FileBlobRepository fileBlobRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.blobStore = blobStore;
+        this.fileBlobRepository = fileBlobRepository;
+        this.reclaimTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.reclaimTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxSize = applicationProperties.getFileData().getMaxSize().toBytes();
+    }
+
+    /**
+     * Stream a content to a temporary file of the store; call it outside of any transaction, the upload may be slow.
+     *
+     * @param content the content.
+     * @return the staged content, to {@link #acquire} or {@link #discard}.
+     * @throws FileTooLargeException if the content exceeds {@code application.file-data.max-size}.
+     */
+    public StagedBlob stage(InputStream content) {
+        return blobStore.stage(new SizeLimitedInputStream(content, maxSize));
+    }
+
+    /**
+     * Delete a staged content, if it was not acquired.
+     *
+     * @param blob the staged content.
+     */
+    public void discard(StagedBlob blob) {
+        blobStore.discard(blob);
+    }
+
+    /**
+     * Open a stored content for reading.
+     *
+     * @param hash the SHA-256 of the content.
+     * @return the channel of its file, to close.
+     */
+    public FileChannel open(String hash) {
+        return blobStore.open(hash);
+    }
+
+    /**
+     * Reference a staged content in the current transaction, moving it to its place in the store unless the same
+     * content is already stored.
+     *
+     * @param blob the staged content.
+     */
+    public void acquire(StagedBlob blob) {
+        fileBlobRepository.acquire(blob.hash(), blob.size());
+        blobStore.commit(blob);
+    }
+
+    /**
+     * Remove a reference to a content in the current transaction; the content is reclaimed after the commit if it has
+     * no references left.
+     *
+     * @param hash the SHA-256 of the content.
+     */
+    public void release(String hash) {
+        if (fileBlobRepository.release(hash) == 0) {
+            LOG.warn("Released the content {} which had no references", hash);
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        try {
+                            reclaim(hash);
+                        } catch (RuntimeException e) {
+                            LOG.warn("Could not reclaim the content {}", hash, e);
+                        }
+                    }
+                }
+            }
+        );
+    }
+
+    /**
+     * Delete a content if it has no references, in its own transaction.
+     *
+     * @param hash the SHA-256 of the content.
+     * @return {@code true} if the content was deleted.
+     */
+    public boolean reclaim(String hash) {
+        return Boolean.TRUE.equals(
+            reclaimTransactionTemplate.execute(status -> {
+                if (fileBlobRepository.deleteUnreferenced(hash) == 0) {
+                    return false;
+                }
+                blobStore.delete(hash);
+                LOG.debug("Reclaimed the content {}", hash);
+                return true;
+            })
+        );
+    }
+
+    /**
+     * Fails the read of a content beyond a maximum size, before it is written to disk.
+     */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+
+        private long size;
+
+        SizeLimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            size += read;
+            if (size > maxSize) {
+                throw new FileTooLargeException("The content exceeds " + maxSize + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.FileBlob;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.FileBlobRepository;
+import com.myapp.repository.FileDataRepository;
+import com.myapp.repository.StoredFile;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service deleting the file data and the contents that nothing references, in batches of
+ * {@code application.file-data.collector.batch-size} separated by {@code batch-delay}.
+ * <p>
+ * A run deletes, in this order:
+ * <ul>
+ * <li>the file data referenced by no tournament, season or camp, created before the grace period, which releases
+ * their contents;</li>
+ * <li>the blobs left without references by a reclaim that did not run, such as after a crash;</li>
+ * <li>the files of the store, contents and derivatives, written before the grace period and having no blob row, left
+ * by the transactions that rolled back after moving their content in place.</li>
+ * </ul>
+ * The file data have no creation time, so the greatest id is sampled at each run and only the file data up to the id
+ * sampled a grace period ago are deleted; after a restart, file data are deleted again once a grace period has passed.
+ * <p>
+ * In dry-run mode, {@code application.file-data.collector.dry-run}, a run only reports what it would delete.
+ */
+@Service
+public class FileDataCollectorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileDataCollectorService.class);
+
+    private final FileDataRepository fileDataRepository;
+
+    private final FileDataService fileDataService;
+
+    private final FileBlobRepository fileBlobRepository;
+
+    private final FileBlobService fileBlobService;
+
+    private final BlobStore blobStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.FileData.Collector properties;
+
+    private final Clock clock;
+
+    /**
+     * The greatest file data id at each run within the grace period, and at the latest run before it.
+     */
+    private final Deque<IdSample> idSamples = new ArrayDeque<>();
+
+    public FileDataCollectorService(
+        FileDataRepository fileDataRepository,
+        FileDataService fileDataService,
+        FileBlobRepository fileBlobRepository,
+        FileBlobService fileBlobService,
+        BlobStore blobStore,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.fileDataRepository = fileDataRepository;
+        this.fileDataService = fileDataService;
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileBlobService = fileBlobService;
+        this.blobStore = blobStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getFileData().getCollector();
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * Delete the file data and the contents that nothing references.
+     * <p>
+     * This is scheduled by {@code application.file-data.collector.cron} when the collector is enabled.
+     */
+    @Scheduled(cron = "${application.file-data.collector.cron:0 0 4 * * ?}")
+    public void scheduledCollect() {
+        if (properties.isEnabled()) {
+            collect(properties.isDryRun());
+        }
+    }
+
+    /**
+     * Delete the file data and the contents that nothing references.
+     *
+     * @param dryRun whether to only report what would be deleted.
+     * @return what was deleted, or would be in dry-run mode.
+     */
+    public synchronized CollectionReport collect(boolean dryRun) {
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(properties.getGracePeriod());
+        LOG.info("Collecting the file data and contents referenced by nothing before {}{}", cutoff, dryRun ? ", dry run" : "");
+        CollectionReport report = new CollectionReport(dryRun, 0, 0, 0)
+            .plus(collectFileData(now, cutoff, dryRun))
+            .plus(collectUnreferencedBlobs(dryRun))
+            .plus(collectOrphanFiles(cutoff, dryRun));
+        LOG.info(
+            "{} {} file data and {} contents of {} bytes",
+            dryRun ? "Would have deleted" : "Deleted",
+            report.fileData(),
+            report.contents(),
+            report.bytes()
+        );
+        return report;
+    }
+
+    private CollectionReport collectFileData(Instant now, Instant cutoff, boolean dryRun) {
+        idSamples.addLast(new IdSample(now, fileDataRepository.findMaxId().orElse(0L)));
+        IdSample settled = null;
+        while (!idSamples.isEmpty() && !idSamples.peekFirst().time().isAfter(cutoff)) {
+            settled = idSamples.pollFirst();
+        }
+        if (settled == null) {
+            LOG.debug("No file data created before {} is known yet", cutoff);
+            return new CollectionReport(dryRun, 0, 0, 0);
+        }
+        idSamples.addFirst(settled);
+        long deleted = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = fileDataRepository.findUnreferencedIds(afterId, settled.maxId(), Limit.of(properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            if (dryRun) {
+                deleted += ids.size();
+                continue;
+            }
+            List<Long> batch = ids;
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(fileDataService::delete));
+                deleted += batch.size();
+            } catch (DataIntegrityViolationException e) {
+                // The foreign keys keep a file data referenced meanwhile, the next run retries the others
+                LOG.warn("Could not delete the file data {}, referenced meanwhile", batch, e);
+            }
+        } while (ids.size() == properties.getBatchSize() && pause());
+        return new CollectionReport(dryRun, deleted, 0, 0);
+    }
+
+    private CollectionReport collectUnreferencedBlobs(boolean dryRun) {
+        long contents = 0;
+        long bytes = 0;
+        String afterHash = "";
+        List<FileBlob> blobs;
+        do {
+            blobs = fileBlobRepository.findUnreferenced(afterHash, Limit.of(properties.getBatchSize()));
+            for (FileBlob blob : blobs) {
+                if (dryRun || fileBlobService.reclaim(blob.getHash())) {
+                    contents++;
+                    bytes += blob.getContentSize();
+                }
+            }
+            if (!blobs.isEmpty()) {
+                afterHash = blobs.get(blobs.size() - 1).getHash();
+            }
+        } while (blobs.size() == properties.getBatchSize() && pause());
+        return new CollectionReport(dryRun, 0, contents, bytes);
+    }
+
+    private CollectionReport collectOrphanFiles(Instant cutoff, boolean dryRun) {
+        CollectionReport report = new CollectionReport(dryRun, 0, 0, 0);
+        try (Stream<StoredFile> files = blobStore.listFiles()) {
+            Iterator<StoredFile> iterator = files.filter(file -> file.lastModified().isBefore(cutoff)).iterator();
+            Map<String, List<StoredFile>> batch = new HashMap<>();
+            while (iterator.hasNext()) {
+                StoredFile file = iterator.next();
+                batch.computeIfAbsent(file.hash(), hash -> new ArrayList<>()).add(file);
+                if (batch.size() == properties.getBatchSize()) {
+                    report = report.plus(deleteOrphanFiles(batch, dryRun));
+                    batch = new HashMap<>();
+                    if (!pause()) {
+                        return report;
+                    }
+                }
+            }
+            return batch.isEmpty() ? report : report.plus(deleteOrphanFiles(batch, dryRun));
+        }
+    }
+
+    private CollectionReport deleteOrphanFiles(Map<String, List<StoredFile>> batch, boolean dryRun) {
+        // The blob rows are locked while the files are deleted, so that a content is not acquired again meanwhile
+        return transactionTemplate.execute(status -> {
+            Set<String> stored = fileBlobRepository
+                .findAllByHashIn(batch.keySet())
+                .stream()
+                .map(FileBlob::getHash)
+                .collect(Collectors.toSet());
+            long contents = 0;
+            long bytes = 0;
+            for (Map.Entry<String, List<StoredFile>> entry : batch.entrySet()) {
+                if (stored.contains(entry.getKey())) {
+                    continue;
+                }
+                contents++;
+                for (StoredFile file : entry.getValue()) {
+                    if (dryRun || blobStore.delete(file)) {
+                        bytes += file.size();
+                    }
+                }
+                LOG.debug("{} the files of the content {} without a blob", dryRun ? "Would delete" : "Deleted", entry.getKey());
+            }
+            return new CollectionReport(dryRun, 0, contents, bytes);
+        });
+    }
+
+    private boolean pause() {
+        Duration delay = properties.getBatchDelay();
+        if (delay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while collecting the file data, stopping");
+            return false;
+        }
+    }
+
+    /**
+     * What a run of the collector deleted.
+     *
+     * @param dryRun whether the run only reported what it would delete.
+     * @param fileData the number of file data deleted.
+     * @param contents the number of contents deleted, beyond those released by the file data deleted, which are
+     * reclaimed as they are released.
+     * @param bytes the size of the files of the contents deleted and of their derivatives.
+     */
+    public record CollectionReport(boolean dryRun, long fileData, long contents, long bytes) {
+        CollectionReport plus(CollectionReport other) {
+            return new CollectionReport(dryRun, fileData + other.fileData, contents + other.contents, bytes + other.bytes);
+        }
+    }
+
+    private record IdSample(Instant time, long maxId) {}
+}
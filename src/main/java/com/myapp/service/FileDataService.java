@@ -2,17 +2,19 @@ package com.myapp.service;
 
 import com.myapp.domain.FileData;
 import com.myapp.repository.FileDataRepository;
+import com.myapp.repository.FileDataSummary;
+import com.myapp.repository.StagedBlob;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.FileDataDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.FileDataMapper;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +31,28 @@ public class FileDataService {
 
     private final FileDataMapper fileDataMapper;
 
-    public FileDataService(FileDataRepository fileDataRepository, FileDataMapper fileDataMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    private final FileBlobService fileBlobService;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    public FileDataService(
+        FileDataRepository fileDataRepository,
+        FileDataMapper fileDataMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache,
+        FileBlobService fileBlobService,
+        ImageDerivativeService imageDerivativeService
+    ) {
         this.fileDataRepository = fileDataRepository;
         this.fileDataMapper = fileDataMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
+        this.fileBlobService = fileBlobService;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
     /**
@@ -42,11 +63,29 @@ public class FileDataService {
      */
     public FileDataDTO save(FileDataDTO fileDataDTO) {
         LOG.debug("Request to save FileData : {}", fileDataDTO);
+        entityCountCache.invalidate(FileData.class);
         FileData fileData = fileDataMapper.toEntity(fileDataDTO);
         fileData = fileDataRepository.save(fileData);
         return fileDataMapper.toDto(fileData);
     }
 
+    /**
+     * Save a fileData with its content, making it visible with its content in one transaction.
+     *
+     * @param fileDataDTO the entity to save.
+     * @param blob the content, staged and verified.
+     * @param contentType the media type of the content.
+     * @return the persisted entity.
+     */
+    public FileDataDTO saveWithContent(FileDataDTO fileDataDTO, StagedBlob blob, String contentType) {
+        LOG.debug("Request to save FileData with content : {}", fileDataDTO);
+        entityCountCache.invalidate(FileData.class);
+        fileBlobService.acquire(blob);
+        imageDerivativeService.renderAll(blob.hash(), contentType);
+        FileData fileData = fileDataMapper.toEntity(fileDataDTO).contentHash(blob.hash()).contentType(contentType).contentSize(blob.size());
+        return fileDataMapper.toDto(fileDataRepository.save(fileData));
+    }
+
     /**
      * Update a fileData.
      *
@@ -56,8 +95,39 @@ public class FileDataService {
     public FileDataDTO update(FileDataDTO fileDataDTO) {
         LOG.debug("Request to update FileData : {}", fileDataDTO);
         FileData fileData = fileDataMapper.toEntity(fileDataDTO);
-        fileData = fileDataRepository.save(fileData);
-        return fileDataMapper.toDto(fileData);
+        fileDataRepository
+            .findById(fileDataDTO.getId())
+            .ifPresent(existingFileData ->
+                fileData
+                    .contentHash(existingFileData.getContentHash())
+                    .contentType(existingFileData.getContentType())
+                    .contentSize(existingFileData.getContentSize())
+            );
+        return fileDataMapper.toDto(fileDataRepository.save(fileData));
+    }
+
+    /**
+     * Set the content of a fileData, replacing its previous content, and render its derivatives in the background if
+     * it is an image.
+     *
+     * @param id the id of the entity.
+     * @param blob the content, staged by {@link FileBlobService#stage}.
+     * @param contentType the media type of the content.
+     * @return the updated entity, or empty if it does not exist.
+     */
+    public Optional<FileDataDTO> updateContent(Long id, StagedBlob blob, String contentType) {
+        LOG.debug("Request to update the content of FileData : {}", id);
+        return fileDataRepository
+            .findById(id)
+            .map(fileData -> {
+                fileBlobService.acquire(blob);
+                imageDerivativeService.renderAll(blob.hash(), contentType);
+                if (fileData.getContentHash() != null) {
+                    fileBlobService.release(fileData.getContentHash());
+                }
+                return fileData.contentHash(blob.hash()).contentType(contentType).contentSize(blob.size());
+            })
+            .map(fileDataMapper::toDto);
     }
 
     /**
@@ -93,42 +163,97 @@ public class FileDataService {
     }
 
     /**
-     *  Get all the fileData where Tournament is {@code null}.
-     *  @return the list of entities.
+     * Get all the fileData, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<FileDataDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all FileData");
+        return entityCountCache
+            .findPage(
+                FileData.class,
+                pageable,
+                countMode,
+                fileDataRepository::findAll,
+                fileDataRepository::findAllBy,
+                fileDataRepository::count
+            )
+            .map(fileDataMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the file data, see {@link FileDataSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<FileDataDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all FileData");
+        return entityCountCache
+            .findPage(
+                FileData.class,
+                pageable,
+                countMode,
+                fileDataRepository::findAllSummaries,
+                fileDataRepository::findAllSummariesBy,
+                fileDataRepository::count
+            )
+            .map(fileDataMapper::toDto);
+    }
+
+    /**
+     * Get a page of the fileData with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
      */
     @Transactional(readOnly = true)
-    public List<FileDataDTO> findAllWhereTournamentIsNull() {
+    public CursorPage<FileDataDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of FileData with a cursor");
+        return seekPager.findPage(FileData.class, cursor, sort, size).map(fileDataMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of the fileData where Tournament is {@code null}, with an anti-join on the tournament table.
+     *
+     * @param pageable the pagination information.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<FileDataDTO> findAllWhereTournamentIsNull(Pageable pageable) {
         LOG.debug("Request to get all fileData where Tournament is null");
-        return StreamSupport.stream(fileDataRepository.findAll().spliterator(), false)
-            .filter(fileData -> fileData.getTournament() == null)
-            .map(fileDataMapper::toDto)
-            .collect(Collectors.toCollection(LinkedList::new));
+        return fileDataRepository.findAllWhereTournamentIsNull(pageable).map(fileDataMapper::toDto);
     }
 
     /**
-     *  Get all the fileData where Season is {@code null}.
-     *  @return the list of entities.
+     * Get the summaries of the fileData where Season is {@code null}, with an anti-join on the season table.
+     *
+     * @param pageable the pagination information.
+     * @return the slice of entities.
      */
     @Transactional(readOnly = true)
-    public List<FileDataDTO> findAllWhereSeasonIsNull() {
+    public Slice<FileDataDTO> findAllWhereSeasonIsNull(Pageable pageable) {
         LOG.debug("Request to get all fileData where Season is null");
-        return StreamSupport.stream(fileDataRepository.findAll().spliterator(), false)
-            .filter(fileData -> fileData.getSeason() == null)
-            .map(fileDataMapper::toDto)
-            .collect(Collectors.toCollection(LinkedList::new));
+        return fileDataRepository.findAllWhereSeasonIsNull(pageable).map(fileDataMapper::toDto);
     }
 
     /**
-     *  Get all the fileData where Camp is {@code null}.
-     *  @return the list of entities.
+     * Get the summaries of the fileData where Camp is {@code null}, with an anti-join on the camp table.
+     *
+     * @param pageable the pagination information.
+     * @return the slice of entities.
      */
     @Transactional(readOnly = true)
-    public List<FileDataDTO> findAllWhereCampIsNull() {
+    public Slice<FileDataDTO> findAllWhereCampIsNull(Pageable pageable) {
         LOG.debug("Request to get all fileData where Camp is null");
-        return StreamSupport.stream(fileDataRepository.findAll().spliterator(), false)
-            .filter(fileData -> fileData.getCamp() == null)
-            .map(fileDataMapper::toDto)
-            .collect(Collectors.toCollection(LinkedList::new));
+        return fileDataRepository.findAllWhereCampIsNull(pageable).map(fileDataMapper::toDto);
     }
 
     /**
@@ -150,6 +275,14 @@ public class FileDataService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete FileData : {}", id);
-        fileDataRepository.deleteById(id);
+        entityCountCache.invalidate(FileData.class);
+        fileDataRepository
+            .findById(id)
+            .ifPresent(fileData -> {
+                if (fileData.getContentHash() != null) {
+                    fileBlobService.release(fileData.getContentHash());
+                }
+                fileDataRepository.delete(fileData);
+            });
     }
 }
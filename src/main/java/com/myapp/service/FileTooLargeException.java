@@ -0,0 +1,13 @@
+package com.myapp.service;
+
+/**
+ * Thrown when an uploaded content exceeds {@code application.file-data.max-size}.
+ */
+public class FileTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public FileTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,325 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.StagedBlob;
+import com.myapp.service.dto.FileDataDTO;
+import com.myapp.service.dto.FileUploadDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service managing the resumable uploads of file data.
+ * <p>
+ * An upload declares the size and the SHA-256 of its content, then receives its chunks in any order, each written at
+ * its offset in a file of the {@link BlobStore} sized to the content; the ranges received are merged in a
+ * {@link ByteRangeSet}. Once every byte was received, completing the upload verifies the hash and creates the file
+ * data with its content in one transaction, so a file data never references a partial or corrupted content.
+ * <p>
+ * The sessions are held in memory: an upload resumes on the instance that created it, and the files of the uploads
+ * in progress are deleted when the store is opened after a restart. An upload receiving no chunk for
+ * {@code application.file-data.uploads.expiry} is deleted.
+ */
+@Service
+public class FileUploadService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileUploadService.class);
+
+    /**
+     * Maximum number of bytes of a chunk transferred to the file at once, after which its range is recorded.
+     */
+    private static final long WRITE_STEP = 1024 * 1024;
+
+    private final BlobStore blobStore;
+
+    private final FileBlobService fileBlobService;
+
+    private final FileDataService fileDataService;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    private final long maxSize;
+
+    private final Duration expiry;
+
+    private final Clock clock;
+
+    public FileUploadService(
+        BlobStore blobStore,
+        FileBlobService fileBlobService,
+        FileDataService fileDataService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.blobStore = blobStore;
+        this.fileBlobService = fileBlobService;
+        this.fileDataService = fileDataService;
+        this.maxSize = applicationProperties.getFileData().getMaxSize().toBytes();
+        this.expiry = applicationProperties.getFileData().getUploads().getExpiry();
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * Create an upload.
+     *
+     * @param fileUploadDTO the file data and the size and hash of its content.
+     * @return the upload, with its id.
+     * @throws FileTooLargeException if the content exceeds {@code application.file-data.max-size}.
+     */
+    public FileUploadDTO create(FileUploadDTO fileUploadDTO) {
+        LOG.debug("Request to create FileUpload : {}", fileUploadDTO);
+        if (fileUploadDTO.getSize() > maxSize) {
+            throw new FileTooLargeException("The content exceeds " + maxSize + " bytes");
+        }
+        String contentType = fileUploadDTO.getContentType() != null
+            ? fileUploadDTO.getContentType()
+            : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        UploadSession session = new UploadSession(
+            UUID.randomUUID().toString(),
+            fileUploadDTO.getUid(),
+            fileUploadDTO.getFileName(),
+            contentType,
+            fileUploadDTO.getSize(),
+            fileUploadDTO.getSha256().toLowerCase(Locale.ROOT),
+            clock.instant()
+        );
+        blobStore.createUpload(session.id, session.size);
+        sessions.put(session.id, session);
+        return toDto(session);
+    }
+
+    /**
+     * Get an upload, with the ranges received so far.
+     *
+     * @param uploadId the id of the upload.
+     * @return the upload, empty if unknown, completed or expired.
+     */
+    public Optional<FileUploadDTO> findOne(String uploadId) {
+        LOG.debug("Request to get FileUpload : {}", uploadId);
+        return Optional.ofNullable(sessions.get(uploadId)).map(this::toDto);
+    }
+
+    /**
+     * Write a chunk of an upload; chunks may be written in any order, concurrently, and again after a failure.
+     *
+     * @param uploadId the id of the upload.
+     * @param offset the position of the chunk in the content.
+     * @param chunk the chunk, read to its end.
+     * @return the upload, with the ranges received so far, empty if unknown, completed or expired.
+     * @throws InvalidUploadException if the chunk does not fit in the content.
+     */
+    public Optional<FileUploadDTO> writeChunk(String uploadId, long offset, InputStream chunk) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        Lock lock = session.lock.readLock();
+        lock.lock();
+        try {
+            if (session.closed) {
+                return Optional.empty();
+            }
+            if (offset < 0 || offset > session.size) {
+                throw new InvalidUploadException("Invalid offset " + offset + " of an upload of " + session.size + " bytes");
+            }
+            long position = offset;
+            try (FileChannel channel = blobStore.openUpload(uploadId); ReadableByteChannel source = Channels.newChannel(chunk)) {
+                while (position < session.size) {
+                    long written = channel.transferFrom(source, position, Math.min(WRITE_STEP, session.size - position));
+                    if (written == 0) {
+                        break;
+                    }
+                    // A chunk interrupted midway still counts for what it wrote
+                    session.ranges.add(position, position + written);
+                    position += written;
+                }
+                if (chunk.read() != -1) {
+                    throw new InvalidUploadException("Chunk at offset " + offset + " exceeds an upload of " + session.size + " bytes");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                session.lastActivity = clock.instant();
+            }
+            LOG.debug("Wrote {} bytes at offset {} of FileUpload {}", position - offset, offset, uploadId);
+            return Optional.of(toDto(session));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Complete an upload: verify its content and create its file data.
+     * <p>
+     * The upload is closed whether its content is valid or not.
+     *
+     * @param uploadId the id of the upload.
+     * @return the file data created, empty if the upload is unknown, completed or expired.
+     * @throws InvalidUploadException if a chunk is missing or if the content does not match the hash.
+     */
+    public Optional<FileDataDTO> complete(String uploadId) {
+        LOG.debug("Request to complete FileUpload : {}", uploadId);
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        Lock lock = session.lock.writeLock();
+        lock.lock();
+        try {
+            if (session.closed) {
+                return Optional.empty();
+            }
+            if (!session.ranges.covers(session.size)) {
+                throw new InvalidUploadException(
+                    "Received " + session.ranges.size() + " of the " + session.size + " bytes of upload " + uploadId
+                );
+            }
+            close(session);
+        } finally {
+            lock.unlock();
+        }
+        StagedBlob blob = blobStore.stageUpload(uploadId);
+        try {
+            if (!blob.hash().equals(session.sha256)) {
+                throw new InvalidUploadException("Content of upload " + uploadId + " does not match its SHA-256");
+            }
+            FileDataDTO fileDataDTO = new FileDataDTO();
+            fileDataDTO.setUid(session.uid);
+            fileDataDTO.setFileName(session.fileName);
+            return Optional.of(fileDataService.saveWithContent(fileDataDTO, blob, session.contentType));
+        } finally {
+            fileBlobService.discard(blob);
+        }
+    }
+
+    /**
+     * Abort an upload, deleting the chunks received.
+     *
+     * @param uploadId the id of the upload.
+     * @return {@code true} if the upload was aborted, {@code false} if unknown, completed or expired.
+     */
+    public boolean abort(String uploadId) {
+        LOG.debug("Request to abort FileUpload : {}", uploadId);
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            return false;
+        }
+        Lock lock = session.lock.writeLock();
+        lock.lock();
+        try {
+            if (session.closed) {
+                return false;
+            }
+            close(session);
+        } finally {
+            lock.unlock();
+        }
+        blobStore.deleteUpload(uploadId);
+        return true;
+    }
+
+    /**
+     * Delete the uploads receiving no chunk for {@code application.file-data.uploads.expiry}; an upload being
+     * written or completed is left for the next run.
+     * <p>
+     * This is scheduled by {@code application.file-data.uploads.expiry-cron}.
+     */
+    @Scheduled(cron = "${application.file-data.uploads.expiry-cron:0 */10 * * * ?}")
+    public void expireUploads() {
+        Instant cutoff = clock.instant().minus(expiry);
+        for (UploadSession session : sessions.values()) {
+            if (session.lastActivity.isAfter(cutoff)) {
+                continue;
+            }
+            Lock lock = session.lock.writeLock();
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (session.closed || session.lastActivity.isAfter(cutoff)) {
+                    continue;
+                }
+                close(session);
+            } finally {
+                lock.unlock();
+            }
+            LOG.info("Expiring FileUpload {}, {} of {} bytes received", session.id, session.ranges.size(), session.size);
+            blobStore.deleteUpload(session.id);
+        }
+    }
+
+    private void close(UploadSession session) {
+        session.closed = true;
+        sessions.remove(session.id);
+    }
+
+    private FileUploadDTO toDto(UploadSession session) {
+        FileUploadDTO fileUploadDTO = new FileUploadDTO();
+        fileUploadDTO.setUploadId(session.id);
+        fileUploadDTO.setUid(session.uid);
+        fileUploadDTO.setFileName(session.fileName);
+        fileUploadDTO.setContentType(session.contentType);
+        fileUploadDTO.setSize(session.size);
+        fileUploadDTO.setSha256(session.sha256);
+        fileUploadDTO.setReceivedRanges(session.ranges.toArray());
+        fileUploadDTO.setReceivedBytes(session.ranges.size());
+        fileUploadDTO.setExpiresAt(session.lastActivity.plus(expiry));
+        return fileUploadDTO;
+    }
+
+    /**
+     * An upload in progress. Chunks are written under the read lock, so that they proceed concurrently; completing,
+     * aborting or expiring the upload takes the write lock, waiting for the chunks being written.
+     */
+    private static final class UploadSession {
+
+        private final String id;
+
+        private final String uid;
+
+        private final String fileName;
+
+        private final String contentType;
+
+        private final long size;
+
+        private final String sha256;
+
+        private final ByteRangeSet ranges = new ByteRangeSet();
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private volatile Instant lastActivity;
+
+        private boolean closed;
+
+        UploadSession(String id, String uid, String fileName, String contentType, long size, String sha256, Instant createdAt) {
+            this.id = id;
+            this.uid = uid;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.size = size;
+            this.sha256 = sha256;
+            this.lastActivity = createdAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.myapp.service;
+
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Guardian_;
+import com.myapp.repository.GuardianRepository;
+import com.myapp.service.criteria.GuardianCriteria;
+import com.myapp.service.dto.GuardianDTO;
+import com.myapp.service.mapper.GuardianMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Guardian} entities in the database.
+ * The main input is a {@link GuardianCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link GuardianDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GuardianQueryService extends IndexedQueryService<Guardian> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GuardianQueryService.class);
+
+    private final GuardianRepository guardianRepository;
+
+    private final GuardianMapper guardianMapper;
+
+    public GuardianQueryService(GuardianRepository guardianRepository, GuardianMapper guardianMapper) {
+        this.guardianRepository = guardianRepository;
+        this.guardianMapper = guardianMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link GuardianDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     * @throws UnsupportedFilterException if a filter uses an operator that no index can serve.
+     */
+    @Transactional(readOnly = true)
+    public Page<GuardianDTO> findByCriteria(GuardianCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Guardian> specification = createSpecification(criteria);
+        return guardianRepository.findAll(specification, page).map(guardianMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(GuardianCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Guardian> specification = createSpecification(criteria);
+        return guardianRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link GuardianCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Guardian> createSpecification(GuardianCriteria criteria) {
+        Specification<Guardian> specification = Specification.where(null);
+        if (criteria != null) {
+            checkRangeFilter("id", criteria.getId());
+            checkPrefixFilter("lastName", criteria.getLastName());
+            checkRangeFilter("dateOfBirth", criteria.getDateOfBirth());
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Guardian_.id));
+            }
+            if (criteria.getLastName() != null) {
+                specification = specification.and(buildPrefixSpecification(criteria.getLastName(), Guardian_.lastName));
+            }
+            if (criteria.getDateOfBirth() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateOfBirth(), Guardian_.dateOfBirth));
+            }
+        }
+        return specification;
+    }
+}
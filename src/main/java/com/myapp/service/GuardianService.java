@@ -2,13 +2,18 @@ package com.myapp.service;
 
 import com.myapp.domain.Guardian;
 import com.myapp.repository.GuardianRepository;
+import com.myapp.repository.GuardianSummary;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.GuardianDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.GuardianMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,20 @@ public class GuardianService {
 
     private final GuardianMapper guardianMapper;
 
-    public GuardianService(GuardianRepository guardianRepository, GuardianMapper guardianMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public GuardianService(
+        GuardianRepository guardianRepository,
+        GuardianMapper guardianMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.guardianRepository = guardianRepository;
         this.guardianMapper = guardianMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +54,7 @@ public class GuardianService {
      */
     public GuardianDTO save(GuardianDTO guardianDTO) {
         LOG.debug("Request to save Guardian : {}", guardianDTO);
+        entityCountCache.invalidate(Guardian.class);
         Guardian guardian = guardianMapper.toEntity(guardianDTO);
         guardian = guardianRepository.save(guardian);
         return guardianMapper.toDto(guardian);
@@ -88,6 +105,64 @@ public class GuardianService {
         return guardianRepository.findAll(pageable).map(guardianMapper::toDto);
     }
 
+    /**
+     * Get all the guardians, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<GuardianDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all Guardians");
+        return entityCountCache
+            .findPage(
+                Guardian.class,
+                pageable,
+                countMode,
+                guardianRepository::findAll,
+                guardianRepository::findAllBy,
+                guardianRepository::count
+            )
+            .map(guardianMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the guardians, see {@link GuardianSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<GuardianDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Guardians");
+        return entityCountCache
+            .findPage(
+                Guardian.class,
+                pageable,
+                countMode,
+                guardianRepository::findAllSummaries,
+                guardianRepository::findAllSummariesBy,
+                guardianRepository::count
+            )
+            .map(guardianMapper::toDto);
+    }
+
+    /**
+     * Get a page of the guardians with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GuardianDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of Guardians with a cursor");
+        return seekPager.findPage(Guardian.class, cursor, sort, size).map(guardianMapper::toDto);
+    }
+
     /**
      * Get one guardian by id.
      *
@@ -100,6 +175,18 @@ public class GuardianService {
         return guardianRepository.findById(id).map(guardianMapper::toDto);
     }
 
+    /**
+     * Get the summary of one guardian by id, see {@link GuardianSummary}.
+     *
+     * @param id the id of the entity.
+     * @return the summary.
+     */
+    @Transactional(readOnly = true)
+    public Optional<GuardianDTO> findOneSummary(Long id) {
+        LOG.debug("Request to get the summary of Guardian : {}", id);
+        return guardianRepository.findSummaryById(id).map(guardianMapper::toDto);
+    }
+
     /**
      * Delete the guardian by id.
      *
@@ -107,6 +194,7 @@ public class GuardianService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Guardian : {}", id);
+        entityCountCache.invalidate(Guardian.class);
         guardianRepository.deleteById(id);
     }
 }
@@ -0,0 +1,284 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.repository.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service rendering the scaled copies of the images of the {@link BlobStore}, for the thumbnails of the lists.
+ * <p>
+ * An uploaded image gets a derivative per size of {@code application.file-data.derivatives.sizes}, rendered in the
+ * background by a bounded pool: renders beyond its queue are dropped and rendered again when requested. Concurrent
+ * requests of the same missing derivative wait for a single render. Derivatives are keyed by the hash of their
+ * original, so identical images share them.
+ */
+@Service
+public class ImageDerivativeService {
+
+    public static final String QUEUE_METER_NAME = "file.derivatives.queue";
+
+    public static final String RENDER_METER_NAME = "file.derivatives.render";
+
+    public static final String REJECTED_METER_NAME = "file.derivatives.rejected";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    /**
+     * Oversampling of the decoded images relative to the derivative size, keeping the scaling smooth while decoding
+     * large images with subsampling.
+     */
+    private static final int OVERSAMPLING = 2;
+
+    private final BlobStore blobStore;
+
+    private final Set<Integer> sizes;
+
+    private final Duration renderTimeout;
+
+    private final long maxSourcePixels;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, CompletableFuture<Boolean>> renders = new ConcurrentHashMap<>();
+
+    private final Timer renderTimer;
+
+    private final Counter rejectedCounter;
+
+    public ImageDerivativeService(BlobStore blobStore, ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.FileData.Derivatives properties = applicationProperties.getFileData().getDerivatives();
+        this.blobStore = blobStore;
+        this.sizes = Set.copyOf(properties.getSizes());
+        this.renderTimeout = properties.getRenderTimeout();
+        this.maxSourcePixels = properties.getMaxSourcePixels();
+        this.executor = new ThreadPoolExecutor(
+            properties.getWorkerThreads(),
+            properties.getWorkerThreads(),
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory("image-derivative-")
+        );
+        Gauge.builder(QUEUE_METER_NAME, executor, pool -> pool.getQueue().size())
+            .description("Image derivative renders waiting for a worker")
+            .register(meterRegistry);
+        this.renderTimer = Timer.builder(RENDER_METER_NAME).description("Latency of the image derivative renders").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METER_NAME)
+            .description("Image derivative renders dropped because the queue was full")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Set<Integer> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * Check whether derivatives can be rendered from a content.
+     *
+     * @param contentType the media type of the content.
+     * @return {@code true} for the image types {@link ImageIO} can read.
+     */
+    public boolean isSupported(String contentType) {
+        return contentType != null && contentType.startsWith("image/") && ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    /**
+     * Get the media type of the derivatives of a content: PNG for the types that may be transparent, JPEG otherwise.
+     *
+     * @param contentType the media type of the content.
+     * @return the media type of its derivatives.
+     */
+    public String getDerivativeType(String contentType) {
+        return keepsTransparency(contentType) ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE;
+    }
+
+    /**
+     * Render the missing derivatives of a content in the background.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param contentType the media type of the content, nothing is rendered if it is not supported.
+     */
+    public void renderAll(String hash, String contentType) {
+        if (isSupported(contentType)) {
+            sizes.forEach(size -> request(hash, contentType, size));
+        }
+    }
+
+    /**
+     * Wait for a derivative, rendering it if it is missing.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param contentType the media type of the content.
+     * @param size the size of the derivative, one of {@link #getSizes()}.
+     * @return {@code true} if the derivative is available, {@code false} if it cannot be rendered or the render did not
+     * complete within {@code application.file-data.derivatives.render-timeout}.
+     */
+    public boolean awaitDerivative(String hash, String contentType, int size) {
+        if (!sizes.contains(size) || !isSupported(contentType)) {
+            return false;
+        }
+        if (blobStore.existsDerivative(hash, size)) {
+            return true;
+        }
+        try {
+            return request(hash, contentType, size).get(renderTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.debug("No derivative {} of {}: {}", size, hash, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Open a derivative for reading.
+     *
+     * @param hash the SHA-256 of the content.
+     * @param size the size of the derivative.
+     * @return the channel of its file, to close.
+     */
+    public FileChannel openDerivative(String hash, int size) {
+        return blobStore.openDerivative(hash, size);
+    }
+
+    private CompletableFuture<Boolean> request(String hash, String contentType, int size) {
+        String key = hash + "." + size;
+        CompletableFuture<Boolean> render = new CompletableFuture<>();
+        CompletableFuture<Boolean> pending = renders.putIfAbsent(key, render);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    render.complete(renderTimer.recordCallable(() -> render(hash, contentType, size)));
+                } catch (Exception e) {
+                    LOG.warn("Could not render the derivative {} of {}", size, hash, e);
+                    render.completeExceptionally(e);
+                } finally {
+                    renders.remove(key, render);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            renders.remove(key, render);
+            render.complete(false);
+        }
+        return render;
+    }
+
+    private boolean render(String hash, String contentType, int size) throws IOException {
+        if (blobStore.existsDerivative(hash, size)) {
+            return true;
+        }
+        BufferedImage source = read(blobStore.path(hash), size);
+        if (source == null) {
+            return false;
+        }
+        boolean transparent = keepsTransparency(contentType);
+        BufferedImage derivative = scale(source, size, transparent);
+        String format = transparent ? "png" : "jpeg";
+        blobStore.saveDerivative(hash, size, out -> {
+            if (!ImageIO.write(derivative, format, out)) {
+                throw new IOException("No writer for " + format);
+            }
+        });
+        LOG.debug("Rendered the derivative {} of {}", size, hash);
+        return true;
+    }
+
+    /**
+     * Decode an image, subsampled to about twice the size of the derivative.
+     *
+     * @return the image, or {@code null} if it cannot be decoded or has too many pixels.
+     */
+    private BufferedImage read(Path file, int size) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    LOG.warn("Not rendering the derivatives of {}, {}x{} pixels", file.getFileName(), width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (OVERSAMPLING * size));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int size, boolean transparent) {
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage derivative = new BufferedImage(width, height, transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = derivative.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!transparent) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return derivative;
+    }
+
+    private static boolean keepsTransparency(String contentType) {
+        return MediaType.IMAGE_PNG_VALUE.equals(contentType) || MediaType.IMAGE_GIF_VALUE.equals(contentType);
+    }
+}
@@ -0,0 +1,122 @@
+package com.myapp.service;
+
+import com.myapp.service.criteria.PrefixFilter;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+import tech.jhipster.service.QueryService;
+import tech.jhipster.service.filter.Filter;
+import tech.jhipster.service.filter.RangeFilter;
+
+/**
+ * Base service for filtering entity lists with the operators that an index can serve.
+ * <p>
+ * Each filtered column leads an index ending with the primary key (see the {@code added_index_list_filters}
+ * changelog), so equality, {@code in}, range and prefix filters are index range scans that also deliver the rows
+ * in id order. Operators that need a scan of the whole table ({@code contains}, {@code notEquals}, {@code notIn},
+ * {@code specified}) are rejected with an {@link UnsupportedFilterException} before any query runs.
+ *
+ * @param <ENTITY> the type of the entity which is queried.
+ */
+public abstract class IndexedQueryService<ENTITY> extends QueryService<ENTITY> {
+
+    /**
+     * Maximum number of values of an {@code in} filter.
+     */
+    public static final int MAX_IN_VALUES = 100;
+
+    /**
+     * Check that a filter of an enumeration or of a relationship only uses {@code equals} and {@code in}.
+     *
+     * @param name the name of the filter in the request.
+     * @param filter the filter, may be {@code null}.
+     */
+    protected void checkEqualityFilter(String name, Filter<?> filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getNotEquals() != null || filter.getNotIn() != null || filter.getSpecified() != null) {
+            throw new UnsupportedFilterException(name + " only supports equals and in");
+        }
+        checkInValues(name, filter.getIn());
+    }
+
+    /**
+     * Check that a filter of a range column does not use the negated or {@code specified} operators.
+     *
+     * @param name the name of the filter in the request.
+     * @param filter the filter, may be {@code null}.
+     */
+    protected void checkRangeFilter(String name, RangeFilter<?> filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getNotEquals() != null || filter.getNotIn() != null || filter.getSpecified() != null) {
+            throw new UnsupportedFilterException(name + " only supports equals, in and ranges");
+        }
+        checkInValues(name, filter.getIn());
+    }
+
+    /**
+     * Check that a filter of a text column only uses {@code equals}, {@code in} and {@code startsWith}.
+     *
+     * @param name the name of the filter in the request.
+     * @param filter the filter, may be {@code null}.
+     */
+    protected void checkPrefixFilter(String name, PrefixFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (
+            filter.getContains() != null ||
+            filter.getDoesNotContain() != null ||
+            filter.getNotEquals() != null ||
+            filter.getNotIn() != null ||
+            filter.getSpecified() != null
+        ) {
+            throw new UnsupportedFilterException(name + " only supports equals, in and startsWith");
+        }
+        if (filter.getStartsWith() != null && filter.getStartsWith().isEmpty()) {
+            throw new UnsupportedFilterException(name + ".startsWith must not be empty");
+        }
+        checkInValues(name, filter.getIn());
+    }
+
+    /**
+     * Build a specification for a {@link PrefixFilter}: its {@code startsWith} is a case sensitive {@code like 'x%'},
+     * which the index of the column can serve, unlike the {@code lower(x) like '%x%'} of {@code contains}.
+     *
+     * @param filter the filter, checked by {@link #checkPrefixFilter(String, PrefixFilter)}.
+     * @param field the attribute of the column.
+     * @return the specification.
+     */
+    protected Specification<ENTITY> buildPrefixSpecification(PrefixFilter filter, SingularAttribute<? super ENTITY, String> field) {
+        Specification<ENTITY> specification = buildStringSpecification(filter, field);
+        if (filter.getStartsWith() == null) {
+            return specification;
+        }
+        String pattern = escapeLike(filter.getStartsWith()) + "%";
+        Specification<ENTITY> startsWith = (root, query, builder) -> builder.like(root.get(field), pattern, '\\');
+        return specification == null ? startsWith : specification.and(startsWith);
+    }
+
+    /**
+     * Whether joining a to-many relationship for a filter can repeat the rows of the entity.
+     *
+     * @param filter the filter of the relationship.
+     * @return {@code true} if the filter can match several rows of the join table for one entity.
+     */
+    protected boolean needsDistinct(Filter<?> filter) {
+        return filter != null && filter.getIn() != null && filter.getIn().size() > 1;
+    }
+
+    private static void checkInValues(String name, List<?> values) {
+        if (values != null && values.size() > MAX_IN_VALUES) {
+            throw new UnsupportedFilterException(name + ".in accepts at most " + MAX_IN_VALUES + " values");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,22 @@
+package com.myapp.service;
+
+import com.myapp.security.CheckinTokenCodec;
+
+/**
+ * Thrown when a QR checkin token is rejected.
+ */
+public class InvalidCheckinTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final CheckinTokenCodec.Failure failure;
+
+    public InvalidCheckinTokenException(CheckinTokenCodec.Failure failure) {
+        super("Invalid checkin token: " + failure);
+        this.failure = failure;
+    }
+
+    public CheckinTokenCodec.Failure getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,13 @@
+package com.myapp.service;
+
+/**
+ * Thrown when a seek pagination cursor cannot be decoded, or used with the requested sort.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
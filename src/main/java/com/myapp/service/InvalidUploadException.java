@@ -0,0 +1,14 @@
+package com.myapp.service;
+
+/**
+ * Thrown when a chunk does not fit its resumable upload, or when an upload is completed before all its chunks were
+ * received or with a content not matching its hash.
+ */
+public class InvalidUploadException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
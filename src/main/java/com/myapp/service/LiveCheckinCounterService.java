@@ -0,0 +1,155 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.enumeration.RollupGranularity;
+import com.myapp.repository.CheckinDailyRollupRepository;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.CheckinRollupRepository;
+import com.myapp.service.dto.LiveCheckinCountersDTO;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service computing the checkin counters of the current day for live dashboards.
+ * <p>
+ * Committed checkin changes only mark the counters dirty; they are recomputed from the daily rollups when
+ * polled, so the cost is one aggregation per tick however many checkins and subscribers there are.
+ * The most recent arrivals are kept in memory and only reflect the checkins written by this instance.
+ */
+@Service
+public class LiveCheckinCounterService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LiveCheckinCounterService.class);
+
+    private final CheckinDailyRollupRepository checkinDailyRollupRepository;
+
+    private final CheckinRepository checkinRepository;
+
+    private final AttendanceRollupService attendanceRollupService;
+
+    private final int recentSize;
+
+    private final Deque<CheckinSnapshot> recent = new ArrayDeque<>();
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    private boolean recentLoaded;
+
+    private volatile LiveCheckinCountersDTO counters;
+
+    public LiveCheckinCounterService(
+        CheckinDailyRollupRepository checkinDailyRollupRepository,
+        CheckinRepository checkinRepository,
+        AttendanceRollupService attendanceRollupService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.checkinDailyRollupRepository = checkinDailyRollupRepository;
+        this.checkinRepository = checkinRepository;
+        this.attendanceRollupService = attendanceRollupService;
+        this.recentSize = applicationProperties.getCheckin().getLive().getRecentSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckinsChanged(CheckinsChangedEvent event) {
+        synchronized (recent) {
+            Set<Long> removedIds = event.removed().stream().map(CheckinSnapshot::id).collect(Collectors.toSet());
+            recent.removeIf(checkin -> removedIds.contains(checkin.id()));
+            event.added().forEach(recent::addFirst);
+            trimRecent();
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Get the current counters, computing them if they were never computed.
+     *
+     * @return the counters of the current day.
+     */
+    @Transactional(readOnly = true)
+    public LiveCheckinCountersDTO getCounters() {
+        LiveCheckinCountersDTO current = counters;
+        return current != null ? current : pollChanges().orElse(counters);
+    }
+
+    /**
+     * Recompute the counters if checkins changed or the day rolled over since the last call.
+     *
+     * @return the new counters, or empty if they did not change.
+     */
+    @Transactional(readOnly = true)
+    public synchronized Optional<LiveCheckinCountersDTO> pollChanges() {
+        Instant since = attendanceRollupService.bucketStart(Instant.now(), RollupGranularity.DAY);
+        LiveCheckinCountersDTO current = counters;
+        // Clear the flag before aggregating, so that a change committed meanwhile triggers the next tick
+        if (!dirty.getAndSet(false) && current != null && current.getSince().equals(since)) {
+            return Optional.empty();
+        }
+        Instant until = since.plus(1, ChronoUnit.DAYS);
+        long checkinCount = checkinDailyRollupRepository
+            .findTotalCounts(since, until)
+            .stream()
+            .mapToLong(CheckinRollupRepository.BucketCount::getCheckinCount)
+            .sum();
+        long playerCount = checkinDailyRollupRepository.countPlayers(since, until);
+        List<LiveCheckinCountersDTO.TeamCounter> teams = checkinDailyRollupRepository
+            .findTeamTotals(since, until)
+            .stream()
+            .map(team ->
+                new LiveCheckinCountersDTO.TeamCounter(team.getTeamId(), team.getTeamName(), team.getCheckinCount(), team.getPlayerCount())
+            )
+            .toList();
+        counters = new LiveCheckinCountersDTO(since, checkinCount, playerCount, teams, getRecent());
+        LOG.trace("Live checkin counters updated : {}", counters);
+        return Optional.of(counters);
+    }
+
+    private List<CheckinSnapshot> getRecent() {
+        if (!recentLoaded) {
+            List<CheckinSnapshot> latest = checkinRepository
+                .findLatestRows(Limit.of(recentSize))
+                .stream()
+                .map(row -> new CheckinSnapshot(row.getId(), row.getPlayerId(), row.getTimestamp()))
+                .toList();
+            synchronized (recent) {
+                // Checkins committed while loading may be both in the list and in the queue
+                Set<Long> queuedIds = recent.stream().map(CheckinSnapshot::id).collect(Collectors.toSet());
+                List<CheckinSnapshot> merged = Stream.concat(
+                    recent.stream(),
+                    latest.stream().filter(checkin -> !queuedIds.contains(checkin.id()))
+                )
+                    .sorted(Comparator.comparing(CheckinSnapshot::id).reversed())
+                    .toList();
+                recent.clear();
+                recent.addAll(merged);
+                trimRecent();
+            }
+            recentLoaded = true;
+        }
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    private void trimRecent() {
+        while (recent.size() > recentSize) {
+            recent.removeLast();
+        }
+    }
+}
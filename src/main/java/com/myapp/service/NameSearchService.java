@@ -0,0 +1,196 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Player;
+import com.myapp.repository.GuardianRepository;
+import com.myapp.repository.PersonName;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.service.dto.GuardianDTO;
+import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.mapper.GuardianMapper;
+import com.myapp.service.mapper.PlayerMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service searching players and guardians by name, typos included, from {@link NgramIndex}es kept in memory.
+ * <p>
+ * The indexes are loaded once the application is ready, by several threads each reading a range of ids, then kept
+ * current from the committed changes by the {@link CommittedEntityIndexer}.
+ */
+@Service
+public class NameSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NameSearchService.class);
+
+    public static final String DOCUMENTS_METER_NAME = "search.index.documents";
+
+    public static final String BYTES_PER_DOCUMENT_METER_NAME = "search.index.document.bytes";
+
+    private final PlayerRepository playerRepository;
+
+    private final GuardianRepository guardianRepository;
+
+    private final PlayerMapper playerMapper;
+
+    private final GuardianMapper guardianMapper;
+
+    private final ApplicationProperties.Search properties;
+
+    private final NgramIndex playerIndex = new NgramIndex();
+
+    private final NgramIndex guardianIndex = new NgramIndex();
+
+    private final CommittedEntityIndexer.IndexedEntity<Player> indexedPlayers;
+
+    private final CommittedEntityIndexer.IndexedEntity<Guardian> indexedGuardians;
+
+    public NameSearchService(
+        PlayerRepository playerRepository,
+        GuardianRepository guardianRepository,
+        PlayerMapper playerMapper,
+        GuardianMapper guardianMapper,
+        CommittedEntityIndexer committedEntityIndexer,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.playerRepository = playerRepository;
+        this.guardianRepository = guardianRepository;
+        this.playerMapper = playerMapper;
+        this.guardianMapper = guardianMapper;
+        this.properties = applicationProperties.getSearch();
+        this.indexedPlayers = committedEntityIndexer.register(
+            "player name search",
+            Player.class,
+            Player::getId,
+            PersonName::fullName,
+            playerIndex
+        );
+        this.indexedGuardians = committedEntityIndexer.register(
+            "guardian name search",
+            Guardian.class,
+            Guardian::getId,
+            PersonName::fullName,
+            guardianIndex
+        );
+        registerMeters(meterRegistry, "player", playerIndex);
+        registerMeters(meterRegistry, "guardian", guardianIndex);
+    }
+
+    /**
+     * Load the indexes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, properties.getBuildThreads()),
+            new CustomizableThreadFactory("name-search-build-")
+        );
+        long batchSize = properties.getBuildBatchSize();
+        try {
+            int players = indexedPlayers.load(
+                executor,
+                playerRepository::findMinId,
+                playerRepository::findMaxId,
+                batchSize,
+                (from, to) -> playerRepository.findNamesByIdRange(from, to).stream().map(PersonName::toLabel).toList()
+            );
+            int guardians = indexedGuardians.load(
+                executor,
+                guardianRepository::findMinId,
+                guardianRepository::findMaxId,
+                batchSize,
+                (from, to) -> guardianRepository.findNamesByIdRange(from, to).stream().map(PersonName::toLabel).toList()
+            );
+            LOG.info(
+                "Indexed the names of {} players and {} guardians in {} ms",
+                players,
+                guardians,
+                (System.nanoTime() - start) / 1_000_000
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Search players by name.
+     *
+     * @param query the words to search, possibly partial or misspelled.
+     * @param pageable the pagination information, the sort is ignored: the best matches come first.
+     * @return the page of matching players.
+     */
+    @Transactional(readOnly = true)
+    public Page<PlayerDTO> searchPlayers(String query, Pageable pageable) {
+        LOG.debug("Request to search for a page of Players for query {}", query);
+        Page<Player> players = search(playerIndex, query, pageable, playerRepository::findAllById, Player::getId);
+        RelationshipIds guardianIds = playerRepository.findGuardianIds(players.getContent());
+        RelationshipIds teamIds = playerRepository.findTeamIds(players.getContent());
+        return players.map(player -> playerMapper.toDto(player, guardianIds, teamIds));
+    }
+
+    /**
+     * Search guardians by name.
+     *
+     * @param query the words to search, possibly partial or misspelled.
+     * @param pageable the pagination information, the sort is ignored: the best matches come first.
+     * @return the page of matching guardians.
+     */
+    @Transactional(readOnly = true)
+    public Page<GuardianDTO> searchGuardians(String query, Pageable pageable) {
+        LOG.debug("Request to search for a page of Guardians for query {}", query);
+        return search(guardianIndex, query, pageable, guardianRepository::findAllById, Guardian::getId).map(guardianMapper::toDto);
+    }
+
+    private <T> Page<T> search(
+        NgramIndex index,
+        String query,
+        Pageable pageable,
+        Function<List<Long>, List<T>> loader,
+        Function<T, Long> idOf
+    ) {
+        List<NgramIndex.Hit> hits = index.search(query, properties.getMinScore(), properties.getMaxHits());
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(NgramIndex.Hit::id).toList();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.size());
+        }
+        // Keep the ranking of the index, entities deleted since are skipped
+        Map<Long, T> entities = loader.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    private static void registerMeters(MeterRegistry meterRegistry, String entity, NgramIndex index) {
+        Gauge.builder(DOCUMENTS_METER_NAME, index, NgramIndex::size)
+            .description("Documents in the name search indexes")
+            .tag("entity", entity)
+            .register(meterRegistry);
+        Gauge.builder(BYTES_PER_DOCUMENT_METER_NAME, index, NgramIndex::estimatedBytesPerDocument)
+            .description("Estimated memory used per document by the name search indexes")
+            .tag("entity", entity)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,300 @@
+package com.myapp.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory inverted index of the trigrams of short texts, such as the names of people.
+ * <p>
+ * Texts are folded to lower case without accents and each word is padded as {@code pg_trgm} does, so
+ * {@code "Smith"} gives {@code "  s", " sm", "smi", "mit", "ith", "th "}. A document matches a query when it contains
+ * enough of the trigrams of the query: the score is the share of the query trigrams found in the document, which
+ * tolerates a typo or two in a long enough word and makes a prefix of a word match. Ties are broken by the similarity
+ * of the whole texts, so the tighter matches come first.
+ * <p>
+ * Postings are sorted arrays of document ids. Reads share a lock, writes are exclusive.
+ */
+public class NgramIndex implements TextIndex {
+
+    /**
+     * A matching document.
+     *
+     * @param id the id of the document.
+     * @param score the share of the query trigrams found in the document, between 0 and 1.
+     * @param similarity the Jaccard similarity of the trigrams of the query and of the document, between 0 and 1.
+     */
+    public record Hit(long id, float score, float similarity) {}
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+        .thenComparingDouble(Hit::similarity)
+        .reversed()
+        .thenComparingLong(Hit::id);
+
+    private static final long[] NO_GRAMS = new long[0];
+
+    // Rough sizes of the objects of a document on a 64 bit JVM with compressed pointers
+    private static final int DOCUMENT_OVERHEAD_BYTES = 96;
+
+    private static final int POSTINGS_OVERHEAD_BYTES = 80;
+
+    private final Map<Long, long[]> documents = new HashMap<>();
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long postingCount;
+
+    /**
+     * The ids of the documents containing a trigram, sorted.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[2];
+
+        private int size;
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Index a document, replacing its previous text.
+     *
+     * @param id the id of the document.
+     * @param text the text, {@code null} or blank to remove the document.
+     */
+    @Override
+    public void put(long id, String text) {
+        long[] grams = grams(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (grams.length == 0) {
+                return;
+            }
+            documents.put(id, grams);
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+            postingCount += grams.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document.
+     *
+     * @param id the id of the document.
+     */
+    @Override
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all the documents.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            postingCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the documents matching a query.
+     *
+     * @param query the query, a few words.
+     * @param minScore the least share of the query trigrams that a document must contain, between 0 and 1.
+     * @param maxHits the maximum number of hits.
+     * @return the best hits, best first.
+     */
+    public List<Hit> search(String query, float minScore, int maxHits) {
+        long[] queryGrams = grams(query);
+        if (queryGrams.length == 0 || maxHits <= 0) {
+            return List.of();
+        }
+        int minShared = Math.max(1, (int) Math.ceil(minScore * queryGrams.length));
+        Map<Long, int[]> shared = new HashMap<>();
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long gram : queryGrams) {
+                Postings documentIds = postings.get(gram);
+                if (documentIds == null) {
+                    continue;
+                }
+                for (int i = 0; i < documentIds.size; i++) {
+                    shared.computeIfAbsent(documentIds.ids[i], key -> new int[1])[0]++;
+                }
+            }
+            for (Map.Entry<Long, int[]> candidate : shared.entrySet()) {
+                int count = candidate.getValue()[0];
+                if (count < minShared) {
+                    continue;
+                }
+                int documentGrams = documents.get(candidate.getKey()).length;
+                hits.add(
+                    new Hit(
+                        candidate.getKey(),
+                        (float) count / queryGrams.length,
+                        (float) count / (queryGrams.length + documentGrams - count)
+                    )
+                );
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(RANKING);
+        return hits.size() > maxHits ? List.copyOf(hits.subList(0, maxHits)) : hits;
+    }
+
+    /**
+     * Get the number of indexed documents.
+     *
+     * @return the number of documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate the heap used by the index, from the number of documents, trigrams and postings.
+     *
+     * @return the estimated size in bytes.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            // Each posting is in the trigrams of its document and in the postings of its trigram
+            return (
+                (long) documents.size() * DOCUMENT_OVERHEAD_BYTES +
+                (long) postings.size() * POSTINGS_OVERHEAD_BYTES +
+                postingCount * 2 * Long.BYTES
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate the heap used by the index per document.
+     *
+     * @return the estimated size in bytes, 0 if the index is empty.
+     */
+    public double estimatedBytesPerDocument() {
+        int size = size();
+        return size == 0 ? 0 : (double) estimatedBytes() / size;
+    }
+
+    private void removeLocked(long id) {
+        long[] grams = documents.remove(id);
+        if (grams == null) {
+            return;
+        }
+        for (long gram : grams) {
+            Postings documentIds = postings.get(gram);
+            documentIds.remove(id);
+            if (documentIds.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        postingCount -= grams.length;
+    }
+
+    /**
+     * Get the distinct trigrams of a text, each packed in a long as three 16 bit characters, sorted.
+     */
+    static long[] grams(String text) {
+        if (text == null || text.isBlank()) {
+            return NO_GRAMS;
+        }
+        String folded = fold(text);
+        long[] grams = new long[folded.length() * 2 + 2];
+        int count = 0;
+        int wordStart = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean letter = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                count = wordGrams(folded, wordStart, i, grams, count);
+                wordStart = -1;
+            }
+        }
+        if (count == 0) {
+            return NO_GRAMS;
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Fold a text to lower case without accents.
+     */
+    static String fold(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static int wordGrams(String text, int start, int end, long[] grams, int count) {
+        // Two spaces before the word and one after it, as pg_trgm
+        char first = ' ';
+        char second = ' ';
+        for (int i = start; i <= end; i++) {
+            char third = i < end ? text.charAt(i) : ' ';
+            grams[count++] = ((long) first << 32) | ((long) second << 16) | third;
+            first = second;
+            second = third;
+        }
+        return count;
+    }
+}
@@ -2,13 +2,18 @@ package com.myapp.service;
 
 import com.myapp.domain.Organization;
 import com.myapp.repository.OrganizationRepository;
+import com.myapp.repository.OrganizationSummary;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.OrganizationDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.OrganizationMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,20 @@ public class OrganizationService {
 
     private final OrganizationMapper organizationMapper;
 
-    public OrganizationService(OrganizationRepository organizationRepository, OrganizationMapper organizationMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public OrganizationService(
+        OrganizationRepository organizationRepository,
+        OrganizationMapper organizationMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.organizationRepository = organizationRepository;
         this.organizationMapper = organizationMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +54,7 @@ public class OrganizationService {
      */
     public OrganizationDTO save(OrganizationDTO organizationDTO) {
         LOG.debug("Request to save Organization : {}", organizationDTO);
+        entityCountCache.invalidate(Organization.class);
         Organization organization = organizationMapper.toEntity(organizationDTO);
         organization = organizationRepository.save(organization);
         return organizationMapper.toDto(organization);
@@ -88,6 +105,64 @@ public class OrganizationService {
         return organizationRepository.findAll(pageable).map(organizationMapper::toDto);
     }
 
+    /**
+     * Get all the organizations, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<OrganizationDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all Organizations");
+        return entityCountCache
+            .findPage(
+                Organization.class,
+                pageable,
+                countMode,
+                organizationRepository::findAll,
+                organizationRepository::findAllBy,
+                organizationRepository::count
+            )
+            .map(organizationMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the organizations, see {@link OrganizationSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<OrganizationDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Organizations");
+        return entityCountCache
+            .findPage(
+                Organization.class,
+                pageable,
+                countMode,
+                organizationRepository::findAllSummaries,
+                organizationRepository::findAllSummariesBy,
+                organizationRepository::count
+            )
+            .map(organizationMapper::toDto);
+    }
+
+    /**
+     * Get a page of the organizations with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrganizationDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of Organizations with a cursor");
+        return seekPager.findPage(Organization.class, cursor, sort, size).map(organizationMapper::toDto);
+    }
+
     /**
      * Get one organization by id.
      *
@@ -107,6 +182,7 @@ public class OrganizationService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Organization : {}", id);
+        entityCountCache.invalidate(Organization.class);
         organizationRepository.deleteById(id);
     }
 }
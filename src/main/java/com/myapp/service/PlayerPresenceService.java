@@ -0,0 +1,244 @@
+package com.myapp.service;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.enumeration.RollupGranularity;
+import com.myapp.repository.CheckinDailyRollupRepository;
+import com.myapp.repository.TeamRepository;
+import com.myapp.service.dto.TeamPresenceDTO;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service answering which players of a team are checked in on a given day, from memory.
+ * <p>
+ * The players checked in each day are kept in a compressed bitmap, loaded from the daily rollups and then
+ * maintained by committed checkin changes. Team rosters are kept in bitmaps too, so a team's presence is one
+ * bitmap intersection. The bitmaps only reflect the checkins written by this instance after they were loaded.
+ */
+@Service
+public class PlayerPresenceService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlayerPresenceService.class);
+
+    public static final String BYTES_METER_NAME = "checkin.presence.bytes";
+
+    private final CheckinDailyRollupRepository checkinDailyRollupRepository;
+
+    private final TeamRepository teamRepository;
+
+    private final AttendanceRollupService attendanceRollupService;
+
+    private final int retainedDays;
+
+    /**
+     * The players checked in per day, most recent days only; guards the bitmaps themselves too. Nothing is read from
+     * the database while holding it.
+     */
+    private final NavigableMap<Instant, Roaring64Bitmap> days = new TreeMap<>();
+
+    private final AtomicLong dayGeneration = new AtomicLong();
+
+    private final Map<Long, Roaring64Bitmap> rosters = new ConcurrentHashMap<>();
+
+    private final AtomicLong rosterGeneration = new AtomicLong();
+
+    public PlayerPresenceService(
+        CheckinDailyRollupRepository checkinDailyRollupRepository,
+        TeamRepository teamRepository,
+        AttendanceRollupService attendanceRollupService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.checkinDailyRollupRepository = checkinDailyRollupRepository;
+        this.teamRepository = teamRepository;
+        this.attendanceRollupService = attendanceRollupService;
+        this.retainedDays = Math.max(1, applicationProperties.getCheckin().getPresence().getRetainedDays());
+        Gauge.builder(BYTES_METER_NAME, this, PlayerPresenceService::getSizeInBytes)
+            .description("Memory used by the bitmaps of checked-in players and team rosters")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load the players checked in today.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadToday() {
+        Instant today = attendanceRollupService.bucketStart(Instant.now(), RollupGranularity.DAY);
+        Roaring64Bitmap day = day(today);
+        synchronized (days) {
+            LOG.info("Loaded the presence of {} players on {}", day.getLongCardinality(), today);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckinsChanged(CheckinsChangedEvent event) {
+        // Days being loaded meanwhile may miss this change, they are not kept
+        dayGeneration.incrementAndGet();
+        List<CheckinSnapshot> absent = List.of();
+        if (!event.removed().isEmpty()) {
+            Set<Instant> loadedDays;
+            synchronized (days) {
+                loadedDays = new HashSet<>(days.keySet());
+            }
+            // The player may have other checkins that day, the rollup is already up to date
+            absent = event
+                .removed()
+                .stream()
+                .filter(checkin -> {
+                    Instant dayStart = attendanceRollupService.bucketStart(checkin.timestamp(), RollupGranularity.DAY);
+                    return (
+                        loadedDays.contains(dayStart) &&
+                        checkinDailyRollupRepository.findCheckinCount(checkin.playerId(), dayStart).orElse(0L) <= 0
+                    );
+                })
+                .toList();
+        }
+        synchronized (days) {
+            for (CheckinSnapshot checkin : event.added()) {
+                Roaring64Bitmap day = days.get(attendanceRollupService.bucketStart(checkin.timestamp(), RollupGranularity.DAY));
+                if (day != null) {
+                    day.addLong(checkin.playerId());
+                }
+            }
+            for (CheckinSnapshot checkin : absent) {
+                Roaring64Bitmap day = days.get(attendanceRollupService.bucketStart(checkin.timestamp(), RollupGranularity.DAY));
+                if (day != null) {
+                    day.removeLong(checkin.playerId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the players of a team checked in on the day of an instant.
+     *
+     * @param teamId the id of the team.
+     * @param instant an instant of the day, in the attendance time zone.
+     * @return the presence, or empty if the team does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<TeamPresenceDTO> findTeamPresence(Long teamId, Instant instant) {
+        LOG.debug("Request to get the presence of Team : {}", teamId);
+        Optional<Roaring64Bitmap> roster = roster(teamId);
+        if (roster.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant dayStart = attendanceRollupService.bucketStart(instant, RollupGranularity.DAY);
+        Roaring64Bitmap present = roster.orElseThrow().clone();
+        Roaring64Bitmap day = day(dayStart);
+        synchronized (days) {
+            present.and(day);
+        }
+        List<Long> playerIds = Arrays.stream(present.toArray()).boxed().toList();
+        return Optional.of(new TeamPresenceDTO(dayStart, teamId, roster.orElseThrow().getLongCardinality(), playerIds));
+    }
+
+    /**
+     * Forget the roster of a team, now and again when the current transaction completes.
+     *
+     * @param teamId the id of the team.
+     */
+    public void evictRoster(Long teamId) {
+        rosterGeneration.incrementAndGet();
+        rosters.remove(teamId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        rosterGeneration.incrementAndGet();
+                        rosters.remove(teamId);
+                    }
+                }
+            );
+        }
+    }
+
+    private Optional<Roaring64Bitmap> roster(Long teamId) {
+        Roaring64Bitmap roster = rosters.get(teamId);
+        if (roster != null) {
+            return Optional.of(roster);
+        }
+        long generation = rosterGeneration.get();
+        List<Long> playerIds = teamRepository.findPlayerIds(teamId);
+        if (playerIds.isEmpty() && !teamRepository.existsById(teamId)) {
+            return Optional.empty();
+        }
+        roster = toBitmap(playerIds);
+        // A roster loaded while the team was changing may be stale, use it but do not keep it
+        if (rosterGeneration.get() == generation) {
+            rosters.put(teamId, roster);
+        }
+        return Optional.of(roster);
+    }
+
+    /**
+     * Get the players checked in on a day, loading them if needed. The bitmap must be read holding the lock on
+     * {@code days}, but not loaded: the lock is only taken to look it up and to publish it.
+     */
+    private Roaring64Bitmap day(Instant dayStart) {
+        synchronized (days) {
+            Roaring64Bitmap day = days.get(dayStart);
+            if (day != null) {
+                return day;
+            }
+        }
+        long generation = dayGeneration.get();
+        Roaring64Bitmap loaded = toBitmap(checkinDailyRollupRepository.findPlayerIds(dayStart));
+        synchronized (days) {
+            // A day loaded while checkins were changing may be stale, use it but do not keep it
+            if (dayGeneration.get() != generation) {
+                return days.getOrDefault(dayStart, loaded);
+            }
+            Roaring64Bitmap day = days.putIfAbsent(dayStart, loaded);
+            if (day != null) {
+                return day;
+            }
+            // Only the most recent days are kept, an older day is answered and dropped right away
+            while (days.size() > retainedDays) {
+                days.pollFirstEntry();
+            }
+            return loaded;
+        }
+    }
+
+    private static Roaring64Bitmap toBitmap(List<Long> playerIds) {
+        Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        playerIds.forEach(bitmap::addLong);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private double getSizeInBytes() {
+        long size = rosters.values().stream().mapToLong(Roaring64Bitmap::getLongSizeInBytes).sum();
+        synchronized (days) {
+            size += days.values().stream().mapToLong(Roaring64Bitmap::getLongSizeInBytes).sum();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,107 @@
+package com.myapp.service;
+
+import com.myapp.domain.Player;
+import com.myapp.domain.Player_;
+import com.myapp.domain.Team_;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.service.criteria.PlayerCriteria;
+import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.mapper.PlayerMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Player} entities in the database.
+ * The main input is a {@link PlayerCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link PlayerDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PlayerQueryService extends IndexedQueryService<Player> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlayerQueryService.class);
+
+    private final PlayerRepository playerRepository;
+
+    private final PlayerMapper playerMapper;
+
+    public PlayerQueryService(PlayerRepository playerRepository, PlayerMapper playerMapper) {
+        this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link PlayerDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     * @throws UnsupportedFilterException if a filter uses an operator that no index can serve.
+     */
+    @Transactional(readOnly = true)
+    public Page<PlayerDTO> findByCriteria(PlayerCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Player> specification = createSpecification(criteria);
+        Page<Player> players = playerRepository.findAll(specification, page);
+        RelationshipIds guardianIds = playerRepository.findGuardianIds(players.getContent());
+        RelationshipIds teamIds = playerRepository.findTeamIds(players.getContent());
+        return players.map(player -> playerMapper.toDto(player, guardianIds, teamIds));
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(PlayerCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Player> specification = createSpecification(criteria);
+        return playerRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link PlayerCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Player> createSpecification(PlayerCriteria criteria) {
+        Specification<Player> specification = Specification.where(null);
+        if (criteria != null) {
+            checkRangeFilter("id", criteria.getId());
+            checkPrefixFilter("lastName", criteria.getLastName());
+            checkEqualityFilter("gender", criteria.getGender());
+            checkRangeFilter("dateOfBirth", criteria.getDateOfBirth());
+            checkEqualityFilter("teamsId", criteria.getTeamsId());
+            boolean distinct = Boolean.TRUE.equals(criteria.getDistinct()) || needsDistinct(criteria.getTeamsId());
+            // This has to be called first, because the distinct method returns null
+            if (distinct) {
+                specification = specification.and(distinct(true));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Player_.id));
+            }
+            if (criteria.getLastName() != null) {
+                specification = specification.and(buildPrefixSpecification(criteria.getLastName(), Player_.lastName));
+            }
+            if (criteria.getGender() != null) {
+                specification = specification.and(buildSpecification(criteria.getGender(), Player_.gender));
+            }
+            if (criteria.getDateOfBirth() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDateOfBirth(), Player_.dateOfBirth));
+            }
+            if (criteria.getTeamsId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getTeamsId(), root -> root.join(Player_.teams).get(Team_.id))
+                );
+            }
+        }
+        return specification;
+    }
+}
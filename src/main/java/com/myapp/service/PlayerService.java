@@ -2,13 +2,23 @@ package com.myapp.service;
 
 import com.myapp.domain.Player;
 import com.myapp.repository.PlayerRepository;
+import com.myapp.repository.PlayerSummary;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.PlayerMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,13 +31,32 @@ public class PlayerService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PlayerService.class);
 
+    public static final int MAX_ROSTER_PAGE_SIZE = 1000;
+
+    /**
+     * Ends the length of the last name at the start of the keys of roster cursors. Names may contain any character,
+     * so the last name is delimited by its length rather than by a separator.
+     */
+    private static final String LENGTH_SEPARATOR = ":";
+
     private final PlayerRepository playerRepository;
 
     private final PlayerMapper playerMapper;
 
-    public PlayerService(PlayerRepository playerRepository, PlayerMapper playerMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public PlayerService(
+        PlayerRepository playerRepository,
+        PlayerMapper playerMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.playerRepository = playerRepository;
         this.playerMapper = playerMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +67,7 @@ public class PlayerService {
      */
     public PlayerDTO save(PlayerDTO playerDTO) {
         LOG.debug("Request to save Player : {}", playerDTO);
+        entityCountCache.invalidate(Player.class);
         Player player = playerMapper.toEntity(playerDTO);
         player = playerRepository.save(player);
         return playerMapper.toDto(player);
@@ -89,12 +119,144 @@ public class PlayerService {
     }
 
     /**
-     * Get all the players with eager load of many-to-many relationships.
+     * Get all the players, counting them as asked.
+     * <p>
+     * The ids of the guardians and teams of the page are read in one query per relationship, however large the page.
      *
-     * @return the list of entities.
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @param compactIds whether to give the ids of the relationships as arrays, see {@link PlayerMapper#toCompactDto}.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
      */
-    public Page<PlayerDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return playerRepository.findAllWithEagerRelationships(pageable).map(playerMapper::toDto);
+    @Transactional(readOnly = true)
+    public Slice<PlayerDTO> findAll(Pageable pageable, CountMode countMode, boolean compactIds) {
+        LOG.debug("Request to get all Players");
+        Slice<Player> players = entityCountCache.findPage(
+            Player.class,
+            pageable,
+            countMode,
+            playerRepository::findAll,
+            playerRepository::findAllBy,
+            playerRepository::count
+        );
+        RelationshipIds guardianIds = playerRepository.findGuardianIds(players.getContent());
+        RelationshipIds teamIds = playerRepository.findTeamIds(players.getContent());
+        return players.map(player -> toDto(player, guardianIds, teamIds, compactIds));
+    }
+
+    /**
+     * Get the summaries of all the players, see {@link PlayerSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PlayerDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Players");
+        return entityCountCache
+            .findPage(
+                Player.class,
+                pageable,
+                countMode,
+                playerRepository::findAllSummaries,
+                playerRepository::findAllSummariesBy,
+                playerRepository::count
+            )
+            .map(playerMapper::toDto);
+    }
+
+    /**
+     * Get a page of the players with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @param compactIds whether to give the ids of the relationships as arrays, see {@link PlayerMapper#toCompactDto}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerDTO> findAll(SeekCursor cursor, Sort sort, int size, boolean compactIds) {
+        LOG.debug("Request to get a page of Players with a cursor");
+        CursorPage<Player> players = seekPager.findPage(Player.class, cursor, sort, size);
+        RelationshipIds guardianIds = playerRepository.findGuardianIds(players.content());
+        RelationshipIds teamIds = playerRepository.findTeamIds(players.content());
+        return players.map(player -> toDto(player, guardianIds, teamIds, compactIds));
+    }
+
+    private static SeekCursor toCursor(PlayerSummary player) {
+        String lastName = player.lastName();
+        return new SeekCursor(lastName.length() + LENGTH_SEPARATOR + lastName + player.firstName(), player.id());
+    }
+
+    /**
+     * Split the key of a roster cursor, the length of the last name, then the last name and the first name, into the
+     * last name and the first name.
+     */
+    private static String[] toName(SeekCursor cursor) {
+        String key = cursor.key();
+        int separator = key.indexOf(LENGTH_SEPARATOR);
+        int lastNameLength;
+        try {
+            lastNameLength = separator > 0 ? Integer.parseInt(key.substring(0, separator)) : -1;
+        } catch (NumberFormatException e) {
+            lastNameLength = -1;
+        }
+        if (lastNameLength < 0 || lastNameLength > key.length() - separator - 1) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        int firstNameStart = separator + 1 + lastNameLength;
+        return new String[] { key.substring(separator + 1, firstNameStart), key.substring(firstNameStart) };
+    }
+
+    private PlayerDTO toDto(Player player, RelationshipIds guardianIds, RelationshipIds teamIds, boolean compactIds) {
+        return compactIds ? playerMapper.toCompactDto(player, guardianIds, teamIds) : playerMapper.toDto(player, guardianIds, teamIds);
+    }
+
+    /**
+     * Get a page of the roster of a team, sorted by last name, then first name, with seek pagination.
+     * <p>
+     * Without cursor the first players are returned. {@code after} moves to the following players, {@code before} to
+     * the preceding ones. The players are read from the join table, never by loading the collection of the team.
+     *
+     * @param teamId the id of the team.
+     * @param before the cursor of the first player already seen, or {@code null}.
+     * @param after the cursor of the last player already seen, or {@code null}.
+     * @param size the page size.
+     * @return the page of summaries, see {@link PlayerSummary}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerDTO> findRoster(Long teamId, SeekCursor before, SeekCursor after, int size) {
+        LOG.debug("Request to get the Players of Team : {}", teamId);
+        int pageSize = Math.max(1, Math.min(size, MAX_ROSTER_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<PlayerSummary> players;
+        boolean hasMore;
+        if (before != null) {
+            String[] name = toName(before);
+            players = new ArrayList<>(playerRepository.findRosterBefore(teamId, name[0], name[1], before.id(), limit));
+            hasMore = players.size() > pageSize;
+            players = players.subList(0, Math.min(pageSize, players.size()));
+            Collections.reverse(players);
+            return new CursorPage<>(
+                players.stream().map(playerMapper::toDto).toList(),
+                hasMore ? toCursor(players.get(0)) : null,
+                players.isEmpty() ? before : toCursor(players.get(players.size() - 1))
+            );
+        }
+        if (after != null) {
+            String[] name = toName(after);
+            players = playerRepository.findRosterAfter(teamId, name[0], name[1], after.id(), limit);
+        } else {
+            players = playerRepository.findRoster(teamId, limit);
+        }
+        hasMore = players.size() > pageSize;
+        players = players.subList(0, Math.min(pageSize, players.size()));
+        return new CursorPage<>(
+            players.stream().map(playerMapper::toDto).toList(),
+            after == null ? null : players.isEmpty() ? after : toCursor(players.get(0)),
+            hasMore ? toCursor(players.get(players.size() - 1)) : null
+        );
     }
 
     /**
@@ -109,6 +271,18 @@ public class PlayerService {
         return playerRepository.findOneWithEagerRelationships(id).map(playerMapper::toDto);
     }
 
+    /**
+     * Get the summary of one player by id, see {@link PlayerSummary}.
+     *
+     * @param id the id of the entity.
+     * @return the summary.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PlayerDTO> findOneSummary(Long id) {
+        LOG.debug("Request to get the summary of Player : {}", id);
+        return playerRepository.findSummaryById(id).map(playerMapper::toDto);
+    }
+
     /**
      * Delete the player by id.
      *
@@ -116,6 +290,7 @@ public class PlayerService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Player : {}", id);
+        entityCountCache.invalidate(Player.class);
         playerRepository.deleteById(id);
     }
 }
@@ -0,0 +1,174 @@
+package com.myapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * An in-memory index of the words of short labels, answering which labels have words starting with given prefixes.
+ * <p>
+ * Each word of a label, folded to lower case without accents, is a key of a sorted set, so the labels having a word
+ * starting with a prefix are a range of the set. The range of the longest word of a query is read in order until
+ * enough labels also match its other words. Reads take no lock; a label being replaced may briefly match by both its
+ * old and new words.
+ */
+public class PrefixIndex implements TextIndex {
+
+    /**
+     * A label and the id of its document.
+     *
+     * @param id the id of the document.
+     * @param label the label.
+     */
+    public record Entry(long id, String label) {}
+
+    private record Key(String word, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int comparison = word.compareTo(other.word);
+            return comparison != 0 ? comparison : Long.compare(id, other.id);
+        }
+    }
+
+    private record Document(String label, String[] words) {}
+
+    private static final String[] NO_WORDS = new String[0];
+
+    private final ConcurrentSkipListSet<Key> keys = new ConcurrentSkipListSet<>();
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Index a label, replacing the previous label of its document.
+     *
+     * @param id the id of the document.
+     * @param label the label, {@code null} or blank to remove the document.
+     */
+    @Override
+    public void put(long id, String label) {
+        String[] words = words(label);
+        if (words.length == 0) {
+            remove(id);
+            return;
+        }
+        Document previous = documents.put(id, new Document(label.strip(), words));
+        for (String word : words) {
+            keys.add(new Key(word, id));
+        }
+        if (previous != null) {
+            for (String word : previous.words()) {
+                if (!contains(words, word)) {
+                    keys.remove(new Key(word, id));
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove a document.
+     *
+     * @param id the id of the document.
+     */
+    @Override
+    public void remove(long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            for (String word : previous.words()) {
+                keys.remove(new Key(word, id));
+            }
+        }
+    }
+
+    /**
+     * Find the labels having, for each word of a query, a word starting with it.
+     *
+     * @param query the query, a few words or their beginnings.
+     * @param limit the maximum number of labels.
+     * @return the matching labels, in the order of their words matching the longest word of the query.
+     */
+    public List<Entry> search(String query, int limit) {
+        String[] prefixes = words(query);
+        if (prefixes.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String longest = prefixes[0];
+        for (String prefix : prefixes) {
+            if (prefix.length() > longest.length()) {
+                longest = prefix;
+            }
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        List<Entry> entries = new ArrayList<>();
+        for (Key key : keys.tailSet(new Key(longest, Long.MIN_VALUE))) {
+            if (!key.word().startsWith(longest) || entries.size() == limit) {
+                break;
+            }
+            Document document = documents.get(key.id());
+            if (document != null && ids.add(key.id()) && matchesAll(document.words(), prefixes)) {
+                entries.add(new Entry(key.id(), document.label()));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Get the label of a document.
+     *
+     * @param id the id of the document.
+     * @return the label, if the document is indexed.
+     */
+    public Optional<String> label(long id) {
+        return Optional.ofNullable(documents.get(id)).map(Document::label);
+    }
+
+    /**
+     * Get the number of indexed documents.
+     *
+     * @return the number of documents.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    private static boolean matchesAll(String[] words, String[] prefixes) {
+        for (String prefix : prefixes) {
+            boolean matched = false;
+            for (String word : words) {
+                if (word.startsWith(prefix)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(String[] words, String word) {
+        for (String candidate : words) {
+            if (candidate.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the distinct words of a text, folded as in {@link NgramIndex}.
+     */
+    static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return NO_WORDS;
+        }
+        String[] words = NgramIndex.fold(text).split("[^\\p{L}\\p{N}]+");
+        return Arrays.stream(words).filter(word -> !word.isEmpty()).distinct().toArray(String[]::new);
+    }
+}
@@ -0,0 +1,99 @@
+package com.myapp.service;
+
+import com.myapp.domain.Season;
+import com.myapp.domain.Season_;
+import com.myapp.repository.SeasonRepository;
+import com.myapp.service.criteria.SeasonCriteria;
+import com.myapp.service.dto.SeasonDTO;
+import com.myapp.service.mapper.SeasonMapper;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Season} entities in the database.
+ * The main input is a {@link SeasonCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link SeasonDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SeasonQueryService extends IndexedQueryService<Season> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeasonQueryService.class);
+
+    private final SeasonRepository seasonRepository;
+
+    private final SeasonMapper seasonMapper;
+
+    public SeasonQueryService(SeasonRepository seasonRepository, SeasonMapper seasonMapper) {
+        this.seasonRepository = seasonRepository;
+        this.seasonMapper = seasonMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link SeasonDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     * @throws UnsupportedFilterException if a filter uses an operator that no index can serve.
+     */
+    @Transactional(readOnly = true)
+    public Page<SeasonDTO> findByCriteria(SeasonCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Season> specification = createSpecification(criteria);
+        Page<Season> seasons = seasonRepository.findAll(specification, page);
+        List<Season> content = seasons.hasContent() ? seasonRepository.fetchToOneRelationships(seasons.getContent()) : seasons.getContent();
+        return new PageImpl<>(content, seasons.getPageable(), seasons.getTotalElements()).map(seasonMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(SeasonCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Season> specification = createSpecification(criteria);
+        return seasonRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link SeasonCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Season> createSpecification(SeasonCriteria criteria) {
+        Specification<Season> specification = Specification.where(null);
+        if (criteria != null) {
+            checkRangeFilter("id", criteria.getId());
+            checkEqualityFilter("status", criteria.getStatus());
+            checkRangeFilter("start", criteria.getStart());
+            checkRangeFilter("ends", criteria.getEnds());
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Season_.id));
+            }
+            if (criteria.getStatus() != null) {
+                specification = specification.and(buildSpecification(criteria.getStatus(), Season_.status));
+            }
+            if (criteria.getStart() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getStart(), Season_.start));
+            }
+            if (criteria.getEnds() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getEnds(), Season_.ends));
+            }
+        }
+        return specification;
+    }
+}
@@ -2,13 +2,20 @@ package com.myapp.service;
 
 import com.myapp.domain.Season;
 import com.myapp.repository.SeasonRepository;
+import com.myapp.repository.SeasonSummary;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.SeasonDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.mapper.SeasonMapper;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +32,20 @@ public class SeasonService {
 
     private final SeasonMapper seasonMapper;
 
-    public SeasonService(SeasonRepository seasonRepository, SeasonMapper seasonMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public SeasonService(
+        SeasonRepository seasonRepository,
+        SeasonMapper seasonMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.seasonRepository = seasonRepository;
         this.seasonMapper = seasonMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +56,7 @@ public class SeasonService {
      */
     public SeasonDTO save(SeasonDTO seasonDTO) {
         LOG.debug("Request to save Season : {}", seasonDTO);
+        entityCountCache.invalidate(Season.class);
         Season season = seasonMapper.toEntity(seasonDTO);
         season = seasonRepository.save(season);
         return seasonMapper.toDto(season);
@@ -97,6 +116,69 @@ public class SeasonService {
         return seasonRepository.findAllWithEagerRelationships(pageable).map(seasonMapper::toDto);
     }
 
+    /**
+     * Get all the seasons, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @param eagerload whether to load the many-to-many relationships.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<SeasonDTO> findAll(Pageable pageable, CountMode countMode, boolean eagerload) {
+        LOG.debug("Request to get all Seasons");
+        UnaryOperator<List<Season>> fetcher = eagerload ? this::fetchToOneRelationships : UnaryOperator.identity();
+        return entityCountCache
+            .findPage(
+                Season.class,
+                pageable,
+                countMode,
+                seasonRepository::findAll,
+                seasonRepository::findAllBy,
+                seasonRepository::count,
+                fetcher
+            )
+            .map(seasonMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the seasons, see {@link SeasonSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<SeasonDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Seasons");
+        return entityCountCache
+            .findPage(
+                Season.class,
+                pageable,
+                countMode,
+                seasonRepository::findAllSummaries,
+                seasonRepository::findAllSummariesBy,
+                seasonRepository::count
+            )
+            .map(seasonMapper::toDto);
+    }
+
+    /**
+     * Get a page of the seasons with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @param eagerload whether to load the many-to-many relationships.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<SeasonDTO> findAll(SeekCursor cursor, Sort sort, int size, boolean eagerload) {
+        LOG.debug("Request to get a page of Seasons with a cursor");
+        UnaryOperator<List<Season>> fetcher = eagerload ? this::fetchToOneRelationships : UnaryOperator.identity();
+        return seekPager.findPage(Season.class, cursor, sort, size, fetcher).map(seasonMapper::toDto);
+    }
+
     /**
      * Get one season by id.
      *
@@ -116,6 +198,15 @@ public class SeasonService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Season : {}", id);
+        entityCountCache.invalidate(Season.class);
         seasonRepository.deleteById(id);
     }
+
+    private List<Season> fetchToOneRelationships(List<Season> seasons) {
+        // Loads the relationships into the persistence context, so the seasons of the page keep their order
+        if (!seasons.isEmpty()) {
+            seasonRepository.fetchToOneRelationships(seasons);
+        }
+        return seasons;
+    }
 }
@@ -0,0 +1,166 @@
+package com.myapp.service;
+
+import com.myapp.repository.SeekQueryRepository;
+import com.myapp.repository.SeekRow;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the entities of the list endpoints page by page with seek pagination, see {@link SeekQueryRepository}.
+ * <p>
+ * Rows are sorted on one required attribute, then on the id. The first page takes its sort from the request,
+ * following pages from their cursor.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SeekPager {
+
+    public static final String DEFAULT_SORT = "id,asc";
+
+    private static final String ID = "id";
+
+    private final SeekQueryRepository seekQueryRepository;
+
+    public SeekPager(SeekQueryRepository seekQueryRepository) {
+        this.seekQueryRepository = seekQueryRepository;
+    }
+
+    /**
+     * Get a page of entities.
+     *
+     * @param domainClass the entity.
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @param <T> the type of the entity.
+     * @return the page of entities.
+     * @throws InvalidCursorException if the cursor is not one of a list endpoint, or the sort is not supported.
+     */
+    public <T> CursorPage<T> findPage(Class<T> domainClass, SeekCursor cursor, Sort sort, int size) {
+        return findPage(domainClass, cursor, sort, size, UnaryOperator.identity());
+    }
+
+    /**
+     * Get a page of entities.
+     *
+     * @param domainClass the entity.
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @param fetcher loads the relationships of the entities of the page, keeping their order.
+     * @param <T> the type of the entity.
+     * @return the page of entities.
+     * @throws InvalidCursorException if the cursor is not one of a list endpoint, or the sort is not supported.
+     */
+    public <T> CursorPage<T> findPage(Class<T> domainClass, SeekCursor cursor, Sort sort, int size, UnaryOperator<List<T>> fetcher) {
+        String order = cursor != null ? cursor.sort() : toOrder(sort);
+        if (order == null) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        int comma = order.indexOf(',');
+        String attribute = comma < 0 ? order : order.substring(0, comma);
+        boolean descending = comma >= 0 && Sort.Direction.DESC.name().equalsIgnoreCase(order.substring(comma + 1));
+        Class<?> keyType = seekQueryRepository
+            .findKeyType(domainClass, attribute)
+            .filter(SeekPager::isSupported)
+            .orElseThrow(() -> new InvalidCursorException("Cannot paginate with a cursor on " + attribute));
+        int pageSize = Math.max(1, size);
+        boolean backward = cursor != null && cursor.backward();
+        List<SeekRow<T>> rows = new ArrayList<>(
+            seekQueryRepository.findAfter(
+                domainClass,
+                attribute,
+                descending != backward,
+                cursor != null ? parseKey(cursor.key(), keyType) : null,
+                cursor != null ? cursor.id() : null,
+                pageSize + 1
+            )
+        );
+        boolean hasMore = rows.size() > pageSize;
+        rows = rows.subList(0, Math.min(pageSize, rows.size()));
+        if (backward) {
+            Collections.reverse(rows);
+        }
+        List<T> content = fetcher.apply(rows.stream().map(SeekRow::entity).toList());
+        if (rows.isEmpty()) {
+            return new CursorPage<>(content, null, null);
+        }
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+        boolean hasNext = backward || hasMore;
+        return new CursorPage<>(
+            content,
+            hasPrevious ? toCursor(order, rows.get(0), true) : null,
+            hasNext ? toCursor(order, rows.get(rows.size() - 1), false) : null
+        );
+    }
+
+    private static String toOrder(Sort sort) {
+        List<Sort.Order> orders = sort.stream().toList();
+        if (orders.isEmpty()) {
+            return DEFAULT_SORT;
+        }
+        Sort.Order first = orders.get(0);
+        boolean tieBreaker =
+            orders.size() == 1 ||
+            (orders.size() == 2 && ID.equals(orders.get(1).getProperty()) && orders.get(1).getDirection() == first.getDirection());
+        if (!tieBreaker) {
+            throw new InvalidCursorException("Cursor pagination sorts on one attribute only");
+        }
+        return first.getProperty() + "," + first.getDirection().name().toLowerCase(Locale.ROOT);
+    }
+
+    private static SeekCursor toCursor(String order, SeekRow<?> row, boolean backward) {
+        Object key = row.key();
+        return new SeekCursor(order, key instanceof Enum<?> value ? value.name() : String.valueOf(key), row.id(), backward);
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        return (
+            type == String.class ||
+            type == Long.class ||
+            type == Integer.class ||
+            type == BigDecimal.class ||
+            type == Boolean.class ||
+            type == Instant.class ||
+            type == LocalDate.class ||
+            type == LocalDateTime.class ||
+            type == ZonedDateTime.class ||
+            type == UUID.class ||
+            type.isEnum()
+        );
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object parseKey(String key, Class<?> type) {
+        try {
+            if (type == String.class) return key;
+            if (type == Long.class) return Long.valueOf(key);
+            if (type == Integer.class) return Integer.valueOf(key);
+            if (type == BigDecimal.class) return new BigDecimal(key);
+            if (type == Boolean.class) return Boolean.valueOf(key);
+            if (type == Instant.class) return Instant.parse(key);
+            if (type == LocalDate.class) return LocalDate.parse(key);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(key);
+            if (type == ZonedDateTime.class) return ZonedDateTime.parse(key);
+            if (type == UUID.class) return UUID.fromString(key);
+            return Enum.valueOf((Class<? extends Enum>) type, key);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.myapp.service;
+
+import com.myapp.domain.Player_;
+import com.myapp.domain.Team;
+import com.myapp.domain.Team_;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.repository.TeamRepository;
+import com.myapp.service.criteria.TeamCriteria;
+import com.myapp.service.dto.TeamDTO;
+import com.myapp.service.mapper.TeamMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Team} entities in the database.
+ * The main input is a {@link TeamCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link TeamDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TeamQueryService extends IndexedQueryService<Team> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TeamQueryService.class);
+
+    private final TeamRepository teamRepository;
+
+    private final TeamMapper teamMapper;
+
+    public TeamQueryService(TeamRepository teamRepository, TeamMapper teamMapper) {
+        this.teamRepository = teamRepository;
+        this.teamMapper = teamMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link TeamDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     * @throws UnsupportedFilterException if a filter uses an operator that no index can serve.
+     */
+    @Transactional(readOnly = true)
+    public Page<TeamDTO> findByCriteria(TeamCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Team> specification = createSpecification(criteria);
+        Page<Team> teams = teamRepository.findAll(specification, page);
+        RelationshipIds playerIds = teamRepository.findPlayerIds(teams.getContent());
+        return teams.map(team -> teamMapper.toDto(team, playerIds));
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(TeamCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Team> specification = createSpecification(criteria);
+        return teamRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link TeamCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Team> createSpecification(TeamCriteria criteria) {
+        Specification<Team> specification = Specification.where(null);
+        if (criteria != null) {
+            checkRangeFilter("id", criteria.getId());
+            checkPrefixFilter("name", criteria.getName());
+            checkEqualityFilter("playersId", criteria.getPlayersId());
+            boolean distinct = Boolean.TRUE.equals(criteria.getDistinct()) || needsDistinct(criteria.getPlayersId());
+            // This has to be called first, because the distinct method returns null
+            if (distinct) {
+                specification = specification.and(distinct(true));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Team_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildPrefixSpecification(criteria.getName(), Team_.name));
+            }
+            if (criteria.getPlayersId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getPlayersId(), root -> root.join(Team_.players).get(Player_.id))
+                );
+            }
+        }
+        return specification;
+    }
+}
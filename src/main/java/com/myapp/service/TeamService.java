@@ -1,14 +1,21 @@
 package com.myapp.service;
 
 import com.myapp.domain.Team;
+import com.myapp.repository.RelationshipIds;
 import com.myapp.repository.TeamRepository;
+import com.myapp.repository.TeamSummary;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.dto.TeamDTO;
 import com.myapp.service.mapper.TeamMapper;
+import java.util.HashSet;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +32,24 @@ public class TeamService {
 
     private final TeamMapper teamMapper;
 
-    public TeamService(TeamRepository teamRepository, TeamMapper teamMapper) {
+    private final PlayerPresenceService playerPresenceService;
+
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public TeamService(
+        TeamRepository teamRepository,
+        TeamMapper teamMapper,
+        PlayerPresenceService playerPresenceService,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.teamRepository = teamRepository;
         this.teamMapper = teamMapper;
+        this.playerPresenceService = playerPresenceService;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,21 +60,36 @@ public class TeamService {
      */
     public TeamDTO save(TeamDTO teamDTO) {
         LOG.debug("Request to save Team : {}", teamDTO);
+        entityCountCache.invalidate(Team.class);
         Team team = teamMapper.toEntity(teamDTO);
+        if (team.getPlayers() == null) {
+            // A new team created without players has an empty roster
+            team.setPlayers(new HashSet<>());
+        }
         team = teamRepository.save(team);
         return teamMapper.toDto(team);
     }
 
     /**
      * Update a team.
+     * <p>
+     * Without players, as the details carry none, the roster is kept as it is, without being loaded.
      *
      * @param teamDTO the entity to save.
      * @return the persisted entity.
      */
     public TeamDTO update(TeamDTO teamDTO) {
         LOG.debug("Request to update Team : {}", teamDTO);
+        if (teamDTO.getPlayers() == null) {
+            Team team = teamRepository.getReferenceById(teamDTO.getId());
+            team.setName(teamDTO.getName());
+            TeamDTO result = teamMapper.toDtoWithoutRelationships(teamRepository.save(team));
+            result.setPlayers(null);
+            return result;
+        }
         Team team = teamMapper.toEntity(teamDTO);
         team = teamRepository.save(team);
+        playerPresenceService.evictRoster(team.getId());
         return teamMapper.toDto(team);
     }
 
@@ -69,6 +106,7 @@ public class TeamService {
             .findById(teamDTO.getId())
             .map(existingTeam -> {
                 teamMapper.partialUpdate(existingTeam, teamDTO);
+                playerPresenceService.evictRoster(existingTeam.getId());
 
                 return existingTeam;
             })
@@ -89,16 +127,72 @@ public class TeamService {
     }
 
     /**
-     * Get all the teams with eager load of many-to-many relationships.
+     * Get all the teams, counting them as asked.
+     * <p>
+     * The ids of the players of the page are read in one query, however large the page.
      *
-     * @return the list of entities.
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @param compactIds whether to give the ids of the players as arrays, see {@link TeamMapper#toCompactDto}.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
      */
-    public Page<TeamDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return teamRepository.findAllWithEagerRelationships(pageable).map(teamMapper::toDto);
+    @Transactional(readOnly = true)
+    public Slice<TeamDTO> findAll(Pageable pageable, CountMode countMode, boolean compactIds) {
+        LOG.debug("Request to get all Teams");
+        Slice<Team> teams = entityCountCache.findPage(
+            Team.class,
+            pageable,
+            countMode,
+            teamRepository::findAll,
+            teamRepository::findAllBy,
+            teamRepository::count
+        );
+        RelationshipIds playerIds = teamRepository.findPlayerIds(teams.getContent());
+        return teams.map(team -> compactIds ? teamMapper.toCompactDto(team, playerIds) : teamMapper.toDto(team, playerIds));
+    }
+
+    /**
+     * Get the summaries of all the teams, see {@link TeamSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TeamDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Teams");
+        return entityCountCache
+            .findPage(
+                Team.class,
+                pageable,
+                countMode,
+                teamRepository::findAllSummaries,
+                teamRepository::findAllSummariesBy,
+                teamRepository::count
+            )
+            .map(teamMapper::toDto);
     }
 
     /**
-     * Get one team by id.
+     * Get a page of the teams with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @param compactIds whether to give the ids of the players as arrays, see {@link TeamMapper#toCompactDto}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TeamDTO> findAll(SeekCursor cursor, Sort sort, int size, boolean compactIds) {
+        LOG.debug("Request to get a page of Teams with a cursor");
+        CursorPage<Team> teams = seekPager.findPage(Team.class, cursor, sort, size);
+        RelationshipIds playerIds = teamRepository.findPlayerIds(teams.content());
+        return teams.map(team -> compactIds ? teamMapper.toCompactDto(team, playerIds) : teamMapper.toDto(team, playerIds));
+    }
+
+    /**
+     * Get the details of one team by id: its summary and its number of players, counted by an aggregate query. The
+     * roster is not read, see {@link PlayerService#findRoster}.
      *
      * @param id the id of the entity.
      * @return the entity.
@@ -106,7 +200,26 @@ public class TeamService {
     @Transactional(readOnly = true)
     public Optional<TeamDTO> findOne(Long id) {
         LOG.debug("Request to get Team : {}", id);
-        return teamRepository.findOneWithEagerRelationships(id).map(teamMapper::toDto);
+        return teamRepository
+            .findSummaryById(id)
+            .map(teamMapper::toDto)
+            .map(teamDTO -> {
+                teamDTO.setPlayers(null);
+                teamDTO.setPlayerCount(teamRepository.countPlayers(id));
+                return teamDTO;
+            });
+    }
+
+    /**
+     * Get the summary of one team by id, see {@link TeamSummary}.
+     *
+     * @param id the id of the entity.
+     * @return the summary.
+     */
+    @Transactional(readOnly = true)
+    public Optional<TeamDTO> findOneSummary(Long id) {
+        LOG.debug("Request to get the summary of Team : {}", id);
+        return teamRepository.findSummaryById(id).map(teamMapper::toDto);
     }
 
     /**
@@ -116,6 +229,8 @@ public class TeamService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Team : {}", id);
+        entityCountCache.invalidate(Team.class);
         teamRepository.deleteById(id);
+        playerPresenceService.evictRoster(id);
     }
 }
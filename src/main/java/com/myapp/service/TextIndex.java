@@ -0,0 +1,21 @@
+package com.myapp.service;
+
+/**
+ * An in-memory index of the text of documents identified by ids, kept current by the {@link CommittedEntityIndexer}.
+ */
+public interface TextIndex {
+    /**
+     * Index a document, replacing its previous text.
+     *
+     * @param id the id of the document.
+     * @param text the text, {@code null} or blank to remove the document.
+     */
+    void put(long id, String text);
+
+    /**
+     * Remove a document.
+     *
+     * @param id the id of the document.
+     */
+    void remove(long id);
+}
@@ -2,6 +2,9 @@ package com.myapp.service;
 
 import com.myapp.domain.Tournament;
 import com.myapp.repository.TournamentRepository;
+import com.myapp.repository.TournamentSummary;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.dto.TournamentDTO;
 import com.myapp.service.mapper.TournamentMapper;
 import java.util.Optional;
@@ -9,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,20 @@ public class TournamentService {
 
     private final TournamentMapper tournamentMapper;
 
-    public TournamentService(TournamentRepository tournamentRepository, TournamentMapper tournamentMapper) {
+    private final SeekPager seekPager;
+
+    private final EntityCountCache entityCountCache;
+
+    public TournamentService(
+        TournamentRepository tournamentRepository,
+        TournamentMapper tournamentMapper,
+        SeekPager seekPager,
+        EntityCountCache entityCountCache
+    ) {
         this.tournamentRepository = tournamentRepository;
         this.tournamentMapper = tournamentMapper;
+        this.seekPager = seekPager;
+        this.entityCountCache = entityCountCache;
     }
 
     /**
@@ -38,6 +54,7 @@ public class TournamentService {
      */
     public TournamentDTO save(TournamentDTO tournamentDTO) {
         LOG.debug("Request to save Tournament : {}", tournamentDTO);
+        entityCountCache.invalidate(Tournament.class);
         Tournament tournament = tournamentMapper.toEntity(tournamentDTO);
         tournament = tournamentRepository.save(tournament);
         return tournamentMapper.toDto(tournament);
@@ -88,6 +105,64 @@ public class TournamentService {
         return tournamentRepository.findAll(pageable).map(tournamentMapper::toDto);
     }
 
+    /**
+     * Get all the tournaments, counting them as asked.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of entities if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TournamentDTO> findAll(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get all Tournaments");
+        return entityCountCache
+            .findPage(
+                Tournament.class,
+                pageable,
+                countMode,
+                tournamentRepository::findAll,
+                tournamentRepository::findAllBy,
+                tournamentRepository::count
+            )
+            .map(tournamentMapper::toDto);
+    }
+
+    /**
+     * Get the summaries of all the tournaments, see {@link TournamentSummary}.
+     *
+     * @param pageable the pagination information.
+     * @param countMode how to count the entities.
+     * @return a {@link Page} of summaries if they were counted, a {@link Slice} otherwise.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TournamentDTO> findAllSummaries(Pageable pageable, CountMode countMode) {
+        LOG.debug("Request to get the summaries of all Tournaments");
+        return entityCountCache
+            .findPage(
+                Tournament.class,
+                pageable,
+                countMode,
+                tournamentRepository::findAllSummaries,
+                tournamentRepository::findAllSummariesBy,
+                tournamentRepository::count
+            )
+            .map(tournamentMapper::toDto);
+    }
+
+    /**
+     * Get a page of the tournaments with seek pagination, see {@link SeekPager}.
+     *
+     * @param cursor the cursor of the page, or {@code null} for the first page.
+     * @param sort the sort of the first page.
+     * @param size the page size.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TournamentDTO> findAll(SeekCursor cursor, Sort sort, int size) {
+        LOG.debug("Request to get a page of Tournaments with a cursor");
+        return seekPager.findPage(Tournament.class, cursor, sort, size).map(tournamentMapper::toDto);
+    }
+
     /**
      * Get one tournament by id.
      *
@@ -107,6 +182,7 @@ public class TournamentService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Tournament : {}", id);
+        entityCountCache.invalidate(Tournament.class);
         tournamentRepository.deleteById(id);
     }
 }
@@ -0,0 +1,209 @@
+package com.myapp.service;
+
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Player;
+import com.myapp.domain.Team;
+import com.myapp.repository.GuardianRepository;
+import com.myapp.repository.PersonName;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.repository.TeamRepository;
+import com.myapp.service.dto.TypeaheadOptionDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service offering players, guardians and teams to the relationship pickers, by the beginnings of the words of their
+ * labels, from {@link PrefixIndex}es kept in memory.
+ * <p>
+ * The indexes are loaded once the application is ready, then kept current from the committed changes by the
+ * {@link CommittedEntityIndexer}.
+ */
+@Service
+public class TypeaheadService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TypeaheadService.class);
+
+    public static final String LABELS_METER_NAME = "typeahead.labels";
+
+    /**
+     * Maximum number of options returned at once.
+     */
+    public static final int MAX_LIMIT = 50;
+
+    /**
+     * Maximum number of ids whose options are returned at once, enough for the roster of a team.
+     */
+    public static final int MAX_IDS = 1000;
+
+    private static final long LOAD_BATCH_SIZE = 10000;
+
+    private final PlayerRepository playerRepository;
+
+    private final GuardianRepository guardianRepository;
+
+    private final TeamRepository teamRepository;
+
+    private final PrefixIndex playerIndex = new PrefixIndex();
+
+    private final PrefixIndex guardianIndex = new PrefixIndex();
+
+    private final PrefixIndex teamIndex = new PrefixIndex();
+
+    private final CommittedEntityIndexer.IndexedEntity<Player> indexedPlayers;
+
+    private final CommittedEntityIndexer.IndexedEntity<Guardian> indexedGuardians;
+
+    private final CommittedEntityIndexer.IndexedEntity<Team> indexedTeams;
+
+    public TypeaheadService(
+        PlayerRepository playerRepository,
+        GuardianRepository guardianRepository,
+        TeamRepository teamRepository,
+        CommittedEntityIndexer committedEntityIndexer,
+        MeterRegistry meterRegistry
+    ) {
+        this.playerRepository = playerRepository;
+        this.guardianRepository = guardianRepository;
+        this.teamRepository = teamRepository;
+        this.indexedPlayers = committedEntityIndexer.register(
+            "player typeahead",
+            Player.class,
+            Player::getId,
+            PersonName::fullName,
+            playerIndex
+        );
+        this.indexedGuardians = committedEntityIndexer.register(
+            "guardian typeahead",
+            Guardian.class,
+            Guardian::getId,
+            PersonName::fullName,
+            guardianIndex
+        );
+        this.indexedTeams = committedEntityIndexer.register("team typeahead", Team.class, Team::getId, Team::getName, teamIndex);
+        registerMeter(meterRegistry, "player", playerIndex);
+        registerMeter(meterRegistry, "guardian", guardianIndex);
+        registerMeter(meterRegistry, "team", teamIndex);
+    }
+
+    /**
+     * Load the indexes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        // The labels are read one range after the other, on the calling thread
+        int players = indexedPlayers.load(
+            Runnable::run,
+            playerRepository::findMinId,
+            playerRepository::findMaxId,
+            LOAD_BATCH_SIZE,
+            (from, to) -> playerRepository.findNamesByIdRange(from, to).stream().map(PersonName::toLabel).toList()
+        );
+        int guardians = indexedGuardians.load(
+            Runnable::run,
+            guardianRepository::findMinId,
+            guardianRepository::findMaxId,
+            LOAD_BATCH_SIZE,
+            (from, to) -> guardianRepository.findNamesByIdRange(from, to).stream().map(PersonName::toLabel).toList()
+        );
+        int teams = indexedTeams.load(
+            Runnable::run,
+            teamRepository::findMinId,
+            teamRepository::findMaxId,
+            LOAD_BATCH_SIZE,
+            teamRepository::findLabelsByIdRange
+        );
+        LOG.info("Loaded the typeahead labels of {} players, {} guardians and {} teams", players, guardians, teams);
+    }
+
+    /**
+     * Find the players whose names have words starting with the words of a query.
+     *
+     * @param query the beginnings of the words.
+     * @param limit the maximum number of options, capped at {@link #MAX_LIMIT}.
+     * @return the options, ordered by the word matching the longest word of the query.
+     */
+    public List<TypeaheadOptionDTO> searchPlayers(String query, int limit) {
+        return search(playerIndex, query, limit);
+    }
+
+    /**
+     * Find the guardians whose names have words starting with the words of a query.
+     *
+     * @param query the beginnings of the words.
+     * @param limit the maximum number of options, capped at {@link #MAX_LIMIT}.
+     * @return the options, ordered by the word matching the longest word of the query.
+     */
+    public List<TypeaheadOptionDTO> searchGuardians(String query, int limit) {
+        return search(guardianIndex, query, limit);
+    }
+
+    /**
+     * Find the teams whose names have words starting with the words of a query.
+     *
+     * @param query the beginnings of the words.
+     * @param limit the maximum number of options, capped at {@link #MAX_LIMIT}.
+     * @return the options, ordered by the word matching the longest word of the query.
+     */
+    public List<TypeaheadOptionDTO> searchTeams(String query, int limit) {
+        return search(teamIndex, query, limit);
+    }
+
+    /**
+     * Get the options of players, to display the current values of a picker.
+     *
+     * @param ids the ids of the players, at most {@link #MAX_IDS}.
+     * @return the options of the players that exist, in the order of the ids.
+     */
+    public List<TypeaheadOptionDTO> findPlayers(Collection<Long> ids) {
+        return find(playerIndex, ids);
+    }
+
+    /**
+     * Get the options of guardians, to display the current values of a picker.
+     *
+     * @param ids the ids of the guardians, at most {@link #MAX_IDS}.
+     * @return the options of the guardians that exist, in the order of the ids.
+     */
+    public List<TypeaheadOptionDTO> findGuardians(Collection<Long> ids) {
+        return find(guardianIndex, ids);
+    }
+
+    /**
+     * Get the options of teams, to display the current values of a picker.
+     *
+     * @param ids the ids of the teams, at most {@link #MAX_IDS}.
+     * @return the options of the teams that exist, in the order of the ids.
+     */
+    public List<TypeaheadOptionDTO> findTeams(Collection<Long> ids) {
+        return find(teamIndex, ids);
+    }
+
+    private static List<TypeaheadOptionDTO> search(PrefixIndex index, String query, int limit) {
+        return index
+            .search(query, Math.min(limit, MAX_LIMIT))
+            .stream()
+            .map(entry -> new TypeaheadOptionDTO(entry.id(), entry.label()))
+            .toList();
+    }
+
+    private static List<TypeaheadOptionDTO> find(PrefixIndex index, Collection<Long> ids) {
+        Function<Long, Optional<TypeaheadOptionDTO>> option = id -> index.label(id).map(label -> new TypeaheadOptionDTO(id, label));
+        return ids.stream().distinct().limit(MAX_IDS).map(option).flatMap(Optional::stream).toList();
+    }
+
+    private static void registerMeter(MeterRegistry meterRegistry, String entity, PrefixIndex index) {
+        Gauge.builder(LABELS_METER_NAME, index, PrefixIndex::size)
+            .description("Labels in the typeahead indexes")
+            .tag("entity", entity)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package com.myapp.service;
+
+/**
+ * Thrown when a list filter uses an operator that no index can serve, see {@link IndexedQueryService}.
+ */
+public class UnsupportedFilterException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedFilterException(String message) {
+        super(message);
+    }
+}
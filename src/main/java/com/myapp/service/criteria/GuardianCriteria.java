@@ -0,0 +1,162 @@
+package com.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.myapp.domain.Guardian} entity. This class is used
+ * in {@link com.myapp.web.rest.GuardianResource} to receive the filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /guardians?lastName.startsWith=Smi&dateOfBirth.lessThan=1990-01-01}
+ * Only the filters backed by an index are declared, see {@link com.myapp.service.IndexedQueryService}.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class GuardianCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private PrefixFilter lastName;
+
+    private LocalDateFilter dateOfBirth;
+
+    private Boolean distinct;
+
+    public GuardianCriteria() {}
+
+    public GuardianCriteria(GuardianCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.lastName = other.optionalLastName().map(PrefixFilter::copy).orElse(null);
+        this.dateOfBirth = other.optionalDateOfBirth().map(LocalDateFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public GuardianCriteria copy() {
+        return new GuardianCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public PrefixFilter getLastName() {
+        return lastName;
+    }
+
+    public Optional<PrefixFilter> optionalLastName() {
+        return Optional.ofNullable(lastName);
+    }
+
+    public PrefixFilter lastName() {
+        if (lastName == null) {
+            setLastName(new PrefixFilter());
+        }
+        return lastName;
+    }
+
+    public void setLastName(PrefixFilter lastName) {
+        this.lastName = lastName;
+    }
+
+    public LocalDateFilter getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public Optional<LocalDateFilter> optionalDateOfBirth() {
+        return Optional.ofNullable(dateOfBirth);
+    }
+
+    public LocalDateFilter dateOfBirth() {
+        if (dateOfBirth == null) {
+            setDateOfBirth(new LocalDateFilter());
+        }
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(LocalDateFilter dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * Whether any filter is set.
+     *
+     * @return {@code false} if the criteria match all the entities.
+     */
+    public boolean hasFilters() {
+        return id != null || lastName != null || dateOfBirth != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final GuardianCriteria that = (GuardianCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(lastName, that.lastName) &&
+            Objects.equals(dateOfBirth, that.dateOfBirth) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, lastName, dateOfBirth, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "GuardianCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalLastName().map(f -> "lastName=" + f + ", ").orElse("") +
+            optionalDateOfBirth().map(f -> "dateOfBirth=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
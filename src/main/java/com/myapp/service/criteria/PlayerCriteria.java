@@ -0,0 +1,228 @@
+package com.myapp.service.criteria;
+
+import com.myapp.domain.enumeration.Gender;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.myapp.domain.Player} entity. This class is used
+ * in {@link com.myapp.web.rest.PlayerResource} to receive the filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /players?lastName.startsWith=Smi&gender.equals=FEMALE&dateOfBirth.greaterThanOrEqual=2014-01-01}
+ * Only the filters backed by an index are declared, see {@link com.myapp.service.IndexedQueryService}.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PlayerCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering Gender
+     */
+    public static class GenderFilter extends Filter<Gender> {
+
+        public GenderFilter() {}
+
+        public GenderFilter(GenderFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public GenderFilter copy() {
+            return new GenderFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private PrefixFilter lastName;
+
+    private GenderFilter gender;
+
+    private LocalDateFilter dateOfBirth;
+
+    private LongFilter teamsId;
+
+    private Boolean distinct;
+
+    public PlayerCriteria() {}
+
+    public PlayerCriteria(PlayerCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.lastName = other.optionalLastName().map(PrefixFilter::copy).orElse(null);
+        this.gender = other.optionalGender().map(GenderFilter::copy).orElse(null);
+        this.dateOfBirth = other.optionalDateOfBirth().map(LocalDateFilter::copy).orElse(null);
+        this.teamsId = other.optionalTeamsId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public PlayerCriteria copy() {
+        return new PlayerCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public PrefixFilter getLastName() {
+        return lastName;
+    }
+
+    public Optional<PrefixFilter> optionalLastName() {
+        return Optional.ofNullable(lastName);
+    }
+
+    public PrefixFilter lastName() {
+        if (lastName == null) {
+            setLastName(new PrefixFilter());
+        }
+        return lastName;
+    }
+
+    public void setLastName(PrefixFilter lastName) {
+        this.lastName = lastName;
+    }
+
+    public GenderFilter getGender() {
+        return gender;
+    }
+
+    public Optional<GenderFilter> optionalGender() {
+        return Optional.ofNullable(gender);
+    }
+
+    public GenderFilter gender() {
+        if (gender == null) {
+            setGender(new GenderFilter());
+        }
+        return gender;
+    }
+
+    public void setGender(GenderFilter gender) {
+        this.gender = gender;
+    }
+
+    public LocalDateFilter getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public Optional<LocalDateFilter> optionalDateOfBirth() {
+        return Optional.ofNullable(dateOfBirth);
+    }
+
+    public LocalDateFilter dateOfBirth() {
+        if (dateOfBirth == null) {
+            setDateOfBirth(new LocalDateFilter());
+        }
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(LocalDateFilter dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    public LongFilter getTeamsId() {
+        return teamsId;
+    }
+
+    public Optional<LongFilter> optionalTeamsId() {
+        return Optional.ofNullable(teamsId);
+    }
+
+    public LongFilter teamsId() {
+        if (teamsId == null) {
+            setTeamsId(new LongFilter());
+        }
+        return teamsId;
+    }
+
+    public void setTeamsId(LongFilter teamsId) {
+        this.teamsId = teamsId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * Whether any filter is set.
+     *
+     * @return {@code false} if the criteria match all the entities.
+     */
+    public boolean hasFilters() {
+        return id != null || lastName != null || gender != null || dateOfBirth != null || teamsId != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PlayerCriteria that = (PlayerCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(lastName, that.lastName) &&
+            Objects.equals(gender, that.gender) &&
+            Objects.equals(dateOfBirth, that.dateOfBirth) &&
+            Objects.equals(teamsId, that.teamsId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, lastName, gender, dateOfBirth, teamsId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PlayerCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalLastName().map(f -> "lastName=" + f + ", ").orElse("") +
+            optionalGender().map(f -> "gender=" + f + ", ").orElse("") +
+            optionalDateOfBirth().map(f -> "dateOfBirth=" + f + ", ").orElse("") +
+            optionalTeamsId().map(f -> "teamsId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,204 @@
+package com.myapp.service.criteria;
+
+import com.myapp.domain.enumeration.CompetitionStatus;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.myapp.domain.Season} entity. This class is used
+ * in {@link com.myapp.web.rest.SeasonResource} to receive the filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /seasons?status.equals=ACTIVE&start.lessThan=2026-09-01T00:00:00Z&ends.greaterThan=2026-06-01T00:00:00Z}
+ * Only the filters backed by an index are declared, see {@link com.myapp.service.IndexedQueryService}.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SeasonCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering CompetitionStatus
+     */
+    public static class CompetitionStatusFilter extends Filter<CompetitionStatus> {
+
+        public CompetitionStatusFilter() {}
+
+        public CompetitionStatusFilter(CompetitionStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public CompetitionStatusFilter copy() {
+            return new CompetitionStatusFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private CompetitionStatusFilter status;
+
+    private InstantFilter start;
+
+    private InstantFilter ends;
+
+    private Boolean distinct;
+
+    public SeasonCriteria() {}
+
+    public SeasonCriteria(SeasonCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.status = other.optionalStatus().map(CompetitionStatusFilter::copy).orElse(null);
+        this.start = other.optionalStart().map(InstantFilter::copy).orElse(null);
+        this.ends = other.optionalEnds().map(InstantFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public SeasonCriteria copy() {
+        return new SeasonCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public CompetitionStatusFilter getStatus() {
+        return status;
+    }
+
+    public Optional<CompetitionStatusFilter> optionalStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public CompetitionStatusFilter status() {
+        if (status == null) {
+            setStatus(new CompetitionStatusFilter());
+        }
+        return status;
+    }
+
+    public void setStatus(CompetitionStatusFilter status) {
+        this.status = status;
+    }
+
+    public InstantFilter getStart() {
+        return start;
+    }
+
+    public Optional<InstantFilter> optionalStart() {
+        return Optional.ofNullable(start);
+    }
+
+    public InstantFilter start() {
+        if (start == null) {
+            setStart(new InstantFilter());
+        }
+        return start;
+    }
+
+    public void setStart(InstantFilter start) {
+        this.start = start;
+    }
+
+    public InstantFilter getEnds() {
+        return ends;
+    }
+
+    public Optional<InstantFilter> optionalEnds() {
+        return Optional.ofNullable(ends);
+    }
+
+    public InstantFilter ends() {
+        if (ends == null) {
+            setEnds(new InstantFilter());
+        }
+        return ends;
+    }
+
+    public void setEnds(InstantFilter ends) {
+        this.ends = ends;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * Whether any filter is set.
+     *
+     * @return {@code false} if the criteria match all the entities.
+     */
+    public boolean hasFilters() {
+        return id != null || status != null || start != null || ends != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SeasonCriteria that = (SeasonCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(start, that.start) &&
+            Objects.equals(ends, that.ends) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, start, ends, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SeasonCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
+            optionalStart().map(f -> "start=" + f + ", ").orElse("") +
+            optionalEnds().map(f -> "ends=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,162 @@
+package com.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.myapp.domain.Team} entity. This class is used
+ * in {@link com.myapp.web.rest.TeamResource} to receive the filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /teams?name.startsWith=U12&playersId.equals=1501}
+ * Only the filters backed by an index are declared, see {@link com.myapp.service.IndexedQueryService}.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TeamCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private PrefixFilter name;
+
+    private LongFilter playersId;
+
+    private Boolean distinct;
+
+    public TeamCriteria() {}
+
+    public TeamCriteria(TeamCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.name = other.optionalName().map(PrefixFilter::copy).orElse(null);
+        this.playersId = other.optionalPlayersId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public TeamCriteria copy() {
+        return new TeamCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public PrefixFilter getName() {
+        return name;
+    }
+
+    public Optional<PrefixFilter> optionalName() {
+        return Optional.ofNullable(name);
+    }
+
+    public PrefixFilter name() {
+        if (name == null) {
+            setName(new PrefixFilter());
+        }
+        return name;
+    }
+
+    public void setName(PrefixFilter name) {
+        this.name = name;
+    }
+
+    public LongFilter getPlayersId() {
+        return playersId;
+    }
+
+    public Optional<LongFilter> optionalPlayersId() {
+        return Optional.ofNullable(playersId);
+    }
+
+    public LongFilter playersId() {
+        if (playersId == null) {
+            setPlayersId(new LongFilter());
+        }
+        return playersId;
+    }
+
+    public void setPlayersId(LongFilter playersId) {
+        this.playersId = playersId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * Whether any filter is set.
+     *
+     * @return {@code false} if the criteria match all the entities.
+     */
+    public boolean hasFilters() {
+        return id != null || name != null || playersId != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TeamCriteria that = (TeamCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(playersId, that.playersId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, playersId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TeamCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalName().map(f -> "name=" + f + ", ").orElse("") +
+            optionalPlayersId().map(f -> "playersId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
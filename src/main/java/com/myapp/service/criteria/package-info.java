@@ -0,0 +1,4 @@
+/**
+ * Criteria of the filtered entity lists, bound from the request parameters.
+ */
+package com.myapp.service.criteria;
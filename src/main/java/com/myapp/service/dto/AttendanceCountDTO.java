@@ -0,0 +1,48 @@
+package com.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The number of checkins in one hourly or daily attendance bucket.
+ */
+public class AttendanceCountDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant bucketStart;
+
+    private long count;
+
+    public AttendanceCountDTO() {}
+
+    public AttendanceCountDTO(Instant bucketStart, long count) {
+        this.bucketStart = bucketStart;
+        this.count = count;
+    }
+
+    public Instant getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(Instant bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AttendanceCountDTO{" +
+            "bucketStart='" + getBucketStart() + "'" +
+            ", count=" + getCount() +
+            "}";
+    }
+}
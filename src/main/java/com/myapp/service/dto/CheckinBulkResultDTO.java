@@ -0,0 +1,92 @@
+package com.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * The outcome of one item of a bulk {@link com.myapp.domain.Checkin} creation.
+ */
+public class CheckinBulkResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        REJECTED,
+        /**
+         * A duplicate of an existing checkin, e.g. a batch retried after a lost response.
+         */
+        DUPLICATE,
+    }
+
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String message;
+
+    public CheckinBulkResultDTO() {}
+
+    private CheckinBulkResultDTO(int index, Status status, Long id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public static CheckinBulkResultDTO created(int index, Long id) {
+        return new CheckinBulkResultDTO(index, Status.CREATED, id, null);
+    }
+
+    public static CheckinBulkResultDTO rejected(int index, String message) {
+        return new CheckinBulkResultDTO(index, Status.REJECTED, null, message);
+    }
+
+    public static CheckinBulkResultDTO duplicate(int index, String message) {
+        return new CheckinBulkResultDTO(index, Status.DUPLICATE, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CheckinBulkResultDTO{" +
+            "index=" + getIndex() +
+            ", status='" + getStatus() + "'" +
+            ", id=" + getId() +
+            ", message='" + getMessage() + "'" +
+            "}";
+    }
+}
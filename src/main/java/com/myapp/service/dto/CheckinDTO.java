@@ -16,6 +16,9 @@ public class CheckinDTO implements Serializable {
     @NotNull
     private Instant timestamp;
 
+    @Size(max = 64)
+    private String idempotencyKey;
+
     @NotNull
     private PlayerDTO player;
 
@@ -35,6 +38,14 @@ public class CheckinDTO implements Serializable {
         this.timestamp = timestamp;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public PlayerDTO getPlayer() {
         return player;
     }
@@ -70,6 +81,7 @@ public class CheckinDTO implements Serializable {
         return "CheckinDTO{" +
             "id=" + getId() +
             ", timestamp='" + getTimestamp() + "'" +
+            ", idempotencyKey='" + getIdempotencyKey() + "'" +
             ", player=" + getPlayer() +
             "}";
     }
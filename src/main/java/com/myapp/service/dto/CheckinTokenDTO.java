@@ -0,0 +1,62 @@
+package com.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A signed QR checkin token, see {@link com.myapp.security.CheckinTokenCodec}.
+ */
+public class CheckinTokenDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long playerId;
+
+    private Instant notBefore;
+
+    private Instant notAfter;
+
+    private String token;
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public Instant getNotBefore() {
+        return notBefore;
+    }
+
+    public void setNotBefore(Instant notBefore) {
+        this.notBefore = notBefore;
+    }
+
+    public Instant getNotAfter() {
+        return notAfter;
+    }
+
+    public void setNotAfter(Instant notAfter) {
+        this.notAfter = notAfter;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CheckinTokenDTO{" +
+            "playerId=" + getPlayerId() +
+            ", notBefore='" + getNotBefore() + "'" +
+            ", notAfter='" + getNotAfter() + "'" +
+            "}";
+    }
+}
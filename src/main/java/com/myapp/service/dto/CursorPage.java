@@ -0,0 +1,18 @@
+package com.myapp.service.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of results fetched with seek pagination.
+ *
+ * @param content the rows of the page.
+ * @param previousCursor the cursor to fetch the preceding page, or {@code null} if this is the first page.
+ * @param nextCursor the cursor to fetch the following page, or {@code null} if this is the last page.
+ * @param <T> the type of the rows.
+ */
+public record CursorPage<T>(List<T> content, SeekCursor previousCursor, SeekCursor nextCursor) {
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorPage<>(content.stream().<U>map(converter).toList(), previousCursor, nextCursor);
+    }
+}
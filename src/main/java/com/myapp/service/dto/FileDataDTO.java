@@ -1,5 +1,6 @@
 package com.myapp.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.Objects;
@@ -20,6 +21,18 @@ public class FileDataDTO implements Serializable {
     @Size(max = 255)
     private String fileName;
 
+    /**
+     * The SHA-256 of the content, set by {@code PUT /api/file-data/{id}/content}.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String contentHash;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String contentType;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long contentSize;
+
     public Long getId() {
         return id;
     }
@@ -44,6 +57,30 @@ public class FileDataDTO implements Serializable {
         this.fileName = fileName;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getContentSize() {
+        return contentSize;
+    }
+
+    public void setContentSize(Long contentSize) {
+        this.contentSize = contentSize;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -72,6 +109,9 @@ public class FileDataDTO implements Serializable {
             "id=" + getId() +
             ", uid='" + getUid() + "'" +
             ", fileName='" + getFileName() + "'" +
+            ", contentHash='" + getContentHash() + "'" +
+            ", contentType='" + getContentType() + "'" +
+            ", contentSize=" + getContentSize() +
             "}";
     }
 }
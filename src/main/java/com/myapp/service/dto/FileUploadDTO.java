@@ -0,0 +1,141 @@
+package com.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for a resumable upload of a {@link com.myapp.domain.FileData}, see {@link com.myapp.service.FileUploadService}.
+ * <p>
+ * The client declares the file data, the size of the content and its SHA-256; the server reports the ranges received
+ * so far, from which an interrupted upload resumes.
+ */
+public class FileUploadDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String uploadId;
+
+    @NotNull
+    @Size(max = 255)
+    private String uid;
+
+    @NotNull
+    @Size(max = 255)
+    private String fileName;
+
+    @Size(max = 255)
+    private String contentType;
+
+    @NotNull
+    @Min(0)
+    private Long size;
+
+    /**
+     * The SHA-256 of the content in hexadecimal, verified before the file data is created.
+     */
+    @NotNull
+    @Pattern(regexp = "[0-9a-fA-F]{64}")
+    private String sha256;
+
+    /**
+     * The ranges received, each as its first byte and the byte following it.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long[][] receivedRanges;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long receivedBytes;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant expiresAt;
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public void setUid(String uid) {
+        this.uid = uid;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public long[][] getReceivedRanges() {
+        return receivedRanges;
+    }
+
+    public void setReceivedRanges(long[][] receivedRanges) {
+        this.receivedRanges = receivedRanges;
+    }
+
+    public Long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    public void setReceivedBytes(Long receivedBytes) {
+        this.receivedBytes = receivedBytes;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "FileUploadDTO{" +
+            "uploadId='" + getUploadId() + "'" +
+            ", uid='" + getUid() + "'" +
+            ", fileName='" + getFileName() + "'" +
+            ", contentType='" + getContentType() + "'" +
+            ", size=" + getSize() +
+            ", sha256='" + getSha256() + "'" +
+            ", receivedBytes=" + getReceivedBytes() +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,143 @@
+package com.myapp.service.dto;
+
+import com.myapp.service.event.CheckinSnapshot;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The checkin counters of the current day, pushed to live dashboards.
+ */
+public class LiveCheckinCountersDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant since;
+
+    private long checkinCount;
+
+    private long playerCount;
+
+    private List<TeamCounter> teams;
+
+    private List<CheckinSnapshot> recent;
+
+    public LiveCheckinCountersDTO() {}
+
+    public LiveCheckinCountersDTO(Instant since, long checkinCount, long playerCount, List<TeamCounter> teams, List<CheckinSnapshot> recent) {
+        this.since = since;
+        this.checkinCount = checkinCount;
+        this.playerCount = playerCount;
+        this.teams = teams;
+        this.recent = recent;
+    }
+
+    /**
+     * The counters of one team.
+     */
+    public static class TeamCounter implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long teamId;
+
+        private String teamName;
+
+        private long checkinCount;
+
+        private long playerCount;
+
+        public TeamCounter() {}
+
+        public TeamCounter(Long teamId, String teamName, long checkinCount, long playerCount) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+            this.checkinCount = checkinCount;
+            this.playerCount = playerCount;
+        }
+
+        public Long getTeamId() {
+            return teamId;
+        }
+
+        public void setTeamId(Long teamId) {
+            this.teamId = teamId;
+        }
+
+        public String getTeamName() {
+            return teamName;
+        }
+
+        public void setTeamName(String teamName) {
+            this.teamName = teamName;
+        }
+
+        public long getCheckinCount() {
+            return checkinCount;
+        }
+
+        public void setCheckinCount(long checkinCount) {
+            this.checkinCount = checkinCount;
+        }
+
+        public long getPlayerCount() {
+            return playerCount;
+        }
+
+        public void setPlayerCount(long playerCount) {
+            this.playerCount = playerCount;
+        }
+    }
+
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+
+    public long getCheckinCount() {
+        return checkinCount;
+    }
+
+    public void setCheckinCount(long checkinCount) {
+        this.checkinCount = checkinCount;
+    }
+
+    public long getPlayerCount() {
+        return playerCount;
+    }
+
+    public void setPlayerCount(long playerCount) {
+        this.playerCount = playerCount;
+    }
+
+    public List<TeamCounter> getTeams() {
+        return teams;
+    }
+
+    public void setTeams(List<TeamCounter> teams) {
+        this.teams = teams;
+    }
+
+    public List<CheckinSnapshot> getRecent() {
+        return recent;
+    }
+
+    public void setRecent(List<CheckinSnapshot> recent) {
+        this.recent = recent;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LiveCheckinCountersDTO{" +
+            "since='" + getSince() + "'" +
+            ", checkinCount=" + getCheckinCount() +
+            ", playerCount=" + getPlayerCount() +
+            ", teams=" + getTeams() +
+            ", recent=" + getRecent() +
+            "}";
+    }
+}
@@ -1,5 +1,7 @@
 package com.myapp.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.myapp.domain.enumeration.Gender;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -31,10 +33,26 @@ public class PlayerDTO implements Serializable {
 
     private LocalDate dateOfBirth;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Set<GuardianDTO> guardians = new HashSet<>();
 
+    /**
+     * The ids of the guardians, instead of {@link #guardians}, in the compact representation of the lists.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long[] guardianIds;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Set<TeamDTO> teams = new HashSet<>();
 
+    /**
+     * The ids of the teams, instead of {@link #teams}, in the compact representation of the lists.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long[] teamIds;
+
     public Long getId() {
         return id;
     }
@@ -91,6 +109,14 @@ public class PlayerDTO implements Serializable {
         this.guardians = guardians;
     }
 
+    public long[] getGuardianIds() {
+        return guardianIds;
+    }
+
+    public void setGuardianIds(long[] guardianIds) {
+        this.guardianIds = guardianIds;
+    }
+
     public Set<TeamDTO> getTeams() {
         return teams;
     }
@@ -99,6 +125,14 @@ public class PlayerDTO implements Serializable {
         this.teams = teams;
     }
 
+    public long[] getTeamIds() {
+        return teamIds;
+    }
+
+    public void setTeamIds(long[] teamIds) {
+        this.teamIds = teamIds;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
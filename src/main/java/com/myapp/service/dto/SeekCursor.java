@@ -0,0 +1,71 @@
+package com.myapp.service.dto;
+
+import com.myapp.service.InvalidCursorException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque position for seek (keyset) pagination: the sort key of the last row seen, plus its id to break ties.
+ * <p>
+ * The cursors of list endpoints also carry the sort they were read with, as {@code attribute,direction}, and the
+ * direction to read in, so that {@code ?cursor=} is all a client has to send back.
+ *
+ * @param sort the sort of the rows, or {@code null} if the endpoint has a fixed order.
+ * @param key the sort key of the row, in its string form.
+ * @param id the id of the row.
+ * @param backward whether to read the rows preceding the position instead of the ones following it.
+ */
+public record SeekCursor(String sort, String key, long id, boolean backward) implements Serializable {
+    private static final char SEPARATOR = '|';
+
+    private static final char FORWARD = '>';
+
+    private static final char BACKWARD = '<';
+
+    public SeekCursor(String key, long id) {
+        this(null, key, id, false);
+    }
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        if (sort != null) {
+            raw = (backward ? BACKWARD : FORWARD) + sort + SEPARATOR + raw;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor, may be {@code null}.
+     * @return the cursor, or {@code null} if none was given.
+     * @throws InvalidCursorException if the cursor is malformed.
+     */
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String sort = null;
+            boolean backward = false;
+            if (!raw.isEmpty() && (raw.charAt(0) == FORWARD || raw.charAt(0) == BACKWARD)) {
+                int sortEnd = raw.indexOf(SEPARATOR);
+                if (sortEnd < 0) {
+                    throw new InvalidCursorException("Invalid cursor");
+                }
+                backward = raw.charAt(0) == BACKWARD;
+                sort = raw.substring(1, sortEnd);
+                raw = raw.substring(sortEnd + 1);
+            }
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new SeekCursor(sort, raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)), backward);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
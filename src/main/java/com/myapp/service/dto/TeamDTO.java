@@ -1,8 +1,9 @@
 package com.myapp.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,7 +18,25 @@ public class TeamDTO implements Serializable {
     @Size(max = 255)
     private String name;
 
-    private Set<PlayerDTO> players = new HashSet<>();
+    /**
+     * The players, {@code null} when left out of a request, which keeps the roster of an updated team as it is.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<PlayerDTO> players;
+
+    /**
+     * The ids of the players, instead of {@link #players}, in the compact representation of the lists.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long[] playerIds;
+
+    /**
+     * The number of players, counted by the details instead of reading the roster, see {@code GET /api/teams/{id}/players}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long playerCount;
 
     public Long getId() {
         return id;
@@ -43,6 +62,22 @@ public class TeamDTO implements Serializable {
         this.players = players;
     }
 
+    public long[] getPlayerIds() {
+        return playerIds;
+    }
+
+    public void setPlayerIds(long[] playerIds) {
+        this.playerIds = playerIds;
+    }
+
+    public Long getPlayerCount() {
+        return playerCount;
+    }
+
+    public void setPlayerCount(Long playerCount) {
+        this.playerCount = playerCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
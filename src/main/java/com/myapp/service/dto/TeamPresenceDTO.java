@@ -0,0 +1,73 @@
+package com.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The players of a team checked in on a given day.
+ */
+public class TeamPresenceDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant day;
+
+    private Long teamId;
+
+    private long rosterSize;
+
+    private List<Long> playerIds;
+
+    public TeamPresenceDTO() {}
+
+    public TeamPresenceDTO(Instant day, Long teamId, long rosterSize, List<Long> playerIds) {
+        this.day = day;
+        this.teamId = teamId;
+        this.rosterSize = rosterSize;
+        this.playerIds = playerIds;
+    }
+
+    public Instant getDay() {
+        return day;
+    }
+
+    public void setDay(Instant day) {
+        this.day = day;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public long getRosterSize() {
+        return rosterSize;
+    }
+
+    public void setRosterSize(long rosterSize) {
+        this.rosterSize = rosterSize;
+    }
+
+    public List<Long> getPlayerIds() {
+        return playerIds;
+    }
+
+    public void setPlayerIds(List<Long> playerIds) {
+        this.playerIds = playerIds;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TeamPresenceDTO{" +
+            "day='" + getDay() + "'" +
+            ", teamId=" + getTeamId() +
+            ", rosterSize=" + getRosterSize() +
+            ", playerIds=" + getPlayerIds() +
+            "}";
+    }
+}
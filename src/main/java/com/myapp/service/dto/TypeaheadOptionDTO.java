@@ -0,0 +1,11 @@
+package com.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * An entity offered by a typeahead picker.
+ *
+ * @param id the id of the entity.
+ * @param label the label to display.
+ */
+public record TypeaheadOptionDTO(Long id, String label) implements Serializable {}
@@ -0,0 +1,18 @@
+package com.myapp.service.event;
+
+import com.myapp.domain.Checkin;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * An immutable copy of the state of a {@link Checkin} at the time it was written.
+ *
+ * @param id the id of the checkin.
+ * @param playerId the id of its player.
+ * @param timestamp its timestamp.
+ */
+public record CheckinSnapshot(Long id, Long playerId, Instant timestamp) implements Serializable {
+    public static CheckinSnapshot of(Checkin checkin) {
+        return new CheckinSnapshot(checkin.getId(), checkin.getPlayer().getId(), checkin.getTimestamp());
+    }
+}
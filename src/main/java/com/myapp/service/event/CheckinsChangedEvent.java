@@ -0,0 +1,27 @@
+package com.myapp.service.event;
+
+import java.util.List;
+
+/**
+ * Published in the transaction writing checkins, whatever the write path: single, bulk or write-behind.
+ * <p>
+ * An update is published as the removal of the previous state and the addition of the new one.
+ * Listeners that must stay consistent with the {@code checkin} table listen synchronously,
+ * the others should use a {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param added the checkins that were created.
+ * @param removed the checkins that were deleted.
+ */
+public record CheckinsChangedEvent(List<CheckinSnapshot> added, List<CheckinSnapshot> removed) {
+    public static CheckinsChangedEvent added(List<CheckinSnapshot> added) {
+        return new CheckinsChangedEvent(added, List.of());
+    }
+
+    public static CheckinsChangedEvent removed(CheckinSnapshot removed) {
+        return new CheckinsChangedEvent(List.of(), List.of(removed));
+    }
+
+    public static CheckinsChangedEvent updated(CheckinSnapshot previous, CheckinSnapshot current) {
+        return new CheckinsChangedEvent(List.of(current), List.of(previous));
+    }
+}
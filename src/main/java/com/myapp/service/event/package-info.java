@@ -0,0 +1,4 @@
+/**
+ * Application events published by the services.
+ */
+package com.myapp.service.event;
@@ -2,6 +2,7 @@ package com.myapp.service.mapper;
 
 import com.myapp.domain.Camp;
 import com.myapp.domain.FileData;
+import com.myapp.repository.CampSummary;
 import com.myapp.service.dto.CampDTO;
 import com.myapp.service.dto.FileDataDTO;
 import org.mapstruct.*;
@@ -14,8 +15,21 @@ public interface CampMapper extends EntityMapper<CampDTO, Camp> {
     @Mapping(target = "image", source = "image", qualifiedByName = "fileDataId")
     CampDTO toDto(Camp s);
 
+    @Mapping(target = "image", source = "imageId", qualifiedByName = "fileDataOfId")
+    CampDTO toDto(CampSummary summary);
+
     @Named("fileDataId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
     FileDataDTO toDtoFileDataId(FileData fileData);
+
+    @Named("fileDataOfId")
+    default FileDataDTO toDtoFileDataOfId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        FileDataDTO fileDataDTO = new FileDataDTO();
+        fileDataDTO.setId(id);
+        return fileDataDTO;
+    }
 }
@@ -2,6 +2,7 @@ package com.myapp.service.mapper;
 
 import com.myapp.domain.Checkin;
 import com.myapp.domain.Player;
+import com.myapp.repository.CheckinSummary;
 import com.myapp.service.dto.CheckinDTO;
 import com.myapp.service.dto.PlayerDTO;
 import org.mapstruct.*;
@@ -14,8 +15,28 @@ public interface CheckinMapper extends EntityMapper<CheckinDTO, Checkin> {
     @Mapping(target = "player", source = "player", qualifiedByName = "playerId")
     CheckinDTO toDto(Checkin s);
 
+    @Mapping(target = "player", source = "playerId", qualifiedByName = "playerOfId")
+    CheckinDTO toDto(CheckinSummary summary);
+
+    @Mapping(target = "dedupeBucket", ignore = true)
+    Checkin toEntity(CheckinDTO checkinDTO);
+
+    @Override
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "dedupeBucket", ignore = true)
+    @Mapping(target = "idempotencyKey", ignore = true)
+    void partialUpdate(@MappingTarget Checkin entity, CheckinDTO dto);
+
     @Named("playerId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
     PlayerDTO toDtoPlayerId(Player player);
+
+    @Named("playerOfId")
+    default PlayerDTO toDtoPlayerOfId(Long id) {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(id);
+        return playerDTO;
+    }
 }
@@ -1,6 +1,7 @@
 package com.myapp.service.mapper;
 
 import com.myapp.domain.FileData;
+import com.myapp.repository.FileDataSummary;
 import com.myapp.service.dto.FileDataDTO;
 import org.mapstruct.*;
 
@@ -8,4 +9,21 @@ import org.mapstruct.*;
  * Mapper for the entity {@link FileData} and its DTO {@link FileDataDTO}.
  */
 @Mapper(componentModel = "spring")
-public interface FileDataMapper extends EntityMapper<FileDataDTO, FileData> {}
+public interface FileDataMapper extends EntityMapper<FileDataDTO, FileData> {
+    FileDataDTO toDto(FileDataSummary summary);
+
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "contentType", ignore = true)
+    @Mapping(target = "contentSize", ignore = true)
+    FileData toEntity(FileDataDTO fileDataDTO);
+
+    /**
+     * Copy the properties of a DTO to an entity, leaving its content untouched, which only changes with an upload.
+     */
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "contentType", ignore = true)
+    @Mapping(target = "contentSize", ignore = true)
+    void partialUpdate(@MappingTarget FileData entity, FileDataDTO dto);
+}
@@ -2,6 +2,7 @@ package com.myapp.service.mapper;
 
 import com.myapp.domain.Guardian;
 import com.myapp.domain.Player;
+import com.myapp.repository.GuardianSummary;
 import com.myapp.service.dto.GuardianDTO;
 import com.myapp.service.dto.PlayerDTO;
 import java.util.Set;
@@ -16,6 +17,9 @@ public interface GuardianMapper extends EntityMapper<GuardianDTO, Guardian> {
     @Mapping(target = "players", source = "players", qualifiedByName = "playerIdSet")
     GuardianDTO toDto(Guardian s);
 
+    @Mapping(target = "players", ignore = true)
+    GuardianDTO toDto(GuardianSummary summary);
+
     @Mapping(target = "players", ignore = true)
     @Mapping(target = "removePlayers", ignore = true)
     Guardian toEntity(GuardianDTO guardianDTO);
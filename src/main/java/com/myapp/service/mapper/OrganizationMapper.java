@@ -1,6 +1,7 @@
 package com.myapp.service.mapper;
 
 import com.myapp.domain.Organization;
+import com.myapp.repository.OrganizationSummary;
 import com.myapp.service.dto.OrganizationDTO;
 import org.mapstruct.*;
 
@@ -8,4 +9,6 @@ import org.mapstruct.*;
  * Mapper for the entity {@link Organization} and its DTO {@link OrganizationDTO}.
  */
 @Mapper(componentModel = "spring")
-public interface OrganizationMapper extends EntityMapper<OrganizationDTO, Organization> {}
+public interface OrganizationMapper extends EntityMapper<OrganizationDTO, Organization> {
+    OrganizationDTO toDto(OrganizationSummary summary);
+}
@@ -3,6 +3,8 @@ package com.myapp.service.mapper;
 import com.myapp.domain.Guardian;
 import com.myapp.domain.Player;
 import com.myapp.domain.Team;
+import com.myapp.repository.PlayerSummary;
+import com.myapp.repository.RelationshipIds;
 import com.myapp.service.dto.GuardianDTO;
 import com.myapp.service.dto.PlayerDTO;
 import com.myapp.service.dto.TeamDTO;
@@ -17,8 +19,47 @@ import org.mapstruct.*;
 public interface PlayerMapper extends EntityMapper<PlayerDTO, Player> {
     @Mapping(target = "guardians", source = "guardians", qualifiedByName = "guardianIdSet")
     @Mapping(target = "teams", source = "teams", qualifiedByName = "teamIdSet")
+    @Mapping(target = "guardianIds", ignore = true)
+    @Mapping(target = "teamIds", ignore = true)
     PlayerDTO toDto(Player s);
 
+    @Mapping(target = "guardians", ignore = true)
+    @Mapping(target = "teams", ignore = true)
+    @Mapping(target = "guardianIds", ignore = true)
+    @Mapping(target = "teamIds", ignore = true)
+    PlayerDTO toDto(PlayerSummary summary);
+
+    @Named("withoutRelationships")
+    @Mapping(target = "guardians", ignore = true)
+    @Mapping(target = "teams", ignore = true)
+    @Mapping(target = "guardianIds", ignore = true)
+    @Mapping(target = "teamIds", ignore = true)
+    PlayerDTO toDtoWithoutRelationships(Player s);
+
+    /**
+     * Map a player of a page, with the ids of its relationships read for the whole page, instead of initializing its
+     * collections one player at a time.
+     */
+    default PlayerDTO toDto(Player player, RelationshipIds guardianIds, RelationshipIds teamIds) {
+        PlayerDTO playerDTO = toDtoWithoutRelationships(player);
+        playerDTO.setGuardians(guardianIds.of(player.getId()).stream().map(this::toDtoGuardianOfId).collect(Collectors.toSet()));
+        playerDTO.setTeams(teamIds.of(player.getId()).stream().map(this::toDtoTeamOfId).collect(Collectors.toSet()));
+        return playerDTO;
+    }
+
+    /**
+     * Map a player of a page in the compact representation, with the ids of its relationships as arrays of numbers
+     * instead of sets of DTOs holding an id.
+     */
+    default PlayerDTO toCompactDto(Player player, RelationshipIds guardianIds, RelationshipIds teamIds) {
+        PlayerDTO playerDTO = toDtoWithoutRelationships(player);
+        playerDTO.setGuardians(null);
+        playerDTO.setTeams(null);
+        playerDTO.setGuardianIds(guardianIds.arrayOf(player.getId()));
+        playerDTO.setTeamIds(teamIds.arrayOf(player.getId()));
+        return playerDTO;
+    }
+
     @Mapping(target = "removeGuardians", ignore = true)
     @Mapping(target = "teams", ignore = true)
     @Mapping(target = "removeTeams", ignore = true)
@@ -43,4 +84,18 @@ public interface PlayerMapper extends EntityMapper<PlayerDTO, Player> {
     default Set<TeamDTO> toDtoTeamIdSet(Set<Team> team) {
         return team.stream().map(this::toDtoTeamId).collect(Collectors.toSet());
     }
+
+    @Named("guardianOfId")
+    default GuardianDTO toDtoGuardianOfId(Long id) {
+        GuardianDTO guardianDTO = new GuardianDTO();
+        guardianDTO.setId(id);
+        return guardianDTO;
+    }
+
+    @Named("teamOfId")
+    default TeamDTO toDtoTeamOfId(Long id) {
+        TeamDTO teamDTO = new TeamDTO();
+        teamDTO.setId(id);
+        return teamDTO;
+    }
 }
@@ -3,6 +3,7 @@ package com.myapp.service.mapper;
 import com.myapp.domain.FileData;
 import com.myapp.domain.Organization;
 import com.myapp.domain.Season;
+import com.myapp.repository.SeasonSummary;
 import com.myapp.service.dto.FileDataDTO;
 import com.myapp.service.dto.OrganizationDTO;
 import com.myapp.service.dto.SeasonDTO;
@@ -17,6 +18,10 @@ public interface SeasonMapper extends EntityMapper<SeasonDTO, Season> {
     @Mapping(target = "organization", source = "organization", qualifiedByName = "organizationName")
     SeasonDTO toDto(Season s);
 
+    @Mapping(target = "image", source = "imageId", qualifiedByName = "fileDataOfId")
+    @Mapping(target = "organization", source = "summary", qualifiedByName = "organizationOfSummary")
+    SeasonDTO toDto(SeasonSummary summary);
+
     @Named("fileDataId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
@@ -27,4 +32,25 @@ public interface SeasonMapper extends EntityMapper<SeasonDTO, Season> {
     @Mapping(target = "id", source = "id")
     @Mapping(target = "name", source = "name")
     OrganizationDTO toDtoOrganizationName(Organization organization);
+
+    @Named("fileDataOfId")
+    default FileDataDTO toDtoFileDataOfId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        FileDataDTO fileDataDTO = new FileDataDTO();
+        fileDataDTO.setId(id);
+        return fileDataDTO;
+    }
+
+    @Named("organizationOfSummary")
+    default OrganizationDTO toDtoOrganizationOfSummary(SeasonSummary summary) {
+        if (summary.organizationId() == null) {
+            return null;
+        }
+        OrganizationDTO organizationDTO = new OrganizationDTO();
+        organizationDTO.setId(summary.organizationId());
+        organizationDTO.setName(summary.organizationName());
+        return organizationDTO;
+    }
 }
@@ -2,6 +2,8 @@ package com.myapp.service.mapper;
 
 import com.myapp.domain.Player;
 import com.myapp.domain.Team;
+import com.myapp.repository.RelationshipIds;
+import com.myapp.repository.TeamSummary;
 import com.myapp.service.dto.PlayerDTO;
 import com.myapp.service.dto.TeamDTO;
 import java.util.Set;
@@ -14,8 +16,42 @@ import org.mapstruct.*;
 @Mapper(componentModel = "spring")
 public interface TeamMapper extends EntityMapper<TeamDTO, Team> {
     @Mapping(target = "players", source = "players", qualifiedByName = "playerIdSet")
+    @Mapping(target = "playerIds", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
     TeamDTO toDto(Team s);
 
+    @Mapping(target = "players", ignore = true)
+    @Mapping(target = "playerIds", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
+    TeamDTO toDto(TeamSummary summary);
+
+    @Named("withoutRelationships")
+    @Mapping(target = "players", ignore = true)
+    @Mapping(target = "playerIds", ignore = true)
+    @Mapping(target = "playerCount", ignore = true)
+    TeamDTO toDtoWithoutRelationships(Team s);
+
+    /**
+     * Map a team of a page, with the ids of its players read for the whole page, instead of initializing its
+     * collection one team at a time.
+     */
+    default TeamDTO toDto(Team team, RelationshipIds playerIds) {
+        TeamDTO teamDTO = toDtoWithoutRelationships(team);
+        teamDTO.setPlayers(playerIds.of(team.getId()).stream().map(this::toDtoPlayerOfId).collect(Collectors.toSet()));
+        return teamDTO;
+    }
+
+    /**
+     * Map a team of a page in the compact representation, with the ids of its players as an array of numbers instead
+     * of a set of DTOs holding an id.
+     */
+    default TeamDTO toCompactDto(Team team, RelationshipIds playerIds) {
+        TeamDTO teamDTO = toDtoWithoutRelationships(team);
+        teamDTO.setPlayers(null);
+        teamDTO.setPlayerIds(playerIds.arrayOf(team.getId()));
+        return teamDTO;
+    }
+
     @Mapping(target = "removePlayers", ignore = true)
     Team toEntity(TeamDTO teamDTO);
 
@@ -28,4 +64,11 @@ public interface TeamMapper extends EntityMapper<TeamDTO, Team> {
     default Set<PlayerDTO> toDtoPlayerIdSet(Set<Player> player) {
         return player.stream().map(this::toDtoPlayerId).collect(Collectors.toSet());
     }
+
+    @Named("playerOfId")
+    default PlayerDTO toDtoPlayerOfId(Long id) {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(id);
+        return playerDTO;
+    }
 }
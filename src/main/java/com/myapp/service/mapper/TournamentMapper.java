@@ -2,6 +2,7 @@ package com.myapp.service.mapper;
 
 import com.myapp.domain.FileData;
 import com.myapp.domain.Tournament;
+import com.myapp.repository.TournamentSummary;
 import com.myapp.service.dto.FileDataDTO;
 import com.myapp.service.dto.TournamentDTO;
 import org.mapstruct.*;
@@ -14,8 +15,21 @@ public interface TournamentMapper extends EntityMapper<TournamentDTO, Tournament
     @Mapping(target = "image", source = "image", qualifiedByName = "fileDataId")
     TournamentDTO toDto(Tournament s);
 
+    @Mapping(target = "image", source = "imageId", qualifiedByName = "fileDataOfId")
+    TournamentDTO toDto(TournamentSummary summary);
+
     @Named("fileDataId")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
     FileDataDTO toDtoFileDataId(FileData fileData);
+
+    @Named("fileDataOfId")
+    default FileDataDTO toDtoFileDataOfId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        FileDataDTO fileDataDTO = new FileDataDTO();
+        fileDataDTO.setId(id);
+        return fileDataDTO;
+    }
 }
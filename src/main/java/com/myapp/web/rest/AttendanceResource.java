@@ -0,0 +1,155 @@
+package com.myapp.web.rest;
+
+import com.myapp.domain.enumeration.RollupGranularity;
+import com.myapp.security.AuthoritiesConstants;
+import com.myapp.service.AttendanceRollupService;
+import com.myapp.service.PlayerPresenceService;
+import com.myapp.service.dto.AttendanceCountDTO;
+import com.myapp.service.dto.TeamPresenceDTO;
+import com.myapp.web.rest.errors.BadRequestAlertException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for the attendance figures aggregated from {@link com.myapp.domain.Checkin}.
+ */
+@RestController
+@RequestMapping("/api/attendance")
+public class AttendanceResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AttendanceResource.class);
+
+    private static final String ENTITY_NAME = "attendance";
+
+    private static final Duration DEFAULT_PERIOD = Duration.ofDays(30);
+
+    private static final Duration MAX_HOURLY_PERIOD = Duration.ofDays(31);
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final AttendanceRollupService attendanceRollupService;
+
+    private final PlayerPresenceService playerPresenceService;
+
+    public AttendanceResource(AttendanceRollupService attendanceRollupService, PlayerPresenceService playerPresenceService) {
+        this.attendanceRollupService = attendanceRollupService;
+        this.playerPresenceService = playerPresenceService;
+    }
+
+    /**
+     * {@code GET  /attendance/players/:id} : get the checkin counts of the "id" player.
+     *
+     * @param id the id of the player.
+     * @param granularity the size of the buckets, {@code DAY} by default.
+     * @param from the start of the period, inclusive, 30 days before {@code to} by default.
+     * @param to the end of the period, exclusive, now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the non-empty buckets in body.
+     */
+    @GetMapping("/players/{id}")
+    public ResponseEntity<List<AttendanceCountDTO>> getPlayerAttendance(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "granularity", required = false, defaultValue = "DAY") RollupGranularity granularity,
+        @RequestParam(name = "from", required = false) Instant from,
+        @RequestParam(name = "to", required = false) Instant to
+    ) {
+        LOG.debug("REST request to get the attendance of Player : {}", id);
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_PERIOD);
+        validatePeriod(granularity, start, end);
+        return ResponseEntity.ok(attendanceRollupService.findPlayerAttendance(id, granularity, start, end));
+    }
+
+    /**
+     * {@code GET  /attendance/teams/:id} : get the checkin counts of the players of the "id" team.
+     *
+     * @param id the id of the team.
+     * @param granularity the size of the buckets, {@code DAY} by default.
+     * @param from the start of the period, inclusive, 30 days before {@code to} by default.
+     * @param to the end of the period, exclusive, now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the non-empty buckets in body.
+     */
+    @GetMapping("/teams/{id}")
+    public ResponseEntity<List<AttendanceCountDTO>> getTeamAttendance(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "granularity", required = false, defaultValue = "DAY") RollupGranularity granularity,
+        @RequestParam(name = "from", required = false) Instant from,
+        @RequestParam(name = "to", required = false) Instant to
+    ) {
+        LOG.debug("REST request to get the attendance of Team : {}", id);
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_PERIOD);
+        validatePeriod(granularity, start, end);
+        return ResponseEntity.ok(attendanceRollupService.findTeamAttendance(id, granularity, start, end));
+    }
+
+    /**
+     * {@code GET  /attendance/teams/:id/present} : get the players of the "id" team checked in on a day.
+     *
+     * @param id the id of the team.
+     * @param at an instant of the day, now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the presence in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/teams/{id}/present")
+    public ResponseEntity<TeamPresenceDTO> getTeamPresence(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "at", required = false) Instant at
+    ) {
+        LOG.debug("REST request to get the presence of Team : {}", id);
+        return ResponseUtil.wrapOrNotFound(playerPresenceService.findTeamPresence(id, at != null ? at : Instant.now()));
+    }
+
+    /**
+     * {@code GET  /attendance/totals} : get the checkin counts of all players.
+     *
+     * @param granularity the size of the buckets, {@code DAY} by default.
+     * @param from the start of the period, inclusive, 30 days before {@code to} by default.
+     * @param to the end of the period, exclusive, now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the non-empty buckets in body.
+     */
+    @GetMapping("/totals")
+    public ResponseEntity<List<AttendanceCountDTO>> getTotalAttendance(
+        @RequestParam(name = "granularity", required = false, defaultValue = "DAY") RollupGranularity granularity,
+        @RequestParam(name = "from", required = false) Instant from,
+        @RequestParam(name = "to", required = false) Instant to
+    ) {
+        LOG.debug("REST request to get the total attendance");
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_PERIOD);
+        validatePeriod(granularity, start, end);
+        return ResponseEntity.ok(attendanceRollupService.findTotalAttendance(granularity, start, end));
+    }
+
+    /**
+     * {@code POST  /attendance/rebuild} : recompute the attendance rollups from the checkins.
+     *
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> rebuildAttendance() {
+        LOG.debug("REST request to rebuild the attendance rollups");
+        long aggregated = attendanceRollupService.rebuild();
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createAlert(applicationName, "Attendance rebuilt from " + aggregated + " checkins", null))
+            .build();
+    }
+
+    private static void validatePeriod(RollupGranularity granularity, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestAlertException("The start of the period must be before its end", ENTITY_NAME, "invalidperiod");
+        }
+        if (granularity == RollupGranularity.HOUR && Duration.between(from, to).compareTo(MAX_HOURLY_PERIOD) > 0) {
+            throw new BadRequestAlertException("Hourly attendance is limited to 31 days", ENTITY_NAME, "periodtoolong");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.config.ApplicationProperties;
+import com.myapp.service.LiveCheckinCounterService;
+import com.myapp.service.dto.LiveCheckinCountersDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans the live checkin counters out to the subscribed Server-Sent Events streams.
+ * <p>
+ * A single ticker thread polls the counters and serializes them once per change. Each subscriber holds only
+ * the latest payload: sends run on a small pool and a slow client skips intermediate ticks instead of
+ * holding back the ticker or the other subscribers. A client blocking a single send for longer than the send
+ * timeout is evicted: its send is interrupted to give the thread back to the pool, and its stream is completed.
+ */
+@Component
+public class CheckinLiveBroadcaster implements SmartLifecycle {
+
+    public static final String SUBSCRIBERS_METER_NAME = "checkin.live.subscribers";
+
+    public static final String EVICTED_METER_NAME = "checkin.live.evicted";
+
+    static final String COUNTERS_EVENT_NAME = "counters";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckinLiveBroadcaster.class);
+
+    private final ApplicationProperties.Checkin.Live properties;
+
+    private final LiveCheckinCounterService liveCheckinCounterService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Counter evictedCounter;
+
+    private volatile String payload;
+
+    private volatile long lastSentNanos;
+
+    private volatile boolean running;
+
+    private ScheduledExecutorService ticker;
+
+    private ExecutorService fanOutExecutor;
+
+    public CheckinLiveBroadcaster(
+        ApplicationProperties applicationProperties,
+        LiveCheckinCounterService liveCheckinCounterService,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getCheckin().getLive();
+        this.liveCheckinCounterService = liveCheckinCounterService;
+        this.objectMapper = objectMapper;
+        Gauge.builder(SUBSCRIBERS_METER_NAME, subscribers, Set::size)
+            .description("Clients subscribed to the live checkin counters")
+            .register(meterRegistry);
+        this.evictedCounter = Counter.builder(EVICTED_METER_NAME)
+            .description("Live checkin subscribers disconnected for blocking a send past the send timeout")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream receiving the current counters right away, then on every change.
+     *
+     * @return the emitter, or empty if the maximum number of subscribers is reached.
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (!running || subscribers.size() >= properties.getMaxSubscribers()) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        String current = payload;
+        subscriber.offer(current != null ? current : serialize(liveCheckinCounterService.getCounters()));
+        return Optional.of(emitter);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        fanOutExecutor = Executors.newFixedThreadPool(properties.getFanOutThreads(), new CustomizableThreadFactory("checkin-live-"));
+        ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("checkin-live-ticker"));
+        long tickMillis = properties.getTickInterval().toMillis();
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ticker.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        fanOutExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tick() {
+        evictStalled();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            Optional<LiveCheckinCountersDTO> changed = liveCheckinCounterService.pollChanges();
+            if (changed.isPresent()) {
+                broadcast(serialize(changed.orElseThrow()));
+            } else if (payload != null && System.nanoTime() - lastSentNanos >= properties.getHeartbeatInterval().toNanos()) {
+                broadcast(payload);
+            }
+        } catch (RuntimeException e) {
+            // Keep the ticker scheduled, the next tick retries
+            LOG.warn("Could not update the live checkin counters: {}", e.getMessage());
+        }
+    }
+
+    private void evictStalled() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            long sendStarted = subscriber.sendStartedNanos;
+            if (sendStarted != 0 && now - sendStarted >= sendTimeoutNanos) {
+                subscriber.evict();
+            }
+        }
+    }
+
+    private void broadcast(String current) {
+        payload = current;
+        lastSentNanos = System.nanoTime();
+        subscribers.forEach(subscriber -> subscriber.offer(current));
+    }
+
+    private String serialize(LiveCheckinCountersDTO counters) {
+        try {
+            return objectMapper.writeValueAsString(counters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final AtomicReference<String> pending = new AtomicReference<>();
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private final AtomicBoolean evicted = new AtomicBoolean();
+
+        /** Start of the send in progress, 0 while idle */
+        private volatile long sendStartedNanos;
+
+        private volatile Future<?> drainTask;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(String data) {
+            pending.set(data);
+            schedule();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    drainTask = fanOutExecutor.submit(this::drain);
+                } catch (RuntimeException e) {
+                    sending.set(false);
+                }
+            }
+        }
+
+        /**
+         * Stop sending to a client stuck in a send. Completing the emitter waits for the send in progress, so it is
+         * left to the interrupted fan-out thread rather than done on the ticker.
+         */
+        private void evict() {
+            if (evicted.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                evictedCounter.increment();
+                LOG.debug("Evicting a live checkin subscriber blocked for more than {}", properties.getSendTimeout());
+                Future<?> task = drainTask;
+                if (task != null) {
+                    task.cancel(true);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                String data;
+                while (!evicted.get() && (data = pending.getAndSet(null)) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    try {
+                        emitter.send(SseEmitter.event().name(COUNTERS_EVENT_NAME).data(data));
+                    } finally {
+                        sendStartedNanos = 0;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                if (!evicted.get()) {
+                    // The client went away, the container completes the emitter
+                    subscribers.remove(this);
+                    return;
+                }
+            } finally {
+                sending.set(false);
+            }
+            if (evicted.get()) {
+                // Clear the interrupt of the eviction before handing the thread back to the pool
+                Thread.interrupted();
+                emitter.complete();
+                return;
+            }
+            // A payload offered between the last poll and the release of the flag would otherwise wait for the next tick
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.myapp.web.rest;
 
+import com.myapp.config.ApplicationProperties;
 import com.myapp.repository.CheckinRepository;
+import com.myapp.security.AuthoritiesConstants;
 import com.myapp.service.CheckinService;
+import com.myapp.service.CheckinTokenService;
+import com.myapp.service.CountMode;
+import com.myapp.service.dto.CheckinBulkResultDTO;
 import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.CheckinTokenDTO;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +21,21 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -35,6 +49,8 @@ public class CheckinResource {
 
     private static final String ENTITY_NAME = "checkin";
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -42,30 +58,162 @@ public class CheckinResource {
 
     private final CheckinRepository checkinRepository;
 
-    public CheckinResource(CheckinService checkinService, CheckinRepository checkinRepository) {
+    private final ApplicationProperties applicationProperties;
+
+    private final CheckinLiveBroadcaster checkinLiveBroadcaster;
+
+    private final CheckinTokenService checkinTokenService;
+
+    private final SparseFieldsets sparseFieldsets;
+
+    public CheckinResource(
+        CheckinService checkinService,
+        CheckinRepository checkinRepository,
+        ApplicationProperties applicationProperties,
+        CheckinLiveBroadcaster checkinLiveBroadcaster,
+        CheckinTokenService checkinTokenService,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.checkinService = checkinService;
         this.checkinRepository = checkinRepository;
+        this.applicationProperties = applicationProperties;
+        this.checkinLiveBroadcaster = checkinLiveBroadcaster;
+        this.checkinTokenService = checkinTokenService;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
      * {@code POST  /checkins} : Create a new checkin.
      *
      * @param checkinDTO the checkinDTO to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new checkinDTO, or with status {@code 400 (Bad Request)} if the checkin has already an ID.
+     * @param idempotencyKey the idempotency key of the checkin, if not given in the body.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new checkinDTO,
+     * or with status {@code 202 (Accepted)} if the checkin was queued by the write-behind buffer,
+     * or with status {@code 400 (Bad Request)} if the checkin has already an ID,
+     * or with status {@code 409 (Conflict)} if the checkin is a duplicate.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
-    public ResponseEntity<CheckinDTO> createCheckin(@Valid @RequestBody CheckinDTO checkinDTO) throws URISyntaxException {
+    public ResponseEntity<CheckinDTO> createCheckin(
+        @Valid @RequestBody CheckinDTO checkinDTO,
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws URISyntaxException {
         LOG.debug("REST request to save Checkin : {}", checkinDTO);
         if (checkinDTO.getId() != null) {
             throw new BadRequestAlertException("A new checkin cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        checkinDTO = checkinService.save(checkinDTO);
+        if (idempotencyKey != null) {
+            if (checkinDTO.getIdempotencyKey() != null && !checkinDTO.getIdempotencyKey().equals(idempotencyKey)) {
+                throw new BadRequestAlertException("Conflicting idempotency keys", ENTITY_NAME, "idempotencykeyconflict");
+            }
+            if (idempotencyKey.length() > 64) {
+                throw new BadRequestAlertException("Idempotency key longer than 64 characters", ENTITY_NAME, "idempotencykeyinvalid");
+            }
+            checkinDTO.setIdempotencyKey(idempotencyKey);
+        }
+        return createdResponse(checkinService.save(checkinDTO));
+    }
+
+    /**
+     * {@code POST  /checkins/tokens} : Issue the QR checkin token of a player.
+     *
+     * @param checkinTokenDTO the player and the optional validity window of the token.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the token,
+     * or with status {@code 400 (Bad Request)} if the player does not exist or the validity window is invalid.
+     */
+    @PostMapping("/tokens")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<CheckinTokenDTO> createCheckinToken(@RequestBody CheckinTokenDTO checkinTokenDTO) {
+        LOG.debug("REST request to issue a checkin token : {}", checkinTokenDTO);
+        if (checkinTokenDTO.getPlayerId() == null || checkinTokenDTO.getPlayerId() <= 0) {
+            throw new BadRequestAlertException("Invalid player id", ENTITY_NAME, "playernotfound");
+        }
+        if (
+            checkinTokenDTO.getNotBefore() != null &&
+            checkinTokenDTO.getNotAfter() != null &&
+            !checkinTokenDTO.getNotBefore().isBefore(checkinTokenDTO.getNotAfter())
+        ) {
+            throw new BadRequestAlertException("Invalid validity window", ENTITY_NAME, "tokenwindowinvalid");
+        }
+        return checkinTokenService
+            .issue(checkinTokenDTO)
+            .map(token -> ResponseEntity.status(HttpStatus.CREATED).body(token))
+            .orElseThrow(() -> new BadRequestAlertException("Player not found", ENTITY_NAME, "playernotfound"));
+    }
+
+    /**
+     * {@code POST  /checkins/scan} : Check a player in from a scanned QR token.
+     * <p>
+     * The token is verified in memory, without any lookup.
+     *
+     * @param checkinTokenDTO the scanned token.
+     * @param idempotencyKey the idempotency key of the scan.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new checkinDTO,
+     * or with status {@code 202 (Accepted)} if the checkin was queued by the write-behind buffer,
+     * or with status {@code 400 (Bad Request)} if the token is invalid,
+     * or with status {@code 409 (Conflict)} if the checkin is a duplicate.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/scan")
+    public ResponseEntity<CheckinDTO> scanCheckinToken(
+        @RequestBody CheckinTokenDTO checkinTokenDTO,
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) throws URISyntaxException {
+        LOG.debug("REST request to check in from a token");
+        if (idempotencyKey != null && idempotencyKey.length() > 64) {
+            throw new BadRequestAlertException("Idempotency key longer than 64 characters", ENTITY_NAME, "idempotencykeyinvalid");
+        }
+        return createdResponse(checkinTokenService.scan(checkinTokenDTO.getToken(), idempotencyKey));
+    }
+
+    private ResponseEntity<CheckinDTO> createdResponse(CheckinDTO checkinDTO) throws URISyntaxException {
+        if (checkinDTO.getId() == null) {
+            return ResponseEntity.accepted()
+                .headers(HeaderUtil.createAlert(applicationName, "A new checkin is queued", ENTITY_NAME))
+                .body(checkinDTO);
+        }
         return ResponseEntity.created(new URI("/api/checkins/" + checkinDTO.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, checkinDTO.getId().toString()))
             .body(checkinDTO);
     }
 
+    /**
+     * {@code POST  /checkins/bulk} : Create a batch of new checkins.
+     *
+     * @param checkinDTOs the checkinDTOs to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each checkin,
+     * or with status {@code 400 (Bad Request)} if the batch is too large.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CheckinBulkResultDTO>> createCheckins(@NotNull @RequestBody List<CheckinDTO> checkinDTOs) {
+        LOG.debug("REST request to save {} Checkins", checkinDTOs.size());
+        if (checkinDTOs.size() > applicationProperties.getCheckin().getBulk().getMaxItems()) {
+            throw new BadRequestAlertException("Too many checkins in one batch", ENTITY_NAME, "bulktoolarge");
+        }
+        return ResponseEntity.ok().body(checkinService.saveAll(checkinDTOs));
+    }
+
+    /**
+     * {@code GET  /checkins/live} : stream the checkin counters of the current day as Server-Sent Events.
+     * <p>
+     * The current counters are sent on subscription, then again whenever they change, at most once per tick.
+     * <p>
+     * Like the rest of the API, the stream requires the {@code Authorization: Bearer} header, which the browser
+     * {@code EventSource} cannot send: clients read it with {@code fetch} instead, see {@code openEventStream} in
+     * {@code app/shared/util/event-stream.ts}.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the {@code counters} event stream in body,
+     * or with status {@code 503 (Service Unavailable)} if too many clients are subscribed.
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> getLiveCheckinCounters() {
+        LOG.debug("REST request to subscribe to the live Checkin counters");
+        return checkinLiveBroadcaster
+            .subscribe()
+            .map(emitter -> ResponseEntity.ok().body(emitter))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
     /**
      * {@code PUT  /checkins/:id} : Updates an existing checkin.
      *
@@ -139,13 +287,44 @@ public class CheckinResource {
      * {@code GET  /checkins} : get all the checkins.
      *
      * @param pageable the pagination information.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of checkins in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<CheckinDTO>> getAllCheckins(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<CheckinDTO>> getAllCheckins(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get a page of Checkins");
-        Page<CheckinDTO> page = checkinService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, CheckinDTO.class, ENTITY_NAME);
+        if (cursor != null) {
+            CursorPage<CheckinDTO> cursorPage = checkinService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
+        }
+        Slice<CheckinDTO> page = summary || !fieldSet.isEmpty()
+            ? checkinService.findAllSummaries(pageable, countMode)
+            : checkinService.findAll(pageable, countMode);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
@@ -153,11 +332,16 @@ public class CheckinResource {
      * {@code GET  /checkins/:id} : get the "id" checkin.
      *
      * @param id the id of the checkinDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the checkinDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CheckinDTO> getCheckin(@PathVariable("id") Long id) {
+    public ResponseEntity<CheckinDTO> getCheckin(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Checkin : {}", id);
+        sparseFieldsets.parse(fields, CheckinDTO.class, ENTITY_NAME);
         Optional<CheckinDTO> checkinDTO = checkinService.findOne(id);
         return ResponseUtil.wrapOrNotFound(checkinDTO);
     }
@@ -1,28 +1,48 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.FileDataRepository;
+import com.myapp.repository.StagedBlob;
+import com.myapp.service.CountMode;
+import com.myapp.service.FileBlobService;
 import com.myapp.service.FileDataService;
+import com.myapp.service.ImageDerivativeService;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.FileDataDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.FileContentUtil;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -36,6 +56,15 @@ public class FileDataResource {
 
     private static final String ENTITY_NAME = "fileData";
 
+    /**
+     * The query parameter of the content URLs carrying the hash of the content, which makes them immutable.
+     */
+    private static final String VERSION_PARAMETER = "v";
+
+    private static final CacheControl IMMUTABLE_CONTENT = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    private static final CacheControl MUTABLE_CONTENT = CacheControl.noCache().cachePrivate();
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -43,9 +72,24 @@ public class FileDataResource {
 
     private final FileDataRepository fileDataRepository;
 
-    public FileDataResource(FileDataService fileDataService, FileDataRepository fileDataRepository) {
+    private final SparseFieldsets sparseFieldsets;
+
+    private final FileBlobService fileBlobService;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    public FileDataResource(
+        FileDataService fileDataService,
+        FileDataRepository fileDataRepository,
+        SparseFieldsets sparseFieldsets,
+        FileBlobService fileBlobService,
+        ImageDerivativeService imageDerivativeService
+    ) {
         this.fileDataService = fileDataService;
         this.fileDataRepository = fileDataRepository;
+        this.sparseFieldsets = sparseFieldsets;
+        this.fileBlobService = fileBlobService;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
     /**
@@ -136,35 +180,169 @@ public class FileDataResource {
         );
     }
 
+    /**
+     * {@code PUT  /file-data/:id/content} : Uploads the content of an existing fileData, replacing its previous content.
+     * <p>
+     * The request body is the content itself, streamed to the blob store without being held in memory; an identical
+     * content already stored is shared instead of stored again.
+     *
+     * @param id the id of the fileData.
+     * @param request the request, whose body is the content and whose {@code Content-Type} is the media type of the content.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated fileDataDTO,
+     * or with status {@code 404 (Not Found)} if the fileData is not found,
+     * or with status {@code 413 (Payload Too Large)} if the content exceeds {@code application.file-data.max-size}.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PutMapping("/{id}/content")
+    public ResponseEntity<FileDataDTO> updateFileDataContent(@PathVariable("id") Long id, HttpServletRequest request) throws IOException {
+        LOG.debug("REST request to update the content of FileData : {}", id);
+        if (!fileDataRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        String contentType = request.getContentType() != null ? request.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        StagedBlob blob = fileBlobService.stage(request.getInputStream());
+        try {
+            Optional<FileDataDTO> result = fileDataService.updateContent(id, blob, contentType);
+            return ResponseUtil.wrapOrNotFound(
+                result,
+                HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, id.toString())
+            );
+        } finally {
+            fileBlobService.discard(blob);
+        }
+    }
+
+    /**
+     * {@code GET  /file-data/:id/content} : get the content of the "id" fileData.
+     * <p>
+     * The content is written without being copied through the heap, see {@link FileContentUtil}. A single byte range
+     * is served with {@code 206 (Partial Content)}, several are ignored. The hash of the content is a strong
+     * {@code ETag}; with the {@code v} parameter set to it, the URL changes with the content and may be cached for a
+     * year, otherwise caches revalidate with {@code If-None-Match}.
+     * <p>
+     * With the {@code size} parameter, an image is served scaled to fit the size, see {@link ImageDerivativeService}.
+     * A derivative missing after the render timeout is replaced by the original, which is not cached for long.
+     *
+     * @param id the id of the fileData.
+     * @param version the hash of the content, making the response cacheable for a year.
+     * @param size the size of the derivative to serve instead of the content, one of
+     * {@code application.file-data.derivatives.sizes}.
+     * @param range the {@code Range} header.
+     * @param ifRange the {@code If-Range} header, ignoring the range unless it is the {@code ETag} of the content.
+     * @param webRequest the request.
+     * @param response the response.
+     * @throws IOException if the content cannot be read or written.
+     * @throws ResponseStatusException with status {@code 404 (Not Found)} if the fileData is not found or has no content.
+     * @throws BadRequestAlertException with status {@code 400 (Bad Request)} if the size is not configured.
+     */
+    @GetMapping("/{id}/content")
+    public void getFileDataContent(
+        @PathVariable("id") Long id,
+        @RequestParam(name = VERSION_PARAMETER, required = false) String version,
+        @RequestParam(name = "size", required = false) Integer size,
+        @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+        ServletWebRequest webRequest,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to get the content of FileData : {}", id);
+        if (size != null && !imageDerivativeService.getSizes().contains(size)) {
+            throw new BadRequestAlertException("Invalid size", ENTITY_NAME, "sizeinvalid");
+        }
+        FileDataDTO fileDataDTO = fileDataService
+            .findOne(id)
+            .filter(fileData -> fileData.getContentHash() != null)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        String hash = fileDataDTO.getContentHash();
+        boolean derivative = size != null && imageDerivativeService.awaitDerivative(hash, fileDataDTO.getContentType(), size);
+        String etag = "\"" + (derivative ? hash + "-" + size : hash) + "\"";
+        boolean immutable = hash.equals(version) && (size == null || derivative);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? IMMUTABLE_CONTENT : MUTABLE_CONTENT).getHeaderValue());
+        if (webRequest.checkNotModified(etag)) {
+            return;
+        }
+        response.setContentType(
+            derivative ? imageDerivativeService.getDerivativeType(fileDataDTO.getContentType()) : fileDataDTO.getContentType()
+        );
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        try (FileChannel channel = derivative ? imageDerivativeService.openDerivative(hash, size) : fileBlobService.open(hash)) {
+            long length = channel.size();
+            long start = 0;
+            long end = length - 1;
+            HttpRange byteRange = ifRange == null || ifRange.equals(etag) ? parseRange(range) : null;
+            if (byteRange != null) {
+                start = byteRange.getRangeStart(length);
+                end = byteRange.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentLengthLong(end - start + 1);
+            if (!HttpMethod.HEAD.matches(webRequest.getRequest().getMethod())) {
+                FileContentUtil.write(response, channel, start, end - start + 1);
+            }
+        }
+    }
+
     /**
      * {@code GET  /file-data} : get all the fileData.
      *
      * @param pageable the pagination information.
-     * @param filter the filter of the request.
+     * @param filter the filter of the request, {@code tournament-is-null}, {@code season-is-null} or {@code camp-is-null}, paginated
+     * without counting.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of fileData in body.
      */
     @GetMapping("")
     public ResponseEntity<List<FileDataDTO>> getAllFileData(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "filter", required = false) String filter
+        @RequestParam(name = "filter", required = false) String filter,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
     ) {
-        if ("tournament-is-null".equals(filter)) {
-            LOG.debug("REST request to get all FileDatas where tournament is null");
-            return new ResponseEntity<>(fileDataService.findAllWhereTournamentIsNull(), HttpStatus.OK);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, FileDataDTO.class, ENTITY_NAME);
+        if ("tournament-is-null".equals(filter) || "season-is-null".equals(filter) || "camp-is-null".equals(filter)) {
+            LOG.debug("REST request to get a page of FileData with filter {}", filter);
+            Slice<FileDataDTO> page = switch (filter) {
+                case "tournament-is-null" -> fileDataService.findAllWhereTournamentIsNull(pageable);
+                case "season-is-null" -> fileDataService.findAllWhereSeasonIsNull(pageable);
+                default -> fileDataService.findAllWhereCampIsNull(pageable);
+            };
+            HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
         }
-
-        if ("season-is-null".equals(filter)) {
-            LOG.debug("REST request to get all FileDatas where season is null");
-            return new ResponseEntity<>(fileDataService.findAllWhereSeasonIsNull(), HttpStatus.OK);
+        LOG.debug("REST request to get a page of FileData");
+        if (cursor != null) {
+            CursorPage<FileDataDTO> cursorPage = fileDataService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
         }
-
-        if ("camp-is-null".equals(filter)) {
-            LOG.debug("REST request to get all FileDatas where camp is null");
-            return new ResponseEntity<>(fileDataService.findAllWhereCampIsNull(), HttpStatus.OK);
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
         }
-        LOG.debug("REST request to get a page of FileData");
-        Page<FileDataDTO> page = fileDataService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        Slice<FileDataDTO> page = summary || !fieldSet.isEmpty()
+            ? fileDataService.findAllSummaries(pageable, countMode)
+            : fileDataService.findAll(pageable, countMode);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
@@ -172,11 +350,16 @@ public class FileDataResource {
      * {@code GET  /file-data/:id} : get the "id" fileData.
      *
      * @param id the id of the fileDataDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the fileDataDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FileDataDTO> getFileData(@PathVariable("id") Long id) {
+    public ResponseEntity<FileDataDTO> getFileData(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get FileData : {}", id);
+        sparseFieldsets.parse(fields, FileDataDTO.class, ENTITY_NAME);
         Optional<FileDataDTO> fileDataDTO = fileDataService.findOne(id);
         return ResponseUtil.wrapOrNotFound(fileDataDTO);
     }
@@ -195,4 +378,17 @@ public class FileDataResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static HttpRange parseRange(String range) {
+        if (range == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            // An invalid range is ignored, the whole content is served
+            return null;
+        }
+    }
 }
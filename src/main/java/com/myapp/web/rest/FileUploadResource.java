@@ -0,0 +1,120 @@
+package com.myapp.web.rest;
+
+import com.myapp.service.FileUploadService;
+import com.myapp.service.dto.FileDataDTO;
+import com.myapp.service.dto.FileUploadDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for the resumable uploads of {@link com.myapp.domain.FileData}, see {@link FileUploadService}.
+ * <p>
+ * A client creates an upload with the size and the SHA-256 of the content, sends its chunks with
+ * {@code PUT /file-data/uploads/:uploadId?offset=} in any order, then completes it; after an interruption, it gets the
+ * upload to find the ranges already received and sends the missing ones.
+ */
+@RestController
+@RequestMapping("/api/file-data/uploads")
+public class FileUploadResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileUploadResource.class);
+
+    private static final String ENTITY_NAME = "fileData";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final FileUploadService fileUploadService;
+
+    public FileUploadResource(FileUploadService fileUploadService) {
+        this.fileUploadService = fileUploadService;
+    }
+
+    /**
+     * {@code POST  /file-data/uploads} : Create a new upload.
+     *
+     * @param fileUploadDTO the file data and the size and SHA-256 of its content.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new upload, or with status {@code 413 (Payload Too Large)} if the content is too large.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    public ResponseEntity<FileUploadDTO> createFileUpload(@Valid @RequestBody FileUploadDTO fileUploadDTO) throws URISyntaxException {
+        LOG.debug("REST request to create FileUpload : {}", fileUploadDTO);
+        fileUploadDTO = fileUploadService.create(fileUploadDTO);
+        return ResponseEntity.created(new URI("/api/file-data/uploads/" + fileUploadDTO.getUploadId())).body(fileUploadDTO);
+    }
+
+    /**
+     * {@code GET  /file-data/uploads/:uploadId} : get the "uploadId" upload, with the ranges received so far.
+     *
+     * @param uploadId the id of the upload.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the upload, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<FileUploadDTO> getFileUpload(@PathVariable("uploadId") String uploadId) {
+        LOG.debug("REST request to get FileUpload : {}", uploadId);
+        return ResponseUtil.wrapOrNotFound(fileUploadService.findOne(uploadId));
+    }
+
+    /**
+     * {@code PUT  /file-data/uploads/:uploadId?offset=} : write a chunk of the "uploadId" upload, the raw request body.
+     *
+     * @param uploadId the id of the upload.
+     * @param offset the position of the chunk in the content.
+     * @param request the request, whose body is the chunk.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the upload, or with status {@code 400 (Bad Request)} if the chunk does not fit in the content, or with status {@code 404 (Not Found)}.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<FileUploadDTO> writeFileUploadChunk(
+        @PathVariable("uploadId") String uploadId,
+        @RequestParam("offset") long offset,
+        HttpServletRequest request
+    ) throws IOException {
+        LOG.debug("REST request to write a chunk of FileUpload : {}, {}", uploadId, offset);
+        return ResponseUtil.wrapOrNotFound(fileUploadService.writeChunk(uploadId, offset, request.getInputStream()));
+    }
+
+    /**
+     * {@code POST  /file-data/uploads/:uploadId/complete} : complete the "uploadId" upload, creating its file data.
+     *
+     * @param uploadId the id of the upload.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new fileDataDTO, or with status {@code 400 (Bad Request)} if a chunk is missing or the content does not match its SHA-256, or with status {@code 404 (Not Found)}.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<FileDataDTO> completeFileUpload(@PathVariable("uploadId") String uploadId) throws URISyntaxException {
+        LOG.debug("REST request to complete FileUpload : {}", uploadId);
+        Optional<FileDataDTO> result = fileUploadService.complete(uploadId);
+        if (result.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        FileDataDTO fileDataDTO = result.orElseThrow();
+        return ResponseEntity.created(new URI("/api/file-data/" + fileDataDTO.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, fileDataDTO.getId().toString()))
+            .body(fileDataDTO);
+    }
+
+    /**
+     * {@code DELETE  /file-data/uploads/:uploadId} : abort the "uploadId" upload.
+     *
+     * @param uploadId the id of the upload.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)}.
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abortFileUpload(@PathVariable("uploadId") String uploadId) {
+        LOG.debug("REST request to abort FileUpload : {}", uploadId);
+        return fileUploadService.abort(uploadId) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
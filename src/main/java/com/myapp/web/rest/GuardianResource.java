@@ -1,9 +1,18 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.GuardianRepository;
+import com.myapp.service.CountMode;
+import com.myapp.service.GuardianQueryService;
 import com.myapp.service.GuardianService;
+import com.myapp.service.TypeaheadService;
+import com.myapp.service.criteria.GuardianCriteria;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.GuardianDTO;
+import com.myapp.service.dto.SeekCursor;
+import com.myapp.service.dto.TypeaheadOptionDTO;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +20,18 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,9 +52,24 @@ public class GuardianResource {
 
     private final GuardianRepository guardianRepository;
 
-    public GuardianResource(GuardianService guardianService, GuardianRepository guardianRepository) {
+    private final GuardianQueryService guardianQueryService;
+
+    private final TypeaheadService typeaheadService;
+
+    private final SparseFieldsets sparseFieldsets;
+
+    public GuardianResource(
+        GuardianService guardianService,
+        GuardianRepository guardianRepository,
+        GuardianQueryService guardianQueryService,
+        TypeaheadService typeaheadService,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.guardianService = guardianService;
         this.guardianRepository = guardianRepository;
+        this.guardianQueryService = guardianQueryService;
+        this.typeaheadService = typeaheadService;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
@@ -139,26 +164,99 @@ public class GuardianResource {
      * {@code GET  /guardians} : get all the guardians.
      *
      * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match, served by an index; the page is counted exactly.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of guardians in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<GuardianDTO>> getAllGuardians(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of Guardians");
-        Page<GuardianDTO> page = guardianService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+    public ResponseEntity<List<GuardianDTO>> getAllGuardians(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        GuardianCriteria criteria,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
+        LOG.debug("REST request to get a page of Guardians by criteria: {}", criteria);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, GuardianDTO.class, ENTITY_NAME);
+        if (criteria.hasFilters()) {
+            if (cursor != null) {
+                throw new BadRequestAlertException("Filters cannot be used with a cursor", ENTITY_NAME, "filtercursor");
+            }
+            Page<GuardianDTO> page = guardianQueryService.findByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
+        }
+        if (cursor != null) {
+            CursorPage<GuardianDTO> cursorPage = guardianService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
+        }
+        Slice<GuardianDTO> page = summary || !SparseFieldsets.includesAny(fieldSet, "players")
+            ? guardianService.findAllSummaries(pageable, countMode)
+            : guardianService.findAll(pageable, countMode);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /guardians/_typeahead?q=:q} : get the guardians offered by a relationship picker.
+     *
+     * @param q the beginnings of the words of the label.
+     * @param ids the ids of the guardians whose options to get instead, to display the current values of a picker.
+     * @param limit the maximum number of options, at most {@value TypeaheadService#MAX_LIMIT}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the options in body.
+     */
+    @GetMapping("/_typeahead")
+    public ResponseEntity<List<TypeaheadOptionDTO>> getGuardianTypeahead(
+        @RequestParam(name = "q", required = false) String q,
+        @RequestParam(name = "ids", required = false) List<Long> ids,
+        @RequestParam(name = "limit", required = false, defaultValue = "20") int limit
+    ) {
+        LOG.debug("REST request to get the typeahead options of Guardians : {}", q);
+        if (ids != null) {
+            if (ids.size() > TypeaheadService.MAX_IDS) {
+                throw new BadRequestAlertException("Too many ids", ENTITY_NAME, "toomanyids");
+            }
+            return ResponseEntity.ok(typeaheadService.findGuardians(ids));
+        }
+        return ResponseEntity.ok(typeaheadService.searchGuardians(q, limit));
+    }
+
     /**
      * {@code GET  /guardians/:id} : get the "id" guardian.
      *
      * @param id the id of the guardianDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent; the entity is not loaded when
+     * the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the guardianDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GuardianDTO> getGuardian(@PathVariable("id") Long id) {
+    public ResponseEntity<GuardianDTO> getGuardian(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Guardian : {}", id);
-        Optional<GuardianDTO> guardianDTO = guardianService.findOne(id);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, GuardianDTO.class, ENTITY_NAME);
+        Optional<GuardianDTO> guardianDTO = SparseFieldsets.includesAny(fieldSet, "players")
+            ? guardianService.findOne(id)
+            : guardianService.findOneSummary(id);
         return ResponseUtil.wrapOrNotFound(guardianDTO);
     }
 
@@ -1,9 +1,20 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.PlayerRepository;
+import com.myapp.service.CheckinService;
+import com.myapp.service.CountMode;
+import com.myapp.service.PlayerQueryService;
 import com.myapp.service.PlayerService;
+import com.myapp.service.TypeaheadService;
+import com.myapp.service.criteria.PlayerCriteria;
+import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.dto.SeekCursor;
+import com.myapp.service.dto.TypeaheadOptionDTO;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +22,18 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,9 +54,28 @@ public class PlayerResource {
 
     private final PlayerRepository playerRepository;
 
-    public PlayerResource(PlayerService playerService, PlayerRepository playerRepository) {
+    private final PlayerQueryService playerQueryService;
+
+    private final TypeaheadService typeaheadService;
+
+    private final CheckinService checkinService;
+
+    private final SparseFieldsets sparseFieldsets;
+
+    public PlayerResource(
+        PlayerService playerService,
+        PlayerRepository playerRepository,
+        CheckinService checkinService,
+        PlayerQueryService playerQueryService,
+        TypeaheadService typeaheadService,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.playerService = playerService;
         this.playerRepository = playerRepository;
+        this.checkinService = checkinService;
+        this.playerQueryService = playerQueryService;
+        this.typeaheadService = typeaheadService;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
@@ -137,40 +168,145 @@ public class PlayerResource {
 
     /**
      * {@code GET  /players} : get all the players.
+     * <p>
+     * The ids of the guardians and teams are always returned, read in batch for the whole page: the former {@code eagerload}
+     * parameter is still accepted, and ignored.
      *
      * @param pageable the pagination information.
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param criteria the criteria which the requested entities should match, served by an index; the page is counted exactly.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
+     * @param compactIds whether to write the ids of the guardians and teams as arrays of numbers, {@code guardianIds}
+     * and {@code teamIds}, instead of {@code guardians} and {@code teams}, without filters.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of players in body.
      */
     @GetMapping("")
     public ResponseEntity<List<PlayerDTO>> getAllPlayers(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
+        PlayerCriteria criteria,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields,
+        @RequestParam(name = "compactIds", required = false, defaultValue = "false") boolean compactIds
     ) {
-        LOG.debug("REST request to get a page of Players");
-        Page<PlayerDTO> page;
-        if (eagerload) {
-            page = playerService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = playerService.findAll(pageable);
+        LOG.debug("REST request to get a page of Players by criteria: {}", criteria);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, PlayerDTO.class, ENTITY_NAME);
+        if (criteria.hasFilters()) {
+            if (cursor != null) {
+                throw new BadRequestAlertException("Filters cannot be used with a cursor", ENTITY_NAME, "filtercursor");
+            }
+            Page<PlayerDTO> page = playerQueryService.findByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
+        }
+        if (cursor != null) {
+            CursorPage<PlayerDTO> cursorPage = playerService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize(),
+                compactIds
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
         }
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        Slice<PlayerDTO> page = summary || !SparseFieldsets.includesAny(fieldSet, "guardians", "teams", "guardianIds", "teamIds")
+            ? playerService.findAllSummaries(pageable, countMode)
+            : playerService.findAll(pageable, countMode, compactIds);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /players/_typeahead?q=:q} : get the players offered by a relationship picker.
+     *
+     * @param q the beginnings of the words of the label.
+     * @param ids the ids of the players whose options to get instead, to display the current values of a picker.
+     * @param limit the maximum number of options, at most {@value TypeaheadService#MAX_LIMIT}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the options in body.
+     */
+    @GetMapping("/_typeahead")
+    public ResponseEntity<List<TypeaheadOptionDTO>> getPlayerTypeahead(
+        @RequestParam(name = "q", required = false) String q,
+        @RequestParam(name = "ids", required = false) List<Long> ids,
+        @RequestParam(name = "limit", required = false, defaultValue = "20") int limit
+    ) {
+        LOG.debug("REST request to get the typeahead options of Players : {}", q);
+        if (ids != null) {
+            if (ids.size() > TypeaheadService.MAX_IDS) {
+                throw new BadRequestAlertException("Too many ids", ENTITY_NAME, "toomanyids");
+            }
+            return ResponseEntity.ok(typeaheadService.findPlayers(ids));
+        }
+        return ResponseEntity.ok(typeaheadService.searchPlayers(q, limit));
+    }
+
     /**
      * {@code GET  /players/:id} : get the "id" player.
      *
      * @param id the id of the playerDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent; the entity is not loaded when
+     * the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the playerDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlayerDTO> getPlayer(@PathVariable("id") Long id) {
+    public ResponseEntity<PlayerDTO> getPlayer(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Player : {}", id);
-        Optional<PlayerDTO> playerDTO = playerService.findOne(id);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, PlayerDTO.class, ENTITY_NAME);
+        Optional<PlayerDTO> playerDTO = SparseFieldsets.includesAny(fieldSet, "guardians", "teams")
+            ? playerService.findOne(id)
+            : playerService.findOneSummary(id);
         return ResponseUtil.wrapOrNotFound(playerDTO);
     }
 
+    /**
+     * {@code GET  /players/:id/checkins} : get the checkins of the "id" player, most recent first.
+     *
+     * @param id the id of the player.
+     * @param before the cursor to get the checkins older than the ones already seen.
+     * @param after the cursor to get the checkins more recent than the ones already seen.
+     * @param size the page size.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of checkins in body,
+     * or with status {@code 404 (Not Found)} if the player does not exist.
+     */
+    @GetMapping("/{id}/checkins")
+    public ResponseEntity<List<CheckinDTO>> getPlayerCheckins(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "before", required = false) String before,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get the Checkins of Player : {}", id);
+        if (before != null && after != null) {
+            throw new BadRequestAlertException("Only one of before and after can be given", ENTITY_NAME, "cursorconflict");
+        }
+        if (!playerRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        CursorPage<CheckinDTO> page = checkinService.findTimeline(id, SeekCursor.decode(before), SeekCursor.decode(after), size);
+        HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            page,
+            "before",
+            "after"
+        );
+        return ResponseEntity.ok().headers(headers).body(page.content());
+    }
+
     /**
      * {@code DELETE  /players/:id} : delete the "id" player.
      *
@@ -0,0 +1,67 @@
+package com.myapp.web.rest;
+
+import com.myapp.service.NameSearchService;
+import com.myapp.service.dto.GuardianDTO;
+import com.myapp.service.dto.PlayerDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller searching {@link com.myapp.domain.Player}s and {@link com.myapp.domain.Guardian}s by name.
+ */
+@RestController
+@RequestMapping("/api/_search")
+public class SearchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchResource.class);
+
+    private final NameSearchService nameSearchService;
+
+    public SearchResource(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    /**
+     * {@code GET  /_search/players?query=:query} : search players by name.
+     *
+     * @param query the words to search, possibly partial or misspelled.
+     * @param pageable the pagination information, the best matches come first whatever the sort.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching players in body.
+     */
+    @GetMapping("/players")
+    public ResponseEntity<List<PlayerDTO>> searchPlayers(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Players for query {}", query);
+        Page<PlayerDTO> page = nameSearchService.searchPlayers(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /_search/guardians?query=:query} : search guardians by name.
+     *
+     * @param query the words to search, possibly partial or misspelled.
+     * @param pageable the pagination information, the best matches come first whatever the sort.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching guardians in body.
+     */
+    @GetMapping("/guardians")
+    public ResponseEntity<List<GuardianDTO>> searchGuardians(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Guardians for query {}", query);
+        Page<GuardianDTO> page = nameSearchService.searchGuardians(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+}
@@ -1,9 +1,16 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.SeasonRepository;
+import com.myapp.service.CountMode;
+import com.myapp.service.SeasonQueryService;
 import com.myapp.service.SeasonService;
+import com.myapp.service.criteria.SeasonCriteria;
+import com.myapp.service.dto.CursorPage;
 import com.myapp.service.dto.SeasonDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +18,18 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,9 +50,20 @@ public class SeasonResource {
 
     private final SeasonRepository seasonRepository;
 
-    public SeasonResource(SeasonService seasonService, SeasonRepository seasonRepository) {
+    private final SeasonQueryService seasonQueryService;
+
+    private final SparseFieldsets sparseFieldsets;
+
+    public SeasonResource(
+        SeasonService seasonService,
+        SeasonRepository seasonRepository,
+        SeasonQueryService seasonQueryService,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.seasonService = seasonService;
         this.seasonRepository = seasonRepository;
+        this.seasonQueryService = seasonQueryService;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
@@ -139,22 +158,57 @@ public class SeasonResource {
      * {@code GET  /seasons} : get all the seasons.
      *
      * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match, served by an index; the page is counted exactly.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of seasons in body.
      */
     @GetMapping("")
     public ResponseEntity<List<SeasonDTO>> getAllSeasons(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
+        SeasonCriteria criteria,
+        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
     ) {
-        LOG.debug("REST request to get a page of Seasons");
-        Page<SeasonDTO> page;
-        if (eagerload) {
-            page = seasonService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = seasonService.findAll(pageable);
+        LOG.debug("REST request to get a page of Seasons by criteria: {}", criteria);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, SeasonDTO.class, ENTITY_NAME);
+        if (criteria.hasFilters()) {
+            if (cursor != null) {
+                throw new BadRequestAlertException("Filters cannot be used with a cursor", ENTITY_NAME, "filtercursor");
+            }
+            Page<SeasonDTO> page = seasonQueryService.findByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
         }
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        if (cursor != null) {
+            CursorPage<SeasonDTO> cursorPage = seasonService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize(),
+                eagerload
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
+        }
+        Slice<SeasonDTO> page = summary || !fieldSet.isEmpty()
+            ? seasonService.findAllSummaries(pageable, countMode)
+            : seasonService.findAll(pageable, countMode, eagerload);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
@@ -162,11 +216,16 @@ public class SeasonResource {
      * {@code GET  /seasons/:id} : get the "id" season.
      *
      * @param id the id of the seasonDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the seasonDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SeasonDTO> getSeason(@PathVariable("id") Long id) {
+    public ResponseEntity<SeasonDTO> getSeason(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Season : {}", id);
+        sparseFieldsets.parse(fields, SeasonDTO.class, ENTITY_NAME);
         Optional<SeasonDTO> seasonDTO = seasonService.findOne(id);
         return ResponseUtil.wrapOrNotFound(seasonDTO);
     }
@@ -0,0 +1,247 @@
+package com.myapp.web.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.myapp.service.dto.PlayerDTO;
+import com.myapp.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sparse fieldsets: the {@code fields} request parameter, a comma separated list of property names, limits the
+ * properties of the DTOs written in the response body to the listed ones.
+ * <p>
+ * Only the handler methods declaring a {@code fields} request parameter are concerned; they parse it with
+ * {@link #parse(String, Class, String)} to reject unknown properties and to skip the queries of the properties left
+ * out. The properties of the top-level DTOs are filtered, nested DTOs such as the ids of relationships are written
+ * whole. Each field set gets a filtered {@link ObjectWriter}, built once and cached, so a request looks up a writer
+ * instead of introspecting the DTOs again.
+ */
+@RestControllerAdvice
+public class SparseFieldsets implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private static final String FILTER_ID = "sparseFieldset";
+
+    private static final String DTO_PACKAGE = PlayerDTO.class.getPackageName();
+
+    /**
+     * Maximum number of cached writers, beyond which the writers of new field sets are built for each request.
+     */
+    private static final int MAX_CACHED_WRITERS = 256;
+
+    private final ObjectMapper fieldsMapper;
+
+    private final Map<String, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Set<String>> propertyNames = new ConcurrentHashMap<>();
+
+    private final Map<Method, Boolean> fieldsMethods = new ConcurrentHashMap<>();
+
+    public SparseFieldsets(ObjectMapper objectMapper) {
+        this.fieldsMapper = objectMapper.copy();
+        this.fieldsMapper.setAnnotationIntrospector(
+            AnnotationIntrospector.pair(new DtoFilterIntrospector(), objectMapper.getSerializationConfig().getAnnotationIntrospector())
+        );
+    }
+
+    /**
+     * Parse the {@code fields} request parameter of a handler method.
+     *
+     * @param fields the parameter, {@code null} or blank for all the properties.
+     * @param type the type of the DTOs written in the response body.
+     * @param entityName the name of the entity, for the error.
+     * @return the names of the properties to write, empty for all the properties.
+     * @throws BadRequestAlertException if a name is not a property of the DTOs.
+     */
+    public Set<String> parse(String fields, Class<?> type, String entityName) {
+        Set<String> fieldSet = names(fields);
+        Set<String> known = propertyNames.computeIfAbsent(type, this::findPropertyNames);
+        for (String field : fieldSet) {
+            if (!known.contains(field)) {
+                throw new BadRequestAlertException("Unknown field: " + field, entityName, "fieldinvalid");
+            }
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Check whether a field set includes any of some properties, to decide whether to query them.
+     *
+     * @param fieldSet the field set, as returned by {@link #parse(String, Class, String)}.
+     * @param fields the names of the properties.
+     * @return {@code true} if the field set is empty or includes one of the properties.
+     */
+    public static boolean includesAny(Set<String> fieldSet, String... fields) {
+        return fieldSet.isEmpty() || Arrays.stream(fields).anyMatch(fieldSet::contains);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = returnType.getMethod();
+        return (
+            method != null &&
+            AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) &&
+            fieldsMethods.computeIfAbsent(method, SparseFieldsets::declaresFields)
+        );
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        Set<String> fieldSet = names(servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+        if (fieldSet.isEmpty()) {
+            return body;
+        }
+        return new SparseBody(body, writer(fieldSet));
+    }
+
+    private ObjectWriter writer(Set<String> fieldSet) {
+        String key = String.join(",", fieldSet);
+        ObjectWriter writer = writers.get(key);
+        if (writer == null) {
+            writer = fieldsMapper.writer(new SimpleFilterProvider().addFilter(FILTER_ID, new TopLevelFilter(fieldSet)));
+            if (writers.size() < MAX_CACHED_WRITERS) {
+                writers.putIfAbsent(key, writer);
+            }
+        }
+        return writer;
+    }
+
+    private Set<String> findPropertyNames(Class<?> type) {
+        return fieldsMapper
+            .getSerializationConfig()
+            .introspect(fieldsMapper.constructType(type))
+            .findProperties()
+            .stream()
+            .filter(BeanPropertyDefinition::couldSerialize)
+            .map(BeanPropertyDefinition::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Set<String> names(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                names.add(field.strip());
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private static boolean declaresFields(Method method) {
+        return Arrays.stream(method.getParameters())
+            .map(parameter -> parameter.getAnnotation(RequestParam.class))
+            .anyMatch(requestParam -> requestParam != null && FIELDS_PARAMETER.equals(requestParam.name()));
+    }
+
+    /**
+     * Gives the DTOs the id of the sparse fieldset filter, only in the mapper of the filtered writers.
+     */
+    private static final class DtoFilterIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            return annotated instanceof AnnotatedClass && DTO_PACKAGE.equals(annotated.getRawType().getPackageName()) ? FILTER_ID : null;
+        }
+    }
+
+    /**
+     * Writes the listed properties of the top-level DTOs, that is the body or the elements of a body array, and all
+     * the properties of the nested ones.
+     */
+    private static final class TopLevelFilter extends SimpleBeanPropertyFilter {
+
+        private final Set<String> fieldSet;
+
+        TopLevelFilter(Set<String> fieldSet) {
+            this.fieldSet = fieldSet;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+            if (fieldSet.contains(writer.getName()) || !isTopLevel(generator.getOutputContext())) {
+                writer.serializeAsField(pojo, generator, provider);
+            } else if (!generator.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, generator, provider);
+            }
+        }
+
+        private static boolean isTopLevel(JsonStreamContext objectContext) {
+            JsonStreamContext parent = objectContext.getParent();
+            return parent.inRoot() || (parent.inArray() && parent.getParent().inRoot());
+        }
+    }
+
+    /**
+     * A response body written by a filtered writer, within the generator of the message converter.
+     */
+    private static final class SparseBody implements JsonSerializable {
+
+        private final Object value;
+
+        private final ObjectWriter writer;
+
+        SparseBody(Object value, ObjectWriter writer) {
+            this.value = value;
+            this.writer = writer;
+        }
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writer.writeValue(generator, value);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+            throws IOException {
+            serialize(generator, provider);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.TeamRepository;
+import com.myapp.service.CountMode;
+import com.myapp.service.PlayerService;
+import com.myapp.service.TeamQueryService;
 import com.myapp.service.TeamService;
+import com.myapp.service.TypeaheadService;
+import com.myapp.service.criteria.TeamCriteria;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.PlayerDTO;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.dto.TeamDTO;
+import com.myapp.service.dto.TypeaheadOptionDTO;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +22,18 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -40,11 +52,30 @@ public class TeamResource {
 
     private final TeamService teamService;
 
+    private final PlayerService playerService;
+
     private final TeamRepository teamRepository;
 
-    public TeamResource(TeamService teamService, TeamRepository teamRepository) {
+    private final TeamQueryService teamQueryService;
+
+    private final TypeaheadService typeaheadService;
+
+    private final SparseFieldsets sparseFieldsets;
+
+    public TeamResource(
+        TeamService teamService,
+        PlayerService playerService,
+        TeamRepository teamRepository,
+        TeamQueryService teamQueryService,
+        TypeaheadService typeaheadService,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.teamService = teamService;
+        this.playerService = playerService;
         this.teamRepository = teamRepository;
+        this.teamQueryService = teamQueryService;
+        this.typeaheadService = typeaheadService;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
@@ -137,40 +168,145 @@ public class TeamResource {
 
     /**
      * {@code GET  /teams} : get all the teams.
+     * <p>
+     * The ids of the players are always returned, read in batch for the whole page: the former {@code eagerload}
+     * parameter is still accepted, and ignored.
      *
      * @param pageable the pagination information.
-     * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
+     * @param criteria the criteria which the requested entities should match, served by an index; the page is counted exactly.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
+     * @param compactIds whether to write the ids of the players as an array of numbers, {@code playerIds}, instead of
+     * {@code players}, without filters.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of teams in body.
      */
     @GetMapping("")
     public ResponseEntity<List<TeamDTO>> getAllTeams(
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
-        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
+        TeamCriteria criteria,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields,
+        @RequestParam(name = "compactIds", required = false, defaultValue = "false") boolean compactIds
     ) {
-        LOG.debug("REST request to get a page of Teams");
-        Page<TeamDTO> page;
-        if (eagerload) {
-            page = teamService.findAllWithEagerRelationships(pageable);
-        } else {
-            page = teamService.findAll(pageable);
+        LOG.debug("REST request to get a page of Teams by criteria: {}", criteria);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, TeamDTO.class, ENTITY_NAME);
+        if (criteria.hasFilters()) {
+            if (cursor != null) {
+                throw new BadRequestAlertException("Filters cannot be used with a cursor", ENTITY_NAME, "filtercursor");
+            }
+            Page<TeamDTO> page = teamQueryService.findByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
+        }
+        if (cursor != null) {
+            CursorPage<TeamDTO> cursorPage = teamService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize(),
+                compactIds
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
         }
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        Slice<TeamDTO> page = summary || !SparseFieldsets.includesAny(fieldSet, "players", "playerIds")
+            ? teamService.findAllSummaries(pageable, countMode)
+            : teamService.findAll(pageable, countMode, compactIds);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /teams/_typeahead?q=:q} : get the teams offered by a relationship picker.
+     *
+     * @param q the beginnings of the words of the label.
+     * @param ids the ids of the teams whose options to get instead, to display the current values of a picker.
+     * @param limit the maximum number of options, at most {@value TypeaheadService#MAX_LIMIT}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the options in body.
+     */
+    @GetMapping("/_typeahead")
+    public ResponseEntity<List<TypeaheadOptionDTO>> getTeamTypeahead(
+        @RequestParam(name = "q", required = false) String q,
+        @RequestParam(name = "ids", required = false) List<Long> ids,
+        @RequestParam(name = "limit", required = false, defaultValue = "20") int limit
+    ) {
+        LOG.debug("REST request to get the typeahead options of Teams : {}", q);
+        if (ids != null) {
+            if (ids.size() > TypeaheadService.MAX_IDS) {
+                throw new BadRequestAlertException("Too many ids", ENTITY_NAME, "toomanyids");
+            }
+            return ResponseEntity.ok(typeaheadService.findTeams(ids));
+        }
+        return ResponseEntity.ok(typeaheadService.searchTeams(q, limit));
+    }
+
     /**
      * {@code GET  /teams/:id} : get the "id" team.
      *
      * @param id the id of the teamDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent; the players are not counted
+     * without {@code playerCount}. The roster is not part of the details, see {@link #getTeamPlayers}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the teamDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDTO> getTeam(@PathVariable("id") Long id) {
+    public ResponseEntity<TeamDTO> getTeam(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Team : {}", id);
-        Optional<TeamDTO> teamDTO = teamService.findOne(id);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, TeamDTO.class, ENTITY_NAME);
+        Optional<TeamDTO> teamDTO = SparseFieldsets.includesAny(fieldSet, "playerCount")
+            ? teamService.findOne(id)
+            : teamService.findOneSummary(id);
         return ResponseUtil.wrapOrNotFound(teamDTO);
     }
 
+    /**
+     * {@code GET  /teams/:id/players} : get the players of the "id" team, sorted by last name, then first name.
+     *
+     * @param id the id of the team.
+     * @param before the cursor to get the players preceding the ones already seen.
+     * @param after the cursor to get the players following the ones already seen.
+     * @param size the page size, at most {@value PlayerService#MAX_ROSTER_PAGE_SIZE}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of players in body,
+     * or with status {@code 404 (Not Found)} if the team does not exist.
+     */
+    @GetMapping("/{id}/players")
+    public ResponseEntity<List<PlayerDTO>> getTeamPlayers(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "before", required = false) String before,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        LOG.debug("REST request to get the Players of Team : {}", id);
+        if (before != null && after != null) {
+            throw new BadRequestAlertException("Only one of before and after can be given", ENTITY_NAME, "cursorconflict");
+        }
+        if (!teamRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        CursorPage<PlayerDTO> page = playerService.findRoster(id, SeekCursor.decode(before), SeekCursor.decode(after), size);
+        HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            page,
+            "after",
+            "before"
+        );
+        return ResponseEntity.ok().headers(headers).body(page.content());
+    }
+
     /**
      * {@code DELETE  /teams/:id} : delete the "id" team.
      *
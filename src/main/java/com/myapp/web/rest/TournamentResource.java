@@ -1,9 +1,14 @@
 package com.myapp.web.rest;
 
 import com.myapp.repository.TournamentRepository;
+import com.myapp.service.CountMode;
 import com.myapp.service.TournamentService;
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
 import com.myapp.service.dto.TournamentDTO;
 import com.myapp.web.rest.errors.BadRequestAlertException;
+import com.myapp.web.util.SeekPaginationUtil;
+import com.myapp.web.util.SlicePaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -11,17 +16,17 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -42,9 +47,16 @@ public class TournamentResource {
 
     private final TournamentRepository tournamentRepository;
 
-    public TournamentResource(TournamentService tournamentService, TournamentRepository tournamentRepository) {
+    private final SparseFieldsets sparseFieldsets;
+
+    public TournamentResource(
+        TournamentService tournamentService,
+        TournamentRepository tournamentRepository,
+        SparseFieldsets sparseFieldsets
+    ) {
         this.tournamentService = tournamentService;
         this.tournamentRepository = tournamentRepository;
+        this.sparseFieldsets = sparseFieldsets;
     }
 
     /**
@@ -139,13 +151,44 @@ public class TournamentResource {
      * {@code GET  /tournaments} : get all the tournaments.
      *
      * @param pageable the pagination information.
+     * @param cursor the cursor of the page in cursor mode, empty for the first page, or {@code null} for offset pagination.
+     * @param count how to count the entities in offset mode: {@code exact}, the default, {@code estimate} or {@code none}.
+     * @param summary whether to read only the columns shown in lists, without loading the entities, in offset mode.
+     * @param fields the properties to write, comma separated, all of them if absent; the entities are not loaded in
+     * offset mode when the properties are all shown in lists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tournaments in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<TournamentDTO>> getAllTournaments(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<TournamentDTO>> getAllTournaments(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = SeekPaginationUtil.CURSOR_PARAMETER, required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get a page of Tournaments");
-        Page<TournamentDTO> page = tournamentService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        Set<String> fieldSet = sparseFieldsets.parse(fields, TournamentDTO.class, ENTITY_NAME);
+        if (cursor != null) {
+            CursorPage<TournamentDTO> cursorPage = tournamentService.findAll(
+                SeekCursor.decode(cursor),
+                pageable.getSort(),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = SeekPaginationUtil.generateSeekPaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                cursorPage,
+                SeekPaginationUtil.CURSOR_PARAMETER
+            );
+            return ResponseEntity.ok().headers(headers).body(cursorPage.content());
+        }
+        CountMode countMode = CountMode.parse(count);
+        if (countMode == null) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "countinvalid");
+        }
+        Slice<TournamentDTO> page = summary || !fieldSet.isEmpty()
+            ? tournamentService.findAllSummaries(pageable, countMode)
+            : tournamentService.findAll(pageable, countMode);
+        HttpHeaders headers = SlicePaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
@@ -153,11 +196,16 @@ public class TournamentResource {
      * {@code GET  /tournaments/:id} : get the "id" tournament.
      *
      * @param id the id of the tournamentDTO to retrieve.
+     * @param fields the properties to write, comma separated, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tournamentDTO, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TournamentDTO> getTournament(@PathVariable("id") Long id) {
+    public ResponseEntity<TournamentDTO> getTournament(
+        @PathVariable("id") Long id,
+        @RequestParam(name = SparseFieldsets.FIELDS_PARAMETER, required = false) String fields
+    ) {
         LOG.debug("REST request to get Tournament : {}", id);
+        sparseFieldsets.parse(fields, TournamentDTO.class, ENTITY_NAME);
         Optional<TournamentDTO> tournamentDTO = tournamentService.findOne(id);
         return ResponseUtil.wrapOrNotFound(tournamentDTO);
     }
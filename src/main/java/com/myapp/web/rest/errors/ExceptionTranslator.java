@@ -215,6 +215,13 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof AccessDeniedException) return HttpStatus.FORBIDDEN;
         if (err instanceof ConcurrencyFailureException) return HttpStatus.CONFLICT;
         if (err instanceof BadCredentialsException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof com.myapp.service.CheckinWriteBehindException) return HttpStatus.SERVICE_UNAVAILABLE;
+        if (err instanceof com.myapp.service.InvalidCursorException) return HttpStatus.BAD_REQUEST;
+        if (err instanceof com.myapp.service.DuplicateCheckinException) return HttpStatus.CONFLICT;
+        if (err instanceof com.myapp.service.InvalidCheckinTokenException) return HttpStatus.BAD_REQUEST;
+        if (err instanceof com.myapp.service.UnsupportedFilterException) return HttpStatus.BAD_REQUEST;
+        if (err instanceof com.myapp.service.FileTooLargeException) return HttpStatus.PAYLOAD_TOO_LARGE;
+        if (err instanceof com.myapp.service.InvalidUploadException) return HttpStatus.BAD_REQUEST;
         return null;
     }
 
@@ -0,0 +1,74 @@
+package com.myapp.web.util;
+
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Utility class for writing file contents to responses without copying them through the Java heap.
+ * <p>
+ * On Undertow, a range running to the end of its file is sent by the kernel from the page cache to the socket
+ * ({@code sendfile}) through {@link ServletOutputStreamImpl#transferFrom(FileChannel)}, any other range is written from
+ * memory-mapped regions of the file. Other containers, like the mock one of the tests, get the range through
+ * {@link FileChannel#transferTo} to a channel over the response stream.
+ */
+public final class FileContentUtil {
+
+    /**
+     * Size of the regions of a file mapped at once, bounding the address space used by a response.
+     */
+    private static final long MAX_MAPPED_REGION = 16L * 1024 * 1024;
+
+    private FileContentUtil() {}
+
+    /**
+     * Write a range of a file as the body of a response whose status and headers are set.
+     *
+     * @param response the response.
+     * @param source the file.
+     * @param position the position of the first byte of the range.
+     * @param count the number of bytes of the range.
+     * @throws IOException if the file cannot be read or the response cannot be written.
+     */
+    public static void write(HttpServletResponse response, FileChannel source, long position, long count) throws IOException {
+        // Commits the headers through the wrappers of the response, which write the security headers on commit
+        response.flushBuffer();
+        ServletOutputStream out = unwrap(response).getOutputStream();
+        if (out instanceof ServletOutputStreamImpl undertowOut) {
+            if (position + count == source.size()) {
+                source.position(position);
+                undertowOut.transferFrom(source);
+                return;
+            }
+            for (long offset = 0; offset < count; offset += MAX_MAPPED_REGION) {
+                long regionSize = Math.min(MAX_MAPPED_REGION, count - offset);
+                undertowOut.write(source.map(FileChannel.MapMode.READ_ONLY, position + offset, regionSize));
+            }
+            return;
+        }
+        WritableByteChannel target = Channels.newChannel(out);
+        long offset = 0;
+        while (offset < count) {
+            long transferred = source.transferTo(position + offset, count - offset, target);
+            if (transferred <= 0) {
+                throw new EOFException("The file ended before the range was written");
+            }
+            offset += transferred;
+        }
+    }
+
+    private static ServletResponse unwrap(ServletResponse response) {
+        ServletResponse unwrapped = response;
+        while (unwrapped instanceof ServletResponseWrapper wrapper) {
+            unwrapped = wrapper.getResponse();
+        }
+        return unwrapped;
+    }
+}
@@ -0,0 +1,102 @@
+package com.myapp.web.util;
+
+import com.myapp.service.dto.CursorPage;
+import com.myapp.service.dto.SeekCursor;
+import java.text.MessageFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling seek pagination.
+ * <p>
+ * Pagination uses the same principles as the <a href="https://developer.github.com/v3/#pagination">GitHub API</a>,
+ * and follows <a href="http://tools.ietf.org/html/rfc5988">RFC 5988 (Link header)</a>, like
+ * {@link tech.jhipster.web.util.PaginationUtil} does for offset pagination.
+ */
+public final class SeekPaginationUtil {
+
+    /**
+     * The query parameter switching list endpoints to cursor mode.
+     */
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    private static final String OFFSET_PAGE_PARAMETER = "page";
+
+    private SeekPaginationUtil() {}
+
+    /**
+     * Generate pagination headers for a {@link CursorPage}.
+     *
+     * @param uriBuilder the builder of the current request URI.
+     * @param page the page.
+     * @param nextParameter the query parameter carrying the cursor of the next page.
+     * @param previousParameter the query parameter carrying the cursor of the previous page.
+     * @return the {@link HttpHeaders} with a {@code Link} header.
+     */
+    public static HttpHeaders generateSeekPaginationHttpHeaders(
+        UriComponentsBuilder uriBuilder,
+        CursorPage<?> page,
+        String nextParameter,
+        String previousParameter
+    ) {
+        StringBuilder link = new StringBuilder();
+        if (page.nextCursor() != null) {
+            link.append(prepareLink(uriBuilder, nextParameter, previousParameter, page.nextCursor(), "next")).append(",");
+        }
+        if (page.previousCursor() != null) {
+            link.append(prepareLink(uriBuilder, previousParameter, nextParameter, page.previousCursor(), "prev")).append(",");
+        }
+        link.append(prepareLink(uriBuilder, nextParameter, previousParameter, null, "first"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, link.toString());
+        return headers;
+    }
+
+    /**
+     * Generate pagination headers for a {@link CursorPage} of a list endpoint, whose cursors carry their direction.
+     * <p>
+     * The {@code first} link sends an empty cursor, which keeps the endpoint in cursor mode.
+     *
+     * @param uriBuilder the builder of the current request URI.
+     * @param page the page.
+     * @param cursorParameter the query parameter carrying the cursor.
+     * @return the {@link HttpHeaders} with a {@code Link} header.
+     */
+    public static HttpHeaders generateSeekPaginationHttpHeaders(
+        UriComponentsBuilder uriBuilder,
+        CursorPage<?> page,
+        String cursorParameter
+    ) {
+        UriComponentsBuilder builder = uriBuilder.cloneBuilder().replaceQueryParam(OFFSET_PAGE_PARAMETER);
+        StringBuilder link = new StringBuilder();
+        if (page.nextCursor() != null) {
+            link.append(prepareLink(builder, cursorParameter, page.nextCursor().encode(), "next")).append(",");
+        }
+        if (page.previousCursor() != null) {
+            link.append(prepareLink(builder, cursorParameter, page.previousCursor().encode(), "prev")).append(",");
+        }
+        link.append(prepareLink(builder, cursorParameter, "", "first"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, link.toString());
+        return headers;
+    }
+
+    private static String prepareLink(UriComponentsBuilder uriBuilder, String parameter, String cursor, String relType) {
+        UriComponentsBuilder builder = uriBuilder.cloneBuilder().replaceQueryParam(parameter, cursor);
+        return MessageFormat.format(HEADER_LINK_FORMAT, builder.toUriString().replace(",", "%2C").replace(";", "%3B"), relType);
+    }
+
+    private static String prepareLink(
+        UriComponentsBuilder uriBuilder,
+        String parameter,
+        String otherParameter,
+        SeekCursor cursor,
+        String relType
+    ) {
+        UriComponentsBuilder builder = uriBuilder.cloneBuilder().replaceQueryParam(otherParameter);
+        builder = cursor == null ? builder.replaceQueryParam(parameter) : builder.replaceQueryParam(parameter, cursor.encode());
+        return MessageFormat.format(HEADER_LINK_FORMAT, builder.toUriString().replace(",", "%2C").replace(";", "%3B"), relType);
+    }
+}
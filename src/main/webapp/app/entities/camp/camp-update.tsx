@@ -36,7 +36,7 @@ export const CampUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getFileData({}));
+    dispatch(getFileData({ summary: true }));
   }, []);
 
   useEffect(() => {
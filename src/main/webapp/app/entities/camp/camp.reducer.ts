@@ -1,6 +1,7 @@
 import axios from 'axios';
 import { createAsyncThunk, isFulfilled, isPending } from '@reduxjs/toolkit';
-import { cleanEntity } from 'app/shared/util/entity-utils';
+import { cleanEntity, getTotalItems } from 'app/shared/util/entity-utils';
+import { DEFAULT_COUNT_MODE } from 'app/shared/util/pagination.constants';
 import { EntityState, IQueryParams, createEntitySlice, serializeAxiosError } from 'app/shared/reducers/reducer.utils';
 import { ICamp, defaultValue } from 'app/shared/model/camp.model';
 
@@ -20,8 +21,8 @@ const apiUrl = 'api/camps';
 
 export const getEntities = createAsyncThunk(
   'camp/fetch_entity_list',
-  async ({ page, size, sort }: IQueryParams) => {
-    const requestUrl = `${apiUrl}?${sort ? `page=${page}&size=${size}&sort=${sort}&` : ''}cacheBuster=${new Date().getTime()}`;
+  async ({ page, size, sort, count, summary }: IQueryParams) => {
+    const requestUrl = `${apiUrl}?${sort ? `page=${page}&size=${size}&sort=${sort}&` : ''}count=${count ?? DEFAULT_COUNT_MODE}&${summary ? 'summary=true&' : ''}cacheBuster=${new Date().getTime()}`;
     return axios.get<ICamp[]>(requestUrl);
   },
   { serializeError: serializeAxiosError },
@@ -100,7 +101,7 @@ export const CampSlice = createEntitySlice({
           ...state,
           loading: false,
           entities: data,
-          totalItems: parseInt(headers['x-total-count'], 10),
+          totalItems: getTotalItems(headers, data.length, action.meta?.arg),
         };
       })
       .addMatcher(isFulfilled(createEntity, updateEntity, partialUpdateEntity), (state, action) => {
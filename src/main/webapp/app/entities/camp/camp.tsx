@@ -7,6 +7,7 @@ import { faSort, faSortDown, faSortUp } from '@fortawesome/free-solid-svg-icons'
 import { ASC, DESC, ITEMS_PER_PAGE, SORT } from 'app/shared/util/pagination.constants';
 import { overridePaginationStateWithQueryParams } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
+import ImageThumbnail from 'app/shared/layout/image-thumbnail/image-thumbnail';
 
 import { getEntities } from './camp.reducer';
 
@@ -30,6 +31,7 @@ export const Camp = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
@@ -136,7 +138,15 @@ export const Camp = () => {
                   <td>{camp.name}</td>
                   <td>{camp.additionalInfo}</td>
                   <td>{camp.status}</td>
-                  <td>{camp.image ? <Link to={`/file-data/${camp.image.id}`}>{camp.image.id}</Link> : ''}</td>
+                  <td>
+                    {camp.image ? (
+                      <Link to={`/file-data/${camp.image.id}`}>
+                        <ImageThumbnail id={camp.image.id} />
+                      </Link>
+                    ) : (
+                      ''
+                    )}
+                  </td>
                   <td className="text-end">
                     <div className="btn-group flex-btn-group-container">
                       <Button tag={Link} to={`/camp/${camp.id}`} color="info" size="sm" data-cy="entityDetailsButton">
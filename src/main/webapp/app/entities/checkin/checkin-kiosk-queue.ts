@@ -0,0 +1,69 @@
+/**
+ * Durable queue of the scans made in kiosk mode, stored in IndexedDB so that they survive network drops and reloads.
+ * Scans are kept in scan order until the server acknowledged them.
+ */
+
+export interface IQueuedScan {
+  seq?: number;
+  idempotencyKey: string;
+  playerId: number;
+  timestamp: string;
+}
+
+const DB_NAME = 'checkin-kiosk';
+const DB_VERSION = 1;
+const STORE = 'scans';
+
+let database: Promise<IDBDatabase> | null = null;
+
+const openDatabase = (): Promise<IDBDatabase> => {
+  if (!database) {
+    database = new Promise((resolve, reject) => {
+      const request = indexedDB.open(DB_NAME, DB_VERSION);
+      request.onupgradeneeded = () => {
+        request.result.createObjectStore(STORE, { keyPath: 'seq', autoIncrement: true });
+      };
+      request.onsuccess = () => resolve(request.result);
+      request.onerror = () => {
+        database = null;
+        reject(request.error);
+      };
+    });
+  }
+  return database;
+};
+
+/**
+ * Run requests in one transaction, resolving with the result of the last one once the transaction is durable.
+ */
+const transact = async <T>(mode: IDBTransactionMode, run: (store: IDBObjectStore) => IDBRequest<T> | void): Promise<T | undefined> => {
+  const db = await openDatabase();
+  return new Promise((resolve, reject) => {
+    const transaction = db.transaction(STORE, mode);
+    const request = run(transaction.objectStore(STORE));
+    transaction.oncomplete = () => resolve(request ? request.result : undefined);
+    transaction.onerror = () => reject(transaction.error);
+    transaction.onabort = () => reject(transaction.error);
+  });
+};
+
+export const enqueueScan = async (scan: IQueuedScan): Promise<void> => {
+  await transact('readwrite', store => store.add(scan));
+};
+
+/**
+ * Get the oldest scans, without removing them.
+ */
+export const peekScans = async (limit: number): Promise<IQueuedScan[]> =>
+  (await transact('readonly', store => store.getAll(null, limit))) ?? [];
+
+export const removeScans = async (seqs: number[]): Promise<void> => {
+  if (seqs.length === 0) {
+    return;
+  }
+  await transact('readwrite', store => {
+    seqs.forEach(seq => store.delete(seq));
+  });
+};
+
+export const countScans = async (): Promise<number> => (await transact('readonly', store => store.count())) ?? 0;
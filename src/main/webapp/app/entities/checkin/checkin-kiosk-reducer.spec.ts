@@ -0,0 +1,122 @@
+import axios from 'axios';
+
+import sinon from 'sinon';
+
+import { countScans, peekScans, removeScans } from './checkin-kiosk-queue';
+import reducer, {
+  BACKOFF_MAX_MS,
+  FLUSH_DELAY_MS,
+  MAX_BATCH_SIZE,
+  backoffDelay,
+  nextSyncDelay,
+  setOnline,
+  syncScans,
+} from './checkin-kiosk.reducer';
+
+jest.mock('./checkin-kiosk-queue', () => ({
+  countScans: jest.fn(),
+  enqueueScan: jest.fn(),
+  peekScans: jest.fn(),
+  removeScans: jest.fn(),
+}));
+
+describe('Checkin kiosk reducer tests', () => {
+  const scans = [
+    { seq: 1, idempotencyKey: 'a', playerId: 1, timestamp: '2026-03-01T10:00:00Z' },
+    { seq: 2, idempotencyKey: 'b', playerId: 2, timestamp: '2026-03-01T10:00:01Z' },
+  ];
+
+  describe('Sync scheduling', () => {
+    it('should wait for more scans before uploading', () => {
+      const state = { ...reducer(undefined, { type: '' }), online: true, pending: 3 };
+      expect(nextSyncDelay(state)).toBe(FLUSH_DELAY_MS);
+      expect(nextSyncDelay({ ...state, pending: MAX_BATCH_SIZE })).toBe(0);
+    });
+
+    it('should not upload offline or without scans', () => {
+      const state = { ...reducer(undefined, { type: '' }), online: false, pending: 3 };
+      expect(nextSyncDelay(state)).toBeNull();
+      expect(nextSyncDelay({ ...state, online: true, pending: 0 })).toBeNull();
+    });
+
+    it('should back off exponentially', () => {
+      expect(backoffDelay(1, () => 1)).toBe(1000);
+      expect(backoffDelay(3, () => 0)).toBe(2000);
+      expect(backoffDelay(30, () => 1)).toBe(BACKOFF_MAX_MS);
+    });
+
+    it('should retry right away when back online', () => {
+      const state = { ...reducer(undefined, { type: '' }), online: false, failures: 4 };
+      expect(reducer(state, setOnline(true))).toMatchObject({ online: true, failures: 0 });
+    });
+  });
+
+  describe('Sync outcomes', () => {
+    it('should count failures', () => {
+      const state = reducer(undefined, {
+        type: syncScans.fulfilled.type,
+        payload: { pending: 2, created: 0, duplicates: 0, rejected: 0, error: 'Network Error' },
+      });
+      expect(state).toMatchObject({ syncing: false, pending: 2, failures: 1, lastError: 'Network Error' });
+    });
+
+    it('should split refused batches', () => {
+      const state = reducer(undefined, {
+        type: syncScans.fulfilled.type,
+        payload: { pending: 2, created: 0, duplicates: 0, rejected: 0, split: true },
+      });
+      expect(state.batchSize).toBe(MAX_BATCH_SIZE / 2);
+    });
+
+    it('should record synced scans', () => {
+      const state = reducer(
+        { ...reducer(undefined, { type: '' }), failures: 2, lastError: 'Network Error' },
+        { type: syncScans.fulfilled.type, payload: { pending: 0, created: 2, duplicates: 1, rejected: 0 } },
+      );
+      expect(state).toMatchObject({ synced: 2, duplicates: 1, failures: 0, lastError: null });
+      expect(state.lastSyncedAt).not.toBeNull();
+    });
+  });
+
+  describe('Actions', () => {
+    const getState = () => ({ checkinKiosk: reducer(undefined, { type: '' }) });
+    const dispatch = jest.fn();
+    const extra = {};
+
+    beforeEach(() => {
+      (peekScans as jest.Mock).mockResolvedValue(scans);
+      (removeScans as jest.Mock).mockReset().mockResolvedValue(undefined);
+      (countScans as jest.Mock).mockResolvedValue(0);
+    });
+
+    it('uploads the queued scans in one batch', async () => {
+      const post = sinon.stub().returns(
+        Promise.resolve({
+          data: [
+            { index: 0, status: 'CREATED', id: 10 },
+            { index: 1, status: 'DUPLICATE' },
+          ],
+        }),
+      );
+      axios.post = post;
+
+      const result = await syncScans()(dispatch, getState, extra);
+
+      expect(post.calledOnce).toBe(true);
+      expect(post.firstCall.args[1]).toHaveLength(2);
+      expect(removeScans).toHaveBeenCalledWith([1, 2]);
+      expect(result.payload).toMatchObject({ created: 1, duplicates: 1, pending: 0 });
+    });
+
+    it('keeps the scans when the network is down', async () => {
+      axios.post = sinon.stub().returns(Promise.reject(new Error('Network Error')));
+      (countScans as jest.Mock).mockResolvedValue(2);
+
+      const result = await syncScans()(dispatch, getState, extra);
+
+      expect(syncScans.fulfilled.match(result)).toBe(true);
+      expect(removeScans).not.toHaveBeenCalled();
+      expect(result.payload).toMatchObject({ error: 'Network Error', pending: 2 });
+    });
+  });
+});
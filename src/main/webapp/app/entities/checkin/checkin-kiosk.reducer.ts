@@ -0,0 +1,212 @@
+import axios, { isAxiosError } from 'axios';
+import { createAsyncThunk, createSlice } from '@reduxjs/toolkit';
+import { v4 as uuidv4 } from 'uuid';
+import { serializeAxiosError } from 'app/shared/reducers/reducer.utils';
+import { ICheckinBulkResult } from 'app/shared/model/checkin-bulk-result.model';
+import { IQueuedScan, countScans, enqueueScan, peekScans, removeScans } from './checkin-kiosk-queue';
+
+/**
+ * Scans are uploaded in batches as large as this, the server accepting up to application.checkin.bulk.max-items.
+ */
+export const MAX_BATCH_SIZE = 1000;
+
+/**
+ * Scans wait this long before being uploaded, so that a busy kiosk sends one batch instead of one request per scan.
+ */
+export const FLUSH_DELAY_MS = 2000;
+
+export const BACKOFF_BASE_MS = 1000;
+export const BACKOFF_MAX_MS = 60000;
+
+export interface CheckinKioskState {
+  pending: number;
+  syncing: boolean;
+  online: boolean;
+  failures: number;
+  batchSize: number;
+  synced: number;
+  duplicates: number;
+  rejected: number;
+  lastScan: IQueuedScan | null;
+  lastSyncedAt: string | null;
+  lastError: string | null;
+}
+
+export interface ISyncOutcome {
+  pending: number;
+  created: number;
+  duplicates: number;
+  rejected: number;
+  // The batch was refused as a whole, retry it in smaller batches
+  split?: boolean;
+  error?: string;
+}
+
+const initialState: CheckinKioskState = {
+  pending: 0,
+  syncing: false,
+  online: typeof navigator === 'undefined' ? true : navigator.onLine,
+  failures: 0,
+  batchSize: MAX_BATCH_SIZE,
+  synced: 0,
+  duplicates: 0,
+  rejected: 0,
+  lastScan: null,
+  lastSyncedAt: null,
+  lastError: null,
+};
+
+const apiUrl = 'api/checkins/bulk';
+
+/**
+ * Delay before retrying a failed upload: exponential in the number of consecutive failures, with jitter so that
+ * kiosks coming back online together do not retry in lockstep.
+ */
+export const backoffDelay = (failures: number, random: () => number = Math.random): number => {
+  const ceiling = Math.min(BACKOFF_MAX_MS, BACKOFF_BASE_MS * 2 ** Math.max(0, failures - 1));
+  return Math.round(ceiling / 2 + (random() * ceiling) / 2);
+};
+
+/**
+ * Delay before the next upload, or null if there is nothing to upload.
+ */
+export const nextSyncDelay = (state: CheckinKioskState): number | null => {
+  if (state.pending === 0 || state.syncing || !state.online) {
+    return null;
+  }
+  if (state.failures > 0) {
+    return backoffDelay(state.failures);
+  }
+  return state.pending >= state.batchSize ? 0 : FLUSH_DELAY_MS;
+};
+
+const isBatchRefused = (status: number) => status >= 400 && status < 500 && ![401, 403, 408, 429].includes(status);
+
+// Actions
+
+export const loadQueue = createAsyncThunk('checkinKiosk/load_queue', async () => countScans(), { serializeError: serializeAxiosError });
+
+export const queueScan = createAsyncThunk(
+  'checkinKiosk/queue_scan',
+  async (playerId: number) => {
+    const scan: IQueuedScan = { idempotencyKey: uuidv4(), playerId, timestamp: new Date().toISOString() };
+    await enqueueScan(scan);
+    return { scan, pending: await countScans() };
+  },
+  { serializeError: serializeAxiosError },
+);
+
+/**
+ * Upload the oldest queued scans in one bulk request. Failures are reported in the outcome rather than rejected,
+ * so that background retries do not raise an error notification each time.
+ */
+export const syncScans = createAsyncThunk(
+  'checkinKiosk/sync_scans',
+  async (_: void, thunkAPI): Promise<ISyncOutcome> => {
+    const { batchSize } = (thunkAPI.getState() as { checkinKiosk: CheckinKioskState }).checkinKiosk;
+    const outcome: ISyncOutcome = { pending: 0, created: 0, duplicates: 0, rejected: 0 };
+    try {
+      const scans = await peekScans(batchSize);
+      if (scans.length > 0) {
+        try {
+          const { data } = await axios.post<ICheckinBulkResult[]>(
+            apiUrl,
+            scans.map(scan => ({ timestamp: scan.timestamp, idempotencyKey: scan.idempotencyKey, player: { id: scan.playerId } })),
+          );
+          data.forEach(result => {
+            if (result.status === 'CREATED') {
+              outcome.created++;
+            } else if (result.status === 'DUPLICATE') {
+              outcome.duplicates++;
+            } else {
+              outcome.rejected++;
+            }
+          });
+          await removeScans(scans.map(scan => scan.seq));
+        } catch (error) {
+          if (!isAxiosError(error) || !error.response || !isBatchRefused(error.response.status)) {
+            throw error;
+          }
+          if (scans.length > 1) {
+            outcome.split = true;
+          } else {
+            // A single scan refused by the server will never be accepted
+            await removeScans([scans[0].seq]);
+            if (error.response.status === 409) {
+              outcome.duplicates++;
+            } else {
+              outcome.rejected++;
+            }
+          }
+        }
+      }
+      outcome.pending = await countScans();
+    } catch (error) {
+      outcome.error = error?.message ?? 'Unknown error';
+      outcome.pending = await countScans().catch(() => batchSize);
+    }
+    return outcome;
+  },
+  {
+    serializeError: serializeAxiosError,
+    condition: (_, { getState }) => !(getState() as { checkinKiosk: CheckinKioskState }).checkinKiosk.syncing,
+  },
+);
+
+// slice
+
+export const CheckinKioskSlice = createSlice({
+  name: 'checkinKiosk',
+  initialState,
+  reducers: {
+    setOnline(state, action: { payload: boolean }) {
+      state.online = action.payload;
+      if (action.payload) {
+        // Connectivity is back, retry right away
+        state.failures = 0;
+      }
+    },
+  },
+  extraReducers(builder) {
+    builder
+      .addCase(loadQueue.fulfilled, (state, action) => {
+        state.pending = action.payload;
+      })
+      .addCase(queueScan.fulfilled, (state, action) => {
+        state.pending = action.payload.pending;
+        state.lastScan = action.payload.scan;
+      })
+      .addCase(syncScans.pending, state => {
+        state.syncing = true;
+      })
+      .addCase(syncScans.fulfilled, (state, action) => {
+        const outcome = action.payload;
+        state.syncing = false;
+        state.pending = outcome.pending;
+        state.synced += outcome.created;
+        state.duplicates += outcome.duplicates;
+        state.rejected += outcome.rejected;
+        if (outcome.error) {
+          state.failures++;
+          state.lastError = outcome.error;
+        } else if (outcome.split) {
+          state.batchSize = Math.max(1, Math.floor(state.batchSize / 2));
+        } else {
+          state.failures = 0;
+          state.lastError = null;
+          state.lastSyncedAt = new Date().toISOString();
+          if (outcome.pending === 0) {
+            state.batchSize = MAX_BATCH_SIZE;
+          }
+        }
+      })
+      .addCase(syncScans.rejected, state => {
+        state.syncing = false;
+      });
+  },
+});
+
+export const { setOnline } = CheckinKioskSlice.actions;
+
+// Reducer
+export default CheckinKioskSlice.reducer;
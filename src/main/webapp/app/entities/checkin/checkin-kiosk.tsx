@@ -0,0 +1,145 @@
+import React, { useEffect, useRef, useState } from 'react';
+import { Link } from 'react-router-dom';
+import { Badge, Button, Col, Form, Input, Row } from 'reactstrap';
+import { TextFormat } from 'react-jhipster';
+import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
+
+import { APP_DATE_FORMAT } from 'app/config/constants';
+import { useAppDispatch, useAppSelector } from 'app/config/store';
+
+import { CheckinKioskState, loadQueue, nextSyncDelay, queueScan, setOnline, syncScans } from './checkin-kiosk.reducer';
+
+const SyncState = ({ kiosk }: { kiosk: CheckinKioskState }) => {
+  if (!kiosk.online) {
+    return <Badge color="secondary">Offline, {kiosk.pending} scans saved on this device</Badge>;
+  }
+  if (kiosk.syncing) {
+    return <Badge color="info">Syncing {kiosk.pending} scans</Badge>;
+  }
+  if (kiosk.failures > 0) {
+    return (
+      <Badge color="warning">
+        Sync failed {kiosk.failures} times, {kiosk.pending} scans waiting for retry
+      </Badge>
+    );
+  }
+  if (kiosk.pending > 0) {
+    return <Badge color="primary">{kiosk.pending} scans waiting for sync</Badge>;
+  }
+  return <Badge color="success">All scans synced</Badge>;
+};
+
+/**
+ * Check-in screen for unattended kiosks: scans are saved on the device first and uploaded in batches in the
+ * background, so that scanning goes on while the network is down.
+ */
+export const CheckinKiosk = () => {
+  const dispatch = useAppDispatch();
+
+  const kiosk = useAppSelector(state => state.checkinKiosk);
+  const [playerId, setPlayerId] = useState('');
+  const scanInput = useRef<HTMLInputElement>(null);
+
+  useEffect(() => {
+    dispatch(loadQueue());
+    const handleOnline = () => dispatch(setOnline(true));
+    const handleOffline = () => dispatch(setOnline(false));
+    window.addEventListener('online', handleOnline);
+    window.addEventListener('offline', handleOffline);
+    return () => {
+      window.removeEventListener('online', handleOnline);
+      window.removeEventListener('offline', handleOffline);
+    };
+  }, []);
+
+  // Rescheduled only when the sync state changes, so that a steady flow of scans does not postpone the upload
+  const delay = nextSyncDelay(kiosk);
+  const fullBatch = kiosk.pending >= kiosk.batchSize;
+  useEffect(() => {
+    if (delay === null) {
+      return undefined;
+    }
+    const timer = setTimeout(() => dispatch(syncScans()), delay);
+    return () => clearTimeout(timer);
+  }, [delay === null, fullBatch, kiosk.failures, kiosk.batchSize, kiosk.syncing, kiosk.online]);
+
+  const handleScan = event => {
+    event.preventDefault();
+    const id = parseInt(playerId, 10);
+    if (!Number.isNaN(id)) {
+      dispatch(queueScan(id));
+    }
+    setPlayerId('');
+    scanInput.current?.focus();
+  };
+
+  return (
+    <div>
+      <h2 id="checkin-kiosk-heading" data-cy="CheckinKioskHeading">
+        Checkin kiosk
+        <div className="d-flex justify-content-end">
+          <Button
+            className="me-2"
+            color="info"
+            onClick={() => dispatch(syncScans())}
+            disabled={kiosk.syncing || kiosk.pending === 0 || !kiosk.online}
+            data-cy="kioskSyncButton"
+          >
+            <FontAwesomeIcon icon="sync" spin={kiosk.syncing} /> Sync now
+          </Button>
+          <Button tag={Link} to="/checkin" replace color="secondary">
+            <FontAwesomeIcon icon="arrow-left" />
+            &nbsp;
+            <span className="d-none d-md-inline">Back</span>
+          </Button>
+        </div>
+      </h2>
+      <Row className="justify-content-center">
+        <Col md="8">
+          <Form onSubmit={handleScan}>
+            <Input
+              id="checkin-kiosk-player"
+              name="playerId"
+              data-cy="kioskPlayerId"
+              type="text"
+              inputMode="numeric"
+              autoComplete="off"
+              autoFocus
+              innerRef={scanInput}
+              placeholder="Scan or type a player id"
+              value={playerId}
+              onChange={event => setPlayerId(event.target.value)}
+            />
+          </Form>
+          <p className="mt-3" data-cy="kioskSyncState">
+            <SyncState kiosk={kiosk} />
+          </p>
+          {kiosk.lastScan ? (
+            <p>
+              Player {kiosk.lastScan.playerId} scanned at{' '}
+              <TextFormat type="date" value={kiosk.lastScan.timestamp} format={APP_DATE_FORMAT} />
+            </p>
+          ) : null}
+          <dl className="jh-entity-details">
+            <dt>Synced</dt>
+            <dd>{kiosk.synced}</dd>
+            <dt>Already checked in</dt>
+            <dd>{kiosk.duplicates}</dd>
+            <dt>Rejected</dt>
+            <dd>{kiosk.rejected}</dd>
+            <dt>Last sync</dt>
+            <dd>{kiosk.lastSyncedAt ? <TextFormat type="date" value={kiosk.lastSyncedAt} format={APP_DATE_FORMAT} /> : 'Never'}</dd>
+            {kiosk.lastError ? (
+              <>
+                <dt>Last error</dt>
+                <dd>{kiosk.lastError}</dd>
+              </>
+            ) : null}
+          </dl>
+        </Col>
+      </Row>
+    </div>
+  );
+};
+
+export default CheckinKiosk;
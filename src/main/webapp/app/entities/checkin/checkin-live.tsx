@@ -0,0 +1,90 @@
+import React, { useEffect, useState } from 'react';
+import { Link } from 'react-router-dom';
+import { Badge, Button, Table } from 'reactstrap';
+import { TextFormat } from 'react-jhipster';
+import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
+
+import { APP_DATE_FORMAT } from 'app/config/constants';
+import { ILiveCheckinCounters } from 'app/shared/model/live-checkin-counters.model';
+import { openEventStream } from 'app/shared/util/event-stream';
+
+/**
+ * Checkin counters of the current day, pushed by the server on `api/checkins/live` as they change.
+ */
+export const CheckinLive = () => {
+  const [counters, setCounters] = useState<ILiveCheckinCounters>(null);
+  const [errorStatus, setErrorStatus] = useState<number>(null);
+
+  useEffect(
+    () =>
+      openEventStream(
+        'api/checkins/live',
+        event => {
+          if (event.event === 'counters') {
+            setCounters(JSON.parse(event.data));
+            setErrorStatus(null);
+          }
+        },
+        { onError: setErrorStatus },
+      ),
+    [],
+  );
+
+  return (
+    <div>
+      <h2 id="checkin-live-heading" data-cy="CheckinLiveHeading">
+        Live checkins
+        <div className="d-flex justify-content-end">
+          <Button tag={Link} to="/checkin" replace color="secondary">
+            <FontAwesomeIcon icon="arrow-left" />
+            &nbsp;
+            <span className="d-none d-md-inline">Back</span>
+          </Button>
+        </div>
+      </h2>
+      {errorStatus ? (
+        <p data-cy="liveState">
+          <Badge color="warning">{errorStatus === 503 ? 'Too many viewers, retrying' : `Stream unavailable (${errorStatus})`}</Badge>
+        </p>
+      ) : null}
+      {counters ? (
+        <>
+          <dl className="jh-entity-details">
+            <dt>Since</dt>
+            <dd>
+              <TextFormat type="date" value={counters.since} format={APP_DATE_FORMAT} />
+            </dd>
+            <dt>Checkins</dt>
+            <dd data-cy="liveCheckinCount">{counters.checkinCount}</dd>
+            <dt>Players</dt>
+            <dd>{counters.playerCount}</dd>
+          </dl>
+          {counters.teams?.length > 0 ? (
+            <Table responsive>
+              <thead>
+                <tr>
+                  <th>Team</th>
+                  <th>Checkins</th>
+                  <th>Players</th>
+                </tr>
+              </thead>
+              <tbody>
+                {counters.teams.map(team => (
+                  <tr key={team.teamId}>
+                    <td>{team.teamName ?? team.teamId}</td>
+                    <td>{team.checkinCount}</td>
+                    <td>{team.playerCount}</td>
+                  </tr>
+                ))}
+              </tbody>
+            </Table>
+          ) : null}
+        </>
+      ) : (
+        <p>Waiting for the counters</p>
+      )}
+    </div>
+  );
+};
+
+export default CheckinLive;
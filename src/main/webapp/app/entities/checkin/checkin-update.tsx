@@ -35,7 +35,7 @@ export const CheckinUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getPlayers({}));
+    dispatch(getPlayers({ summary: true }));
   }, []);
 
   useEffect(() => {
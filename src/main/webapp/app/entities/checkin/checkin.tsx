@@ -31,6 +31,7 @@ export const Checkin = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
@@ -97,6 +98,14 @@ export const Checkin = () => {
           <Button className="me-2" color="info" onClick={handleSyncList} disabled={loading}>
             <FontAwesomeIcon icon="sync" spin={loading} /> Refresh list
           </Button>
+          <Link to="/checkin/kiosk" className="btn btn-secondary me-2" data-cy="entityKioskButton">
+            <FontAwesomeIcon icon="tachometer-alt" />
+            &nbsp; Kiosk mode
+          </Link>
+          <Link to="/checkin/live" className="btn btn-secondary me-2" data-cy="entityLiveButton">
+            <FontAwesomeIcon icon="heart" />
+            &nbsp; Live counters
+          </Link>
           <Link to="/checkin/new" className="btn btn-primary jh-create-entity" id="jh-create-entity" data-cy="entityCreateButton">
             <FontAwesomeIcon icon="plus" />
             &nbsp; Create a new Checkin
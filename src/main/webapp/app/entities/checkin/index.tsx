@@ -7,11 +7,15 @@ import Checkin from './checkin';
 import CheckinDetail from './checkin-detail';
 import CheckinUpdate from './checkin-update';
 import CheckinDeleteDialog from './checkin-delete-dialog';
+import CheckinKiosk from './checkin-kiosk';
+import CheckinLive from './checkin-live';
 
 const CheckinRoutes = () => (
   <ErrorBoundaryRoutes>
     <Route index element={<Checkin />} />
     <Route path="new" element={<CheckinUpdate />} />
+    <Route path="kiosk" element={<CheckinKiosk />} />
+    <Route path="live" element={<CheckinLive />} />
     <Route path=":id">
       <Route index element={<CheckinDetail />} />
       <Route path="edit" element={<CheckinUpdate />} />
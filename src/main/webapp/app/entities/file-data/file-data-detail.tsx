@@ -1,6 +1,7 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useState } from 'react';
 import { Link, useParams } from 'react-router-dom';
-import { Button, Col, Row } from 'reactstrap';
+import { Button, Col, Input, Row } from 'reactstrap';
+import axios from 'axios';
 import {} from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
@@ -18,6 +19,24 @@ export const FileDataDetail = () => {
   }, []);
 
   const fileDataEntity = useAppSelector(state => state.fileData.entity);
+  const [uploading, setUploading] = useState(false);
+
+  const uploadContent = async (file?: File) => {
+    if (!file) {
+      return;
+    }
+    setUploading(true);
+    try {
+      // The file is sent as the raw request body, streamed to the blob store by the server
+      await axios.put(`api/file-data/${id}/content`, file, {
+        headers: { 'Content-Type': file.type || 'application/octet-stream' },
+      });
+      dispatch(getEntity(id));
+    } finally {
+      setUploading(false);
+    }
+  };
+
   return (
     <Row>
       <Col md="8">
@@ -35,6 +54,26 @@ export const FileDataDetail = () => {
             <span id="fileName">File Name</span>
           </dt>
           <dd>{fileDataEntity.fileName}</dd>
+          <dt>
+            <span id="contentType">Content Type</span>
+          </dt>
+          <dd>{fileDataEntity.contentType}</dd>
+          <dt>
+            <span id="contentSize">Content Size</span>
+          </dt>
+          <dd>{fileDataEntity.contentSize}</dd>
+          <dt>
+            <label htmlFor="file-data-content">Upload Content</label>
+          </dt>
+          <dd>
+            <Input
+              id="file-data-content"
+              data-cy="content"
+              type="file"
+              disabled={uploading}
+              onChange={event => uploadContent(event.target.files?.[0])}
+            />
+          </dd>
         </dl>
         <Button tag={Link} to="/file-data" replace color="info" data-cy="entityDetailsBackButton">
           <FontAwesomeIcon icon="arrow-left" /> <span className="d-none d-md-inline">Back</span>
@@ -30,6 +30,7 @@ export const FileData = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
@@ -35,7 +35,7 @@ export const GuardianUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getPlayers({}));
+    dispatch(getPlayers({ summary: true }));
   }, []);
 
   useEffect(() => {
@@ -31,6 +31,7 @@ export const Guardian = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
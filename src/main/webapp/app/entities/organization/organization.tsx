@@ -30,6 +30,7 @@ export const Organization = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
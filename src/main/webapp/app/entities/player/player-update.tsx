@@ -1,14 +1,13 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useState } from 'react';
 import { Link, useNavigate, useParams } from 'react-router-dom';
 import { Button, Col, Row } from 'reactstrap';
 import { ValidatedField, ValidatedForm } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
-import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
-import { getEntities as getGuardians } from 'app/entities/guardian/guardian.reducer';
-import { getEntities as getTeams } from 'app/entities/team/team.reducer';
+import TypeaheadSelect, { getTypeaheadOptions } from 'app/shared/layout/typeahead/typeahead-select';
+import { ITypeaheadOption } from 'app/shared/model/typeahead-option.model';
 import { Gender } from 'app/shared/model/enumerations/gender.model';
 import { createEntity, getEntity, reset, updateEntity } from './player.reducer';
 
@@ -20,8 +19,8 @@ export const PlayerUpdate = () => {
   const { id } = useParams<'id'>();
   const isNew = id === undefined;
 
-  const guardians = useAppSelector(state => state.guardian.entities);
-  const teams = useAppSelector(state => state.team.entities);
+  const [guardians, setGuardians] = useState<ITypeaheadOption[]>([]);
+  const [teams, setTeams] = useState<ITypeaheadOption[]>([]);
   const playerEntity = useAppSelector(state => state.player.entity);
   const loading = useAppSelector(state => state.player.loading);
   const updating = useAppSelector(state => state.player.updating);
@@ -38,11 +37,18 @@ export const PlayerUpdate = () => {
     } else {
       dispatch(getEntity(id));
     }
-
-    dispatch(getGuardians({}));
-    dispatch(getTeams({}));
   }, []);
 
+  useEffect(() => {
+    if (isNew || playerEntity?.id?.toString() !== id) {
+      setGuardians([]);
+      setTeams([]);
+      return;
+    }
+    getTypeaheadOptions('api/guardians/_typeahead', playerEntity.guardians).then(setGuardians);
+    getTypeaheadOptions('api/teams/_typeahead', playerEntity.teams).then(setTeams);
+  }, [playerEntity]);
+
   useEffect(() => {
     if (updateSuccess) {
       handleClose();
@@ -57,8 +63,8 @@ export const PlayerUpdate = () => {
     const entity = {
       ...playerEntity,
       ...values,
-      guardians: mapIdList(values.guardians),
-      teams: mapIdList(values.teams),
+      guardians: guardians.map(guardian => ({ id: guardian.id })),
+      teams: teams.map(team => ({ id: team.id })),
     };
 
     if (isNew) {
@@ -74,8 +80,6 @@ export const PlayerUpdate = () => {
       : {
           gender: 'MALE',
           ...playerEntity,
-          guardians: playerEntity?.guardians?.map(e => e.id.toString()),
-          teams: playerEntity?.teams?.map(e => e.id.toString()),
         };
 
   return (
@@ -134,26 +138,22 @@ export const PlayerUpdate = () => {
                 ))}
               </ValidatedField>
               <ValidatedField label="Date Of Birth" id="player-dateOfBirth" name="dateOfBirth" data-cy="dateOfBirth" type="date" />
-              <ValidatedField label="Guardians" id="player-guardians" data-cy="guardians" type="select" multiple name="guardians">
-                <option value="" key="0" />
-                {guardians
-                  ? guardians.map(otherEntity => (
-                      <option value={otherEntity.id} key={otherEntity.id}>
-                        {otherEntity.id}
-                      </option>
-                    ))
-                  : null}
-              </ValidatedField>
-              <ValidatedField label="Teams" id="player-teams" data-cy="teams" type="select" multiple name="teams">
-                <option value="" key="0" />
-                {teams
-                  ? teams.map(otherEntity => (
-                      <option value={otherEntity.id} key={otherEntity.id}>
-                        {otherEntity.id}
-                      </option>
-                    ))
-                  : null}
-              </ValidatedField>
+              <TypeaheadSelect
+                label="Guardians"
+                id="player-guardians"
+                data-cy="guardians"
+                url="api/guardians/_typeahead"
+                value={guardians}
+                onChange={setGuardians}
+              />
+              <TypeaheadSelect
+                label="Teams"
+                id="player-teams"
+                data-cy="teams"
+                url="api/teams/_typeahead"
+                value={teams}
+                onChange={setTeams}
+              />
               <Button tag={Link} id="cancel-save" data-cy="entityCreateCancelButton" to="/player" replace color="info">
                 <FontAwesomeIcon icon="arrow-left" />
                 &nbsp;
@@ -5,6 +5,7 @@ import player from 'app/entities/player/player.reducer';
 import organization from 'app/entities/organization/organization.reducer';
 import guardian from 'app/entities/guardian/guardian.reducer';
 import checkin from 'app/entities/checkin/checkin.reducer';
+import checkinKiosk from 'app/entities/checkin/checkin-kiosk.reducer';
 import camp from 'app/entities/camp/camp.reducer';
 import fileData from 'app/entities/file-data/file-data.reducer';
 /* jhipster-needle-add-reducer-import - JHipster will add reducer here */
@@ -17,6 +18,7 @@ const entitiesReducers = {
   organization,
   guardian,
   checkin,
+  checkinKiosk,
   camp,
   fileData,
   /* jhipster-needle-add-reducer-combine - JHipster will add reducer here */
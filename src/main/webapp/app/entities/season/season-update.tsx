@@ -39,8 +39,8 @@ export const SeasonUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getFileData({}));
-    dispatch(getOrganizations({}));
+    dispatch(getFileData({ summary: true }));
+    dispatch(getOrganizations({ summary: true }));
   }, []);
 
   useEffect(() => {
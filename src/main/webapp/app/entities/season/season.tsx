@@ -8,6 +8,7 @@ import { APP_DATE_FORMAT } from 'app/config/constants';
 import { ASC, DESC, ITEMS_PER_PAGE, SORT } from 'app/shared/util/pagination.constants';
 import { overridePaginationStateWithQueryParams } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
+import ImageThumbnail from 'app/shared/layout/image-thumbnail/image-thumbnail';
 
 import { getEntities } from './season.reducer';
 
@@ -31,6 +32,7 @@ export const Season = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
@@ -148,7 +150,15 @@ export const Season = () => {
                   <td>{season.status}</td>
                   <td>{season.start ? <TextFormat type="date" value={season.start} format={APP_DATE_FORMAT} /> : null}</td>
                   <td>{season.ends ? <TextFormat type="date" value={season.ends} format={APP_DATE_FORMAT} /> : null}</td>
-                  <td>{season.image ? <Link to={`/file-data/${season.image.id}`}>{season.image.id}</Link> : ''}</td>
+                  <td>
+                    {season.image ? (
+                      <Link to={`/file-data/${season.image.id}`}>
+                        <ImageThumbnail id={season.image.id} />
+                      </Link>
+                    ) : (
+                      ''
+                    )}
+                  </td>
                   <td>
                     {season.organization ? <Link to={`/organization/${season.organization.id}`}>{season.organization.name}</Link> : ''}
                   </td>
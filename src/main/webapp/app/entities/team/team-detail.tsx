@@ -1,20 +1,44 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useState } from 'react';
+import axios from 'axios';
 import { Link, useParams } from 'react-router-dom';
 import { Button, Col, Row } from 'reactstrap';
 import {} from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { useAppDispatch, useAppSelector } from 'app/config/store';
+import { IPlayer } from 'app/shared/model/player.model';
 
 import { getEntity } from './team.reducer';
 
+export const ROSTER_PAGE_SIZE = 20;
+
+/**
+ * Get the cursor of the next page of a roster from the Link header of a page.
+ */
+const nextCursor = (link: unknown): string | null => {
+  const next = typeof link === 'string' ? /<([^>]+)>; rel="next"/.exec(link) : null;
+  return next ? new URL(next[1], window.location.href).searchParams.get('after') : null;
+};
+
 export const TeamDetail = () => {
   const dispatch = useAppDispatch();
 
   const { id } = useParams<'id'>();
 
+  const [roster, setRoster] = useState<IPlayer[]>([]);
+  const [rosterCursor, setRosterCursor] = useState<string | null>(null);
+
+  const loadRoster = (after?: string) =>
+    axios
+      .get<IPlayer[]>(`api/teams/${id}/players?size=${ROSTER_PAGE_SIZE}${after ? `&after=${encodeURIComponent(after)}` : ''}`)
+      .then(response => {
+        setRoster(previous => (after ? [...previous, ...response.data] : response.data));
+        setRosterCursor(nextCursor(response.headers.link));
+      });
+
   useEffect(() => {
     dispatch(getEntity(id));
+    loadRoster();
   }, []);
 
   const teamEntity = useAppSelector(state => state.team.entity);
@@ -33,14 +57,21 @@ export const TeamDetail = () => {
           <dd>{teamEntity.name}</dd>
           <dt>Players</dt>
           <dd>
-            {teamEntity.players
-              ? teamEntity.players.map((val, i) => (
-                  <span key={val.id}>
-                    <a>{val.id}</a>
-                    {teamEntity.players && i === teamEntity.players.length - 1 ? '' : ', '}
-                  </span>
-                ))
-              : null}
+            <span data-cy="playerCount">{teamEntity.playerCount}</span>
+            <ul className="list-unstyled">
+              {roster.map(player => (
+                <li key={player.id}>
+                  <Link to={`/player/${player.id}`}>
+                    {player.lastName}, {player.firstName}
+                  </Link>
+                </li>
+              ))}
+            </ul>
+            {rosterCursor ? (
+              <Button size="sm" color="link" className="p-0" onClick={() => loadRoster(rosterCursor)}>
+                More players
+              </Button>
+            ) : null}
           </dd>
         </dl>
         <Button tag={Link} to="/team" replace color="info" data-cy="entityDetailsBackButton">
@@ -1,15 +1,30 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useState } from 'react';
+import axios from 'axios';
 import { Link, useNavigate, useParams } from 'react-router-dom';
 import { Button, Col, Row } from 'reactstrap';
 import { ValidatedField, ValidatedForm } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
-import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
-import { getEntities as getPlayers } from 'app/entities/player/player.reducer';
+import TypeaheadSelect from 'app/shared/layout/typeahead/typeahead-select';
+import { IPlayer } from 'app/shared/model/player.model';
+import { ITypeaheadOption } from 'app/shared/model/typeahead-option.model';
 import { createEntity, getEntity, reset, updateEntity } from './team.reducer';
 
+/**
+ * The largest roster edited with the picker; larger rosters are kept as they are when the team is saved.
+ */
+export const ROSTER_EDIT_LIMIT = 1000;
+
+/**
+ * Whether the roster is shown in the picker: only a roster loaded in full is sent back when the team is saved.
+ */
+type RosterState = 'loading' | 'loaded' | 'failed' | 'too-large';
+
+const playerLabel = (player: IPlayer) =>
+  [player.firstName, player.middleInitial, player.lastName].filter(part => part && part.trim() !== '').join(' ');
+
 export const TeamUpdate = () => {
   const dispatch = useAppDispatch();
 
@@ -18,7 +33,8 @@ export const TeamUpdate = () => {
   const { id } = useParams<'id'>();
   const isNew = id === undefined;
 
-  const players = useAppSelector(state => state.player.entities);
+  const [players, setPlayers] = useState<ITypeaheadOption[]>([]);
+  const [rosterState, setRosterState] = useState<RosterState>(isNew ? 'loaded' : 'loading');
   const teamEntity = useAppSelector(state => state.team.entity);
   const loading = useAppSelector(state => state.team.loading);
   const updating = useAppSelector(state => state.team.updating);
@@ -34,10 +50,38 @@ export const TeamUpdate = () => {
     } else {
       dispatch(getEntity(id));
     }
-
-    dispatch(getPlayers({}));
   }, []);
 
+  useEffect(() => {
+    setPlayers([]);
+    if (isNew) {
+      setRosterState('loaded');
+      return undefined;
+    }
+    if (teamEntity?.id?.toString() !== id) {
+      setRosterState('loading');
+      return undefined;
+    }
+    if ((teamEntity.playerCount ?? 0) > ROSTER_EDIT_LIMIT) {
+      setRosterState('too-large');
+      return undefined;
+    }
+    let cancelled = false;
+    setRosterState('loading');
+    axios
+      .get<IPlayer[]>(`api/teams/${id}/players?size=${ROSTER_EDIT_LIMIT}`)
+      .then(({ data }) => {
+        if (!cancelled) {
+          setPlayers(data.map(player => ({ id: player.id as number, label: playerLabel(player) })));
+          setRosterState('loaded');
+        }
+      })
+      .catch(() => !cancelled && setRosterState('failed'));
+    return () => {
+      cancelled = true;
+    };
+  }, [teamEntity]);
+
   useEffect(() => {
     if (updateSuccess) {
       handleClose();
@@ -52,7 +96,8 @@ export const TeamUpdate = () => {
     const entity = {
       ...teamEntity,
       ...values,
-      players: mapIdList(values.players),
+      // Without players the roster is kept as it is, a roster not loaded in full must not replace it
+      players: rosterState === 'loaded' ? players.map(player => ({ id: player.id })) : undefined,
     };
 
     if (isNew) {
@@ -67,7 +112,6 @@ export const TeamUpdate = () => {
       ? {}
       : {
           ...teamEntity,
-          players: teamEntity?.players?.map(e => e.id.toString()),
         };
 
   return (
@@ -96,23 +140,35 @@ export const TeamUpdate = () => {
                   maxLength: { value: 255, message: 'This field cannot be longer than 255 characters.' },
                 }}
               />
-              <ValidatedField label="Players" id="team-players" data-cy="players" type="select" multiple name="players">
-                <option value="" key="0" />
-                {players
-                  ? players.map(otherEntity => (
-                      <option value={otherEntity.id} key={otherEntity.id}>
-                        {otherEntity.id}
-                      </option>
-                    ))
-                  : null}
-              </ValidatedField>
+              {rosterState === 'loaded' ? (
+                <TypeaheadSelect
+                  label="Players"
+                  id="team-players"
+                  data-cy="players"
+                  url="api/players/_typeahead"
+                  value={players}
+                  onChange={setPlayers}
+                />
+              ) : rosterState === 'too-large' ? (
+                <p data-cy="players">The roster of {teamEntity.playerCount} players is too large to edit here, it is kept as it is.</p>
+              ) : rosterState === 'failed' ? (
+                <p data-cy="players">The roster could not be loaded, it is kept as it is.</p>
+              ) : (
+                <p data-cy="players">Loading the roster...</p>
+              )}
               <Button tag={Link} id="cancel-save" data-cy="entityCreateCancelButton" to="/team" replace color="info">
                 <FontAwesomeIcon icon="arrow-left" />
                 &nbsp;
                 <span className="d-none d-md-inline">Back</span>
               </Button>
               &nbsp;
-              <Button color="primary" id="save-entity" data-cy="entityCreateSaveButton" type="submit" disabled={updating}>
+              <Button
+                color="primary"
+                id="save-entity"
+                data-cy="entityCreateSaveButton"
+                type="submit"
+                disabled={updating || rosterState === 'loading'}
+              >
                 <FontAwesomeIcon icon="save" />
                 &nbsp; Save
               </Button>
@@ -37,7 +37,7 @@ export const TournamentUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getFileData({}));
+    dispatch(getFileData({ summary: true }));
   }, []);
 
   useEffect(() => {
@@ -8,6 +8,7 @@ import { APP_DATE_FORMAT } from 'app/config/constants';
 import { ASC, DESC, ITEMS_PER_PAGE, SORT } from 'app/shared/util/pagination.constants';
 import { overridePaginationStateWithQueryParams } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
+import ImageThumbnail from 'app/shared/layout/image-thumbnail/image-thumbnail';
 
 import { getEntities } from './tournament.reducer';
 
@@ -31,6 +32,7 @@ export const Tournament = () => {
         page: paginationState.activePage - 1,
         size: paginationState.itemsPerPage,
         sort: `${paginationState.sort},${paginationState.order}`,
+        summary: true,
       }),
     );
   };
@@ -145,7 +147,15 @@ export const Tournament = () => {
                   <td>{tournament.status}</td>
                   <td>{tournament.start ? <TextFormat type="date" value={tournament.start} format={APP_DATE_FORMAT} /> : null}</td>
                   <td>{tournament.ends ? <TextFormat type="date" value={tournament.ends} format={APP_DATE_FORMAT} /> : null}</td>
-                  <td>{tournament.image ? <Link to={`/file-data/${tournament.image.id}`}>{tournament.image.id}</Link> : ''}</td>
+                  <td>
+                    {tournament.image ? (
+                      <Link to={`/file-data/${tournament.image.id}`}>
+                        <ImageThumbnail id={tournament.image.id} />
+                      </Link>
+                    ) : (
+                      ''
+                    )}
+                  </td>
                   <td className="text-end">
                     <div className="btn-group flex-btn-group-container">
                       <Button tag={Link} to={`/tournament/${tournament.id}`} color="info" size="sm" data-cy="entityDetailsButton">
@@ -0,0 +1,46 @@
+import React, { useEffect, useState } from 'react';
+import axios from 'axios';
+
+/** One of application.file-data.derivatives.sizes */
+export const THUMBNAIL_SIZE = 160;
+
+export interface IImageThumbnailProps {
+  /** The id of the file data */
+  id: number;
+  alt?: string;
+}
+
+/**
+ * The scaled copy of a file data image, fetched with the credentials of the API.
+ */
+export const ImageThumbnail = ({ id, alt }: IImageThumbnailProps) => {
+  const [src, setSrc] = useState<string>();
+
+  useEffect(() => {
+    let url: string | undefined;
+    let cancelled = false;
+    axios
+      .get<Blob>(`api/file-data/${id}/content?size=${THUMBNAIL_SIZE}`, { responseType: 'blob' })
+      .then(response => {
+        if (!cancelled) {
+          url = URL.createObjectURL(response.data);
+          setSrc(url);
+        }
+      })
+      .catch(() => !cancelled && setSrc(undefined));
+    return () => {
+      cancelled = true;
+      if (url) {
+        URL.revokeObjectURL(url);
+      }
+    };
+  }, [id]);
+
+  return src ? (
+    <img src={src} alt={alt ?? `${id}`} style={{ maxWidth: THUMBNAIL_SIZE, maxHeight: THUMBNAIL_SIZE }} />
+  ) : (
+    <span>{alt ?? id}</span>
+  );
+};
+
+export default ImageThumbnail;
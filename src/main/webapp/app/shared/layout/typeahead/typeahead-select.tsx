@@ -0,0 +1,104 @@
+import React, { useEffect, useState } from 'react';
+import axios from 'axios';
+import { Badge, Button, FormGroup, Input, Label, ListGroup, ListGroupItem } from 'reactstrap';
+
+import { ITypeaheadOption } from 'app/shared/model/typeahead-option.model';
+
+export const TYPEAHEAD_DEBOUNCE_MS = 250;
+
+/**
+ * Get the options of the current values of a picker, the id standing for the label of an unknown entity.
+ */
+export const getTypeaheadOptions = async (
+  url: string,
+  entities?: ReadonlyArray<{ id?: number }> | null,
+): Promise<ITypeaheadOption[]> => {
+  const ids = (entities ?? []).map(entity => entity.id).filter(id => id !== undefined && id !== null);
+  if (ids.length === 0) {
+    return [];
+  }
+  const { data } = await axios.get<ITypeaheadOption[]>(`${url}?ids=${ids.join(',')}`);
+  const labels = new Map(data.map(option => [option.id, option.label]));
+  return ids.map(id => ({ id, label: labels.get(id) ?? `${id}` }));
+};
+
+export interface ITypeaheadSelectProps {
+  id: string;
+  label: string;
+  /** The typeahead endpoint, e.g. api/guardians/_typeahead */
+  url: string;
+  value: ITypeaheadOption[];
+  onChange: (value: ITypeaheadOption[]) => void;
+  'data-cy'?: string;
+}
+
+/**
+ * A multiple select whose options are searched on the server as the user types.
+ */
+export const TypeaheadSelect = ({ id, label, url, value, onChange, 'data-cy': dataCy }: ITypeaheadSelectProps) => {
+  const [query, setQuery] = useState('');
+  const [options, setOptions] = useState<ITypeaheadOption[]>([]);
+
+  useEffect(() => {
+    if (query.trim() === '') {
+      setOptions([]);
+      return undefined;
+    }
+    let cancelled = false;
+    const timer = setTimeout(() => {
+      axios
+        .get<ITypeaheadOption[]>(`${url}?q=${encodeURIComponent(query)}`)
+        .then(response => !cancelled && setOptions(response.data))
+        .catch(() => !cancelled && setOptions([]));
+    }, TYPEAHEAD_DEBOUNCE_MS);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [url, query]);
+
+  const selectedIds = new Set(value.map(option => option.id));
+
+  const add = (option: ITypeaheadOption) => {
+    onChange([...value, option]);
+    setQuery('');
+  };
+
+  const remove = (option: ITypeaheadOption) => onChange(value.filter(selected => selected.id !== option.id));
+
+  return (
+    <FormGroup>
+      <Label for={id}>{label}</Label>
+      <div className="mb-1">
+        {value.map(option => (
+          <Badge key={option.id} color="secondary" className="me-1">
+            {option.label}
+            <Button
+              size="sm"
+              color="link"
+              className="p-0 ms-1 text-white"
+              aria-label={`Remove ${option.label}`}
+              onClick={() => remove(option)}
+            >
+              &times;
+            </Button>
+          </Badge>
+        ))}
+      </div>
+      <Input id={id} data-cy={dataCy} type="search" autoComplete="off" value={query} onChange={event => setQuery(event.target.value)} />
+      {options.length > 0 ? (
+        <ListGroup>
+          {options
+            .filter(option => !selectedIds.has(option.id))
+            .map(option => (
+              <ListGroupItem key={option.id} tag="button" type="button" action onClick={() => add(option)}>
+                {option.label}
+              </ListGroupItem>
+            ))}
+        </ListGroup>
+      ) : null}
+    </FormGroup>
+  );
+};
+
+export default TypeaheadSelect;
@@ -0,0 +1,8 @@
+export type CheckinBulkStatus = 'CREATED' | 'REJECTED' | 'DUPLICATE';
+
+export interface ICheckinBulkResult {
+  index: number;
+  status: CheckinBulkStatus;
+  id?: number | null;
+  message?: string | null;
+}
@@ -4,6 +4,7 @@ import { IPlayer } from 'app/shared/model/player.model';
 export interface ICheckin {
   id?: number;
   timestamp?: dayjs.Dayjs;
+  idempotencyKey?: string | null;
   player?: IPlayer;
 }
 
@@ -2,6 +2,9 @@ export interface IFileData {
   id?: number;
   uid?: string;
   fileName?: string;
+  contentHash?: string | null;
+  contentType?: string | null;
+  contentSize?: number | null;
 }
 
 export const defaultValue: Readonly<IFileData> = {};
@@ -0,0 +1,20 @@
+export interface ITeamCheckinCounters {
+  teamId: number;
+  teamName?: string | null;
+  checkinCount: number;
+  playerCount: number;
+}
+
+export interface ICheckinSnapshot {
+  id: number;
+  playerId?: number | null;
+  timestamp: string;
+}
+
+export interface ILiveCheckinCounters {
+  since: string;
+  checkinCount: number;
+  playerCount: number;
+  teams: ITeamCheckinCounters[];
+  recent: ICheckinSnapshot[];
+}
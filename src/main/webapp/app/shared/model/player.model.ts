@@ -12,6 +12,8 @@ export interface IPlayer {
   dateOfBirth?: dayjs.Dayjs | null;
   guardians?: IGuardian[] | null;
   teams?: ITeam[] | null;
+  guardianIds?: number[] | null;
+  teamIds?: number[] | null;
 }
 
 export const defaultValue: Readonly<IPlayer> = {};
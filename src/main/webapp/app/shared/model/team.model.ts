@@ -4,6 +4,8 @@ export interface ITeam {
   id?: number;
   name?: string | null;
   players?: IPlayer[] | null;
+  playerIds?: number[] | null;
+  playerCount?: number | null;
 }
 
 export const defaultValue: Readonly<ITeam> = {};
@@ -0,0 +1,4 @@
+export interface ITypeaheadOption {
+  id: number;
+  label: string;
+}
@@ -8,11 +8,20 @@ import {
   createSlice,
 } from '@reduxjs/toolkit';
 import { AxiosError, isAxiosError } from 'axios';
+import { CountMode } from 'app/shared/util/pagination.constants';
 
 /**
  * Model for redux actions with pagination
  */
-export type IQueryParams = { query?: string; page?: number; size?: number; sort?: string };
+export type IQueryParams = {
+  query?: string;
+  page?: number;
+  size?: number;
+  sort?: string;
+  count?: CountMode;
+  summary?: boolean;
+  filter?: Record<string, string | number>;
+};
 
 /**
  * Useful types for working with actions
@@ -1,4 +1,4 @@
-import { cleanEntity, mapIdList } from './entity-utils';
+import { cleanEntity, getFilterQuery, getTotalItems, mapIdList } from './entity-utils';
 
 describe('Entity utils', () => {
   describe('cleanEntity', () => {
@@ -53,4 +53,30 @@ describe('Entity utils', () => {
       expect(mapIdList(ids)).toEqual([]);
     });
   });
+
+  describe('getTotalItems', () => {
+    it('should read the total count header', () => {
+      expect(getTotalItems({ 'x-total-count': '123' }, 20, { page: 0, size: 20 })).toEqual(123);
+    });
+
+    it('should count up to the next page without a total count header', () => {
+      const link = '<http://localhost/api/camps?page=3&size=20>; rel="next",<http://localhost/api/camps?page=0&size=20>; rel="first"';
+      expect(getTotalItems({ link }, 20, { page: 2, size: 20 })).toEqual(61);
+    });
+
+    it('should count up to the last page without a total count header', () => {
+      const link = '<http://localhost/api/camps?page=1&size=20>; rel="prev",<http://localhost/api/camps?page=0&size=20>; rel="first"';
+      expect(getTotalItems({ link }, 5, { page: 2, size: 20 })).toEqual(45);
+    });
+  });
+
+  describe('getFilterQuery', () => {
+    it('should encode the filters', () => {
+      expect(getFilterQuery({ 'lastName.startsWith': "O'Br", 'teamsId.in': '1,2' })).toEqual("lastName.startsWith=O'Br&teamsId.in=1%2C2&");
+    });
+
+    it('should be empty without filters', () => {
+      expect(getFilterQuery(undefined)).toEqual('');
+    });
+  });
 });
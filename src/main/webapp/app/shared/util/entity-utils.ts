@@ -1,5 +1,6 @@
 import pick from 'lodash/pick';
 import { IPaginationBaseState, ISortBaseState } from 'react-jhipster';
+import { IQueryParams } from 'app/shared/reducers/reducer.utils';
 
 /**
  * Removes fields with an 'id' field that equals ''.
@@ -44,3 +45,31 @@ export const overridePaginationStateWithQueryParams = (paginationBaseState: IPag
   }
   return sortedPaginationState;
 };
+
+/**
+ * Get the number of entities of a list endpoint from the headers of one of its pages.
+ * Uncounted pages have no X-Total-Count header: the number of entities up to the page is returned instead,
+ * plus one if there is a next page, so that the pagination links to it.
+ *
+ * @param headers the response headers.
+ * @param itemCount the number of entities in the page.
+ * @param params the query of the page.
+ */
+export const getTotalItems = (headers, itemCount: number, params?: IQueryParams): number => {
+  const totalCount = headers['x-total-count'];
+  if (totalCount !== undefined && totalCount !== null) {
+    return parseInt(totalCount, 10);
+  }
+  const offset = params?.page && params?.size ? params.page * params.size : 0;
+  const hasNext = /rel="next"/.test(headers.link ?? '');
+  return offset + itemCount + (hasNext ? 1 : 0);
+};
+
+/**
+ * Build the query string of criteria filters, e.g. { 'lastName.startsWith': 'Smi' } gives 'lastName.startsWith=Smi&'.
+ * Filtered lists are always counted exactly by the server.
+ */
+export const getFilterQuery = (filter?: Record<string, string | number>): string =>
+  Object.entries(filter ?? {})
+    .map(([key, value]) => `${encodeURIComponent(key)}=${encodeURIComponent(value)}&`)
+    .join('');
@@ -0,0 +1,28 @@
+import { parseEventStream } from './event-stream';
+
+describe('Event stream', () => {
+  describe('parseEventStream', () => {
+    it('should parse complete events', () => {
+      const { events, rest } = parseEventStream('event:counters\ndata:{"checkinCount":1}\n\nevent:counters\ndata: {"checkinCount":2}\n\n');
+
+      expect(events).toEqual([
+        { event: 'counters', data: '{"checkinCount":1}' },
+        { event: 'counters', data: '{"checkinCount":2}' },
+      ]);
+      expect(rest).toEqual('');
+    });
+
+    it('should keep an event still being received', () => {
+      const { events, rest } = parseEventStream('event:counters\ndata:{"checkinCount":1}\n\nevent:counters\ndata:{"check');
+
+      expect(events).toEqual([{ event: 'counters', data: '{"checkinCount":1}' }]);
+      expect(rest).toEqual('event:counters\ndata:{"check');
+    });
+
+    it('should join the data lines and ignore comments', () => {
+      const { events } = parseEventStream(':ping\n\ndata:a\r\ndata:b\r\n\r\n');
+
+      expect(events).toEqual([{ event: 'message', data: 'a\nb' }]);
+    });
+  });
+});
@@ -0,0 +1,97 @@
+import { Storage } from 'react-jhipster';
+
+export interface IServerSentEvent {
+  event: string;
+  data: string;
+}
+
+export interface IEventStreamOptions {
+  /** Delay before reconnecting after the stream ended or failed. */
+  retryDelay?: number;
+  /** Called when the server refuses the stream, with the HTTP status; the stream is closed on 401 and 403. */
+  onError?: (status: number) => void;
+}
+
+const DEFAULT_RETRY_DELAY = 5000;
+
+/**
+ * Split the text received on an event stream into complete events and the rest, an event still being received.
+ * Comments and fields other than `event` and `data` are ignored; an event without name is a `message`.
+ */
+export const parseEventStream = (text: string): { events: IServerSentEvent[]; rest: string } => {
+  const blocks = text.replace(/\r\n?/g, '\n').split('\n\n');
+  const rest = blocks.pop();
+  const events = blocks
+    .map(block => {
+      let event = 'message';
+      const data = [];
+      block.split('\n').forEach(line => {
+        const colon = line.indexOf(':');
+        const field = colon < 0 ? line : line.substring(0, colon);
+        const value = colon < 0 ? '' : line.substring(colon + 1).replace(/^ /, '');
+        if (field === 'event') {
+          event = value;
+        } else if (field === 'data') {
+          data.push(value);
+        }
+      });
+      return data.length > 0 ? { event, data: data.join('\n') } : null;
+    })
+    .filter(Boolean);
+  return { events, rest };
+};
+
+/**
+ * Subscribe to a Server-Sent Events endpoint of the API.
+ * <p>
+ * The native `EventSource` cannot send the `Authorization` header the API requires, so the stream is read with
+ * `fetch`, authenticated with the same token as the axios requests. The stream is reopened after `retryDelay` when it
+ * ends or fails, for instance when the server is restarted or has too many subscribers.
+ *
+ * @param url the url of the endpoint, relative to the API server.
+ * @param onEvent called with each event received.
+ * @param options the reconnection options.
+ * @return a function closing the stream.
+ */
+export const openEventStream = (url: string, onEvent: (event: IServerSentEvent) => void, options: IEventStreamOptions = {}) => {
+  const retryDelay = options.retryDelay ?? DEFAULT_RETRY_DELAY;
+  const controller = new AbortController();
+  let retryTimeout: ReturnType<typeof setTimeout> = null;
+
+  const connect = async () => {
+    const token = Storage.local.get('jhi-authenticationToken') || Storage.session.get('jhi-authenticationToken');
+    const headers: Record<string, string> = { Accept: 'text/event-stream' };
+    if (token) {
+      headers.Authorization = `Bearer ${token}`;
+    }
+    try {
+      const response = await fetch(`${SERVER_API_URL}${url}`, { headers, signal: controller.signal });
+      if (!response.ok || !response.body) {
+        options.onError?.(response.status);
+        if (response.status === 401 || response.status === 403) {
+          return;
+        }
+      } else {
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        for (let chunk = await reader.read(); !chunk.done; chunk = await reader.read()) {
+          const { events, rest } = parseEventStream(buffer + decoder.decode(chunk.value, { stream: true }));
+          buffer = rest;
+          events.forEach(onEvent);
+        }
+      }
+    } catch (e) {
+      // Closed, or the connection was lost
+    }
+    if (!controller.signal.aborted) {
+      retryTimeout = setTimeout(connect, retryDelay);
+    }
+  };
+
+  connect();
+  return () => {
+    controller.abort();
+    clearTimeout(retryTimeout);
+  };
+};
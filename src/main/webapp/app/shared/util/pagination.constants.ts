@@ -2,3 +2,9 @@ export const ITEMS_PER_PAGE = 20;
 export const ASC = 'asc';
 export const DESC = 'desc';
 export const SORT = 'sort';
+
+/**
+ * How the list endpoints count the entities: `estimate` serves a cached count, `none` sends no count at all.
+ */
+export type CountMode = 'exact' | 'estimate' | 'none';
+export const DEFAULT_COUNT_MODE: CountMode = 'estimate';
@@ -0,0 +1,83 @@
+package com.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myapp.config.ApplicationProperties;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckinArchiveRepositoryTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T10:00:00.123456Z");
+
+    @TempDir
+    Path directory;
+
+    private CheckinArchiveRepository checkinArchiveRepository;
+
+    @BeforeEach
+    void setup() throws Exception {
+        checkinArchiveRepository = newRepository();
+    }
+
+    @Test
+    void segmentsRoundTrip() throws Exception {
+        CheckinSegment segment = checkinArchiveRepository.save(
+            List.of(
+                new ArchivedCheckin(3L, 1L, START.plusSeconds(60)),
+                new ArchivedCheckin(1L, 1L, START),
+                new ArchivedCheckin(2L, 2L, START.minusSeconds(3600))
+            )
+        );
+
+        assertThat(segment.getFirstId()).isEqualTo(1L);
+        assertThat(segment.getLastId()).isEqualTo(3L);
+        assertThat(segment.getMinTimestamp()).isEqualTo(START.minusSeconds(3600));
+        assertThat(checkinArchiveRepository.findAll(segment)).containsExactlyInAnyOrder(
+            new ArchivedCheckin(1L, 1L, START),
+            new ArchivedCheckin(2L, 2L, START.minusSeconds(3600)),
+            new ArchivedCheckin(3L, 1L, START.plusSeconds(60))
+        );
+
+        CheckinArchiveRepository reopened = newRepository();
+        assertThat(reopened.count()).isEqualTo(3);
+        assertThat(reopened.findTimelineBefore(1L, null, null, 10)).extracting(ArchivedCheckin::id).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void timelineSpansSegments() {
+        checkinArchiveRepository.save(List.of(new ArchivedCheckin(1L, 1L, START), new ArchivedCheckin(2L, 1L, START.plusSeconds(10))));
+        checkinArchiveRepository.save(List.of(new ArchivedCheckin(5L, 1L, START.plusSeconds(20)), new ArchivedCheckin(6L, 2L, START)));
+
+        assertThat(checkinArchiveRepository.findTimelineBefore(1L, START.plusSeconds(20), 5L, 10))
+            .extracting(ArchivedCheckin::id)
+            .containsExactly(2L, 1L);
+        assertThat(checkinArchiveRepository.findTimelineAfter(1L, START, 1L, 1)).extracting(ArchivedCheckin::id).containsExactly(2L);
+        assertThat(checkinArchiveRepository.findTimelineBefore(3L, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void deletedSegmentsAreGone() throws Exception {
+        CheckinSegment segment = checkinArchiveRepository.save(List.of(new ArchivedCheckin(1L, 1L, START)));
+        Files.writeString(directory.resolve("interrupted.seg.tmp"), "partial");
+
+        checkinArchiveRepository.delete(segment);
+
+        assertThat(checkinArchiveRepository.findLatestSegment()).isEmpty();
+        assertThat(newRepository().count()).isZero();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    private CheckinArchiveRepository newRepository() throws Exception {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCheckin().getArchive().setDirectory(directory.toString());
+        CheckinArchiveRepository repository = new CheckinArchiveRepository(applicationProperties);
+        repository.open();
+        return repository;
+    }
+}
@@ -0,0 +1,108 @@
+package com.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CheckinTokenCodecTest {
+
+    private static final Instant NOT_BEFORE = Instant.parse("2026-03-01T00:00:00Z");
+
+    private static final Instant NOT_AFTER = Instant.parse("2027-03-01T00:00:00Z");
+
+    private static final long NOW = NOT_BEFORE.getEpochSecond() + 3600;
+
+    private final byte[] key = Base64.getDecoder().decode(
+        "UfEquUUiaB92DQyozurkXgnpezYO6SlXVuesCBREwRs/36OOIy7En/ozUX5OXu7r4Eadmw6g3DqZqSeuM76vIg=="
+    );
+
+    private MeterRegistry meterRegistry;
+
+    private CheckinTokenCodec codec;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        codec = new CheckinTokenCodec(key, meterRegistry);
+    }
+
+    @Test
+    void issuedTokenIsVerified() {
+        String token = codec.issue(42L, NOT_BEFORE, NOT_AFTER);
+
+        assertThat(token).hasSize(CheckinTokenCodec.ENCODED_LENGTH);
+        assertThat(codec.verify(token, NOW)).isEqualTo(42L);
+        assertThat(meterRegistry.get(CheckinTokenCodec.VERIFIED_METER_NAME).tag("result", "valid").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tagIsHmacSha256() throws Exception {
+        byte[] token = Base64.getUrlDecoder().decode(codec.issue(42L, NOT_BEFORE, NOT_AFTER));
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        byte[] expected = mac.doFinal(Arrays.copyOf(token, 17));
+        assertThat(Arrays.copyOfRange(token, 17, 33)).isEqualTo(Arrays.copyOf(expected, 16));
+        assertThat(ByteBuffer.wrap(token, 1, 8).getLong()).isEqualTo(42L);
+    }
+
+    @Test
+    void forgedTokenIsRejected() {
+        char[] token = codec.issue(42L, NOT_BEFORE, NOT_AFTER).toCharArray();
+        // Change the player id
+        token[5] = token[5] == 'A' ? 'B' : 'A';
+
+        long result = codec.verify(new String(token), NOW);
+
+        assertThat(CheckinTokenCodec.failureOf(result)).isEqualTo(CheckinTokenCodec.Failure.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        byte[] otherKey = key.clone();
+        otherKey[0]++;
+        String token = new CheckinTokenCodec(otherKey, meterRegistry).issue(42L, NOT_BEFORE, NOT_AFTER);
+
+        assertThat(CheckinTokenCodec.failureOf(codec.verify(token, NOW))).isEqualTo(CheckinTokenCodec.Failure.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void tokenOutsideOfItsWindowIsRejected() {
+        String token = codec.issue(42L, NOT_BEFORE, NOT_AFTER);
+
+        assertThat(CheckinTokenCodec.failureOf(codec.verify(token, NOT_BEFORE.getEpochSecond() - 1))).isEqualTo(
+            CheckinTokenCodec.Failure.NOT_YET_VALID
+        );
+        assertThat(codec.verify(token, NOT_BEFORE.getEpochSecond())).isEqualTo(42L);
+        assertThat(CheckinTokenCodec.failureOf(codec.verify(token, NOT_AFTER.getEpochSecond()))).isEqualTo(
+            CheckinTokenCodec.Failure.EXPIRED
+        );
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        String token = codec.issue(42L, NOT_BEFORE, NOT_AFTER);
+
+        assertThat(CheckinTokenCodec.failureOf(codec.verify(null, NOW))).isEqualTo(CheckinTokenCodec.Failure.MALFORMED);
+        assertThat(CheckinTokenCodec.failureOf(codec.verify(token.substring(1), NOW))).isEqualTo(CheckinTokenCodec.Failure.MALFORMED);
+        assertThat(CheckinTokenCodec.failureOf(codec.verify("=" + token.substring(1), NOW))).isEqualTo(
+            CheckinTokenCodec.Failure.MALFORMED
+        );
+        assertThat(meterRegistry.get(CheckinTokenCodec.VERIFIED_METER_NAME).tag("result", "malformed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shortKeyIsRefused() {
+        assertThatThrownBy(() -> new CheckinTokenCodec(new byte[16], meterRegistry)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ByteRangeSetTest {
+
+    private ByteRangeSet ranges;
+
+    @BeforeEach
+    void setup() {
+        ranges = new ByteRangeSet();
+    }
+
+    @Test
+    void disjointRangesAreKeptInOrder() {
+        ranges.add(20, 30);
+        ranges.add(0, 10);
+
+        assertThat(ranges.toArray()).isDeepEqualTo(new long[][] { { 0, 10 }, { 20, 30 } });
+        assertThat(ranges.size()).isEqualTo(20);
+        assertThat(ranges.covers(30)).isFalse();
+    }
+
+    @Test
+    void adjacentAndOverlappingRangesAreMerged() {
+        ranges.add(10, 20);
+        ranges.add(30, 40);
+        ranges.add(20, 30);
+        ranges.add(35, 50);
+        ranges.add(0, 12);
+
+        assertThat(ranges.toArray()).isDeepEqualTo(new long[][] { { 0, 50 } });
+        assertThat(ranges.size()).isEqualTo(50);
+        assertThat(ranges.covers(50)).isTrue();
+        assertThat(ranges.covers(51)).isFalse();
+    }
+
+    @Test
+    void rangesWithinARangeChangeNothing() {
+        ranges.add(0, 100);
+        ranges.add(10, 20);
+        ranges.add(5, 5);
+
+        assertThat(ranges.toArray()).isDeepEqualTo(new long[][] { { 0, 100 } });
+    }
+
+    @Test
+    void anEmptyFileIsCovered() {
+        assertThat(ranges.covers(0)).isTrue();
+        assertThat(ranges.covers(1)).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Checkin;
+import com.myapp.domain.Player;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CheckinDeduplicatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    private MeterRegistry meterRegistry;
+
+    private CheckinDeduplicator checkinDeduplicator;
+
+    @BeforeEach
+    void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCheckin().getDedupe().setPlayerWindow(Duration.ofMinutes(2));
+        applicationProperties.getCheckin().getDedupe().setMaxKeys(3);
+        meterRegistry = new SimpleMeterRegistry();
+        checkinDeduplicator = new CheckinDeduplicator(applicationProperties, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void repeatedIdempotencyKeyIsRejected() {
+        checkinDeduplicator.reserve(newCheckin(1L, NOW).idempotencyKey("scan-1"));
+
+        assertThatThrownBy(() -> checkinDeduplicator.reserve(newCheckin(2L, NOW).idempotencyKey("scan-1"))).isInstanceOf(
+            DuplicateCheckinException.class
+        );
+        assertThat(meterRegistry.get(CheckinDeduplicator.REJECTED_METER_NAME).tag("rule", "idempotency-key").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void samePlayerWithinWindowIsRejected() {
+        Checkin first = newCheckin(1L, NOW);
+        checkinDeduplicator.reserve(first);
+
+        assertThatThrownBy(() -> checkinDeduplicator.reserve(newCheckin(1L, NOW.plusSeconds(90)))).isInstanceOf(
+            DuplicateCheckinException.class
+        );
+        // Like the unique constraint, the rule holds within a fixed window, not across its boundary
+        assertThatCode(() -> checkinDeduplicator.reserve(newCheckin(1L, NOW.minusSeconds(1)))).doesNotThrowAnyException();
+        assertThatCode(() -> checkinDeduplicator.reserve(newCheckin(2L, NOW))).doesNotThrowAnyException();
+        assertThat(first.getDedupeBucket()).isEqualTo(NOW.getEpochSecond());
+    }
+
+    @Test
+    void rejectedPlayerReleasesItsIdempotencyKey() {
+        checkinDeduplicator.reserve(newCheckin(1L, NOW));
+
+        assertThatThrownBy(() -> checkinDeduplicator.reserve(newCheckin(1L, NOW).idempotencyKey("scan-1"))).isInstanceOf(
+            DuplicateCheckinException.class
+        );
+        assertThatCode(() -> checkinDeduplicator.reserve(newCheckin(2L, NOW).idempotencyKey("scan-1"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkinsOfOneWindowShareTheirDedupeBucket() {
+        Checkin old = newCheckin(1L, NOW.minus(Duration.ofDays(3)));
+        checkinDeduplicator.reserve(old);
+
+        // Beyond the horizon, only the bucket dedupes the scans of the backlog of an offline kiosk
+        assertThat(checkinDeduplicator.dedupeBucket(old.getTimestamp().plusSeconds(30))).isEqualTo(old.getDedupeBucket());
+        assertThat(checkinDeduplicator.dedupeBucket(old.getTimestamp().plusSeconds(120))).isNotEqualTo(old.getDedupeBucket());
+    }
+
+    @Test
+    void checkinsBeyondTheHorizonAreNotRemembered() {
+        checkinDeduplicator.reserve(newCheckin(1L, NOW.minus(Duration.ofMinutes(10))));
+
+        assertThat(meterRegistry.get(CheckinDeduplicator.KEYS_METER_NAME).tag("rule", "player-window").gauge().value()).isZero();
+    }
+
+    @Test
+    void keysBeyondTheBoundAreNotRemembered() {
+        for (long playerId = 1; playerId <= 4; playerId++) {
+            checkinDeduplicator.reserve(newCheckin(playerId, NOW));
+        }
+
+        assertThatCode(() -> checkinDeduplicator.reserve(newCheckin(4L, NOW))).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(CheckinDeduplicator.OVERFLOW_METER_NAME).counter().count()).isEqualTo(2);
+    }
+
+    private static Checkin newCheckin(long playerId, Instant timestamp) {
+        return new Checkin().timestamp(timestamp).player(new Player().id(playerId));
+    }
+}
@@ -0,0 +1,174 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.Checkin;
+import com.myapp.domain.Player;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.repository.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class CheckinWriteBehindBufferTest {
+
+    private static final long KNOWN_PLAYER_ID = 1L;
+
+    private static final String STORED_IDEMPOTENCY_KEY = "stored-by-another-instance";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private CheckinDeduplicator checkinDeduplicator;
+
+    private CheckinWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setup() {
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Checkin.WriteBehind writeBehind = applicationProperties.getCheckin().getWriteBehind();
+        writeBehind.setEnabled(true);
+        writeBehind.setFlushInterval(Duration.ofMillis(200));
+        writeBehind.setMaxBatchSize(100);
+
+        CheckinRepository checkinRepository = mock(CheckinRepository.class);
+        doAnswer(invocation -> {
+            List<Checkin> checkins = invocation.getArgument(0);
+            if (checkins.stream().anyMatch(checkin -> STORED_IDEMPOTENCY_KEY.equals(checkin.getIdempotencyKey()))) {
+                throw new DataIntegrityViolationException(
+                    "Duplicate entry for key '" + CheckinDeduplicator.IDEMPOTENCY_KEY_CONSTRAINT + "'"
+                );
+            }
+            checkins.forEach(checkin -> checkin.setId(sequence.incrementAndGet()));
+            batchSizes.add(checkins.size());
+            return null;
+        })
+            .when(checkinRepository)
+            .bulkInsert(anyList());
+        PlayerRepository playerRepository = mock(PlayerRepository.class);
+        when(playerRepository.findExistingIds(anyCollection())).thenReturn(Set.of(KNOWN_PLAYER_ID));
+
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties.getCheckin().getDedupe().setPlayerWindow(Duration.ZERO);
+        checkinDeduplicator = new CheckinDeduplicator(applicationProperties, meterRegistry);
+        buffer = new CheckinWriteBehindBuffer(
+            applicationProperties,
+            checkinRepository,
+            playerRepository,
+            mock(PlatformTransactionManager.class),
+            mock(ApplicationEventPublisher.class),
+            checkinDeduplicator,
+            meterRegistry
+        );
+        buffer.start();
+    }
+
+    @AfterEach
+    void teardown() {
+        buffer.stop();
+    }
+
+    @Test
+    void concurrentCheckinsAreGroupCommitted() throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Checkin>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(producers.submit(() -> submit(newCheckin(KNOWN_PLAYER_ID))));
+            }
+            for (Future<Checkin> result : results) {
+                assertThat(result.get().getId()).isNotNull();
+            }
+        } finally {
+            producers.shutdown();
+        }
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(batchSizes.size()).isLessThan(10);
+        assertThat(meterRegistry.get(CheckinWriteBehindBuffer.FLUSH_METER_NAME).timer().count()).isEqualTo(batchSizes.size());
+        assertThat(meterRegistry.get(CheckinWriteBehindBuffer.QUEUE_DEPTH_METER_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    void checkinForUnknownPlayerFails() {
+        assertThatThrownBy(() -> submit(newCheckin(KNOWN_PLAYER_ID + 1))).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void constraintViolationFailsOnlyTheOffendingCheckin() throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Checkin> stored = producers.submit(() -> submit(newCheckin(KNOWN_PLAYER_ID).idempotencyKey(STORED_IDEMPOTENCY_KEY)));
+            Future<Checkin> other = producers.submit(() -> submit(newCheckin(KNOWN_PLAYER_ID)));
+
+            assertThat(other.get().getId()).isNotNull();
+            assertThatThrownBy(stored::get).hasCauseInstanceOf(DuplicateCheckinException.class);
+        } finally {
+            producers.shutdown();
+        }
+    }
+
+    @Test
+    void failedCheckinReleasesItsReservation() {
+        assertThatThrownBy(() -> submit(newCheckin(KNOWN_PLAYER_ID + 1).idempotencyKey("scan-1"))).isInstanceOf(
+            DataIntegrityViolationException.class
+        );
+
+        // The checkin was not stored, a retry with the same idempotency key is accepted
+        assertThat(submit(newCheckin(KNOWN_PLAYER_ID).idempotencyKey("scan-1")).getId()).isNotNull();
+    }
+
+    @Test
+    void queuedAckPolicyReturnsBeforeCommit() {
+        applicationProperties.getCheckin().getWriteBehind().setAckPolicy(ApplicationProperties.Checkin.WriteBehind.AckPolicy.QUEUED);
+
+        Checkin checkin = submit(newCheckin(KNOWN_PLAYER_ID));
+        assertThat(checkin.getId()).isNull();
+
+        buffer.stop();
+        assertThat(checkin.getId()).isNotNull();
+    }
+
+    @Test
+    void checkinIsRejectedOnceStopped() {
+        buffer.stop();
+
+        assertThatThrownBy(() -> submit(newCheckin(KNOWN_PLAYER_ID))).isInstanceOf(CheckinWriteBehindException.class);
+        assertThat(meterRegistry.get(CheckinWriteBehindBuffer.REJECTED_METER_NAME).counter().count()).isEqualTo(1);
+    }
+
+    private Checkin submit(Checkin checkin) {
+        return buffer.submit(checkin, checkinDeduplicator.reserve(checkin));
+    }
+
+    private static Checkin newCheckin(long playerId) {
+        return new Checkin().timestamp(Instant.now()).player(new Player().id(playerId));
+    }
+}
@@ -0,0 +1,106 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.myapp.IntegrationTest;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.FileBlobRepository;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link FileDataCollectorService}.
+ */
+@IntegrationTest
+class FileDataCollectorServiceIT {
+
+    @Autowired
+    private FileDataCollectorService fileDataCollectorService;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void collectFilesWithoutBlob() throws Exception {
+        byte[] content = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(content);
+        Path file = writeOldFile(blobStore.path(hash), content);
+        Path derivative = writeOldFile(blobStore.derivativePath(hash, 160), new byte[] { 1, 2, 3 });
+
+        FileDataCollectorService.CollectionReport dryRun = fileDataCollectorService.collect(true);
+
+        assertThat(dryRun.dryRun()).isTrue();
+        assertThat(dryRun.contents()).isPositive();
+        assertThat(dryRun.bytes()).isGreaterThanOrEqualTo(content.length + 3);
+        assertThat(file).exists();
+        assertThat(derivative).exists();
+
+        FileDataCollectorService.CollectionReport report = fileDataCollectorService.collect(false);
+
+        assertThat(report.contents()).isPositive();
+        assertThat(file).doesNotExist();
+        assertThat(derivative).doesNotExist();
+    }
+
+    @Test
+    void collectUnreferencedBlob() throws Exception {
+        byte[] content = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(content);
+        Path file = writeOldFile(blobStore.path(hash), content);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            fileBlobRepository.acquire(hash, content.length);
+            fileBlobRepository.release(hash);
+        });
+
+        fileDataCollectorService.collect(true);
+
+        assertThat(fileBlobRepository.existsById(hash)).isTrue();
+        assertThat(file).exists();
+
+        fileDataCollectorService.collect(false);
+
+        assertThat(fileBlobRepository.existsById(hash)).isFalse();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void keepRecentFiles() throws Exception {
+        byte[] content = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        Path file = blobStore.path(sha256(content));
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+
+        fileDataCollectorService.collect(false);
+
+        assertThat(file).exists();
+        Files.delete(file);
+    }
+
+    private static Path writeOldFile(Path file, byte[] content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(30, ChronoUnit.DAYS)));
+        return file;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
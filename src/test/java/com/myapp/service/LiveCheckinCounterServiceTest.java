@@ -0,0 +1,77 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myapp.config.ApplicationProperties;
+import com.myapp.domain.enumeration.RollupGranularity;
+import com.myapp.repository.CheckinDailyRollupRepository;
+import com.myapp.repository.CheckinRepository;
+import com.myapp.service.dto.LiveCheckinCountersDTO;
+import com.myapp.service.event.CheckinSnapshot;
+import com.myapp.service.event.CheckinsChangedEvent;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class LiveCheckinCounterServiceTest {
+
+    private CheckinDailyRollupRepository checkinDailyRollupRepository;
+
+    private LiveCheckinCounterService liveCheckinCounterService;
+
+    @BeforeEach
+    void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCheckin().getLive().setRecentSize(2);
+        checkinDailyRollupRepository = mock(CheckinDailyRollupRepository.class);
+        CheckinRepository checkinRepository = mock(CheckinRepository.class);
+        when(checkinRepository.findLatestRows(any(Limit.class))).thenReturn(List.of());
+        AttendanceRollupService attendanceRollupService = mock(AttendanceRollupService.class);
+        when(attendanceRollupService.bucketStart(any(Instant.class), any(RollupGranularity.class))).thenReturn(
+            Instant.now().truncatedTo(ChronoUnit.DAYS)
+        );
+        when(checkinDailyRollupRepository.countPlayers(any(Instant.class), any(Instant.class))).thenReturn(3L);
+        liveCheckinCounterService = new LiveCheckinCounterService(
+            checkinDailyRollupRepository,
+            checkinRepository,
+            attendanceRollupService,
+            applicationProperties
+        );
+    }
+
+    @Test
+    void countersAreOnlyRecomputedAfterChanges() {
+        assertThat(liveCheckinCounterService.pollChanges()).isPresent();
+        assertThat(liveCheckinCounterService.pollChanges()).isEmpty();
+
+        liveCheckinCounterService.onCheckinsChanged(CheckinsChangedEvent.added(List.of(newCheckin(1L))));
+        liveCheckinCounterService.onCheckinsChanged(CheckinsChangedEvent.added(List.of(newCheckin(2L))));
+
+        Optional<LiveCheckinCountersDTO> counters = liveCheckinCounterService.pollChanges();
+        assertThat(counters).isPresent();
+        assertThat(counters.orElseThrow().getPlayerCount()).isEqualTo(3L);
+        assertThat(liveCheckinCounterService.pollChanges()).isEmpty();
+        verify(checkinDailyRollupRepository, times(2)).countPlayers(any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    void recentArrivalsAreBounded() {
+        liveCheckinCounterService.onCheckinsChanged(CheckinsChangedEvent.added(List.of(newCheckin(1L), newCheckin(2L), newCheckin(3L))));
+        liveCheckinCounterService.onCheckinsChanged(CheckinsChangedEvent.removed(newCheckin(3L)));
+
+        assertThat(liveCheckinCounterService.getCounters().getRecent()).extracting(CheckinSnapshot::id).containsExactly(2L);
+    }
+
+    private static CheckinSnapshot newCheckin(long id) {
+        return new CheckinSnapshot(id, 1L, Instant.now());
+    }
+}
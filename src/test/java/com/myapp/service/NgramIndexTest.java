@@ -0,0 +1,61 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new NgramIndex();
+        index.put(1L, "John Smith");
+        index.put(2L, "Jane Smyth");
+        index.put(3L, "Zoë Müller");
+        index.put(4L, "Smith");
+    }
+
+    @Test
+    void prefixOfAWordMatches() {
+        // Smyth shares the first two trigrams of the query
+        assertThat(index.search("smi", 0.3f, 10)).extracting(NgramIndex.Hit::id).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void misspelledNameMatches() {
+        assertThat(index.search("smtih", 0.3f, 10)).extracting(NgramIndex.Hit::id).contains(1L, 4L);
+        assertThat(index.search("smith", 0.5f, 10)).extracting(NgramIndex.Hit::id).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void accentsAndCaseAreIgnored() {
+        assertThat(index.search("ZOE MULLER", 0.9f, 10)).extracting(NgramIndex.Hit::id).containsExactly(3L);
+    }
+
+    @Test
+    void updatedAndRemovedDocumentsAreReindexed() {
+        index.put(1L, "John Doe");
+        index.remove(4L);
+
+        assertThat(index.search("smith", 0.9f, 10)).isEmpty();
+        assertThat(index.search("doe", 0.9f, 10)).extracting(NgramIndex.Hit::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void hitsAreCapped() {
+        assertThat(index.search("smith", 0.3f, 1)).extracting(NgramIndex.Hit::id).containsExactly(4L);
+    }
+
+    @Test
+    void memoryIsEstimatedPerDocument() {
+        double bytesPerDocument = index.estimatedBytesPerDocument();
+
+        assertThat(bytesPerDocument).isPositive();
+        index.clear();
+        assertThat(index.estimatedBytesPerDocument()).isZero();
+    }
+}
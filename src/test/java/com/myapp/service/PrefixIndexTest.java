@@ -0,0 +1,49 @@
+package com.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new PrefixIndex();
+        index.put(1L, "John Smith");
+        index.put(2L, "Jane Smithers");
+        index.put(3L, "Zoë Müller");
+        index.put(4L, "U12 Girls");
+    }
+
+    @Test
+    void labelsWithAWordStartingWithThePrefixMatch() {
+        assertThat(index.search("smi", 10)).extracting(PrefixIndex.Entry::id).containsExactly(1L, 2L);
+        assertThat(index.search("mul", 10)).extracting(PrefixIndex.Entry::label).containsExactly("Zoë Müller");
+        assertThat(index.search("mith", 10)).isEmpty();
+    }
+
+    @Test
+    void everyWordOfTheQueryMustMatch() {
+        assertThat(index.search("smith ja", 10)).extracting(PrefixIndex.Entry::id).containsExactly(2L);
+        assertThat(index.search("u12 boys", 10)).isEmpty();
+    }
+
+    @Test
+    void resultsAreLimited() {
+        assertThat(index.search("j", 1)).extracting(PrefixIndex.Entry::id).containsExactly(2L);
+    }
+
+    @Test
+    void replacedAndRemovedLabelsAreReindexed() {
+        index.put(1L, "John Doe");
+        index.remove(2L);
+
+        assertThat(index.search("smi", 10)).isEmpty();
+        assertThat(index.search("doe", 10)).extracting(PrefixIndex.Entry::label).containsExactly("John Doe");
+        assertThat(index.label(2L)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,166 @@
+package com.myapp.web.rest;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.IntegrationTest;
+import com.myapp.domain.Player;
+import com.myapp.domain.Team;
+import com.myapp.security.AuthoritiesConstants;
+import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.PlayerDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link AttendanceResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AttendanceResourceIT {
+
+    private static final Instant BUCKET_START = Instant.parse("2026-03-01T10:00:00Z");
+
+    private static final String PLAYER_ATTENDANCE_API_URL = "/api/attendance/players/{id}";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restAttendanceMockMvc;
+
+    private Player player;
+
+    @BeforeEach
+    void initTest() {
+        player = PlayerResourceIT.createEntity();
+        em.persist(player);
+        em.flush();
+    }
+
+    @Test
+    @Transactional
+    void checkinsAreRolledUpOnWrite() throws Exception {
+        createCheckin(BUCKET_START.plusSeconds(60));
+        long secondId = createCheckin(BUCKET_START.plusSeconds(120));
+        createCheckin(BUCKET_START.plusSeconds(3600));
+
+        restAttendanceMockMvc
+            .perform(
+                get(PLAYER_ATTENDANCE_API_URL, player.getId())
+                    .param("granularity", "HOUR")
+                    .param("from", BUCKET_START.toString())
+                    .param("to", BUCKET_START.plusSeconds(86400).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$.[0].bucketStart").value(BUCKET_START.toString()))
+            .andExpect(jsonPath("$.[0].count").value(2))
+            .andExpect(jsonPath("$.[1].count").value(1));
+
+        restAttendanceMockMvc.perform(delete("/api/checkins/{id}", secondId)).andExpect(status().isNoContent());
+
+        restAttendanceMockMvc
+            .perform(
+                get(PLAYER_ATTENDANCE_API_URL, player.getId())
+                    .param("from", BUCKET_START.minusSeconds(86400).toString())
+                    .param("to", BUCKET_START.plusSeconds(86400).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].count").value(2));
+    }
+
+    @Test
+    @Transactional
+    void getTeamPresence() throws Exception {
+        Player absentPlayer = PlayerResourceIT.createEntity();
+        em.persist(absentPlayer);
+        Team team = TeamResourceIT.createEntity().addPlayers(player).addPlayers(absentPlayer);
+        em.persist(team);
+        em.flush();
+        // A day of its own, the bitmap loaded here outlives the test transaction
+        Instant day = Instant.parse("2026-02-01T12:00:00Z");
+        createCheckin(day);
+
+        restAttendanceMockMvc
+            .perform(get("/api/attendance/teams/{id}/present", team.getId()).param("at", day.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.teamId").value(team.getId()))
+            .andExpect(jsonPath("$.rosterSize").value(2))
+            .andExpect(jsonPath("$.playerIds", contains(player.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getPresenceOfNonExistingTeam() throws Exception {
+        restAttendanceMockMvc.perform(get("/api/attendance/teams/{id}/present", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getAttendanceWithInvalidPeriod() throws Exception {
+        restAttendanceMockMvc
+            .perform(
+                get(PLAYER_ATTENDANCE_API_URL, player.getId()).param("from", BUCKET_START.toString()).param("to", BUCKET_START.toString())
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void rebuildAttendance() throws Exception {
+        createCheckin(BUCKET_START);
+
+        restAttendanceMockMvc.perform(post("/api/attendance/rebuild")).andExpect(status().isNoContent());
+
+        restAttendanceMockMvc
+            .perform(
+                get(PLAYER_ATTENDANCE_API_URL, player.getId())
+                    .param("from", BUCKET_START.minusSeconds(86400).toString())
+                    .param("to", BUCKET_START.plusSeconds(86400).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].count").value(1));
+    }
+
+    @Test
+    @Transactional
+    void rebuildAttendanceIsRestrictedToAdmins() throws Exception {
+        restAttendanceMockMvc.perform(post("/api/attendance/rebuild")).andExpect(status().isForbidden());
+    }
+
+    private long createCheckin(Instant timestamp) throws Exception {
+        CheckinDTO checkinDTO = new CheckinDTO();
+        checkinDTO.setTimestamp(timestamp);
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(player.getId());
+        checkinDTO.setPlayer(playerDTO);
+        CheckinDTO created = om.readValue(
+            restAttendanceMockMvc
+                .perform(post("/api/checkins").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(checkinDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            CheckinDTO.class
+        );
+        return created.getId();
+    }
+}
@@ -0,0 +1,149 @@
+package com.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.IntegrationTest;
+import com.myapp.domain.Player;
+import com.myapp.repository.PlayerRepository;
+import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.PlayerDTO;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link CheckinLiveBroadcaster}, through {@code GET /api/checkins/live}.
+ * <p>
+ * The counters only follow committed checkins, so the tests commit their writes instead of running in a transaction.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CheckinLiveBroadcasterIT {
+
+    private static final String LIVE_API_URL = "/api/checkins/live";
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MockMvc restCheckinMockMvc;
+
+    private final List<Long> insertedCheckinIds = new ArrayList<>();
+
+    private final List<Player> insertedPlayers = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() throws Exception {
+        for (Long id : insertedCheckinIds) {
+            restCheckinMockMvc.perform(delete("/api/checkins/{id}", id));
+        }
+        insertedCheckinIds.clear();
+        insertedPlayers.forEach(player -> playerRepository.deleteById(player.getId()));
+        insertedPlayers.clear();
+    }
+
+    @Test
+    void liveCountersAreSentOnSubscriptionThenAfterCheckins() throws Exception {
+        MvcResult live = restCheckinMockMvc
+            .perform(get(LIVE_API_URL).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        try {
+            List<JsonNode> initial = awaitEvents(live, events -> !events.isEmpty());
+            long checkinCount = initial.get(0).get("checkinCount").asLong();
+
+            // Two checkins committed back to back mark the counters dirty twice, the following ticks send their sum
+            createCheckin();
+            createCheckin();
+
+            List<JsonNode> events = awaitEvents(live, received ->
+                received.get(received.size() - 1).get("checkinCount").asLong() == checkinCount + 2
+            );
+            assertThat(live.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+            // At most one event per checkin, fewer when both land within a tick
+            assertThat(events.stream().filter(event -> event.get("checkinCount").asLong() > checkinCount).count()).isBetween(1L, 2L);
+        } finally {
+            live.getRequest().getAsyncContext().complete();
+        }
+    }
+
+    private void createCheckin() throws Exception {
+        // Each checkin has its own player, the second scan of a player within the dedupe window being rejected
+        Player player = playerRepository.saveAndFlush(PlayerResourceIT.createEntity());
+        insertedPlayers.add(player);
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(player.getId());
+        CheckinDTO checkinDTO = new CheckinDTO();
+        checkinDTO.setTimestamp(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        checkinDTO.setPlayer(playerDTO);
+        CheckinDTO created = om.readValue(
+            restCheckinMockMvc
+                .perform(post("/api/checkins").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(checkinDTO)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            CheckinDTO.class
+        );
+        insertedCheckinIds.add(created.getId());
+    }
+
+    /**
+     * Wait until the counters received on the stream match a condition.
+     */
+    private List<JsonNode> awaitEvents(MvcResult live, Predicate<List<JsonNode>> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            List<JsonNode> events = parseEvents(live.getResponse().getContentAsString());
+            if (condition.test(events)) {
+                return events;
+            }
+            assertThat(System.currentTimeMillis()).as("counters received in time: %s", events).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private List<JsonNode> parseEvents(String stream) throws Exception {
+        List<JsonNode> events = new ArrayList<>();
+        // An event still being written has no blank line after it yet
+        int end = stream.lastIndexOf("\n\n");
+        if (end < 0) {
+            return events;
+        }
+        for (String event : stream.substring(0, end).split("\n\n")) {
+            if (!event.contains("event:" + CheckinLiveBroadcaster.COUNTERS_EVENT_NAME)) {
+                continue;
+            }
+            StringBuilder data = new StringBuilder();
+            for (String line : event.split("\n")) {
+                if (line.startsWith("data:")) {
+                    data.append(line.substring("data:".length()));
+                }
+            }
+            if (!data.isEmpty()) {
+                events.add(om.readTree(data.toString()));
+            }
+        }
+        return events;
+    }
+}
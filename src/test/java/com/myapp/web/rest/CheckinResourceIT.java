@@ -3,6 +3,7 @@ package com.myapp.web.rest;
 import static com.myapp.domain.CheckinAsserts.*;
 import static com.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -12,21 +13,31 @@ import com.myapp.IntegrationTest;
 import com.myapp.domain.Checkin;
 import com.myapp.domain.Player;
 import com.myapp.repository.CheckinRepository;
+import com.myapp.security.AuthoritiesConstants;
+import com.myapp.security.CheckinTokenCodec;
 import com.myapp.service.dto.CheckinDTO;
+import com.myapp.service.dto.CheckinTokenDTO;
 import com.myapp.service.mapper.CheckinMapper;
 import jakarta.persistence.EntityManager;
+import java.net.URI;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -162,6 +173,131 @@ class CheckinResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createCheckinWithRepeatedIdempotencyKey() throws Exception {
+        CheckinDTO checkinDTO = checkinMapper.toDto(checkin);
+        restCheckinMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "kiosk-1-scan-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(checkinDTO))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.idempotencyKey").value("kiosk-1-scan-1"));
+
+        long databaseSizeBeforeRetry = getRepositoryCount();
+
+        // A retry of the same scan must not create a second checkin
+        restCheckinMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .header("Idempotency-Key", "kiosk-1-scan-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(checkinDTO))
+            )
+            .andExpect(status().isConflict());
+
+        assertSameRepositoryCount(databaseSizeBeforeRetry);
+    }
+
+    @Test
+    @Transactional
+    void createCheckinsInBulk() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        CheckinDTO valid = checkinMapper.toDto(checkin);
+        CheckinDTO withoutTimestamp = checkinMapper.toDto(checkin);
+        withoutTimestamp.setTimestamp(null);
+        CheckinDTO withUnknownPlayer = checkinMapper.toDto(checkin);
+        withUnknownPlayer.getPlayer().setId(Long.MAX_VALUE);
+
+        restCheckinMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(valid, withoutTimestamp, withUnknownPlayer, valid)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(4))
+            .andExpect(jsonPath("$.[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.[0].id").isNumber())
+            .andExpect(jsonPath("$.[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.[2].status").value("REJECTED"))
+            .andExpect(jsonPath("$.[3].status").value("CREATED"))
+            .andExpect(jsonPath("$.[3].index").value(3));
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeCreate + 2);
+    }
+
+    @Test
+    @Transactional
+    void retryCheckinsInBulk() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        CheckinDTO scan = checkinMapper.toDto(checkin);
+        scan.setIdempotencyKey("kiosk-scan-1");
+
+        restCheckinMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(List.of(scan))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("CREATED"));
+
+        restCheckinMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(List.of(scan))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].status").value("DUPLICATE"));
+
+        assertThat(getRepositoryCount()).isEqualTo(databaseSizeBeforeCreate + 1);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void scanCheckinToken() throws Exception {
+        long databaseSizeBeforeCreate = getRepositoryCount();
+        CheckinTokenDTO request = new CheckinTokenDTO();
+        request.setPlayerId(checkin.getPlayer().getId());
+
+        var issued = om.readValue(
+            restCheckinMockMvc
+                .perform(post(ENTITY_API_URL + "/tokens").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            CheckinTokenDTO.class
+        );
+        assertThat(issued.getToken()).hasSize(CheckinTokenCodec.ENCODED_LENGTH);
+
+        CheckinTokenDTO scan = new CheckinTokenDTO();
+        scan.setToken(issued.getToken());
+        restCheckinMockMvc
+            .perform(post(ENTITY_API_URL + "/scan").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(scan)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.player.id").value(checkin.getPlayer().getId().intValue()));
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+
+        char[] forged = issued.getToken().toCharArray();
+        forged[1] = forged[1] == 'A' ? 'B' : 'A';
+        scan.setToken(new String(forged));
+        restCheckinMockMvc
+            .perform(post(ENTITY_API_URL + "/scan").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(scan)))
+            .andExpect(status().isBadRequest());
+        assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void createCheckinTokenForNonExistingPlayer() throws Exception {
+        CheckinTokenDTO request = new CheckinTokenDTO();
+        request.setPlayerId(Long.MAX_VALUE);
+
+        restCheckinMockMvc
+            .perform(post(ENTITY_API_URL + "/tokens").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void checkTimestampIsRequired() throws Exception {
@@ -194,6 +330,77 @@ class CheckinResourceIT {
             .andExpect(jsonPath("$.[*].timestamp").value(hasItem(DEFAULT_TIMESTAMP.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllCheckinsWithCursor() throws Exception {
+        // Initialize the database
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(checkinRepository.saveAndFlush(createEntity(em)).getId().intValue());
+        }
+
+        // Get the first page, most recent first
+        MvcResult firstPage = restCheckinMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor=&size=2&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(contains(ids.get(2), ids.get(1))))
+            .andReturn();
+        assertThat(getLink(firstPage, "prev")).isNull();
+
+        // Follow the next link
+        MvcResult secondPage = restCheckinMockMvc
+            .perform(get(URI.create(getLink(firstPage, "next"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(ids.get(0)))
+            .andReturn();
+
+        // And come back
+        restCheckinMockMvc
+            .perform(get(URI.create(getLink(secondPage, "prev"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(ids.get(2), ids.get(1))));
+    }
+
+    @Test
+    @Transactional
+    void getAllCheckinsWithInvalidCursor() throws Exception {
+        restCheckinMockMvc.perform(get(ENTITY_API_URL + "?cursor=invalid")).andExpect(status().isBadRequest());
+        restCheckinMockMvc.perform(get(ENTITY_API_URL + "?cursor=&sort=player,asc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllCheckinsWithCountModes() throws Exception {
+        // Initialize the database
+        for (int i = 0; i < 2; i++) {
+            checkinRepository.saveAndFlush(createEntity(em));
+        }
+        long count = checkinRepository.count();
+
+        MvcResult uncounted = restCheckinMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,asc&page=0&size=1&count=none"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andReturn();
+        assertThat(getLink(uncounted, "next")).contains("page=1");
+        assertThat(getLink(uncounted, "last")).isNull();
+
+        // The last page counts the entities without a count query
+        restCheckinMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,asc&page=0&size=1000&count=estimate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(count)));
+
+        restCheckinMockMvc.perform(get(ENTITY_API_URL + "?count=bogus")).andExpect(status().isBadRequest());
+    }
+
+    private static String getLink(MvcResult result, String rel) {
+        Matcher matcher = Pattern.compile("<([^>]*)>; rel=\"" + rel + "\"").matcher(result.getResponse().getHeader(HttpHeaders.LINK));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     @Test
     @Transactional
     void getCheckin() throws Exception {
@@ -3,24 +3,37 @@ package com.myapp.web.rest;
 import static com.myapp.domain.FileDataAsserts.*;
 import static com.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myapp.IntegrationTest;
 import com.myapp.domain.FileData;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.FileBlobRepository;
 import com.myapp.repository.FileDataRepository;
 import com.myapp.service.dto.FileDataDTO;
 import com.myapp.service.mapper.FileDataMapper;
 import jakarta.persistence.EntityManager;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -55,6 +68,12 @@ class FileDataResourceIT {
     @Autowired
     private FileDataMapper fileDataMapper;
 
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
     @Autowired
     private EntityManager em;
 
@@ -190,6 +209,23 @@ class FileDataResourceIT {
             .andExpect(jsonPath("$.[*].fileName").value(hasItem(DEFAULT_FILE_NAME)));
     }
 
+    @Test
+    @Transactional
+    void getAllFileDataWhereTournamentIsNull() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        FileData tournamentImage = fileDataRepository.saveAndFlush(createUpdatedEntity());
+        em.persist(TournamentResourceIT.createEntity().image(tournamentImage));
+        em.flush();
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL + "?filter=tournament-is-null&sort=id,desc&size=2000"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(fileData.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(tournamentImage.getId().intValue()))));
+    }
+
     @Test
     @Transactional
     void getFileData() throws Exception {
@@ -438,6 +474,170 @@ class FileDataResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    @Transactional
+    void putFileDataContent() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        byte[] content = ("content of " + fileData.getId()).getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        restFileDataMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/content", fileData.getId()).contentType(MediaType.IMAGE_PNG).content(content))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.contentHash").value(hash))
+            .andExpect(jsonPath("$.contentType").value(MediaType.IMAGE_PNG_VALUE))
+            .andExpect(jsonPath("$.contentSize").value(content.length));
+
+        assertThat(getPersistedFileData(fileData).getContentHash()).isEqualTo(hash);
+        assertThat(Files.readAllBytes(blobStore.path(hash))).isEqualTo(content);
+    }
+
+    @Test
+    @Transactional
+    void putIdenticalFileDataContentStoresItOnce() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        FileData otherFileData = fileDataRepository.saveAndFlush(createUpdatedEntity());
+        byte[] content = ("shared content of " + fileData.getId()).getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        for (FileData uploaded : new FileData[] { fileData, otherFileData }) {
+            restFileDataMockMvc
+                .perform(put(ENTITY_API_URL_ID + "/content", uploaded.getId()).contentType(MediaType.IMAGE_PNG).content(content))
+                .andExpect(status().isOk());
+        }
+        em.clear();
+        assertThat(fileBlobRepository.findById(hash)).hasValueSatisfying(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+
+        // Deleting a file data releases its reference
+        restFileDataMockMvc.perform(delete(ENTITY_API_URL_ID, otherFileData.getId())).andExpect(status().isNoContent());
+        em.clear();
+        assertThat(fileBlobRepository.findById(hash)).hasValueSatisfying(blob -> assertThat(blob.getRefCount()).isEqualTo(1));
+        assertThat(blobStore.path(hash)).exists();
+    }
+
+    @Test
+    @Transactional
+    void putContentOfNonExistingFileData() throws Exception {
+        restFileDataMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/content", Long.MAX_VALUE).contentType(MediaType.IMAGE_PNG).content(new byte[] { 1 }))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getFileDataContent() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        byte[] content = ("content of " + fileData.getId()).getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + putContent(fileData, content) + "\"";
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content", fileData.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.IMAGE_PNG))
+            .andExpect(content().bytes(content))
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")));
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content", fileData.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void getVersionedFileDataContent() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        String hash = putContent(fileData, ("content of " + fileData.getId()).getBytes(StandardCharsets.UTF_8));
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content?v=" + hash, fileData.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @Transactional
+    void getFileDataContentRange() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        putContent(fileData, content);
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content", fileData.getId()).header(HttpHeaders.RANGE, "bytes=2-5"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+            .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content", fileData.getId()).header(HttpHeaders.RANGE, "bytes=-3"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+            .andExpect(content().bytes("789".getBytes(StandardCharsets.UTF_8)));
+
+        restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content", fileData.getId()).header(HttpHeaders.RANGE, "bytes=10-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @Transactional
+    void getContentOfFileDataWithoutContent() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+
+        restFileDataMockMvc.perform(get(ENTITY_API_URL_ID + "/content", fileData.getId())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getFileDataContentDerivative() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        BufferedImage image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, fileData.getId().intValue());
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        String hash = putContent(fileData, png.toByteArray());
+
+        byte[] derivative = restFileDataMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/content?size=160", fileData.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.IMAGE_PNG))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "-160\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        BufferedImage scaled = ImageIO.read(new ByteArrayInputStream(derivative));
+        assertThat(scaled.getWidth()).isEqualTo(160);
+        assertThat(scaled.getHeight()).isEqualTo(80);
+        assertThat(blobStore.derivativePath(hash, 160)).exists();
+    }
+
+    @Test
+    @Transactional
+    void getFileDataContentWithInvalidSize() throws Exception {
+        // Initialize the database
+        insertedFileData = fileDataRepository.saveAndFlush(fileData);
+        putContent(fileData, ("content of " + fileData.getId()).getBytes(StandardCharsets.UTF_8));
+
+        restFileDataMockMvc.perform(get(ENTITY_API_URL_ID + "/content?size=123", fileData.getId())).andExpect(status().isBadRequest());
+    }
+
+    private String putContent(FileData uploaded, byte[] content) throws Exception {
+        restFileDataMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/content", uploaded.getId()).contentType(MediaType.IMAGE_PNG).content(content))
+            .andExpect(status().isOk());
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
     protected long getRepositoryCount() {
         return fileDataRepository.count();
     }
@@ -0,0 +1,169 @@
+package com.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.IntegrationTest;
+import com.myapp.domain.FileData;
+import com.myapp.repository.BlobStore;
+import com.myapp.repository.FileDataRepository;
+import com.myapp.service.dto.FileUploadDTO;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link FileUploadResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class FileUploadResourceIT {
+
+    private static final String DEFAULT_UID = "AAAAAAAAAA";
+
+    private static final String DEFAULT_FILE_NAME = "AAAAAAAAAA";
+
+    private static final String ENTITY_API_URL = "/api/file-data/uploads";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{uploadId}";
+
+    private static final byte[] CONTENT = "the content of a resumable upload, sent in three chunks".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private FileDataRepository fileDataRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private MockMvc restFileUploadMockMvc;
+
+    @Test
+    @Transactional
+    void uploadChunksOutOfOrder() throws Exception {
+        String hash = sha256(CONTENT);
+        String uploadId = createUpload(hash);
+
+        writeChunk(uploadId, 40, CONTENT.length)
+            .andExpect(jsonPath("$.receivedBytes").value(CONTENT.length - 40))
+            .andExpect(jsonPath("$.receivedRanges[0][0]").value(40));
+        writeChunk(uploadId, 0, 20).andExpect(jsonPath("$.receivedRanges.length()").value(2));
+        // A chunk sent again after an interruption overlaps the ones received
+        writeChunk(uploadId, 10, 40)
+            .andExpect(jsonPath("$.receivedBytes").value(CONTENT.length))
+            .andExpect(jsonPath("$.receivedRanges.length()").value(1));
+
+        String location = restFileUploadMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/complete", uploadId))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.uid").value(DEFAULT_UID))
+            .andExpect(jsonPath("$.contentHash").value(hash))
+            .andExpect(jsonPath("$.contentType").value(MediaType.TEXT_PLAIN_VALUE))
+            .andExpect(jsonPath("$.contentSize").value(CONTENT.length))
+            .andReturn()
+            .getResponse()
+            .getHeader("Location");
+
+        FileData fileData = fileDataRepository.findById(Long.valueOf(location.substring(location.lastIndexOf('/') + 1))).orElseThrow();
+        assertThat(fileData.getContentHash()).isEqualTo(hash);
+        assertThat(Files.readAllBytes(blobStore.path(hash))).isEqualTo(CONTENT);
+        restFileUploadMockMvc.perform(get(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void completeUploadNotMatchingItsHash() throws Exception {
+        long databaseSizeBefore = fileDataRepository.count();
+        String uploadId = createUpload(sha256("another content".getBytes(StandardCharsets.UTF_8)));
+        writeChunk(uploadId, 0, CONTENT.length);
+
+        restFileUploadMockMvc.perform(post(ENTITY_API_URL_ID + "/complete", uploadId)).andExpect(status().isBadRequest());
+
+        assertThat(fileDataRepository.count()).isEqualTo(databaseSizeBefore);
+        restFileUploadMockMvc.perform(get(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void completeIncompleteUpload() throws Exception {
+        String uploadId = createUpload(sha256(CONTENT));
+        writeChunk(uploadId, 0, 20);
+
+        restFileUploadMockMvc.perform(post(ENTITY_API_URL_ID + "/complete", uploadId)).andExpect(status().isBadRequest());
+
+        // The upload resumes
+        restFileUploadMockMvc
+            .perform(get(ENTITY_API_URL_ID, uploadId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.receivedBytes").value(20));
+        restFileUploadMockMvc.perform(delete(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void writeChunkExceedingUpload() throws Exception {
+        String uploadId = createUpload(sha256(CONTENT));
+
+        restFileUploadMockMvc
+            .perform(put(ENTITY_API_URL_ID + "?offset=" + (CONTENT.length - 1), uploadId).content(new byte[] { 1, 2 }))
+            .andExpect(status().isBadRequest());
+        restFileUploadMockMvc
+            .perform(put(ENTITY_API_URL_ID + "?offset=" + (CONTENT.length + 1), uploadId).content(new byte[] { 1 }))
+            .andExpect(status().isBadRequest());
+        restFileUploadMockMvc.perform(delete(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void getNonExistingUpload() throws Exception {
+        String uploadId = "00000000-0000-0000-0000-000000000000";
+        restFileUploadMockMvc.perform(get(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNotFound());
+        restFileUploadMockMvc.perform(put(ENTITY_API_URL_ID + "?offset=0", uploadId).content(CONTENT)).andExpect(status().isNotFound());
+        restFileUploadMockMvc.perform(post(ENTITY_API_URL_ID + "/complete", uploadId)).andExpect(status().isNotFound());
+        restFileUploadMockMvc.perform(delete(ENTITY_API_URL_ID, uploadId)).andExpect(status().isNotFound());
+    }
+
+    private String createUpload(String sha256) throws Exception {
+        FileUploadDTO fileUploadDTO = new FileUploadDTO();
+        fileUploadDTO.setUid(DEFAULT_UID);
+        fileUploadDTO.setFileName(DEFAULT_FILE_NAME);
+        fileUploadDTO.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        fileUploadDTO.setSize((long) CONTENT.length);
+        fileUploadDTO.setSha256(sha256);
+        // The upload id is read-only, left out when reading a DTO
+        return om
+            .readTree(
+                restFileUploadMockMvc
+                    .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(fileUploadDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.receivedBytes").value(0))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString()
+            )
+            .get("uploadId")
+            .asText();
+    }
+
+    private ResultActions writeChunk(String uploadId, int from, int to) throws Exception {
+        return restFileUploadMockMvc
+            .perform(put(ENTITY_API_URL_ID + "?offset=" + from, uploadId).content(Arrays.copyOfRange(CONTENT, from, to)))
+            .andExpect(status().isOk());
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -4,6 +4,7 @@ import static com.myapp.domain.GuardianAsserts.*;
 import static com.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -274,6 +275,28 @@ class GuardianResourceIT {
             .andExpect(jsonPath("$.testField").value(DEFAULT_TEST_FIELD));
     }
 
+    @Test
+    void getGuardianTypeaheadFollowsCommittedDeletes() throws Exception {
+        // The typeahead index only sees committed changes, the guardian is committed
+        Guardian committed = guardianRepository.saveAndFlush(guardian.firstName("Zephyrine").lastName("Quillfeather"));
+
+        restGuardianMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "quillf"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(committed.getId().intValue())));
+
+        guardianRepository.delete(committed);
+
+        restGuardianMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "quillf"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(committed.getId().intValue()))));
+        restGuardianMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("ids", committed.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @Test
     @Transactional
     void getNonExistingGuardian() throws Exception {
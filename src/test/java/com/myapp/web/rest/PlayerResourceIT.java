@@ -1,47 +1,52 @@
 package com.myapp.web.rest;
 
 import static com.myapp.domain.PlayerAsserts.*;
+import static com.myapp.web.rest.TestUtil.countPreparedStatements;
 import static com.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
-import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myapp.IntegrationTest;
+import com.myapp.domain.Checkin;
+import com.myapp.domain.Guardian;
 import com.myapp.domain.Player;
+import com.myapp.domain.Team;
 import com.myapp.domain.enumeration.Gender;
 import com.myapp.repository.PlayerRepository;
-import com.myapp.service.PlayerService;
+import com.myapp.service.TypeaheadService;
 import com.myapp.service.dto.PlayerDTO;
 import com.myapp.service.mapper.PlayerMapper;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Integration tests for the {@link PlayerResource} REST controller.
  */
 @IntegrationTest
-@ExtendWith(MockitoExtension.class)
 @AutoConfigureMockMvc
 @WithMockUser
 class PlayerResourceIT {
@@ -73,15 +78,9 @@ class PlayerResourceIT {
     @Autowired
     private PlayerRepository playerRepository;
 
-    @Mock
-    private PlayerRepository playerRepositoryMock;
-
     @Autowired
     private PlayerMapper playerMapper;
 
-    @Mock
-    private PlayerService playerServiceMock;
-
     @Autowired
     private EntityManager em;
 
@@ -230,21 +229,129 @@ class PlayerResourceIT {
             .andExpect(jsonPath("$.[*].dateOfBirth").value(hasItem(DEFAULT_DATE_OF_BIRTH.toString())));
     }
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllPlayersWithEagerRelationshipsIsEnabled() throws Exception {
-        when(playerServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+    @Test
+    @Transactional
+    void getAllPlayersByCriteria() throws Exception {
+        // Initialize the database
+        insertedPlayer = playerRepository.saveAndFlush(player);
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&lastName.startsWith=" + DEFAULT_LAST_NAME.substring(0, 3)))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())));
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&lastName.startsWith=" + UPDATED_LAST_NAME + "&gender.equals=" + DEFAULT_GENDER))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(player.getId().intValue()))));
+    }
+
+    @Test
+    @Transactional
+    void getAllPlayersWithUnsupportedFilter() throws Exception {
+        restPlayerMockMvc.perform(get(ENTITY_API_URL + "?lastName.contains=AAA")).andExpect(status().isBadRequest());
+        restPlayerMockMvc.perform(get(ENTITY_API_URL + "?lastName.startsWith=AAA&cursor=")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllPlayersReadsRelationshipIdsInConstantQueries() throws Exception {
+        // Initialize the database
+        for (int i = 0; i < 6; i++) {
+            Guardian guardian = GuardianResourceIT.createEntity();
+            em.persist(guardian);
+            Player relatedPlayer = createEntity().addGuardians(guardian);
+            em.persist(relatedPlayer);
+            em.persist(TeamResourceIT.createEntity().addPlayers(relatedPlayer));
+        }
+
+        long smallPageStatements = countPreparedStatements(em, () -> getPlayersWithRelationships(2));
+        long largePageStatements = countPreparedStatements(em, () -> getPlayersWithRelationships(6));
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    private ResultActions getPlayersWithRelationships(int size) throws Exception {
+        return restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&count=none&size=" + size))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].guardians[*].id", hasSize(size)))
+            .andExpect(jsonPath("$.[*].teams[*].id", hasSize(size)));
+    }
 
-        restPlayerMockMvc.perform(get(ENTITY_API_URL + "?eagerload=true")).andExpect(status().isOk());
+    @Test
+    @Transactional
+    void getAllPlayersWithCompactIds() throws Exception {
+        // Initialize the database
+        Guardian guardian = GuardianResourceIT.createEntity();
+        em.persist(guardian);
+        em.persist(player.addGuardians(guardian));
+        Team team = TeamResourceIT.createEntity().addPlayers(player);
+        em.persist(team);
+        em.flush();
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&compactIds=true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(player.getId().intValue()))
+            .andExpect(jsonPath("$.[0].guardianIds", hasSize(1)))
+            .andExpect(jsonPath("$.[0].guardianIds[0]").value(guardian.getId().intValue()))
+            .andExpect(jsonPath("$.[0].teamIds[0]").value(team.getId().intValue()))
+            .andExpect(jsonPath("$.[0].guardians").doesNotExist())
+            .andExpect(jsonPath("$.[0].teams").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllPlayersWithFields() throws Exception {
+        // Initialize the database
+        insertedPlayer = playerRepository.saveAndFlush(player);
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&fields=id,firstName"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())))
+            .andExpect(jsonPath("$.[*].firstName").value(hasItem(DEFAULT_FIRST_NAME)))
+            .andExpect(jsonPath("$.[*].lastName").doesNotExist())
+            .andExpect(jsonPath("$.[*].guardians").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getPlayerWithFields() throws Exception {
+        // Initialize the database
+        insertedPlayer = playerRepository.saveAndFlush(player);
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?fields=lastName,teams", player.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lastName").value(DEFAULT_LAST_NAME))
+            .andExpect(jsonPath("$.teams").isArray())
+            .andExpect(jsonPath("$.id").doesNotExist())
+            .andExpect(jsonPath("$.firstName").doesNotExist());
+    }
 
-        verify(playerServiceMock, times(1)).findAllWithEagerRelationships(any());
+    @Test
+    @Transactional
+    void getAllPlayersWithUnknownField() throws Exception {
+        restPlayerMockMvc.perform(get(ENTITY_API_URL + "?fields=id,password")).andExpect(status().isBadRequest());
     }
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllPlayersWithEagerRelationshipsIsNotEnabled() throws Exception {
-        when(playerServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+    @Test
+    @Transactional
+    void getAllPlayersIgnoresEagerload() throws Exception {
+        // Initialize the database
+        Guardian guardian = GuardianResourceIT.createEntity();
+        em.persist(guardian);
+        em.persist(player.addGuardians(guardian));
+        em.flush();
 
-        restPlayerMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false")).andExpect(status().isOk());
-        verify(playerRepositoryMock, times(1)).findAll(any(Pageable.class));
+        // The ids of the relationships are always returned
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&eagerload=false"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(player.getId().intValue()))
+            .andExpect(jsonPath("$.[0].guardians[0].id").value(guardian.getId().intValue()));
     }
 
     @Test
@@ -266,6 +373,96 @@ class PlayerResourceIT {
             .andExpect(jsonPath("$.dateOfBirth").value(DEFAULT_DATE_OF_BIRTH.toString()));
     }
 
+    @Test
+    @Transactional
+    void getPlayerCheckinTimeline() throws Exception {
+        // Initialize the database
+        insertedPlayer = playerRepository.saveAndFlush(player);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            em.persist(new Checkin().timestamp(now.minusSeconds(i)).player(player));
+        }
+        em.flush();
+
+        // Get the most recent page
+        String link = restPlayerMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/checkins?size=2", player.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].timestamp").value(now.toString()))
+            .andExpect(jsonPath("$.[1].timestamp").value(now.minusSeconds(1).toString()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Follow the next link to the oldest checkin
+        String next = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        restPlayerMockMvc
+            .perform(get(next.substring(next.indexOf(ENTITY_API_URL))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].timestamp").value(now.minusSeconds(2).toString()))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))));
+    }
+
+    @Test
+    @Transactional
+    void getCheckinTimelineOfNonExistingPlayer() throws Exception {
+        restPlayerMockMvc.perform(get(ENTITY_API_URL_ID + "/checkins", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getPlayerCheckinTimelineWithInvalidCursor() throws Exception {
+        insertedPlayer = playerRepository.saveAndFlush(player);
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/checkins?before=not-a-cursor", player.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPlayerTypeahead() throws Exception {
+        // The typeahead index only sees committed changes, the player is committed
+        insertedPlayer = playerRepository.saveAndFlush(player.firstName("Zephyrine").lastName("Quillfeather"));
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "quill zeph"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(insertedPlayer.getId().intValue())))
+            .andExpect(jsonPath("$.[*].label").value(hasItem("Zephyrine " + DEFAULT_MIDDLE_INITIAL + " Quillfeather")));
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("ids", insertedPlayer.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$.[0].label").value("Zephyrine " + DEFAULT_MIDDLE_INITIAL + " Quillfeather"));
+    }
+
+    @Test
+    void getPlayerTypeaheadFollowsCommittedUpdates() throws Exception {
+        insertedPlayer = playerRepository.saveAndFlush(player.firstName("Zephyrine").lastName("Quillfeather"));
+
+        insertedPlayer.setLastName("Marblethorn");
+        insertedPlayer = playerRepository.saveAndFlush(insertedPlayer);
+
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "marbleth"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(insertedPlayer.getId().intValue())));
+        restPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "quillf"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(insertedPlayer.getId().intValue()))));
+    }
+
+    @Test
+    void getPlayerTypeaheadWithTooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, TypeaheadService.MAX_IDS + 1).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+        restPlayerMockMvc.perform(get(ENTITY_API_URL + "/_typeahead").param("ids", ids)).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getNonExistingPlayer() throws Exception {
@@ -0,0 +1,140 @@
+package com.myapp.web.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.myapp.IntegrationTest;
+import com.myapp.domain.Guardian;
+import com.myapp.domain.Player;
+import com.myapp.repository.GuardianRepository;
+import com.myapp.repository.PlayerRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link SearchResource} REST controller.
+ * <p>
+ * The indexes only see committed changes, so the tests commit their writes instead of running in a transaction.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class SearchResourceIT {
+
+    private static final String PLAYERS_SEARCH_API_URL = "/api/_search/players";
+
+    private static final String GUARDIANS_SEARCH_API_URL = "/api/_search/guardians";
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GuardianRepository guardianRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restSearchMockMvc;
+
+    private final List<Player> insertedPlayers = new ArrayList<>();
+
+    private final List<Guardian> insertedGuardians = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        insertedPlayers.forEach(player -> playerRepository.deleteById(player.getId()));
+        insertedPlayers.clear();
+        insertedGuardians.forEach(guardian -> guardianRepository.deleteById(guardian.getId()));
+        insertedGuardians.clear();
+    }
+
+    @Test
+    void searchPlayersByName() throws Exception {
+        Player player = insertPlayer("Zephyrine", "Quillfeather");
+
+        searchPlayers("Zephyrine Quillfeather").andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())));
+        // Misspelled
+        searchPlayers("Quilfeather").andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())));
+    }
+
+    @Test
+    void searchPlayersFollowsCommittedUpdates() throws Exception {
+        Player player = insertPlayer("Zephyrine", "Quillfeather");
+
+        player.setLastName("Marblethorn");
+        playerRepository.saveAndFlush(player);
+
+        searchPlayers("Marblethorn").andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())));
+        searchPlayers("Quillfeather").andExpect(jsonPath("$.[*].id").value(not(hasItem(player.getId().intValue()))));
+    }
+
+    @Test
+    void searchPlayersFollowsCommittedDeletes() throws Exception {
+        Player player = insertPlayer("Zephyrine", "Quillfeather");
+
+        playerRepository.deleteById(player.getId());
+        insertedPlayers.remove(player);
+
+        searchPlayers("Quillfeather").andExpect(jsonPath("$.[*].id").value(not(hasItem(player.getId().intValue()))));
+    }
+
+    @Test
+    void searchPlayersIgnoresRolledBackWrites() throws Exception {
+        Player player = insertPlayer("Zephyrine", "Quillfeather");
+
+        Player rolledBack = new TransactionTemplate(transactionManager).execute(status -> {
+            Player updated = playerRepository.findById(player.getId()).orElseThrow();
+            updated.setLastName("Marblethorn");
+            playerRepository.saveAndFlush(updated);
+            status.setRollbackOnly();
+            return playerRepository.saveAndFlush(PlayerResourceIT.createEntity().firstName("Ondine").lastName("Marblethorn"));
+        });
+
+        searchPlayers("Marblethorn")
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(player.getId().intValue()))))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(rolledBack.getId().intValue()))));
+        searchPlayers("Quillfeather").andExpect(jsonPath("$.[*].id").value(hasItem(player.getId().intValue())));
+    }
+
+    @Test
+    void searchGuardiansByName() throws Exception {
+        Guardian guardian = GuardianResourceIT.createEntity().firstName("Zephyrine").lastName("Quillfeather");
+        guardian = guardianRepository.saveAndFlush(guardian);
+        insertedGuardians.add(guardian);
+
+        restSearchMockMvc
+            .perform(get(GUARDIANS_SEARCH_API_URL).param("query", "Quillfeather"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(guardian.getId().intValue())));
+
+        guardianRepository.deleteById(guardian.getId());
+        insertedGuardians.clear();
+
+        restSearchMockMvc
+            .perform(get(GUARDIANS_SEARCH_API_URL).param("query", "Quillfeather"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(guardian.getId().intValue()))));
+    }
+
+    private Player insertPlayer(String firstName, String lastName) {
+        Player player = playerRepository.saveAndFlush(PlayerResourceIT.createEntity().firstName(firstName).lastName(lastName));
+        insertedPlayers.add(player);
+        return player;
+    }
+
+    private ResultActions searchPlayers(String query) throws Exception {
+        return restSearchMockMvc.perform(get(PLAYERS_SEARCH_API_URL).param("query", query)).andExpect(status().isOk());
+    }
+}
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myapp.IntegrationTest;
+import com.myapp.domain.Organization;
 import com.myapp.domain.Season;
 import com.myapp.domain.enumeration.CompetitionStatus;
 import com.myapp.repository.SeasonRepository;
@@ -264,6 +265,29 @@ class SeasonResourceIT {
             .andExpect(jsonPath("$.[*].ends").value(hasItem(DEFAULT_ENDS.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllSeasonSummaries() throws Exception {
+        // Initialize the database
+        Organization organization = OrganizationResourceIT.createEntity();
+        em.persist(organization);
+        insertedSeason = seasonRepository.saveAndFlush(season.organization(organization));
+
+        // Get the summaries of all the seasons
+        restSeasonMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&summary=true"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(season.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].additionalInfo").value(hasItem(DEFAULT_ADDITIONAL_INFO)))
+            .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())))
+            .andExpect(jsonPath("$.[*].start").value(hasItem(DEFAULT_START.toString())))
+            .andExpect(jsonPath("$.[*].ends").value(hasItem(DEFAULT_ENDS.toString())))
+            .andExpect(jsonPath("$.[*].organization.id").value(hasItem(organization.getId().intValue())))
+            .andExpect(jsonPath("$.[*].organization.name").value(hasItem(organization.getName())));
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllSeasonsWithEagerRelationshipsIsEnabled() throws Exception {
         when(seasonServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
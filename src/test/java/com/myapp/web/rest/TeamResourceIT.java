@@ -1,44 +1,44 @@
 package com.myapp.web.rest;
 
 import static com.myapp.domain.TeamAsserts.*;
+import static com.myapp.web.rest.TestUtil.countPreparedStatements;
 import static com.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
-import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myapp.IntegrationTest;
+import com.myapp.domain.Player;
 import com.myapp.domain.Team;
 import com.myapp.repository.TeamRepository;
-import com.myapp.service.TeamService;
 import com.myapp.service.dto.TeamDTO;
 import com.myapp.service.mapper.TeamMapper;
 import jakarta.persistence.EntityManager;
-import java.util.ArrayList;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link TeamResource} REST controller.
  */
 @IntegrationTest
-@ExtendWith(MockitoExtension.class)
 @AutoConfigureMockMvc
 @WithMockUser
 class TeamResourceIT {
@@ -58,18 +58,15 @@ class TeamResourceIT {
     @Autowired
     private TeamRepository teamRepository;
 
-    @Mock
-    private TeamRepository teamRepositoryMock;
-
     @Autowired
     private TeamMapper teamMapper;
 
-    @Mock
-    private TeamService teamServiceMock;
-
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private MockMvc restTeamMockMvc;
 
@@ -167,21 +164,59 @@ class TeamResourceIT {
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
     }
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllTeamsWithEagerRelationshipsIsEnabled() throws Exception {
-        when(teamServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+    @Test
+    @Transactional
+    void getAllTeamsReadsPlayerIdsInConstantQueries() throws Exception {
+        // Initialize the database
+        for (int i = 0; i < 6; i++) {
+            Player player = PlayerResourceIT.createEntity();
+            em.persist(player);
+            em.persist(createEntity().addPlayers(player));
+        }
 
-        restTeamMockMvc.perform(get(ENTITY_API_URL + "?eagerload=true")).andExpect(status().isOk());
+        long smallPageStatements = countPreparedStatements(em, () -> getTeamsWithPlayers(2));
+        long largePageStatements = countPreparedStatements(em, () -> getTeamsWithPlayers(6));
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
 
-        verify(teamServiceMock, times(1)).findAllWithEagerRelationships(any());
+    private ResultActions getTeamsWithPlayers(int size) throws Exception {
+        return restTeamMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&count=none&size=" + size))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].players[*].id", hasSize(size)));
     }
 
-    @SuppressWarnings({ "unchecked" })
-    void getAllTeamsWithEagerRelationshipsIsNotEnabled() throws Exception {
-        when(teamServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+    @Test
+    @Transactional
+    void getAllTeamsWithCompactIds() throws Exception {
+        // Initialize the database
+        Player player = PlayerResourceIT.createEntity();
+        em.persist(player);
+        insertedTeam = teamRepository.saveAndFlush(team.addPlayers(player));
 
-        restTeamMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false")).andExpect(status().isOk());
-        verify(teamRepositoryMock, times(1)).findAll(any(Pageable.class));
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&compactIds=true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(team.getId().intValue()))
+            .andExpect(jsonPath("$.[0].playerIds", hasSize(1)))
+            .andExpect(jsonPath("$.[0].playerIds[0]").value(player.getId().intValue()))
+            .andExpect(jsonPath("$.[0].players").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllTeamsIgnoresEagerload() throws Exception {
+        // Initialize the database
+        Player player = PlayerResourceIT.createEntity();
+        em.persist(player);
+        insertedTeam = teamRepository.saveAndFlush(team.addPlayers(player));
+
+        // The ids of the relationships are always returned
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&eagerload=false"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(team.getId().intValue()))
+            .andExpect(jsonPath("$.[0].players[0].id").value(player.getId().intValue()));
     }
 
     @Test
@@ -199,6 +234,97 @@ class TeamResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    @Transactional
+    void getTeamCountsPlayers() throws Exception {
+        // Initialize the database
+        for (int i = 0; i < 3; i++) {
+            Player player = PlayerResourceIT.createEntity();
+            em.persist(player);
+            team.addPlayers(player);
+        }
+        insertedTeam = teamRepository.saveAndFlush(team);
+
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL_ID, team.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.playerCount").value(3))
+            .andExpect(jsonPath("$.players").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getTeamPlayers() throws Exception {
+        // Initialize the database
+        String[][] names = { { "Brown", "Bea" }, { "Adams", "Zoe" }, { "Brown", "Amy" } };
+        for (String[] name : names) {
+            Player player = PlayerResourceIT.createEntity().lastName(name[0]).firstName(name[1]);
+            em.persist(player);
+            team.addPlayers(player);
+        }
+        insertedTeam = teamRepository.saveAndFlush(team);
+
+        // Get the first page, sorted by name
+        String link = restTeamMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/players?size=2", team.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].firstName").value("Zoe"))
+            .andExpect(jsonPath("$.[1].firstName").value("Amy"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Follow the next link to the last player
+        String next = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        restTeamMockMvc
+            .perform(get(next.substring(next.indexOf(ENTITY_API_URL))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].firstName").value("Bea"))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))));
+    }
+
+    @Test
+    @Transactional
+    void getPlayersOfNonExistingTeam() throws Exception {
+        restTeamMockMvc.perform(get(ENTITY_API_URL_ID + "/players", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getTeamPlayersWithInvalidCursor() throws Exception {
+        insertedTeam = teamRepository.saveAndFlush(team);
+
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/players?after=not-a-cursor", team.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTeamTypeaheadIgnoresRolledBackWrites() throws Exception {
+        // The typeahead index only sees committed changes, the team is committed
+        insertedTeam = teamRepository.saveAndFlush(team.name("Quillfeather Falcons"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Team renamed = teamRepository.findById(insertedTeam.getId()).orElseThrow();
+            renamed.setName("Marblethorn Owls");
+            teamRepository.saveAndFlush(renamed);
+            status.setRollbackOnly();
+        });
+
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "falc quill"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(insertedTeam.getId().intValue())))
+            .andExpect(jsonPath("$.[*].label").value(hasItem("Quillfeather Falcons")));
+        restTeamMockMvc
+            .perform(get(ENTITY_API_URL + "/_typeahead").param("q", "marbleth"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(insertedTeam.getId().intValue()))));
+    }
+
     @Test
     @Transactional
     void getNonExistingTeam() throws Exception {
@@ -230,6 +356,30 @@ class TeamResourceIT {
         assertPersistedTeamToMatchAllProperties(updatedTeam);
     }
 
+    @Test
+    @Transactional
+    void putTeamWithoutPlayersKeepsRoster() throws Exception {
+        // Initialize the database
+        Player player = PlayerResourceIT.createEntity();
+        em.persist(player);
+        insertedTeam = teamRepository.saveAndFlush(team.addPlayers(player));
+
+        // Update the team without its players, as the details carry none
+        TeamDTO teamDTO = teamMapper.toDto(team);
+        teamDTO.setName(UPDATED_NAME);
+        teamDTO.setPlayers(null);
+
+        restTeamMockMvc
+            .perform(put(ENTITY_API_URL_ID, teamDTO.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(teamDTO)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME));
+
+        em.flush();
+        em.clear();
+        assertThat(teamRepository.findPlayerIds(team.getId())).containsExactly(player.getId());
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getName()).isEqualTo(UPDATED_NAME);
+    }
+
     @Test
     @Transactional
     void putNonExistingTeam() throws Exception {
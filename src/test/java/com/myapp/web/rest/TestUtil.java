@@ -12,9 +12,12 @@ import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
@@ -180,6 +183,30 @@ public final class TestUtil {
         return allQuery.getResultList();
     }
 
+    /**
+     * Counts the statements prepared by Hibernate while running some code, which reads from the database rather than
+     * from the persistence context or the second level cache.
+     * @param em The instance of the EntityManager
+     * @param code The code to run
+     * @return The number of prepared statements
+     * @throws Exception if the code fails
+     */
+    public static long countPreparedStatements(EntityManager em, Callable<?> code) throws Exception {
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean enabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            code.call();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(enabled);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T createUpdateProxyForBean(T update, T original) {
         Enhancer e = new Enhancer();